@@ -7,7 +7,15 @@ public interface QubCreateProject
 
     static void main(String[] args)
     {
-        QubProcess.run(args, QubCreateProject::run);
+        final Integer daemonExitCode = QubCreateProjectDaemonClient.tryRun(args);
+        if (daemonExitCode != null)
+        {
+            System.exit(daemonExitCode);
+        }
+        else
+        {
+            QubProcess.run(args, QubCreateProject::run);
+        }
     }
 
     static void run(QubProcess process)
@@ -22,7 +30,32 @@ public interface QubCreateProject
             .setDescription(QubCreateProjectRun.actionDescription)
             .setDefaultAction();
 
-        CommandLineLogsAction.addAction(actions);
+        actions.addAction(QubCreateProjectBatch.actionName, QubCreateProjectBatch::getParameters, QubCreateProjectBatch::run)
+            .setDescription(QubCreateProjectBatch.actionDescription);
+
+        actions.addAction(QubCreateProjectBenchmark.actionName, QubCreateProjectBenchmark::getParameters, QubCreateProjectBenchmark::run)
+            .setDescription(QubCreateProjectBenchmark.actionDescription);
+
+        actions.addAction(QubCreateProjectCds.actionName, QubCreateProjectCds::getParameters, QubCreateProjectCds::run)
+            .setDescription(QubCreateProjectCds.actionDescription);
+
+        actions.addAction(QubCreateProjectDaemon.actionName, QubCreateProjectDaemon::getParameters, QubCreateProjectDaemon::run)
+            .setDescription(QubCreateProjectDaemon.actionDescription);
+
+        actions.addAction(QubCreateProjectLogs.actionName, QubCreateProjectLogs::getParameters, QubCreateProjectLogs::run)
+            .setDescription(QubCreateProjectLogs.actionDescription);
+
+        actions.addAction(QubCreateProjectScan.actionName, QubCreateProjectScan::getParameters, QubCreateProjectScan::run)
+            .setDescription(QubCreateProjectScan.actionDescription);
+
+        actions.addAction(QubCreateProjectStats.actionName, QubCreateProjectStats::getParameters, QubCreateProjectStats::run)
+            .setDescription(QubCreateProjectStats.actionDescription);
+
+        actions.addAction(QubCreateProjectSync.actionName, QubCreateProjectSync::getParameters, QubCreateProjectSync::run)
+            .setDescription(QubCreateProjectSync.actionDescription);
+
+        actions.addAction(QubCreateProjectWatch.actionName, QubCreateProjectWatch::getParameters, QubCreateProjectWatch::run)
+            .setDescription(QubCreateProjectWatch.actionDescription);
 
         actions.run(process);
     }
@@ -0,0 +1,53 @@
+package qub;
+
+/**
+ * Functions for measuring how many bytes the current thread allocates.
+ */
+public interface QubCreateProjectAllocations
+{
+    /**
+     * Get whether the current JVM can measure the number of bytes that a thread allocates.
+     * @return Whether the current JVM can measure the number of bytes that a thread allocates.
+     */
+    static boolean isSupported()
+    {
+        final java.lang.management.ThreadMXBean threadMXBean = java.lang.management.ManagementFactory.getThreadMXBean();
+        return threadMXBean instanceof com.sun.management.ThreadMXBean &&
+            ((com.sun.management.ThreadMXBean)threadMXBean).isThreadAllocatedMemorySupported() &&
+            ((com.sun.management.ThreadMXBean)threadMXBean).isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Get the total number of bytes that the current thread has allocated, or -1 if the current
+     * JVM can't measure allocations.
+     * @return The total number of bytes that the current thread has allocated.
+     */
+    static long getCurrentThreadAllocatedBytes()
+    {
+        long result = -1;
+        if (QubCreateProjectAllocations.isSupported())
+        {
+            final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean)java.lang.management.ManagementFactory.getThreadMXBean();
+            result = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return result;
+    }
+
+    /**
+     * Run the provided action and get the number of bytes that the current thread allocated while
+     * it ran, or -1 if the current JVM can't measure allocations. Allocations made by other threads
+     * (such as a parallel AsyncRunner's threads) are not included.
+     * @param action The action to measure.
+     * @return The number of bytes that the current thread allocated while the action ran.
+     */
+    static long measure(Action0 action)
+    {
+        PreCondition.assertNotNull(action, "action");
+
+        final long startBytes = QubCreateProjectAllocations.getCurrentThreadAllocatedBytes();
+        action.run();
+        final long endBytes = QubCreateProjectAllocations.getCurrentThreadAllocatedBytes();
+
+        return startBytes == -1 || endBytes == -1 ? -1 : endBytes - startBytes;
+    }
+}
@@ -0,0 +1,62 @@
+package qub;
+
+/**
+ * The generator for a Java application. The application's main class is named after the
+ * project in the publisher's package, and its shortcut has the same name as the project.
+ */
+public class QubCreateProjectAppGenerator implements QubCreateProjectGenerator
+{
+    @Override
+    public void configureProjectJson(ProjectJSON projectJson)
+    {
+        PreCondition.assertNotNull(projectJson, "projectJson");
+
+        projectJson.setJava(ProjectJSONJava.create()
+            .setMainClass(QubCreateProjectAppGenerator.getMainClass(projectJson.getPublisher(), projectJson.getProject()))
+            .setShortcutName(projectJson.getProject()));
+    }
+
+    @Override
+    public Iterable<String> getFolderNames()
+    {
+        return Iterable.create("sources", "tests");
+    }
+
+    /**
+     * Get the full name of the main class of the provided project. The project's name is split on
+     * every character that can't be in a Java identifier, and each part is capitalized.
+     * @param publisher The publisher of the project.
+     * @param project The name of the project.
+     * @return The full name of the project's main class.
+     */
+    static String getMainClass(String publisher, String project)
+    {
+        PreCondition.assertNotNullAndNotEmpty(publisher, "publisher");
+        PreCondition.assertNotNullAndNotEmpty(project, "project");
+
+        final StringBuilder className = new StringBuilder();
+        boolean capitalizeNext = true;
+        for (final char character : project.toCharArray())
+        {
+            if (!Character.isJavaIdentifierPart(character))
+            {
+                capitalizeNext = true;
+            }
+            else if (capitalizeNext)
+            {
+                className.append(Character.toUpperCase(character));
+                capitalizeNext = false;
+            }
+            else
+            {
+                className.append(character);
+            }
+        }
+        if (className.length() == 0 || !Character.isJavaIdentifierStart(className.charAt(0)))
+        {
+            className.insert(0, "Program");
+        }
+
+        return publisher + "." + className;
+    }
+}
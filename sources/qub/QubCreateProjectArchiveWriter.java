@@ -0,0 +1,56 @@
+package qub;
+
+/**
+ * A writer that writes a project's files and folders as the entries of an archive directly to a
+ * ByteWriteStream. Each entry is written as soon as it is added, so writing an archive only holds
+ * one entry's contents at a time and never creates a temporary file.
+ */
+public interface QubCreateProjectArchiveWriter
+{
+    String zipFormat = "zip";
+    String tarFormat = "tar";
+
+    /**
+     * The names of the archive formats that can be written.
+     */
+    Iterable<String> formats = Iterable.create(QubCreateProjectArchiveWriter.zipFormat, QubCreateProjectArchiveWriter.tarFormat);
+
+    /**
+     * Create a new archive writer that writes the provided format to the provided stream.
+     * @param format The archive format to write. This must be one of the formats in formats.
+     * @param stream The stream that the archive will be written to.
+     * @return The new archive writer.
+     */
+    static QubCreateProjectArchiveWriter create(String format, ByteWriteStream stream)
+    {
+        PreCondition.assertOneOf(format, QubCreateProjectArchiveWriter.formats, "format");
+        PreCondition.assertNotNull(stream, "stream");
+
+        return format.equals(QubCreateProjectArchiveWriter.zipFormat)
+            ? QubCreateProjectZipWriter.create(stream)
+            : QubCreateProjectTarWriter.create(stream);
+    }
+
+    /**
+     * Add a folder entry with the provided path. The path is relative to the root of the archive
+     * and must end with '/'.
+     * @param folderPath The path of the folder.
+     * @return This object for method chaining.
+     */
+    QubCreateProjectArchiveWriter addFolder(String folderPath);
+
+    /**
+     * Add a file entry with the provided path and contents. The path is relative to the root of
+     * the archive.
+     * @param filePath The path of the file.
+     * @param contents The contents of the file.
+     * @return This object for method chaining.
+     */
+    QubCreateProjectArchiveWriter addFile(String filePath, byte[] contents);
+
+    /**
+     * Write the end of the archive. No entries can be added after this.
+     * @return The number of bytes that were written to the stream for the whole archive.
+     */
+    long finish();
+}
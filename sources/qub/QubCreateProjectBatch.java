@@ -0,0 +1,296 @@
+package qub;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A QubProject action that can be used to create many new projects from a manifest.
+ */
+public interface QubCreateProjectBatch
+{
+    String actionName = "batch";
+    String actionDescription = "Create many new Qub projects from a manifest.";
+
+    static QubCreateProjectBatchParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectBatch.actionName))
+            .setApplicationDescription(QubCreateProjectBatch.actionDescription);
+
+        final CommandLineParameter<File> manifestParameter = parameters.addFile("manifest", process)
+            .setValueName("<manifest-file-path>")
+            .setDescription("The path to the manifest file that lists the projects to create. The manifest will be read from standard input if this isn't defined.");
+        final CommandLineParameter<Integer> parallelismParameter = parameters.addInteger("parallelism")
+            .setValueName("<project-count>")
+            .setDescription("The maximum number of projects to create at the same time. The number of processors will be used if this isn't defined.");
+        final CommandLineParameterBoolean stagedParameter = QubCreateProjectRun.addStagedParameter(parameters);
+        final CommandLineParameter<String> durabilityParameter = QubCreateProjectRun.addDurabilityParameter(parameters, QubCreateProjectDurability.batchValues);
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectBatchParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await() &&
+            QubCreateProjectRun.validateOneOf(process, "durability", durabilityParameter.getValue().await(), QubCreateProjectDurability.batchValues) &&
+            QubCreateProjectRun.validateBetween(process, "parallelism", parallelismParameter.getValue().await(), 1, Integer.MAX_VALUE))
+        {
+            final Iterable<QubCreateProjectBatchEntry> entries = QubCreateProjectBatch.readManifest(process, manifestParameter.getValue().await());
+            if (entries != null)
+            {
+                final CharacterToByteWriteStream output = process.getOutputWriteStream();
+                final Folder qubProjectDataFolder = process.getQubProjectDataFolder().await();
+                final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+                result = QubCreateProjectBatchParameters.create(output, entries, qubProjectDataFolder)
+                    .setVerbose(verbose)
+                    .setLogRotation(QubCreateProjectLogRotation.create().setClock(process.getClock()))
+                    .setClock(process.getClock())
+                    .setStaged(stagedParameter.getValue().await());
+
+                final Integer parallelism = parallelismParameter.getValue().await();
+                if (parallelism != null)
+                {
+                    result.setParallelism(parallelism);
+                }
+
+                final String durability = durabilityParameter.getValue().await();
+                if (durability != null)
+                {
+                    result.setDurability(durability);
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Read and parse the manifest in the provided file, or in the provided process's standard input
+     * stream if the file is null. If the manifest doesn't exist or can't be parsed, then a usage
+     * error is written.
+     * @param process The process that the batch parameters were parsed from.
+     * @param manifestFile The manifest file, or null if the manifest is read from standard input.
+     * @return The entries in the manifest, or null if the manifest couldn't be read or parsed.
+     */
+    static Iterable<QubCreateProjectBatchEntry> readManifest(QubProcess process, File manifestFile)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        Iterable<QubCreateProjectBatchEntry> result = null;
+        try
+        {
+            final String manifestText = manifestFile != null
+                ? manifestFile.getContentsAsString().await()
+                : process.getInputReadStream().readEntireString().await();
+            result = QubCreateProjectBatch.parseManifest(manifestText, process.getCurrentFolder()).await();
+        }
+        catch (FileNotFoundException e)
+        {
+            QubCreateProjectRun.writeUsageError(process, "The manifest file " + manifestFile + " doesn't exist.");
+        }
+        catch (ParseException e)
+        {
+            QubCreateProjectRun.writeUsageError(process, e.getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Parse the provided manifest text. Each non-empty line that doesn't start with '#' describes
+     * one project in the form "&lt;project-folder-path&gt; [--publisher=&lt;publisher&gt;]
+     * [--version=&lt;version&gt;]". Relative project folder paths are resolved against the provided
+     * current folder.
+     * @param manifestText The text of the manifest.
+     * @param currentFolder The folder that relative project folder paths will be resolved against.
+     * @return The entries in the manifest.
+     */
+    static Result<Iterable<QubCreateProjectBatchEntry>> parseManifest(String manifestText, Folder currentFolder)
+    {
+        PreCondition.assertNotNull(manifestText, "manifestText");
+        PreCondition.assertNotNull(currentFolder, "currentFolder");
+
+        return Result.create(() ->
+        {
+            final List<QubCreateProjectBatchEntry> result = List.create();
+
+            int lineNumber = 0;
+            for (final String line : Strings.getLines(manifestText))
+            {
+                ++lineNumber;
+
+                final String trimmedLine = line.trim();
+                if (!trimmedLine.isEmpty() && !trimmedLine.startsWith("#"))
+                {
+                    final String[] tokens = trimmedLine.split("\\s+");
+                    final String projectFolderPath = tokens[0];
+                    final Folder projectFolder = Path.parse(projectFolderPath).isRooted()
+                        ? currentFolder.getFileSystem().getFolder(projectFolderPath).await()
+                        : currentFolder.getFolder(projectFolderPath).await();
+                    final QubCreateProjectBatchEntry entry = QubCreateProjectBatchEntry.create(projectFolder);
+
+                    for (int i = 1; i < tokens.length; ++i)
+                    {
+                        final String token = tokens[i];
+                        if (token.startsWith("--publisher="))
+                        {
+                            entry.setPublisher(QubCreateProjectBatch.getManifestTokenValue(token, lineNumber));
+                        }
+                        else if (token.startsWith("--version="))
+                        {
+                            entry.setVersion(QubCreateProjectBatch.getManifestTokenValue(token, lineNumber));
+                        }
+                        else
+                        {
+                            throw new ParseException("Unrecognized manifest token on line " + lineNumber + ": " + Strings.escapeAndQuote(token));
+                        }
+                    }
+
+                    result.add(entry);
+                }
+            }
+
+            return result;
+        });
+    }
+
+    private static String getManifestTokenValue(String token, int lineNumber)
+    {
+        final String result = token.substring(token.indexOf('=') + 1);
+        if (result.isEmpty())
+        {
+            throw new ParseException("Missing manifest token value on line " + lineNumber + ": " + Strings.escapeAndQuote(token));
+        }
+        return result;
+    }
+
+    static int run(QubCreateProjectBatchParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        int result = 0;
+
+        final Folder qubProjectDataFolder = parameters.getQubProjectDataFolder();
+        final QubCreateProjectLogStreams logStreams = QubCreateProjectLogStreams.create(qubProjectDataFolder, QubCreateProjectBatch.actionName, parameters.getOutput(), parameters.getVerbose(), parameters.getLogRotation()).await();
+        try (final Disposable logStream = logStreams.getLogStream())
+        {
+            final CharacterToByteWriteStream output = logStreams.getOutput();
+            final QubCreateProjectVerbose verbose = logStreams.getVerbose();
+
+            final Iterable<QubCreateProjectBatchEntry> entries = parameters.getEntries();
+            final int entryCount = entries.getCount();
+            final int workerCount = Math.max(1, Math.min(parameters.getParallelism(), entryCount));
+            if (verbose.isEnabled())
+            {
+                verbose.writeLine("Creating " + entryCount + " projects with " + workerCount + " workers...");
+            }
+
+            final String durability = parameters.getDurability();
+            final QubCreateProjectSyncGroup syncGroup = durability.equals(QubCreateProjectDurability.batch)
+                ? QubCreateProjectSyncGroup.create()
+                : null;
+
+            final long startNanoseconds = System.nanoTime();
+            final ExecutorService workers = Executors.newFixedThreadPool(workerCount);
+            try
+            {
+                final List<InMemoryCharacterToByteStream> projectOutputs = List.create();
+                final List<Future<Integer>> projectExitCodes = List.create();
+                for (final QubCreateProjectBatchEntry entry : entries)
+                {
+                    final InMemoryCharacterToByteStream projectOutput = InMemoryCharacterToByteStream.create();
+                    final VerboseCharacterToByteWriteStream projectVerbose = VerboseCharacterToByteWriteStream.create(projectOutput)
+                        .setIsVerbose(verbose.isEnabled());
+                    final QubCreateProjectRunParameters runParameters = entry.toRunParameters(projectOutput, qubProjectDataFolder)
+                        .setClock(parameters.getClock())
+                        .setStaged(parameters.isStaged())
+                        .setDurability(syncGroup == null ? durability : QubCreateProjectDurability.none)
+                        .setSyncGroup(syncGroup);
+                    if (parameters.getClock() != null)
+                    {
+                        runParameters.setYear(parameters.getClock().getCurrentDateTime().getYear());
+                    }
+
+                    projectOutputs.add(projectOutput);
+                    projectExitCodes.add(workers.submit(() -> QubCreateProjectBatch.createProject(runParameters, projectOutput, projectVerbose)));
+                }
+
+                // Each project's output is buffered and written in manifest order so that the
+                // batch output doesn't depend on the order that the workers finish in.
+                int failedCount = 0;
+                for (int i = 0; i < entryCount; ++i)
+                {
+                    final int projectExitCode = QubCreateProjectBatch.awaitExitCode(projectExitCodes.get(i));
+                    output.write(projectOutputs.get(i).getText().await()).await();
+                    if (projectExitCode != 0)
+                    {
+                        ++failedCount;
+                    }
+                }
+                result -= failedCount;
+
+                if (syncGroup != null && syncGroup.getFolderCount() > 0)
+                {
+                    if (verbose.isEnabled())
+                    {
+                        final int syncFolderCount = syncGroup.getFolderCount();
+                        verbose.write("Syncing " + syncFolderCount + " project folder" + (syncFolderCount == 1 ? "" : "s") + "...");
+                    }
+                    syncGroup.sync();
+                    verbose.writeLine(" Done.");
+                }
+
+                final double elapsedSeconds = (System.nanoTime() - startNanoseconds) / 1_000_000_000.0;
+                final double projectsPerSecond = elapsedSeconds == 0 ? 0 : entryCount / elapsedSeconds;
+                output.writeLine("Created " + (entryCount - failedCount) + " of " + entryCount + " projects in " +
+                    String.format(java.util.Locale.ROOT, "%.3f", elapsedSeconds) + " seconds (" + String.format(java.util.Locale.ROOT, "%.1f", projectsPerSecond) + " projects/second).").await();
+                logStreams.setExitCode(result);
+            }
+            finally
+            {
+                workers.shutdownNow();
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Create a single project from a batch, converting any unexpected error into a failed exit
+     * code so that one bad project doesn't stop the rest of the batch.
+     */
+    static int createProject(QubCreateProjectRunParameters parameters, CharacterToByteWriteStream output, VerboseCharacterToByteWriteStream verbose)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(verbose, "verbose");
+
+        int result;
+        try
+        {
+            result = QubCreateProjectRun.createProject(parameters, parameters.getMetrics(), output, QubCreateProjectVerbose.create(verbose));
+        }
+        catch (Throwable error)
+        {
+            output.writeLine("Failed to create Qub project in folder " + parameters.getProjectFolder() + ": " + error.getMessage()).await();
+            result = -1;
+        }
+        return result;
+    }
+
+    static int awaitExitCode(Future<Integer> exitCode)
+    {
+        PreCondition.assertNotNull(exitCode, "exitCode");
+
+        try
+        {
+            return exitCode.get();
+        }
+        catch (InterruptedException | ExecutionException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+}
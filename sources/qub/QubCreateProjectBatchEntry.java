@@ -0,0 +1,75 @@
+package qub;
+
+/**
+ * A single project within a batch manifest.
+ */
+public class QubCreateProjectBatchEntry
+{
+    private final Folder projectFolder;
+    private String publisher;
+    private String version;
+
+    private QubCreateProjectBatchEntry(Folder projectFolder)
+    {
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+
+        this.projectFolder = projectFolder;
+        this.setPublisher("qub");
+        this.setVersion("1");
+    }
+
+    public static QubCreateProjectBatchEntry create(Folder projectFolder)
+    {
+        return new QubCreateProjectBatchEntry(projectFolder);
+    }
+
+    public Folder getProjectFolder()
+    {
+        return this.projectFolder;
+    }
+
+    public String getPublisher()
+    {
+        return this.publisher;
+    }
+
+    public QubCreateProjectBatchEntry setPublisher(String publisher)
+    {
+        PreCondition.assertNotNullAndNotEmpty(publisher, "publisher");
+
+        this.publisher = publisher;
+        return this;
+    }
+
+    public String getVersion()
+    {
+        return this.version;
+    }
+
+    public QubCreateProjectBatchEntry setVersion(String version)
+    {
+        PreCondition.assertNotNullAndNotEmpty(version, "version");
+
+        this.version = version;
+        return this;
+    }
+
+    /**
+     * Create the run parameters that will create this entry's project.
+     * @param output The stream that the project's output will be written to.
+     * @param qubProjectDataFolder The data folder for this application.
+     * @return The run parameters that will create this entry's project.
+     */
+    public QubCreateProjectRunParameters toRunParameters(CharacterToByteWriteStream output, Folder qubProjectDataFolder)
+    {
+        return QubCreateProjectRunParameters.create(output, this.projectFolder, qubProjectDataFolder)
+            .setPublisher(this.publisher)
+            .setVersion(this.version);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.projectFolder + " --publisher=" + this.publisher + " --version=" + this.version;
+    }
+}
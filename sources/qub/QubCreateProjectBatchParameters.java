@@ -0,0 +1,146 @@
+package qub;
+
+public class QubCreateProjectBatchParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final Iterable<QubCreateProjectBatchEntry> entries;
+    private final Folder qubProjectDataFolder;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private int parallelism;
+    private QubCreateProjectLogRotation logRotation;
+    private Clock clock;
+    private boolean staged;
+    private String durability;
+
+    private QubCreateProjectBatchParameters(CharacterToByteWriteStream output, Iterable<QubCreateProjectBatchEntry> entries, Folder qubProjectDataFolder)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(entries, "entries");
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+
+        this.output = output;
+        this.entries = entries;
+        this.qubProjectDataFolder = qubProjectDataFolder;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setParallelism(Runtime.getRuntime().availableProcessors());
+        this.setLogRotation(QubCreateProjectLogRotation.create());
+        this.setDurability(QubCreateProjectDurability.none);
+    }
+
+    public static QubCreateProjectBatchParameters create(CharacterToByteWriteStream output, Iterable<QubCreateProjectBatchEntry> entries, Folder qubProjectDataFolder)
+    {
+        return new QubCreateProjectBatchParameters(output, entries, qubProjectDataFolder);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    public Iterable<QubCreateProjectBatchEntry> getEntries()
+    {
+        return this.entries;
+    }
+
+    public Folder getQubProjectDataFolder()
+    {
+        return this.qubProjectDataFolder;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectBatchParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of projects that will be created at the same time.
+     * @return The maximum number of projects that will be created at the same time.
+     */
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    public QubCreateProjectBatchParameters setParallelism(int parallelism)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(parallelism, 1, "parallelism");
+
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Get the limits for the log files in the project data folder.
+     * @return The limits for the log files in the project data folder.
+     */
+    public QubCreateProjectLogRotation getLogRotation()
+    {
+        return this.logRotation;
+    }
+
+    public QubCreateProjectBatchParameters setLogRotation(QubCreateProjectLogRotation logRotation)
+    {
+        PreCondition.assertNotNull(logRotation, "logRotation");
+
+        this.logRotation = logRotation;
+        return this;
+    }
+
+    /**
+     * Get the clock that is used to decide whether the registry's compaction lock was left behind
+     * by a process that stopped. If this is null, then the lock is never taken over.
+     * @return The clock that is used to decide whether the registry's compaction lock is
+     * abandoned, or null.
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public QubCreateProjectBatchParameters setClock(Clock clock)
+    {
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Get whether each new project folder will be built in a sibling staging folder and then moved
+     * into place with a single rename.
+     * @return Whether each new project folder will be staged.
+     */
+    public boolean isStaged()
+    {
+        return this.staged;
+    }
+
+    public QubCreateProjectBatchParameters setStaged(boolean staged)
+    {
+        this.staged = staged;
+        return this;
+    }
+
+    /**
+     * Get when the files and folders of the new projects will be synced to disk.
+     * @return One of the QubCreateProjectDurability.batchValues.
+     */
+    public String getDurability()
+    {
+        return this.durability;
+    }
+
+    public QubCreateProjectBatchParameters setDurability(String durability)
+    {
+        PreCondition.assertOneOf(durability, QubCreateProjectDurability.batchValues, "durability");
+
+        this.durability = durability;
+        return this;
+    }
+}
@@ -0,0 +1,869 @@
+package qub;
+
+/**
+ * A QubProject action that measures the performance of this application's operations.
+ */
+public interface QubCreateProjectBenchmark
+{
+    String actionName = "benchmark";
+    String actionDescription = "Measure the performance of creating new Qub projects.";
+
+    /**
+     * The number of project folders in the workspace that the scan cases scan.
+     */
+    int scanProjectFolderCount = 100000;
+
+    /**
+     * The number of bytes in the template that the template cases copy into new projects.
+     */
+    long templateByteCount = 50L * 1024 * 1024;
+
+    /**
+     * The number of bytes in each file of the template that the template cases copy.
+     */
+    int templateFileByteCount = 1024 * 1024;
+
+    /**
+     * The number of projects that each operation of the durability cases creates and syncs.
+     */
+    int durabilityProjectCount = 10;
+
+    /**
+     * The number of installed projects in the qub folder that the dependency cases index.
+     */
+    int dependencyProjectCount = 1000;
+
+    /**
+     * The number of installed versions of each project that the dependency cases index.
+     */
+    int dependencyVersionCount = 5;
+
+    static QubCreateProjectBenchmarkParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectBenchmark.actionName))
+            .setApplicationDescription(QubCreateProjectBenchmark.actionDescription);
+
+        final CommandLineParameter<Integer> iterationsParameter = parameters.addInteger("iterations")
+            .setValueName("<operation-count>")
+            .setDescription("The number of operations to measure for each benchmark. Defaults to 1000.");
+        final CommandLineParameter<Integer> warmupParameter = parameters.addInteger("warmup")
+            .setValueName("<operation-count>")
+            .setDescription("The number of operations to run before measuring each benchmark. Defaults to 100.");
+        final CommandLineParameter<String> filterParameter = parameters.addString("filter")
+            .setValueName("<text>")
+            .setDescription("Only run the benchmarks whose names contain this text.");
+        final CommandLineParameter<File> resultsParameter = parameters.addFile("results", process)
+            .setValueName("<results-file-path>")
+            .setDescription("The path to the file that the benchmark results will be written to as JSON.");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectBenchmarkParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await() &&
+            QubCreateProjectRun.validateBetween(process, "iterations", iterationsParameter.getValue().await(), 1, Integer.MAX_VALUE) &&
+            QubCreateProjectRun.validateBetween(process, "warmup", warmupParameter.getValue().await(), 0, Integer.MAX_VALUE))
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            final Folder scratchFolder = process.getQubProjectDataFolder().await().getFolder("benchmark").await();
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectBenchmarkParameters.create(output, process.getClock(), scratchFolder)
+                .setVerbose(verbose)
+                .setCdsArchiveFile(QubCreateProjectCds.getDefaultArchiveFile(process).await())
+                .setFilter(filterParameter.getValue().await())
+                .setResultsFile(resultsParameter.getValue().await());
+
+            final Integer iterations = iterationsParameter.getValue().await();
+            if (iterations != null)
+            {
+                result.setIterations(iterations);
+            }
+
+            final Integer warmupIterations = warmupParameter.getValue().await();
+            if (warmupIterations != null)
+            {
+                result.setWarmupIterations(warmupIterations);
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the benchmark cases that can be run with the provided parameters.
+     * @param parameters The parameters for the benchmark.
+     * @return The benchmark cases.
+     */
+    static Iterable<QubCreateProjectBenchmarkCase> getCases(QubCreateProjectBenchmarkParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final Clock clock = parameters.getClock();
+        final Folder scratchFolder = parameters.getScratchFolder();
+        final List<QubCreateProjectBenchmarkCase> result = List.create();
+
+        final List<QubProcess> processes = List.create();
+        result.add(QubCreateProjectBenchmarkCase.create("parse-parameters", () ->
+            {
+                final QubProcess process = QubProcess.create("C:/project/folder/", "--verbose");
+                process.setOutputWriteStream(InMemoryCharacterToByteStream.create());
+                processes.add(process);
+                return () -> QubCreateProjectRun.getParameters(process);
+            })
+            .setCleanUp(() ->
+            {
+                for (final QubProcess process : processes)
+                {
+                    process.dispose().await();
+                }
+                processes.clear();
+            }));
+
+        result.add(QubCreateProjectBenchmarkCase.create("scaffold-in-memory", () ->
+        {
+            final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+            fileSystem.createRoot("/").await();
+            final QubCreateProjectRunParameters runParameters = QubCreateProjectRunParameters.create(
+                InMemoryCharacterToByteStream.create(),
+                fileSystem.getFolder("/project/").await(),
+                fileSystem.getFolder("/qub/project/data/").await());
+            return () -> QubCreateProjectRun.run(runParameters);
+        }));
+
+        final IntegerValue fileSystemProjectNumber = IntegerValue.create(0);
+        result.add(QubCreateProjectBenchmarkCase.create("scaffold-file-system", () ->
+            {
+                fileSystemProjectNumber.increment();
+                final QubCreateProjectRunParameters runParameters = QubCreateProjectRunParameters.create(
+                    InMemoryCharacterToByteStream.create(),
+                    scratchFolder.getFolder("projects/project" + fileSystemProjectNumber.get()).await(),
+                    scratchFolder.getFolder("data").await());
+                return () -> QubCreateProjectRun.run(runParameters);
+            })
+            .setCleanUp(() -> scratchFolder.delete().catchError(FolderNotFoundException.class).await()));
+
+        // The archive cases write a whole project as an archive without touching a file system.
+        final InMemoryFileSystem archiveFileSystem = InMemoryFileSystem.create(clock);
+        archiveFileSystem.createRoot("/").await();
+        for (final String archiveFormat : QubCreateProjectArchiveWriter.formats)
+        {
+            final QubCreateProjectRunParameters archiveParameters = QubCreateProjectRunParameters.create(
+                    InMemoryCharacterToByteStream.create(),
+                    archiveFileSystem.getFolder("/project/").await(),
+                    archiveFileSystem.getFolder("/qub/project/data/").await())
+                .setArchiveFormat(archiveFormat);
+            result.add(QubCreateProjectBenchmarkCase.create("archive-" + archiveFormat, () ->
+            {
+                final InMemoryByteStream archiveStream = InMemoryByteStream.create();
+                return () -> QubCreateProjectRun.writeArchive(archiveParameters, archiveStream);
+            }));
+        }
+
+        // The scan cases share one synthetic workspace that is only built if one of them runs.
+        final Value<Folder> scanWorkspaceFolder = Value.create();
+        final Function0<Folder> getScanWorkspaceFolder = () ->
+        {
+            if (!scanWorkspaceFolder.hasValue())
+            {
+                final InMemoryFileSystem scanFileSystem = InMemoryFileSystem.create(clock);
+                scanFileSystem.createRoot("/").await();
+                final Folder workspaceFolder = scanFileSystem.createFolder("/workspace/").await();
+                QubCreateProjectBenchmark.createScanWorkspace(workspaceFolder, QubCreateProjectBenchmark.scanProjectFolderCount);
+                scanWorkspaceFolder.set(workspaceFolder);
+            }
+            return scanWorkspaceFolder.get();
+        };
+        result.add(QubCreateProjectBenchmarkCase.create("scan-100k-sequential", () ->
+            {
+                final Folder workspaceFolder = getScanWorkspaceFolder.run();
+                return () -> QubCreateProjectScan.scan(workspaceFolder, 1, (Folder folder, Iterable<String> missingNames) -> {});
+            })
+            .setMaximumIterations(20));
+        result.add(QubCreateProjectBenchmarkCase.create("scan-100k-parallel", () ->
+            {
+                final Folder workspaceFolder = getScanWorkspaceFolder.run();
+                final int parallelism = Runtime.getRuntime().availableProcessors();
+                return () -> QubCreateProjectScan.scan(workspaceFolder, parallelism, (Folder folder, Iterable<String> missingNames) -> {});
+            })
+            .setMaximumIterations(20));
+
+        // The git cases compare writing a new project's repository in-process against creating
+        // the repository afterwards by starting git init, git add, and git commit processes.
+        final IntegerValue gitProjectNumber = IntegerValue.create(0);
+        final Folder gitProjectsFolder = scratchFolder.getFolder("git-projects").await();
+        result.add(QubCreateProjectBenchmarkCase.create("git-in-process", () ->
+            {
+                gitProjectNumber.increment();
+                final QubCreateProjectRunParameters runParameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        gitProjectsFolder.getFolder("project" + gitProjectNumber.get()).await(),
+                        scratchFolder.getFolder("data").await())
+                    .setClock(clock)
+                    .setGit(true);
+                return () -> QubCreateProjectRun.run(runParameters);
+            })
+            .setMaximumIterations(200)
+            .setCleanUp(() -> gitProjectsFolder.delete().catchError(FolderNotFoundException.class).await()));
+        result.add(QubCreateProjectBenchmarkCase.create("git-spawn", () ->
+            {
+                gitProjectNumber.increment();
+                final Folder projectFolder = gitProjectsFolder.getFolder("project" + gitProjectNumber.get()).await();
+                final QubCreateProjectRunParameters runParameters = QubCreateProjectRunParameters.create(
+                    InMemoryCharacterToByteStream.create(),
+                    projectFolder,
+                    scratchFolder.getFolder("data").await());
+                return () ->
+                {
+                    QubCreateProjectRun.run(runParameters);
+                    QubCreateProjectBenchmark.runGit(projectFolder, "init", "--quiet");
+                    QubCreateProjectBenchmark.runGit(projectFolder, "add", "--all");
+                    QubCreateProjectBenchmark.runGit(projectFolder, "-c", "user.name=" + runParameters.getAuthor(), "-c", "user.email=", "commit", "--quiet", "--message=Initial commit");
+                };
+            })
+            .setMaximumIterations(200)
+            .setCleanUp(() -> gitProjectsFolder.delete().catchError(FolderNotFoundException.class).await())
+            .setIsAvailable(() -> QubCreateProjectBenchmark.runGit(scratchFolder.getParentFolder().await(), "--version") == 0));
+
+        // The generator cases load the generators for one type of project, or for every type of
+        // project, in a new class loader the way that a new process would. Selecting one type
+        // should cost the same no matter how many other types there are.
+        for (final String type : QubCreateProjectGenerators.types)
+        {
+            result.add(QubCreateProjectBenchmarkCase.create("generator-startup-" + type, () -> () -> QubCreateProjectBenchmark.loadGenerators(Iterable.create(type)))
+                .setMaximumIterations(200));
+        }
+        result.add(QubCreateProjectBenchmarkCase.create("generator-startup-all", () -> () -> QubCreateProjectBenchmark.loadGenerators(QubCreateProjectGenerators.types))
+            .setMaximumIterations(200));
+
+        // The dependency cases share one synthetic qub folder with 5000 installed versions. The
+        // update case compares last modified times without listing any folders, the rescan case
+        // lists every folder, and the lookup case finds the newest version of one project.
+        final Value<Folder> dependencyQubFolder = Value.create();
+        final Function0<Folder> getDependencyQubFolder = () ->
+        {
+            if (!dependencyQubFolder.hasValue())
+            {
+                final InMemoryFileSystem dependencyFileSystem = InMemoryFileSystem.create(clock);
+                dependencyFileSystem.createRoot("/").await();
+                final Folder qubFolder = dependencyFileSystem.createFolder("/qub/").await();
+                QubCreateProjectBenchmark.createDependencyQubFolder(qubFolder, QubCreateProjectBenchmark.dependencyProjectCount, QubCreateProjectBenchmark.dependencyVersionCount);
+                dependencyQubFolder.set(qubFolder);
+            }
+            return dependencyQubFolder.get();
+        };
+        final Function1<Folder,File> getDependencyIndexFile = (Folder qubFolder) -> qubFolder.getFile("qub/createproject-java/data/dependencies/index.tsv").await();
+        final Function1<Folder,Long> unchangedLastModified = (Folder folder) -> 1L;
+        result.add(QubCreateProjectBenchmarkCase.create("dependency-index-open", () ->
+            {
+                final Folder qubFolder = getDependencyQubFolder.run();
+                final File indexFile = getDependencyIndexFile.run(qubFolder);
+                QubCreateProjectDependencyIndex.open(indexFile).await().setGetLastModified(unchangedLastModified).update(qubFolder).await();
+                return () -> QubCreateProjectDependencyIndex.open(indexFile).await();
+            })
+            .setMaximumIterations(200));
+        result.add(QubCreateProjectBenchmarkCase.create("dependency-index-update", () ->
+            {
+                final Folder qubFolder = getDependencyQubFolder.run();
+                final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(getDependencyIndexFile.run(qubFolder)).await()
+                    .setGetLastModified(unchangedLastModified);
+                index.update(qubFolder).await();
+                return () -> index.update(qubFolder).await();
+            })
+            .setMaximumIterations(200));
+        result.add(QubCreateProjectBenchmarkCase.create("dependency-index-rescan", () ->
+            {
+                final Folder qubFolder = getDependencyQubFolder.run();
+                final File indexFile = getDependencyIndexFile.run(qubFolder);
+                return () -> QubCreateProjectDependencyIndex.open(indexFile).await()
+                    .setGetLastModified((Folder folder) -> -1L)
+                    .update(qubFolder).await();
+            })
+            .setMaximumIterations(20));
+        result.add(QubCreateProjectBenchmarkCase.create("dependency-lookup", () ->
+        {
+            final Folder qubFolder = getDependencyQubFolder.run();
+            final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(getDependencyIndexFile.run(qubFolder)).await();
+            index.update(qubFolder).await();
+            return () -> index.getNewestVersion("publisher7", "project507");
+        }));
+
+        // The stats cases record the phases of one run in a histogram file on the file system,
+        // which merges the run's latencies into the mapped file with atomic updates, and read
+        // every histogram back out of the file.
+        final File statsHistogramFile = QubCreateProjectHistogramFile.getHistogramFile(scratchFolder.getFolder("stats").await());
+        final Function0<QubCreateProjectMetrics> createStatsMetrics = () ->
+        {
+            final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+            for (final String phaseName : Iterable.create("logSetup", "plan", "projectFolder", "registry", "generator", "artifacts", QubCreateProjectHistogramFile.totalPhaseName))
+            {
+                metrics.endPhase(phaseName, metrics.startPhase());
+            }
+            return metrics;
+        };
+        final Action0 cleanUpStats = () -> QubCreateProjectHistogramFile.reset(statsHistogramFile).await();
+        result.add(QubCreateProjectBenchmarkCase.create("stats-record", () ->
+            {
+                final QubCreateProjectMetrics metrics = createStatsMetrics.run();
+                return () -> QubCreateProjectHistogramFile.record(statsHistogramFile, metrics).await();
+            })
+            .setCleanUp(cleanUpStats));
+        result.add(QubCreateProjectBenchmarkCase.create("stats-read", () ->
+            {
+                QubCreateProjectHistogramFile.record(statsHistogramFile, createStatsMetrics.run()).await();
+                return () -> QubCreateProjectHistogramFile.read(statsHistogramFile).await();
+            })
+            .setCleanUp(cleanUpStats));
+
+        // The durability cases create several projects on the file system and then sync them. The
+        // per-file case syncs each file and folder one after another, the project case syncs each
+        // project as one concurrent pass, and the batch case syncs all of the projects in a
+        // single concurrent pass.
+        final Folder durabilityProjectsFolder = scratchFolder.getFolder("durability-projects").await();
+        final IntegerValue durabilityProjectNumber = IntegerValue.create(0);
+        final Action2<String,Action1<QubCreateProjectSyncGroup>> createDurabilityCase = (String caseName, Action1<QubCreateProjectSyncGroup> syncProject) ->
+        {
+            result.add(QubCreateProjectBenchmarkCase.create("durability-" + caseName + "-" + QubCreateProjectBenchmark.durabilityProjectCount, () ->
+                {
+                    final List<QubCreateProjectRunParameters> runParameters = List.create();
+                    for (int i = 0; i < QubCreateProjectBenchmark.durabilityProjectCount; ++i)
+                    {
+                        durabilityProjectNumber.increment();
+                        runParameters.add(QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            durabilityProjectsFolder.getFolder("project" + durabilityProjectNumber.get()).await(),
+                            scratchFolder.getFolder("data").await()));
+                    }
+                    return () ->
+                    {
+                        final QubCreateProjectSyncGroup batchSyncGroup = QubCreateProjectSyncGroup.create();
+                        for (final QubCreateProjectRunParameters projectParameters : runParameters)
+                        {
+                            QubCreateProjectRun.run(projectParameters);
+                            batchSyncGroup.addFolder(projectParameters.getProjectFolder());
+                            syncProject.run(batchSyncGroup);
+                        }
+                        batchSyncGroup.sync();
+                    };
+                })
+                .setMaximumIterations(50)
+                .setCleanUp(() -> durabilityProjectsFolder.delete().catchError(FolderNotFoundException.class).await()));
+        };
+        createDurabilityCase.run("per-file", (QubCreateProjectSyncGroup syncGroup) -> syncGroup.sync(1));
+        createDurabilityCase.run(QubCreateProjectDurability.project, (QubCreateProjectSyncGroup syncGroup) -> syncGroup.sync());
+        createDurabilityCase.run(QubCreateProjectDurability.batch, (QubCreateProjectSyncGroup syncGroup) -> {});
+
+        // The template cases copy the same 50 MB template into a new folder on the file system,
+        // either with the operating system moving the bytes, with hard links, or by reading each
+        // file into memory and writing it back out.
+        final Folder templateFolder = scratchFolder.getFolder("template").await();
+        final Folder templateProjectsFolder = scratchFolder.getFolder("template-projects").await();
+        final IntegerValue templateProjectNumber = IntegerValue.create(0);
+        final Action0 cleanUpTemplateProjects = () -> templateProjectsFolder.delete().catchError(FolderNotFoundException.class).await();
+        final Action1<Boolean> createTemplateCase = (Boolean link) ->
+        {
+            result.add(QubCreateProjectBenchmarkCase.create("template-50mb-" + (link ? "link" : "channel"), () ->
+                {
+                    QubCreateProjectBenchmark.createTemplate(templateFolder, QubCreateProjectBenchmark.templateByteCount, QubCreateProjectBenchmark.templateFileByteCount);
+                    templateProjectNumber.increment();
+                    final Folder targetFolder = templateProjectsFolder.createFolder("project" + templateProjectNumber.get()).await();
+                    return () -> QubCreateProjectTemplateAssets.materialize(templateFolder, targetFolder, link, QubCreateProjectMetrics.disabled, QubCreateProjectVerbose.create(InMemoryCharacterToByteStream.create(), false));
+                })
+                .setMaximumIterations(20)
+                .setCleanUp(cleanUpTemplateProjects));
+        };
+        createTemplateCase.run(false);
+        createTemplateCase.run(true);
+        result.add(QubCreateProjectBenchmarkCase.create("template-50mb-naive", () ->
+            {
+                QubCreateProjectBenchmark.createTemplate(templateFolder, QubCreateProjectBenchmark.templateByteCount, QubCreateProjectBenchmark.templateFileByteCount);
+                templateProjectNumber.increment();
+                final Folder targetFolder = templateProjectsFolder.createFolder("project" + templateProjectNumber.get()).await();
+                return () -> QubCreateProjectBenchmark.copyFolderNaively(templateFolder, targetFolder);
+            })
+            .setMaximumIterations(20)
+            .setCleanUp(cleanUpTemplateProjects));
+
+        // The verbose cases write the same verbose messages that creating a project writes. The
+        // disabled case should report 0 B/op.
+        final InMemoryFileSystem verboseFileSystem = InMemoryFileSystem.create(clock);
+        verboseFileSystem.createRoot("/").await();
+        final Folder verboseProjectFolder = verboseFileSystem.getFolder("/project/").await();
+        final File verboseProjectJsonFile = verboseProjectFolder.getFile("project.json").await();
+        final QubCreateProjectVerbose disabledVerbose = QubCreateProjectVerbose.create(
+            VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        result.add(QubCreateProjectBenchmarkCase.create("verbose-disabled", () ->
+        {
+            return () -> QubCreateProjectBenchmark.writeVerboseMessages(disabledVerbose, verboseProjectFolder, verboseProjectJsonFile);
+        }));
+        result.add(QubCreateProjectBenchmarkCase.create("verbose-enabled", () ->
+        {
+            final QubCreateProjectVerbose enabledVerbose = QubCreateProjectVerbose.create(
+                VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()));
+            return () -> QubCreateProjectBenchmark.writeVerboseMessages(enabledVerbose, verboseProjectFolder, verboseProjectJsonFile);
+        }));
+
+        // The cold and warm cases compare starting a new JVM for each command against forwarding
+        // each command to a daemon that is already running. The cold cases measure the time until
+        // the new process writes its first output.
+        result.add(QubCreateProjectBenchmark.createCliCase("cli-cold", Iterable.create()));
+
+        final File cdsArchiveFile = parameters.getCdsArchiveFile();
+        if (cdsArchiveFile != null)
+        {
+            result.add(QubCreateProjectBenchmark.createCliCase("cli-cold-cds", Iterable.create("-XX:SharedArchiveFile=" + cdsArchiveFile))
+                .setIsAvailable(() -> cdsArchiveFile.exists().await()));
+        }
+
+        final IntegerValue daemonPort = IntegerValue.create(0);
+        result.add(QubCreateProjectBenchmarkCase.create("daemon-warm", () ->
+            {
+                if (daemonPort.get() == 0)
+                {
+                    QubCreateProjectBenchmark.startDaemon(daemonPort);
+                }
+                final String[] args = { "--help" };
+                final String currentFolderPath = scratchFolder.toString();
+                return () ->
+                {
+                    try
+                    {
+                        // The token is read for each command, like a forwarding process would.
+                        final String token = QubCreateProjectDaemonClient.readToken(daemonPort.get());
+                        QubCreateProjectDaemonClient.send(daemonPort.get(), token, currentFolderPath, args, java.io.OutputStream.nullOutputStream(), java.io.OutputStream.nullOutputStream());
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                };
+            })
+            .setCleanUp(() ->
+            {
+                if (daemonPort.get() != 0)
+                {
+                    try
+                    {
+                        QubCreateProjectDaemonClient.sendShutdown(daemonPort.get(), QubCreateProjectDaemonClient.readToken(daemonPort.get()));
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                    daemonPort.set(0);
+                }
+            }));
+
+        return result;
+    }
+
+    /**
+     * Install the provided number of projects in the provided qub folder, each with the provided
+     * number of empty version folders. The projects are spread across ten publishers.
+     * @param qubFolder The qub folder to install the projects in.
+     * @param projectCount The number of projects to install.
+     * @param versionCount The number of versions of each project to install.
+     */
+    static void createDependencyQubFolder(Folder qubFolder, int projectCount, int versionCount)
+    {
+        PreCondition.assertNotNull(qubFolder, "qubFolder");
+        PreCondition.assertGreaterThanOrEqualTo(projectCount, 0, "projectCount");
+        PreCondition.assertGreaterThanOrEqualTo(versionCount, 0, "versionCount");
+
+        for (int projectNumber = 0; projectNumber < projectCount; ++projectNumber)
+        {
+            final Folder versionsFolder = qubFolder.getFolder("publisher" + (projectNumber % 10) + "/project" + projectNumber + "/" + QubCreateProjectDependencyIndex.versionsFolderName).await();
+            for (int versionNumber = 1; versionNumber <= versionCount; ++versionNumber)
+            {
+                versionsFolder.createFolder(Integer.toString(versionNumber)).await();
+            }
+        }
+    }
+
+    /**
+     * Create the provided number of project folders in the provided workspace folder. The project
+     * folders are grouped into two levels of 100 folders each, and every other project folder has
+     * a project.json file so that the scan finds both empty folders and partial projects.
+     * @param workspaceFolder The folder to create the project folders in.
+     * @param projectFolderCount The number of project folders to create.
+     */
+    static void createScanWorkspace(Folder workspaceFolder, int projectFolderCount)
+    {
+        PreCondition.assertNotNull(workspaceFolder, "workspaceFolder");
+        PreCondition.assertGreaterThanOrEqualTo(projectFolderCount, 0, "projectFolderCount");
+
+        for (int i = 0; i < projectFolderCount; ++i)
+        {
+            final Folder projectFolder = workspaceFolder.createFolder("group" + (i / 10000) + "/group" + (i / 100 % 100) + "/project" + (i % 100)).await();
+            if (i % 2 == 0)
+            {
+                projectFolder.createFile("project.json").await();
+            }
+        }
+    }
+
+    /**
+     * Create a template with the provided number of bytes in the provided folder if the folder
+     * doesn't already exist. The bytes are split into files of the provided size that are spread
+     * across a few nested folders, the way that build wrappers and icon sets are.
+     * @param templateFolder The folder to create the template in.
+     * @param byteCount The total number of bytes in the template's files.
+     * @param fileByteCount The maximum number of bytes in each of the template's files.
+     */
+    static void createTemplate(Folder templateFolder, long byteCount, int fileByteCount)
+    {
+        PreCondition.assertNotNull(templateFolder, "templateFolder");
+        PreCondition.assertGreaterThanOrEqualTo(byteCount, 0, "byteCount");
+        PreCondition.assertGreaterThanOrEqualTo(fileByteCount, 1, "fileByteCount");
+
+        if (!templateFolder.exists().await())
+        {
+            final java.util.Random random = new java.util.Random(byteCount);
+            final byte[] fileBytes = new byte[fileByteCount];
+            int fileNumber = 0;
+            for (long remaining = byteCount; remaining > 0; remaining -= fileBytes.length)
+            {
+                random.nextBytes(fileBytes);
+                final byte[] contents = remaining >= fileBytes.length
+                    ? fileBytes
+                    : java.util.Arrays.copyOf(fileBytes, (int)remaining);
+                templateFolder.getFile("assets/group" + (fileNumber % 4) + "/asset" + fileNumber + ".bin").await()
+                    .setContents(contents).await();
+                ++fileNumber;
+            }
+        }
+    }
+
+    /**
+     * Copy the files and folders in the provided source folder into the provided target folder by
+     * reading each file's contents into memory and then writing them to the new file.
+     * @param sourceFolder The folder to copy.
+     * @param targetFolder The folder to copy the source folder's files and folders into.
+     */
+    static void copyFolderNaively(Folder sourceFolder, Folder targetFolder)
+    {
+        PreCondition.assertNotNull(sourceFolder, "sourceFolder");
+        PreCondition.assertNotNull(targetFolder, "targetFolder");
+
+        for (final FileSystemEntry entry : sourceFolder.getFilesAndFolders().await())
+        {
+            if (entry instanceof Folder)
+            {
+                final Folder targetChildFolder = targetFolder.createFolder(entry.getName()).await();
+                QubCreateProjectBenchmark.copyFolderNaively((Folder)entry, targetChildFolder);
+            }
+            else
+            {
+                targetFolder.getFile(entry.getName()).await()
+                    .setContents(((File)entry).getContents().await()).await();
+            }
+        }
+    }
+
+    /**
+     * Write the verbose messages that creating a new project in the provided folder writes.
+     * @param verbose The verbose log to write to.
+     * @param projectFolder The project folder that the messages describe.
+     * @param projectJsonFile The project.json file that the messages describe.
+     */
+    static void writeVerboseMessages(QubCreateProjectVerbose verbose, Folder projectFolder, File projectJsonFile)
+    {
+        PreCondition.assertNotNull(verbose, "verbose");
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+        PreCondition.assertNotNull(projectJsonFile, "projectJsonFile");
+
+        verbose.write("Checking if project folder (", projectFolder, ") already exists...");
+        verbose.writeLine(" Done.");
+        verbose.write("Project folder (", projectFolder, ") doesn't exist. Creating it now...");
+        verbose.writeLine(" Done.");
+        verbose.writeLine();
+        verbose.writeLine("Creating project.json file (", projectJsonFile, ")... Done.");
+    }
+
+    /**
+     * Load the generators for the provided types of project in a new class loader that doesn't
+     * share any of this application's classes with the current process.
+     * @param types The types of project whose generators will be loaded.
+     * @return The sorted names of the generator classes that the new class loader loaded.
+     */
+    static Iterable<String> loadGenerators(Iterable<String> types)
+    {
+        PreCondition.assertNotNull(types, "types");
+
+        final java.util.Set<String> loadedClassNames = java.util.Collections.synchronizedSet(new java.util.TreeSet<>());
+        try
+        {
+            final String[] classPathEntries = System.getProperty("java.class.path").split(java.io.File.pathSeparator);
+            final java.net.URL[] classPathUrls = new java.net.URL[classPathEntries.length];
+            for (int i = 0; i < classPathEntries.length; ++i)
+            {
+                classPathUrls[i] = java.nio.file.Paths.get(classPathEntries[i]).toUri().toURL();
+            }
+
+            try (final java.net.URLClassLoader classLoader = new java.net.URLClassLoader(classPathUrls, ClassLoader.getPlatformClassLoader())
+            {
+                @Override
+                protected Class<?> findClass(String name) throws ClassNotFoundException
+                {
+                    final Class<?> result = super.findClass(name);
+                    loadedClassNames.add(name);
+                    return result;
+                }
+            })
+            {
+                final java.lang.reflect.Method getGenerator = classLoader.loadClass(QubCreateProjectGenerators.class.getName())
+                    .getMethod("getGenerator", String.class);
+                for (final String type : types)
+                {
+                    getGenerator.invoke(null, type);
+                }
+            }
+        }
+        catch (java.io.IOException | ReflectiveOperationException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+
+        final List<String> result = List.create();
+        for (final String loadedClassName : loadedClassNames)
+        {
+            if (loadedClassName.endsWith("Generator"))
+            {
+                result.add(loadedClassName);
+            }
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Create a benchmark case that starts a new JVM that runs this application with the "--help"
+     * argument and measures the time until the new process writes its first output byte.
+     * @param name The name of the case.
+     * @param jvmArguments The arguments to pass to the new JVM.
+     * @return The new benchmark case.
+     */
+    static QubCreateProjectBenchmarkCase createCliCase(String name, Iterable<String> jvmArguments)
+    {
+        PreCondition.assertNotNullAndNotEmpty(name, "name");
+        PreCondition.assertNotNull(jvmArguments, "jvmArguments");
+
+        final java.util.List<String> command = new java.util.ArrayList<>();
+        command.add(ProcessHandle.current().info().command().orElse("java"));
+        for (final String jvmArgument : jvmArguments)
+        {
+            command.add(jvmArgument);
+        }
+        command.add("-cp");
+        command.add(System.getProperty("java.class.path"));
+        command.add(QubCreateProject.class.getName());
+        command.add("--help");
+
+        final ProcessBuilder processBuilder = new ProcessBuilder(command)
+            .redirectError(ProcessBuilder.Redirect.DISCARD);
+        processBuilder.environment().remove(QubCreateProjectDaemonClient.portEnvironmentVariableName);
+
+        // The measured operation stops as soon as the first output byte arrives, so the rest of
+        // each process's output is drained before the next operation is prepared.
+        final List<java.lang.Process> startedProcesses = List.create();
+        final Action0 finishStartedProcesses = () ->
+        {
+            try
+            {
+                for (final java.lang.Process startedProcess : startedProcesses)
+                {
+                    startedProcess.getInputStream().transferTo(java.io.OutputStream.nullOutputStream());
+                    startedProcess.waitFor();
+                }
+                startedProcesses.clear();
+            }
+            catch (java.io.IOException | InterruptedException e)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+        };
+
+        return QubCreateProjectBenchmarkCase.create(name, () ->
+            {
+                finishStartedProcesses.run();
+                return () ->
+                {
+                    try
+                    {
+                        final java.lang.Process startedProcess = processBuilder.start();
+                        startedProcesses.add(startedProcess);
+                        startedProcess.getInputStream().read();
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                };
+            })
+            .setCleanUp(finishStartedProcesses)
+            .setMaximumIterations(50);
+    }
+
+    /**
+     * Run git with the provided arguments in the provided folder and wait for it to finish. The
+     * output of git is discarded.
+     * @param workingFolder The folder to run git in.
+     * @param arguments The arguments to pass to git.
+     * @return The exit code of git, or -1 if git couldn't be started.
+     */
+    static int runGit(Folder workingFolder, String... arguments)
+    {
+        PreCondition.assertNotNull(workingFolder, "workingFolder");
+        PreCondition.assertNotNull(arguments, "arguments");
+
+        final java.util.List<String> command = new java.util.ArrayList<>();
+        command.add("git");
+        command.addAll(java.util.Arrays.asList(arguments));
+
+        int result;
+        try
+        {
+            result = new ProcessBuilder(command)
+                .directory(new java.io.File(workingFolder.toString()))
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start()
+                .waitFor();
+        }
+        catch (java.io.IOException e)
+        {
+            result = -1;
+        }
+        catch (InterruptedException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+        return result;
+    }
+
+    /**
+     * Start a daemon on a background thread and wait until it is listening.
+     * @param daemonPort The value that the daemon's port will be written to.
+     */
+    static void startDaemon(IntegerValue daemonPort)
+    {
+        PreCondition.assertNotNull(daemonPort, "daemonPort");
+
+        final java.util.concurrent.CountDownLatch listening = new java.util.concurrent.CountDownLatch(1);
+        final QubCreateProjectDaemonParameters daemonParameters = QubCreateProjectDaemonParameters.create(InMemoryCharacterToByteStream.create())
+            .setPort(0)
+            .setOnListening((Integer port) ->
+            {
+                daemonPort.set(port);
+                listening.countDown();
+            });
+        final Thread daemonThread = new Thread(() -> QubCreateProjectDaemon.run(daemonParameters), "qub-createproject-benchmark-daemon");
+        daemonThread.setDaemon(true);
+        daemonThread.start();
+
+        try
+        {
+            listening.await();
+        }
+        catch (InterruptedException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+
+    /**
+     * Run the provided benchmark case.
+     * @param benchmarkCase The case to run.
+     * @param warmupIterations The number of operations to run before measuring.
+     * @param iterations The number of operations to measure.
+     * @return The measurements for the case.
+     */
+    static QubCreateProjectBenchmarkResult runCase(QubCreateProjectBenchmarkCase benchmarkCase, int warmupIterations, int iterations)
+    {
+        PreCondition.assertNotNull(benchmarkCase, "benchmarkCase");
+        PreCondition.assertGreaterThanOrEqualTo(warmupIterations, 0, "warmupIterations");
+        PreCondition.assertGreaterThanOrEqualTo(iterations, 1, "iterations");
+
+        final int maximumIterations = benchmarkCase.getMaximumIterations();
+        iterations = Math.min(iterations, maximumIterations);
+        warmupIterations = Math.min(warmupIterations, maximumIterations - iterations);
+
+        try
+        {
+            for (int i = 0; i < warmupIterations; ++i)
+            {
+                benchmarkCase.prepareOperation().run();
+            }
+
+            long totalNanoseconds = 0;
+            long allocatedBytes = QubCreateProjectAllocations.isSupported() ? 0 : -1;
+            for (int i = 0; i < iterations; ++i)
+            {
+                final Action0 operation = benchmarkCase.prepareOperation();
+
+                final long startAllocatedBytes = QubCreateProjectAllocations.getCurrentThreadAllocatedBytes();
+                final long startNanoseconds = System.nanoTime();
+                operation.run();
+                totalNanoseconds += System.nanoTime() - startNanoseconds;
+                if (allocatedBytes != -1)
+                {
+                    allocatedBytes += QubCreateProjectAllocations.getCurrentThreadAllocatedBytes() - startAllocatedBytes;
+                }
+            }
+
+            return QubCreateProjectBenchmarkResult.create(benchmarkCase.getName(), iterations, totalNanoseconds, allocatedBytes);
+        }
+        finally
+        {
+            benchmarkCase.cleanUp();
+        }
+    }
+
+    static int run(QubCreateProjectBenchmarkParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final String filter = parameters.getFilter();
+
+        final JSONArray resultsJson = JSONArray.create();
+        for (final QubCreateProjectBenchmarkCase benchmarkCase : QubCreateProjectBenchmark.getCases(parameters))
+        {
+            if (Strings.isNullOrEmpty(filter) || benchmarkCase.getName().contains(filter))
+            {
+                // Whether a case is available is only checked once it is selected, because the
+                // check can be as expensive as starting a process.
+                if (!benchmarkCase.isAvailable())
+                {
+                    verbose.writeLine("Skipping " + benchmarkCase.getName() + " because it isn't available on this machine.").await();
+                }
+                else
+                {
+                    verbose.writeLine("Running " + benchmarkCase.getName() + "...").await();
+                    final QubCreateProjectBenchmarkResult result = QubCreateProjectBenchmark.runCase(benchmarkCase, parameters.getWarmupIterations(), parameters.getIterations());
+                    output.writeLine(result.toString()).await();
+                    resultsJson.add(result.toJson());
+                }
+            }
+        }
+
+        final File resultsFile = parameters.getResultsFile();
+        if (resultsFile != null)
+        {
+            resultsFile.setContentsAsString(
+                JSONObject.create()
+                    .setNumber("iterations", parameters.getIterations())
+                    .setNumber("warmupIterations", parameters.getWarmupIterations())
+                    .setArray("results", resultsJson)
+                    .toString(JSONFormat.pretty))
+                .await();
+        }
+
+        return 0;
+    }
+}
@@ -0,0 +1,111 @@
+package qub;
+
+/**
+ * A named operation that can be measured by the benchmark action.
+ */
+public class QubCreateProjectBenchmarkCase
+{
+    private final String name;
+    private final Function0<Action0> prepareOperation;
+    private Action0 cleanUp;
+    private Function0<Boolean> isAvailable;
+    private int maximumIterations;
+
+    private QubCreateProjectBenchmarkCase(String name, Function0<Action0> prepareOperation)
+    {
+        PreCondition.assertNotNullAndNotEmpty(name, "name");
+        PreCondition.assertNotNull(prepareOperation, "prepareOperation");
+
+        this.name = name;
+        this.prepareOperation = prepareOperation;
+        this.cleanUp = () -> {};
+        this.isAvailable = () -> true;
+        this.maximumIterations = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Create a new benchmark case.
+     * @param name The name of the case.
+     * @param prepareOperation A function that does any setup that shouldn't be measured and then
+     *                         returns the operation that will be measured. This is invoked once
+     *                         before each measured operation.
+     * @return The new benchmark case.
+     */
+    public static QubCreateProjectBenchmarkCase create(String name, Function0<Action0> prepareOperation)
+    {
+        return new QubCreateProjectBenchmarkCase(name, prepareOperation);
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Prepare the next operation to measure.
+     * @return The operation to measure.
+     */
+    public Action0 prepareOperation()
+    {
+        final Action0 result = this.prepareOperation.run();
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Set the action that will be run once after all of this case's operations have been run.
+     * @param cleanUp The action that will be run once after all of this case's operations.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectBenchmarkCase setCleanUp(Action0 cleanUp)
+    {
+        PreCondition.assertNotNull(cleanUp, "cleanUp");
+
+        this.cleanUp = cleanUp;
+        return this;
+    }
+
+    public void cleanUp()
+    {
+        this.cleanUp.run();
+    }
+
+    /**
+     * Set the function that checks whether this case can be run on this machine, such as whether a
+     * tool that it starts is installed. The function is only invoked if this case is selected.
+     * @param isAvailable The function that checks whether this case can be run.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectBenchmarkCase setIsAvailable(Function0<Boolean> isAvailable)
+    {
+        PreCondition.assertNotNull(isAvailable, "isAvailable");
+
+        this.isAvailable = isAvailable;
+        return this;
+    }
+
+    public boolean isAvailable()
+    {
+        return this.isAvailable.run();
+    }
+
+    /**
+     * Get the maximum number of operations (warmup and measured) that will be run for this case.
+     * This keeps slow cases, such as ones that start a new process, from running for too long.
+     * @return The maximum number of operations that will be run for this case.
+     */
+    public int getMaximumIterations()
+    {
+        return this.maximumIterations;
+    }
+
+    public QubCreateProjectBenchmarkCase setMaximumIterations(int maximumIterations)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(maximumIterations, 1, "maximumIterations");
+
+        this.maximumIterations = maximumIterations;
+        return this;
+    }
+}
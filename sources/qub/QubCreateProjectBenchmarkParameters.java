@@ -0,0 +1,152 @@
+package qub;
+
+public class QubCreateProjectBenchmarkParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final Clock clock;
+    private final Folder scratchFolder;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private int iterations;
+    private int warmupIterations;
+    private String filter;
+    private File resultsFile;
+    private File cdsArchiveFile;
+
+    private QubCreateProjectBenchmarkParameters(CharacterToByteWriteStream output, Clock clock, Folder scratchFolder)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(clock, "clock");
+        PreCondition.assertNotNull(scratchFolder, "scratchFolder");
+
+        this.output = output;
+        this.clock = clock;
+        this.scratchFolder = scratchFolder;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setIterations(1000);
+        this.setWarmupIterations(100);
+    }
+
+    /**
+     * Create a new set of benchmark parameters.
+     * @param output The stream that the benchmark results will be written to.
+     * @param clock The clock that in-memory file systems will use.
+     * @param scratchFolder The folder that benchmark cases that use a real file system will create
+     *                      their files in. This folder is deleted when the benchmark finishes.
+     * @return The new benchmark parameters.
+     */
+    public static QubCreateProjectBenchmarkParameters create(CharacterToByteWriteStream output, Clock clock, Folder scratchFolder)
+    {
+        return new QubCreateProjectBenchmarkParameters(output, clock, scratchFolder);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public Folder getScratchFolder()
+    {
+        return this.scratchFolder;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectBenchmarkParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get the number of operations that will be measured for each benchmark case.
+     * @return The number of operations that will be measured for each benchmark case.
+     */
+    public int getIterations()
+    {
+        return this.iterations;
+    }
+
+    public QubCreateProjectBenchmarkParameters setIterations(int iterations)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(iterations, 1, "iterations");
+
+        this.iterations = iterations;
+        return this;
+    }
+
+    /**
+     * Get the number of operations that will be run before the measured operations for each
+     * benchmark case.
+     * @return The number of warmup operations for each benchmark case.
+     */
+    public int getWarmupIterations()
+    {
+        return this.warmupIterations;
+    }
+
+    public QubCreateProjectBenchmarkParameters setWarmupIterations(int warmupIterations)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(warmupIterations, 0, "warmupIterations");
+
+        this.warmupIterations = warmupIterations;
+        return this;
+    }
+
+    /**
+     * Get the text that a benchmark case's name must contain for the case to be run. If this is
+     * null or empty, then every benchmark case will be run.
+     * @return The benchmark case name filter.
+     */
+    public String getFilter()
+    {
+        return this.filter;
+    }
+
+    public QubCreateProjectBenchmarkParameters setFilter(String filter)
+    {
+        this.filter = filter;
+        return this;
+    }
+
+    /**
+     * Get the file that the benchmark results will be written to as JSON. If this is null, then
+     * the results will only be written to the output stream.
+     * @return The file that the benchmark results will be written to.
+     */
+    public File getResultsFile()
+    {
+        return this.resultsFile;
+    }
+
+    public QubCreateProjectBenchmarkParameters setResultsFile(File resultsFile)
+    {
+        this.resultsFile = resultsFile;
+        return this;
+    }
+
+    /**
+     * Get the class data sharing archive that the cli-cold-cds benchmark will start the JVM with.
+     * If this is null or the file doesn't exist, then the cli-cold-cds benchmark won't be run.
+     * @return The class data sharing archive file.
+     */
+    public File getCdsArchiveFile()
+    {
+        return this.cdsArchiveFile;
+    }
+
+    public QubCreateProjectBenchmarkParameters setCdsArchiveFile(File cdsArchiveFile)
+    {
+        this.cdsArchiveFile = cdsArchiveFile;
+        return this;
+    }
+}
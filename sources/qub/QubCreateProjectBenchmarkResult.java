@@ -0,0 +1,106 @@
+package qub;
+
+/**
+ * The measurements that were taken for a QubCreateProjectBenchmarkCase.
+ */
+public class QubCreateProjectBenchmarkResult
+{
+    private final String name;
+    private final int operationCount;
+    private final long totalNanoseconds;
+    private final long allocatedBytes;
+
+    private QubCreateProjectBenchmarkResult(String name, int operationCount, long totalNanoseconds, long allocatedBytes)
+    {
+        PreCondition.assertNotNullAndNotEmpty(name, "name");
+        PreCondition.assertGreaterThanOrEqualTo(operationCount, 1, "operationCount");
+        PreCondition.assertGreaterThanOrEqualTo(totalNanoseconds, 0L, "totalNanoseconds");
+        PreCondition.assertGreaterThanOrEqualTo(allocatedBytes, -1L, "allocatedBytes");
+
+        this.name = name;
+        this.operationCount = operationCount;
+        this.totalNanoseconds = totalNanoseconds;
+        this.allocatedBytes = allocatedBytes;
+    }
+
+    /**
+     * Create a new benchmark result.
+     * @param name The name of the case that was measured.
+     * @param operationCount The number of operations that were measured.
+     * @param totalNanoseconds The total number of nanoseconds that the measured operations took.
+     * @param allocatedBytes The total number of bytes that the measured operations allocated, or -1
+     *                       if allocations couldn't be measured.
+     * @return The new benchmark result.
+     */
+    public static QubCreateProjectBenchmarkResult create(String name, int operationCount, long totalNanoseconds, long allocatedBytes)
+    {
+        return new QubCreateProjectBenchmarkResult(name, operationCount, totalNanoseconds, allocatedBytes);
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    public int getOperationCount()
+    {
+        return this.operationCount;
+    }
+
+    public long getTotalNanoseconds()
+    {
+        return this.totalNanoseconds;
+    }
+
+    /**
+     * Get the number of operations that could be run per second.
+     * @return The number of operations that could be run per second.
+     */
+    public double getOperationsPerSecond()
+    {
+        return this.totalNanoseconds == 0
+            ? 0
+            : this.operationCount * 1_000_000_000.0 / this.totalNanoseconds;
+    }
+
+    /**
+     * Get the average number of microseconds that one operation took.
+     * @return The average number of microseconds that one operation took.
+     */
+    public double getAverageMicroseconds()
+    {
+        return this.totalNanoseconds / 1_000.0 / this.operationCount;
+    }
+
+    /**
+     * Get the average number of bytes that one operation allocated, or -1 if allocations couldn't
+     * be measured.
+     * @return The average number of bytes that one operation allocated.
+     */
+    public long getAllocatedBytesPerOperation()
+    {
+        return this.allocatedBytes == -1
+            ? -1
+            : this.allocatedBytes / this.operationCount;
+    }
+
+    public JSONObject toJson()
+    {
+        return JSONObject.create()
+            .setString("name", this.name)
+            .setNumber("operations", this.operationCount)
+            .setNumber("totalNanoseconds", this.totalNanoseconds)
+            .setNumber("operationsPerSecond", this.getOperationsPerSecond())
+            .setNumber("averageMicroseconds", this.getAverageMicroseconds())
+            .setNumber("allocatedBytesPerOperation", this.getAllocatedBytesPerOperation());
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.name + ": " +
+            String.format("%.1f", this.getOperationsPerSecond()) + " ops/s, " +
+            String.format("%.1f", this.getAverageMicroseconds()) + " us/op, " +
+            (this.allocatedBytes == -1 ? "unknown" : Long.toString(this.getAllocatedBytesPerOperation())) + " B/op";
+    }
+}
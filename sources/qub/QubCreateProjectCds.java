@@ -0,0 +1,224 @@
+package qub;
+
+/**
+ * A QubProject action that creates an application class data sharing (AppCDS) archive for this
+ * application. The archive is created by a training run that exercises the run and help paths in
+ * a new JVM that was started with -XX:ArchiveClassesAtExit. A launcher script next to the archive
+ * starts this application with -XX:SharedArchiveFile pointing at the archive, so that JVM maps those
+ * classes instead of loading them.
+ */
+public interface QubCreateProjectCds
+{
+    String actionName = "cds";
+    String actionDescription = "Create a class data sharing archive that makes this application start faster.";
+
+    String archiveFileName = "qub-createproject.jsa";
+    String launcherName = "qub-createproject-cds";
+
+    /**
+     * The entry point of the training JVM. The training run has its own entry point instead of a
+     * command line parameter on the cds action so that it doesn't show up in the action's help.
+     * @param args The command line arguments.
+     */
+    static void main(String[] args)
+    {
+        QubProcess.run(args, (QubProcess process) ->
+        {
+            process.setExitCode(QubCreateProjectCds.runTraining(process.getClock()));
+        });
+    }
+
+    /**
+     * Get the default location of the class data sharing archive for the provided process.
+     * @param process The process to get the default archive location for.
+     * @return The default location of the class data sharing archive.
+     */
+    static Result<File> getDefaultArchiveFile(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        return Result.create(() ->
+        {
+            return process.getQubProjectDataFolder().await()
+                .getFile(QubCreateProjectCds.archiveFileName).await();
+        });
+    }
+
+    static QubCreateProjectCdsParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectCds.actionName))
+            .setApplicationDescription(QubCreateProjectCds.actionDescription);
+
+        final CommandLineParameter<File> archiveParameter = parameters.addFile("archive", process)
+            .setValueName("<archive-file-path>")
+            .setDescription("The path to the archive file to create. Defaults to " + QubCreateProjectCds.archiveFileName + " in this application's data folder.");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectCdsParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await())
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            File archiveFile = archiveParameter.getValue().await();
+            if (archiveFile == null)
+            {
+                archiveFile = QubCreateProjectCds.getDefaultArchiveFile(process).await();
+            }
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectCdsParameters.create(output, archiveFile)
+                .setVerbose(verbose);
+        }
+
+        return result;
+    }
+
+    static int run(QubCreateProjectCdsParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        return QubCreateProjectCds.createArchive(parameters);
+    }
+
+    /**
+     * Exercise the code paths that a normal invocation uses so that their classes are loaded and
+     * written to the archive when the training JVM exits.
+     * @param clock The clock that the training run's in-memory file system will use.
+     * @return The exit code of the training run.
+     */
+    static int runTraining(Clock clock)
+    {
+        PreCondition.assertNotNull(clock, "clock");
+
+        try (final QubProcess helpProcess = QubProcess.create("--help"))
+        {
+            helpProcess.setOutputWriteStream(InMemoryCharacterToByteStream.create());
+            helpProcess.setErrorWriteStream(InMemoryCharacterToByteStream.create());
+            QubCreateProject.run(helpProcess);
+        }
+
+        try (final QubProcess runProcess = QubProcess.create("run", "--help"))
+        {
+            runProcess.setOutputWriteStream(InMemoryCharacterToByteStream.create());
+            runProcess.setErrorWriteStream(InMemoryCharacterToByteStream.create());
+            QubCreateProject.run(runProcess);
+        }
+
+        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+        fileSystem.createRoot("/").await();
+        final QubCreateProjectRunParameters runParameters = QubCreateProjectRunParameters.create(
+            InMemoryCharacterToByteStream.create(),
+            fileSystem.getFolder("/training/project/").await(),
+            fileSystem.getFolder("/training/data/").await());
+        return QubCreateProjectRun.run(runParameters);
+    }
+
+    /**
+     * Get the launcher script that starts this application with the provided archive.
+     * @param archiveFile The class data sharing archive file.
+     * @param windows Whether the launcher script is a Windows command script.
+     * @return The launcher script file.
+     */
+    static File getLauncherFile(File archiveFile, boolean windows)
+    {
+        PreCondition.assertNotNull(archiveFile, "archiveFile");
+
+        return archiveFile.getParentFolder().await()
+            .getFile(QubCreateProjectCds.launcherName + (windows ? ".cmd" : "")).await();
+    }
+
+    /**
+     * Get the contents of the launcher script that starts this application with the provided
+     * archive. The class path must match the class path of the training run or the JVM won't use
+     * the archive.
+     * @param javaPath The path to the java executable.
+     * @param classPath The class path of the training run.
+     * @param archiveFile The class data sharing archive file.
+     * @param windows Whether the launcher script is a Windows command script.
+     * @return The contents of the launcher script.
+     */
+    static String getLauncherText(String javaPath, String classPath, File archiveFile, boolean windows)
+    {
+        PreCondition.assertNotNullAndNotEmpty(javaPath, "javaPath");
+        PreCondition.assertNotNullAndNotEmpty(classPath, "classPath");
+        PreCondition.assertNotNull(archiveFile, "archiveFile");
+
+        final String command = "\"" + javaPath + "\" -XX:SharedArchiveFile=\"" + archiveFile + "\" -cp \"" + classPath + "\" " + QubCreateProject.class.getName();
+        return windows
+            ? "@echo OFF\r\n" + command + " %*\r\n"
+            : "#!/bin/sh\nexec " + command + " \"$@\"\n";
+    }
+
+    /**
+     * Start a training run in a new JVM that writes the classes that it loads to the archive file.
+     * @param parameters The parameters for creating the archive.
+     * @return The exit code of creating the archive.
+     */
+    static int createArchive(QubCreateProjectCdsParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final File archiveFile = parameters.getArchiveFile();
+
+        archiveFile.getParentFolder().await().create().catchError(FolderAlreadyExistsException.class).await();
+
+        final String javaPath = ProcessHandle.current().info().command().orElse("java");
+        final String classPath = System.getProperty("java.class.path");
+        final ProcessBuilder processBuilder = new ProcessBuilder(
+            javaPath,
+            "-XX:ArchiveClassesAtExit=" + archiveFile,
+            "-cp",
+            classPath,
+            QubCreateProjectCds.class.getName())
+            .redirectErrorStream(true);
+        processBuilder.environment().remove(QubCreateProjectDaemonClient.portEnvironmentVariableName);
+
+        int result;
+        output.write("Creating class data sharing archive " + archiveFile + "...").await();
+        try
+        {
+            final java.lang.Process trainingProcess = processBuilder.start();
+            final String trainingOutput = new String(trainingProcess.getInputStream().readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+            result = trainingProcess.waitFor();
+            if (!Strings.isNullOrEmpty(trainingOutput))
+            {
+                verbose.writeLine().await();
+                verbose.write(trainingOutput).await();
+            }
+        }
+        catch (java.io.IOException | InterruptedException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+
+        if (result == 0 && archiveFile.exists().await())
+        {
+            output.writeLine(" Done.").await();
+
+            final boolean windows = java.io.File.separatorChar == '\\';
+            final File launcherFile = QubCreateProjectCds.getLauncherFile(archiveFile, windows);
+            launcherFile.setContentsAsString(QubCreateProjectCds.getLauncherText(javaPath, classPath, archiveFile, windows)).await();
+            if (!windows && launcherFile.getFileSystem() instanceof JavaFileSystem)
+            {
+                new java.io.File(launcherFile.toString()).setExecutable(true);
+            }
+            output.writeLine("Run " + launcherFile + " instead of " + QubCreateProject.applicationName + " to start with the archive.").await();
+        }
+        else
+        {
+            output.writeLine(" Failed.").await();
+            output.writeLine("The training run exited with " + result + ". Class data sharing archives require Java 13 or later.").await();
+            if (result == 0)
+            {
+                result = -1;
+            }
+        }
+
+        return result;
+    }
+}
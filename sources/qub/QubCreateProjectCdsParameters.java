@@ -0,0 +1,50 @@
+package qub;
+
+public class QubCreateProjectCdsParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final File archiveFile;
+
+    private VerboseCharacterToByteWriteStream verbose;
+
+    private QubCreateProjectCdsParameters(CharacterToByteWriteStream output, File archiveFile)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(archiveFile, "archiveFile");
+
+        this.output = output;
+        this.archiveFile = archiveFile;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+    }
+
+    public static QubCreateProjectCdsParameters create(CharacterToByteWriteStream output, File archiveFile)
+    {
+        return new QubCreateProjectCdsParameters(output, archiveFile);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    /**
+     * Get the class data sharing archive file that will be created.
+     * @return The class data sharing archive file that will be created.
+     */
+    public File getArchiveFile()
+    {
+        return this.archiveFile;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectCdsParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+}
@@ -0,0 +1,360 @@
+package qub;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A QubProject action that keeps a process running so that other invocations of this application
+ * can forward their commands to it instead of starting and bootstrapping a new process.
+ */
+public interface QubCreateProjectDaemon
+{
+    String actionName = "daemon";
+    String actionDescription = "Run a background process that other invocations can forward their commands to.";
+
+    int defaultPort = 17862;
+    int defaultIdleTimeoutSeconds = 600;
+
+    /**
+     * The largest number of requests that the daemon runs at the same time. Connections that are
+     * accepted while this many requests are running wait for one of them to finish.
+     */
+    int maximumConcurrentRequests = 8;
+
+    static QubCreateProjectDaemonParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectDaemon.actionName))
+            .setApplicationDescription(QubCreateProjectDaemon.actionDescription);
+
+        final CommandLineParameter<Integer> portParameter = parameters.addInteger("port")
+            .setValueName("<port>")
+            .setDescription("The loopback port to listen on. Defaults to " + QubCreateProjectDaemon.defaultPort + ".");
+        final CommandLineParameter<Integer> idleTimeoutParameter = parameters.addInteger("idleTimeout")
+            .setValueName("<seconds>")
+            .setDescription("The number of idle seconds before the daemon shuts down. Defaults to " + QubCreateProjectDaemon.defaultIdleTimeoutSeconds + ".");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectDaemonParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await() &&
+            QubCreateProjectRun.validateBetween(process, "port", portParameter.getValue().await(), 0, 65535) &&
+            QubCreateProjectRun.validateBetween(process, "idleTimeout", idleTimeoutParameter.getValue().await(), 1, Integer.MAX_VALUE))
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectDaemonParameters.create(output)
+                .setVerbose(verbose);
+
+            final Integer port = portParameter.getValue().await();
+            if (port != null)
+            {
+                result.setPort(port);
+            }
+
+            final Integer idleTimeoutSeconds = idleTimeoutParameter.getValue().await();
+            if (idleTimeoutSeconds != null)
+            {
+                result.setIdleTimeoutSeconds(idleTimeoutSeconds);
+            }
+        }
+
+        return result;
+    }
+
+    static int run(QubCreateProjectDaemonParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+
+        final AtomicBoolean shutdownRequested = new AtomicBoolean(false);
+        final AtomicInteger activeRequests = new AtomicInteger(0);
+        final ThreadPoolExecutor workers = new ThreadPoolExecutor(
+            QubCreateProjectDaemon.maximumConcurrentRequests,
+            QubCreateProjectDaemon.maximumConcurrentRequests,
+            parameters.getIdleTimeoutSeconds(),
+            TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>());
+        workers.allowCoreThreadTimeOut(true);
+        java.nio.file.Path tokenFile = null;
+        try (final ServerSocket serverSocket = new ServerSocket(parameters.getPort(), 50, InetAddress.getLoopbackAddress()))
+        {
+            serverSocket.setSoTimeout(parameters.getIdleTimeoutSeconds() * 1000);
+
+            final int port = serverSocket.getLocalPort();
+            final byte[] token = QubCreateProjectDaemon.createToken();
+            tokenFile = QubCreateProjectDaemonClient.getTokenFile(port);
+            QubCreateProjectDaemon.writeTokenFile(tokenFile, token);
+            verbose.writeLine("Wrote the daemon token to " + tokenFile + ".").await();
+
+            output.writeLine("Listening on port " + port + ". Set " + QubCreateProjectDaemonClient.portEnvironmentVariableName + "=" + port + " to forward commands to this daemon.").await();
+            parameters.getOnListening().run(port);
+
+            int requestCount = 0;
+            while (!shutdownRequested.get())
+            {
+                try
+                {
+                    final Socket socket = serverSocket.accept();
+                    ++requestCount;
+                    activeRequests.incrementAndGet();
+                    workers.execute(() ->
+                    {
+                        try
+                        {
+                            QubCreateProjectDaemon.handleRequest(socket, token, () ->
+                            {
+                                // Closing the server socket wakes up the blocked accept() call.
+                                shutdownRequested.set(true);
+                                QubCreateProjectDaemon.close(serverSocket);
+                            });
+                        }
+                        catch (Throwable error)
+                        {
+                            // A request that fails, such as one whose client disconnected, doesn't
+                            // stop the daemon.
+                            verbose.writeLine("A request failed: " + error).catchError().await();
+                        }
+                        finally
+                        {
+                            activeRequests.decrementAndGet();
+                        }
+                    });
+                }
+                catch (SocketTimeoutException e)
+                {
+                    if (activeRequests.get() == 0)
+                    {
+                        verbose.writeLine("No requests received for " + parameters.getIdleTimeoutSeconds() + " seconds.").await();
+                        break;
+                    }
+                }
+                catch (SocketException e)
+                {
+                    if (!shutdownRequested.get())
+                    {
+                        throw e;
+                    }
+                }
+            }
+
+            output.writeLine("Stopped after " + requestCount + " requests.").await();
+        }
+        catch (IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+        finally
+        {
+            workers.shutdown();
+            QubCreateProjectDaemon.deleteTokenFile(tokenFile);
+        }
+
+        return 0;
+    }
+
+    /**
+     * Create a new random token that clients must send with each request.
+     * @return The new token.
+     */
+    static byte[] createToken()
+    {
+        final byte[] randomBytes = new byte[32];
+        new SecureRandom().nextBytes(randomBytes);
+
+        final StringBuilder builder = new StringBuilder();
+        for (final byte randomByte : randomBytes)
+        {
+            builder.append(String.format("%02x", randomByte));
+        }
+        return CharacterEncoding.UTF_8.encodeCharacters(builder.toString()).await();
+    }
+
+    /**
+     * Write the provided token to the provided file so that only the file's owner can read it.
+     * @param tokenFile The file to write the token to.
+     * @param token The token to write.
+     */
+    static void writeTokenFile(java.nio.file.Path tokenFile, byte[] token) throws IOException
+    {
+        PreCondition.assertNotNull(tokenFile, "tokenFile");
+        PreCondition.assertNotNull(token, "token");
+
+        Files.createDirectories(tokenFile.getParent());
+        Files.deleteIfExists(tokenFile);
+        if (FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+        {
+            Files.createFile(tokenFile, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        else
+        {
+            Files.createFile(tokenFile);
+            final java.io.File file = tokenFile.toFile();
+            file.setReadable(false, false);
+            file.setWritable(false, false);
+            file.setReadable(true, true);
+            file.setWritable(true, true);
+        }
+        Files.write(tokenFile, token);
+    }
+
+    static void deleteTokenFile(java.nio.file.Path tokenFile)
+    {
+        if (tokenFile != null)
+        {
+            try
+            {
+                Files.deleteIfExists(tokenFile);
+            }
+            catch (IOException ignored)
+            {
+                // A token file that is left behind can't be used once the daemon has stopped.
+            }
+        }
+    }
+
+    /**
+     * Read a request from the provided socket, run it, and write the response back to the socket.
+     * @param socket The socket that is connected to a daemon client.
+     * @param token The token that the request must start with.
+     * @param onShutdown The action that will be run if the request asks the daemon to stop.
+     */
+    static void handleRequest(Socket socket, byte[] token, Action0 onShutdown)
+    {
+        PreCondition.assertNotNull(socket, "socket");
+        PreCondition.assertNotNull(token, "token");
+        PreCondition.assertNotNull(onShutdown, "onShutdown");
+
+        try (final Socket requestSocket = socket)
+        {
+            requestSocket.setTcpNoDelay(true);
+
+            final DataInputStream request = new DataInputStream(requestSocket.getInputStream());
+            final DataOutputStream response = new DataOutputStream(requestSocket.getOutputStream());
+
+            final int protocolVersion = request.readInt();
+            if (protocolVersion != QubCreateProjectDaemonClient.protocolVersion)
+            {
+                QubCreateProjectDaemon.writeErrorResponse(response, "Unsupported daemon protocol version: " + protocolVersion);
+            }
+            else if (!MessageDigest.isEqual(token, CharacterEncoding.UTF_8.encodeCharacters(request.readUTF()).await()))
+            {
+                QubCreateProjectDaemon.writeErrorResponse(response, "Invalid daemon token.");
+            }
+            else
+            {
+                final String currentFolderPath = request.readUTF();
+                final int argumentCount = request.readInt();
+                if (argumentCount == QubCreateProjectDaemonClient.shutdownArgumentCount)
+                {
+                    QubCreateProjectDaemon.writeResponse(response, 0, new byte[0], new byte[0]);
+                    onShutdown.run();
+                }
+                else if (argumentCount < 0 || QubCreateProjectDaemonClient.maximumArgumentCount < argumentCount)
+                {
+                    QubCreateProjectDaemon.writeErrorResponse(response, "Invalid daemon argument count: " + argumentCount);
+                }
+                else
+                {
+                    final String[] args = new String[argumentCount];
+                    for (int i = 0; i < argumentCount; ++i)
+                    {
+                        args[i] = request.readUTF();
+                    }
+
+                    if (!QubCreateProjectDaemonClient.canForward(args))
+                    {
+                        QubCreateProjectDaemon.writeErrorResponse(response, "The " + QubCreateProjectDaemonClient.getActionName(args) + " action can't be run by a daemon.");
+                    }
+                    else
+                    {
+                        final InMemoryCharacterToByteStream processOutput = InMemoryCharacterToByteStream.create();
+                        final InMemoryCharacterToByteStream processError = InMemoryCharacterToByteStream.create();
+                        int exitCode;
+                        try (final QubProcess process = QubProcess.create(args))
+                        {
+                            process.setCurrentFolderPath(Path.parse(currentFolderPath));
+                            // The daemon's own standard input stream belongs to whoever started it.
+                            process.setInputReadStream(InMemoryByteStream.create().endOfStream());
+                            process.setOutputWriteStream(processOutput);
+                            process.setErrorWriteStream(processError);
+
+                            QubCreateProject.run(process);
+                            exitCode = process.getExitCode();
+                        }
+                        catch (Throwable error)
+                        {
+                            processError.writeLine(error.toString()).await();
+                            exitCode = -1;
+                        }
+
+                        // The output is forwarded as bytes because some actions, such as run
+                        // --archive, write binary output.
+                        QubCreateProjectDaemon.writeResponse(response, exitCode, processOutput.getBytes(), processError.getBytes());
+                    }
+                }
+            }
+        }
+        catch (IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+
+    static void close(ServerSocket serverSocket)
+    {
+        PreCondition.assertNotNull(serverSocket, "serverSocket");
+
+        try
+        {
+            serverSocket.close();
+        }
+        catch (IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+
+    static void writeErrorResponse(DataOutputStream response, String errorText) throws IOException
+    {
+        PreCondition.assertNotNull(response, "response");
+        PreCondition.assertNotNullAndNotEmpty(errorText, "errorText");
+
+        QubCreateProjectDaemon.writeResponse(response, -1, new byte[0], CharacterEncoding.UTF_8.encodeCharacters(errorText).await());
+    }
+
+    static void writeResponse(DataOutputStream response, int exitCode, byte[] outputBytes, byte[] errorBytes) throws IOException
+    {
+        PreCondition.assertNotNull(response, "response");
+        PreCondition.assertNotNull(outputBytes, "outputBytes");
+        PreCondition.assertNotNull(errorBytes, "errorBytes");
+
+        response.writeInt(exitCode);
+        response.writeInt(outputBytes.length);
+        response.write(outputBytes);
+        response.writeInt(errorBytes.length);
+        response.write(errorBytes);
+        response.flush();
+    }
+}
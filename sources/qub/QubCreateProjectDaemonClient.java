@@ -0,0 +1,282 @@
+package qub;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * The client side of the daemon protocol. This type only uses JDK classes so that forwarding a
+ * command to a running daemon doesn't load any of the qub libraries.
+ * <p>
+ * A request is a protocol version, the daemon's token, the client's current folder, and the command
+ * line arguments. A response is the exit code followed by the command's output bytes and error
+ * bytes. A request with an argument count of -1 asks the daemon to shut down.
+ * <p>
+ * The daemon writes a random token to a file that only its owner can read, and it refuses any
+ * request that doesn't start with that token. This keeps other users on the same machine from
+ * running commands as the daemon's owner through the loopback port.
+ */
+public final class QubCreateProjectDaemonClient
+{
+    /**
+     * The environment variable that holds the port of a running daemon. If this isn't set, then
+     * commands are always run in the current process.
+     */
+    public static final String portEnvironmentVariableName = "QUB_CREATEPROJECT_DAEMON_PORT";
+
+    static final int protocolVersion = 2;
+    static final int shutdownArgumentCount = -1;
+    static final int maximumArgumentCount = 1024;
+
+    private QubCreateProjectDaemonClient()
+    {
+    }
+
+    /**
+     * Forward the provided arguments to the daemon whose port is in the
+     * QUB_CREATEPROJECT_DAEMON_PORT environment variable.
+     * @param args The command line arguments.
+     * @return The exit code from the daemon, or null if the command should be run in the current
+     * process because no daemon is configured, the command can't be forwarded, or the daemon
+     * couldn't be reached. Once the daemon has been reached, the command is never run in the current
+     * process, because the daemon may have already run it.
+     */
+    public static Integer tryRun(String[] args)
+    {
+        Integer result = null;
+        final String portString = System.getenv(QubCreateProjectDaemonClient.portEnvironmentVariableName);
+        if (args != null && portString != null && !portString.isEmpty() && QubCreateProjectDaemonClient.canForward(args))
+        {
+            try
+            {
+                final int port = Integer.parseInt(portString.trim());
+                final String token = QubCreateProjectDaemonClient.readToken(port);
+                result = QubCreateProjectDaemonClient.send(port, token, System.getProperty("user.dir"), args, System.out, System.err);
+            }
+            catch (NumberFormatException | IOException ignored)
+            {
+                // Fall back to running the command in the current process.
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get whether the command with the provided arguments can be run by a daemon. The daemon action
+     * can't forward to itself, the watch action only writes its output when it stops, and the batch
+     * action reads its manifest from the standard input stream when --manifest isn't provided.
+     * @param args The command line arguments.
+     * @return Whether the command with the provided arguments can be run by a daemon.
+     */
+    static boolean canForward(String[] args)
+    {
+        if (args == null)
+        {
+            throw new IllegalArgumentException("args cannot be null.");
+        }
+
+        final String actionName = QubCreateProjectDaemonClient.getActionName(args);
+        return !"daemon".equals(actionName) &&
+            !"watch".equals(actionName) &&
+            !("batch".equals(actionName) && !QubCreateProjectDaemonClient.hasArgument(args, "manifest"));
+    }
+
+    /**
+     * Get the name of the action that the provided arguments select.
+     * @param args The command line arguments.
+     * @return The name of the selected action, or null if no action is selected.
+     */
+    static String getActionName(String[] args)
+    {
+        if (args == null)
+        {
+            throw new IllegalArgumentException("args cannot be null.");
+        }
+
+        String result = null;
+        for (final String arg : args)
+        {
+            if (arg.startsWith("--action=") || arg.startsWith("-action=") || arg.startsWith("-a="))
+            {
+                result = arg.substring(arg.indexOf('=') + 1);
+                break;
+            }
+            else if (result == null && !arg.startsWith("-"))
+            {
+                result = arg;
+            }
+        }
+        return result;
+    }
+
+    private static boolean hasArgument(String[] args, String argumentName)
+    {
+        boolean result = false;
+        for (final String arg : args)
+        {
+            if (arg.equals("--" + argumentName) || arg.startsWith("--" + argumentName + "=") ||
+                arg.equals("-" + argumentName) || arg.startsWith("-" + argumentName + "="))
+            {
+                result = true;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the file that the daemon that is listening on the provided port writes its token to.
+     * @param port The port that the daemon is listening on.
+     * @return The file that the daemon writes its token to.
+     */
+    public static Path getTokenFile(int port)
+    {
+        return Paths.get(System.getProperty("user.home"), ".qub-createproject", "daemon-" + port + ".token");
+    }
+
+    /**
+     * Read the token of the daemon that is listening on the provided port.
+     * @param port The port that the daemon is listening on.
+     * @return The daemon's token.
+     */
+    public static String readToken(int port) throws IOException
+    {
+        return new String(Files.readAllBytes(QubCreateProjectDaemonClient.getTokenFile(port)), StandardCharsets.UTF_8).trim();
+    }
+
+    /**
+     * Send the provided command to the daemon that is listening on the provided loopback port. Only
+     * a failure to connect to the daemon is thrown. A failure after the connection was made is
+     * written to the error stream instead, because the daemon may have already started running the
+     * command, so running the command again somewhere else could run it twice.
+     * @param port The port that the daemon is listening on.
+     * @param token The daemon's token.
+     * @param currentFolderPath The folder that relative paths in the arguments are relative to.
+     * @param args The command line arguments.
+     * @param output The stream that the command's output will be written to.
+     * @param error The stream that the command's error output will be written to.
+     * @return The exit code of the command, or -1 if the connection failed after it was made.
+     */
+    public static int send(int port, String token, String currentFolderPath, String[] args, OutputStream output, OutputStream error) throws IOException
+    {
+        if (token == null)
+        {
+            throw new IllegalArgumentException("token cannot be null.");
+        }
+        if (currentFolderPath == null)
+        {
+            throw new IllegalArgumentException("currentFolderPath cannot be null.");
+        }
+        if (args == null)
+        {
+            throw new IllegalArgumentException("args cannot be null.");
+        }
+        if (output == null)
+        {
+            throw new IllegalArgumentException("output cannot be null.");
+        }
+        if (error == null)
+        {
+            throw new IllegalArgumentException("error cannot be null.");
+        }
+
+        int result;
+        final Socket socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        try
+        {
+            socket.setTcpNoDelay(true);
+
+            final DataOutputStream request = new DataOutputStream(socket.getOutputStream());
+            request.writeInt(QubCreateProjectDaemonClient.protocolVersion);
+            request.writeUTF(token);
+            request.writeUTF(currentFolderPath);
+            request.writeInt(args.length);
+            for (final String arg : args)
+            {
+                request.writeUTF(arg);
+            }
+            request.flush();
+
+            final DataInputStream response = new DataInputStream(socket.getInputStream());
+            final int exitCode = response.readInt();
+            QubCreateProjectDaemonClient.copyBlock(response, output);
+            QubCreateProjectDaemonClient.copyBlock(response, error);
+            result = exitCode;
+        }
+        catch (IOException e)
+        {
+            QubCreateProjectDaemonClient.writeError(error, "The connection to the daemon on port " + port + " failed: " + e.getMessage());
+            result = -1;
+        }
+        finally
+        {
+            QubCreateProjectDaemonClient.close(socket);
+        }
+        return result;
+    }
+
+    /**
+     * Ask the daemon that is listening on the provided loopback port to shut down.
+     * @param port The port that the daemon is listening on.
+     * @param token The daemon's token.
+     */
+    public static void sendShutdown(int port, String token) throws IOException
+    {
+        if (token == null)
+        {
+            throw new IllegalArgumentException("token cannot be null.");
+        }
+
+        try (final Socket socket = new Socket(InetAddress.getLoopbackAddress(), port))
+        {
+            final DataOutputStream request = new DataOutputStream(socket.getOutputStream());
+            request.writeInt(QubCreateProjectDaemonClient.protocolVersion);
+            request.writeUTF(token);
+            request.writeUTF("");
+            request.writeInt(QubCreateProjectDaemonClient.shutdownArgumentCount);
+            request.flush();
+
+            socket.getInputStream().read();
+        }
+    }
+
+    private static void writeError(OutputStream error, String message)
+    {
+        try
+        {
+            error.write((message + System.lineSeparator()).getBytes(StandardCharsets.UTF_8));
+            error.flush();
+        }
+        catch (IOException ignored)
+        {
+            // The error stream is the only place that the failure can be reported.
+        }
+    }
+
+    private static void close(Socket socket)
+    {
+        try
+        {
+            socket.close();
+        }
+        catch (IOException ignored)
+        {
+            // The response has already been read or the failure has already been reported.
+        }
+    }
+
+    private static void copyBlock(DataInputStream response, OutputStream destination) throws IOException
+    {
+        final byte[] bytes = new byte[response.readInt()];
+        response.readFully(bytes);
+        destination.write(bytes);
+        destination.flush();
+    }
+}
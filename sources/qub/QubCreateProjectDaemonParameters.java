@@ -0,0 +1,96 @@
+package qub;
+
+public class QubCreateProjectDaemonParameters
+{
+    private final CharacterToByteWriteStream output;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private int port;
+    private int idleTimeoutSeconds;
+    private Action1<Integer> onListening;
+
+    private QubCreateProjectDaemonParameters(CharacterToByteWriteStream output)
+    {
+        PreCondition.assertNotNull(output, "output");
+
+        this.output = output;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setPort(QubCreateProjectDaemon.defaultPort);
+        this.setIdleTimeoutSeconds(QubCreateProjectDaemon.defaultIdleTimeoutSeconds);
+        this.setOnListening((Integer listeningPort) -> {});
+    }
+
+    public static QubCreateProjectDaemonParameters create(CharacterToByteWriteStream output)
+    {
+        return new QubCreateProjectDaemonParameters(output);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectDaemonParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get the loopback port that the daemon will listen on. If this is 0, then the daemon will
+     * listen on any free port.
+     * @return The loopback port that the daemon will listen on.
+     */
+    public int getPort()
+    {
+        return this.port;
+    }
+
+    public QubCreateProjectDaemonParameters setPort(int port)
+    {
+        PreCondition.assertBetween(0, port, 65535, "port");
+
+        this.port = port;
+        return this;
+    }
+
+    /**
+     * Get the number of seconds that the daemon will wait for a request before it shuts down.
+     * @return The number of seconds that the daemon will wait for a request.
+     */
+    public int getIdleTimeoutSeconds()
+    {
+        return this.idleTimeoutSeconds;
+    }
+
+    public QubCreateProjectDaemonParameters setIdleTimeoutSeconds(int idleTimeoutSeconds)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(idleTimeoutSeconds, 1, "idleTimeoutSeconds");
+
+        this.idleTimeoutSeconds = idleTimeoutSeconds;
+        return this;
+    }
+
+    /**
+     * Get the action that will be invoked with the daemon's port once the daemon is listening.
+     * @return The action that will be invoked once the daemon is listening.
+     */
+    public Action1<Integer> getOnListening()
+    {
+        return this.onListening;
+    }
+
+    public QubCreateProjectDaemonParameters setOnListening(Action1<Integer> onListening)
+    {
+        PreCondition.assertNotNull(onListening, "onListening");
+
+        this.onListening = onListening;
+        return this;
+    }
+}
@@ -0,0 +1,517 @@
+package qub;
+
+/**
+ * The versions of the projects that are installed in a qub folder, stored so that the newest
+ * installed version of a project can be found without searching the qub folder. The qub folder is
+ * laid out like this:
+ * <pre>
+ *   &lt;publisher&gt;/&lt;project&gt;/versions/&lt;version&gt;/
+ * </pre>
+ * The index file stores the last modified time of each publisher folder and of each project's
+ * versions folder. When the index is updated, only the folders whose last modified time has
+ * changed are listed again, so an update after a single project was installed lists one folder
+ * instead of every folder in the qub folder. File systems store last modified times with a limited
+ * precision, so a folder that was modified within a few seconds of being listed could be modified
+ * again without its last modified time changing. The last modified time of such a folder is
+ * recorded as unknown, so the folder is listed again by the next update. Like a registry index, the
+ * index file ends with a line that counts its entries, so an index file that was only partially
+ * written is ignored and the qub folder is scanned again.
+ */
+public class QubCreateProjectDependencyIndex
+{
+    public static final String folderName = "dependencies";
+    public static final String fileName = "index.tsv";
+    public static final String versionsFolderName = "versions";
+
+    /**
+     * The number of milliseconds before a folder is listed that its last modified time must be to
+     * be trusted by the next update.
+     */
+    public static final long reliableLastModifiedMilliseconds = 3000;
+
+    private static final String publisherLinePrefix = "publisher\t";
+    private static final String projectLinePrefix = "project\t";
+    private static final String indexTrailerPrefix = "# entries: ";
+
+    private final File indexFile;
+    private final java.util.HashMap<String,Long> publisherLastModified;
+    private final java.util.HashMap<String,java.util.TreeSet<String>> projectsByPublisher;
+    private final java.util.HashMap<String,Long> versionsLastModified;
+    private final java.util.HashMap<String,String[]> versionsByKey;
+    private Function1<Folder,Long> getLastModified;
+    private Function0<Long> getCurrentTime;
+
+    private QubCreateProjectDependencyIndex(File indexFile)
+    {
+        PreCondition.assertNotNull(indexFile, "indexFile");
+
+        this.indexFile = indexFile;
+        this.publisherLastModified = new java.util.HashMap<>();
+        this.projectsByPublisher = new java.util.HashMap<>();
+        this.versionsLastModified = new java.util.HashMap<>();
+        this.versionsByKey = new java.util.HashMap<>();
+        this.setGetLastModified(QubCreateProjectDependencyIndex::getLastModified);
+        this.setGetCurrentTime(System::currentTimeMillis);
+    }
+
+    /**
+     * Get the index file within the provided qub project data folder.
+     * @param qubProjectDataFolder The data folder of this application.
+     * @return The index file.
+     */
+    public static File getIndexFile(Folder qubProjectDataFolder)
+    {
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+
+        return qubProjectDataFolder.getFile(QubCreateProjectDependencyIndex.folderName + "/" + QubCreateProjectDependencyIndex.fileName).await();
+    }
+
+    /**
+     * Get the qub folder that contains the provided qub project data folder. A project's data
+     * folder is always &lt;qub-folder&gt;/&lt;publisher&gt;/&lt;project&gt;/data/.
+     * @param qubProjectDataFolder The data folder of this application.
+     * @return The qub folder that the data folder is in.
+     */
+    public static Folder getQubFolder(Folder qubProjectDataFolder)
+    {
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+
+        Folder result = qubProjectDataFolder;
+        for (int i = 0; i < 3; ++i)
+        {
+            final Folder parentFolder = result.getParentFolder().catchError().await();
+            if (parentFolder == null)
+            {
+                break;
+            }
+            result = parentFolder;
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Open the index that is stored in the provided file. If the file doesn't exist or was only
+     * partially written, then the index is empty until it is updated.
+     * @param indexFile The file that the index is stored in.
+     * @return The opened index.
+     */
+    public static Result<QubCreateProjectDependencyIndex> open(File indexFile)
+    {
+        PreCondition.assertNotNull(indexFile, "indexFile");
+
+        return Result.create(() ->
+        {
+            final QubCreateProjectDependencyIndex result = new QubCreateProjectDependencyIndex(indexFile);
+            final String indexText = indexFile.getContentsAsString()
+                .catchError(FileNotFoundException.class, () -> "")
+                .catchError(FolderNotFoundException.class, () -> "")
+                .await();
+            if (!result.parseIndex(indexText))
+            {
+                result.clear();
+            }
+            return result;
+        });
+    }
+
+    public File getIndexFile()
+    {
+        return this.indexFile;
+    }
+
+    /**
+     * Set the function that gets the last modified time of a folder in milliseconds. The function
+     * returns -1 if the folder's last modified time isn't known, in which case the folder is
+     * always listed again.
+     * @param getLastModified The function that gets the last modified time of a folder.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectDependencyIndex setGetLastModified(Function1<Folder,Long> getLastModified)
+    {
+        PreCondition.assertNotNull(getLastModified, "getLastModified");
+
+        this.getLastModified = getLastModified;
+        return this;
+    }
+
+    /**
+     * Set the function that gets the current time in milliseconds. The current time decides
+     * whether a folder was modified too close to when it was listed for its last modified time to
+     * be trusted.
+     * @param getCurrentTime The function that gets the current time.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectDependencyIndex setGetCurrentTime(Function0<Long> getCurrentTime)
+    {
+        PreCondition.assertNotNull(getCurrentTime, "getCurrentTime");
+
+        this.getCurrentTime = getCurrentTime;
+        return this;
+    }
+
+    /**
+     * Get the last modified time of the provided folder in milliseconds. Only folders on the local
+     * file system have a known last modified time.
+     * @param folder The folder.
+     * @return The last modified time of the folder, or -1 if it isn't known or the folder doesn't
+     * exist.
+     */
+    static Long getLastModified(Folder folder)
+    {
+        PreCondition.assertNotNull(folder, "folder");
+
+        long result = -1;
+        if (folder.getFileSystem() instanceof JavaFileSystem)
+        {
+            try
+            {
+                result = java.nio.file.Files.getLastModifiedTime(java.nio.file.Paths.get(folder.toString())).toMillis();
+            }
+            catch (java.io.IOException ignored)
+            {
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of projects that have at least one installed version.
+     * @return The number of projects that have at least one installed version.
+     */
+    public synchronized int getProjectCount()
+    {
+        return this.versionsByKey.size();
+    }
+
+    /**
+     * Get the installed versions of the provided project, from oldest to newest.
+     * @param publisher The publisher of the project.
+     * @param project The name of the project.
+     * @return The installed versions of the project.
+     */
+    public synchronized Iterable<String> getVersions(String publisher, String project)
+    {
+        PreCondition.assertNotNullAndNotEmpty(publisher, "publisher");
+        PreCondition.assertNotNullAndNotEmpty(project, "project");
+
+        final String[] versions = this.versionsByKey.get(QubCreateProjectDependencyIndex.getKey(publisher, project));
+        return versions == null ? Iterable.create() : Iterable.create(versions);
+    }
+
+    /**
+     * Get the newest installed version of the provided project.
+     * @param publisher The publisher of the project.
+     * @param project The name of the project.
+     * @return The newest installed version of the project, or null if the project isn't
+     * installed.
+     */
+    public synchronized String getNewestVersion(String publisher, String project)
+    {
+        PreCondition.assertNotNullAndNotEmpty(publisher, "publisher");
+        PreCondition.assertNotNullAndNotEmpty(project, "project");
+
+        final String[] versions = this.versionsByKey.get(QubCreateProjectDependencyIndex.getKey(publisher, project));
+        return versions == null ? null : versions[versions.length - 1];
+    }
+
+    /**
+     * Bring this index up to date with the provided qub folder, and write it to its index file if
+     * anything changed.
+     * @param qubFolder The qub folder that the projects are installed in.
+     * @return The number of folders that were listed.
+     */
+    public Result<Integer> update(Folder qubFolder)
+    {
+        PreCondition.assertNotNull(qubFolder, "qubFolder");
+
+        return Result.create(() ->
+        {
+            int result = 0;
+            boolean changed = false;
+            synchronized (this)
+            {
+                // The time is taken before anything is listed, so a folder that is modified while
+                // the update is listing it is always within the unreliable window.
+                final long listedTime = this.getCurrentTime.run();
+                final Iterable<Folder> publisherFolders = qubFolder.getFolders()
+                    .catchError(FolderNotFoundException.class, () -> Iterable.create())
+                    .await();
+                ++result;
+
+                final java.util.HashSet<String> publishers = new java.util.HashSet<>();
+                for (final Folder publisherFolder : publisherFolders)
+                {
+                    final String publisher = publisherFolder.getName();
+                    if (publisher.startsWith("."))
+                    {
+                        continue;
+                    }
+                    publishers.add(publisher);
+
+                    final long publisherModified = this.getLastModified.run(publisherFolder);
+                    final Long previousPublisherModified = this.publisherLastModified.get(publisher);
+                    java.util.TreeSet<String> projects = this.projectsByPublisher.get(publisher);
+                    if (projects == null || previousPublisherModified == null || publisherModified == -1 || previousPublisherModified != publisherModified)
+                    {
+                        projects = new java.util.TreeSet<>();
+                        for (final Folder projectFolder : publisherFolder.getFolders().catchError(FolderNotFoundException.class, () -> Iterable.create()).await())
+                        {
+                            projects.add(projectFolder.getName());
+                        }
+                        ++result;
+
+                        final java.util.TreeSet<String> previousProjects = this.projectsByPublisher.put(publisher, projects);
+                        if (previousProjects != null)
+                        {
+                            for (final String previousProject : previousProjects)
+                            {
+                                if (!projects.contains(previousProject))
+                                {
+                                    this.removeProject(publisher, previousProject);
+                                }
+                            }
+                        }
+                        this.publisherLastModified.put(publisher, QubCreateProjectDependencyIndex.getReliableLastModified(publisherModified, listedTime));
+                        changed = true;
+                    }
+
+                    for (final String project : projects)
+                    {
+                        final String key = QubCreateProjectDependencyIndex.getKey(publisher, project);
+                        final Folder versionsFolder = publisherFolder.getFolder(project + "/" + QubCreateProjectDependencyIndex.versionsFolderName).await();
+                        final long versionsModified = this.getLastModified.run(versionsFolder);
+                        final Long previousVersionsModified = this.versionsLastModified.get(key);
+                        if (previousVersionsModified == null || versionsModified == -1 || previousVersionsModified != versionsModified)
+                        {
+                            final List<String> versions = List.create();
+                            for (final Folder versionFolder : versionsFolder.getFolders().catchError(FolderNotFoundException.class, () -> Iterable.create()).await())
+                            {
+                                versions.add(versionFolder.getName());
+                            }
+                            ++result;
+
+                            this.setVersions(key, versions, QubCreateProjectDependencyIndex.getReliableLastModified(versionsModified, listedTime));
+                            changed = true;
+                        }
+                    }
+                }
+
+                for (final String publisher : new java.util.ArrayList<>(this.projectsByPublisher.keySet()))
+                {
+                    if (!publishers.contains(publisher))
+                    {
+                        for (final String project : this.projectsByPublisher.remove(publisher))
+                        {
+                            this.removeProject(publisher, project);
+                        }
+                        this.publisherLastModified.remove(publisher);
+                        changed = true;
+                    }
+                }
+            }
+
+            if (changed)
+            {
+                this.indexFile.setContentsAsString(this.toIndexText()).await();
+            }
+
+            return result;
+        });
+    }
+
+    /**
+     * Get the last modified time that will be recorded for a folder with the provided last
+     * modified time that was listed at the provided time.
+     * @param lastModified The last modified time of the folder, or -1 if it isn't known.
+     * @param listedTime The time that the folder was listed at.
+     * @return The provided last modified time, or -1 if the folder was modified too close to when
+     * it was listed for the last modified time to be trusted.
+     */
+    static long getReliableLastModified(long lastModified, long listedTime)
+    {
+        return listedTime - lastModified < QubCreateProjectDependencyIndex.reliableLastModifiedMilliseconds
+            ? -1
+            : lastModified;
+    }
+
+    private void setVersions(String key, Iterable<String> versions, long versionsModified)
+    {
+        final String[] sortedVersions = new String[versions.getCount()];
+        int index = 0;
+        for (final String version : versions)
+        {
+            sortedVersions[index++] = version;
+        }
+        java.util.Arrays.sort(sortedVersions, QubCreateProjectDependencyIndex::compareVersions);
+
+        this.versionsLastModified.put(key, versionsModified);
+        if (sortedVersions.length == 0)
+        {
+            this.versionsByKey.remove(key);
+        }
+        else
+        {
+            this.versionsByKey.put(key, sortedVersions);
+        }
+    }
+
+    private void removeProject(String publisher, String project)
+    {
+        final String key = QubCreateProjectDependencyIndex.getKey(publisher, project);
+        this.versionsLastModified.remove(key);
+        this.versionsByKey.remove(key);
+    }
+
+    private void clear()
+    {
+        this.publisherLastModified.clear();
+        this.projectsByPublisher.clear();
+        this.versionsLastModified.clear();
+        this.versionsByKey.clear();
+    }
+
+    /**
+     * Get the text that this index is written to its index file as.
+     * @return The text of this index.
+     */
+    synchronized String toIndexText()
+    {
+        final StringBuilder result = new StringBuilder();
+        int lineCount = 0;
+        for (final String publisher : new java.util.TreeSet<>(this.projectsByPublisher.keySet()))
+        {
+            result.append(QubCreateProjectDependencyIndex.publisherLinePrefix)
+                .append(publisher).append('\t')
+                .append(this.publisherLastModified.get(publisher)).append('\n');
+            ++lineCount;
+
+            for (final String project : this.projectsByPublisher.get(publisher))
+            {
+                final String key = QubCreateProjectDependencyIndex.getKey(publisher, project);
+                result.append(QubCreateProjectDependencyIndex.projectLinePrefix)
+                    .append(publisher).append('\t')
+                    .append(project).append('\t')
+                    .append(this.versionsLastModified.get(key));
+                final String[] versions = this.versionsByKey.get(key);
+                if (versions != null)
+                {
+                    for (final String version : versions)
+                    {
+                        result.append('\t').append(version);
+                    }
+                }
+                result.append('\n');
+                ++lineCount;
+            }
+        }
+        result.append(QubCreateProjectDependencyIndex.indexTrailerPrefix).append(lineCount).append('\n');
+        return result.toString();
+    }
+
+    /**
+     * Read the provided index text into this index.
+     * @param indexText The text of an index file.
+     * @return Whether the index text was complete. If it wasn't, then this index may only contain
+     * some of the index text's entries.
+     */
+    private boolean parseIndex(String indexText)
+    {
+        boolean result = false;
+        int lineCount = 0;
+        for (final String indexLine : Strings.getLines(indexText))
+        {
+            if (indexLine.startsWith(QubCreateProjectDependencyIndex.indexTrailerPrefix))
+            {
+                final String countText = indexLine.substring(QubCreateProjectDependencyIndex.indexTrailerPrefix.length());
+                result = countText.equals(Integer.toString(lineCount)) && indexText.endsWith("\n");
+                break;
+            }
+
+            final String[] fields = indexLine.split("\t");
+            try
+            {
+                if (fields.length == 3 && indexLine.startsWith(QubCreateProjectDependencyIndex.publisherLinePrefix))
+                {
+                    this.publisherLastModified.put(fields[1], Long.parseLong(fields[2]));
+                    this.projectsByPublisher.computeIfAbsent(fields[1], (String publisher) -> new java.util.TreeSet<>());
+                }
+                else if (fields.length >= 4 && indexLine.startsWith(QubCreateProjectDependencyIndex.projectLinePrefix))
+                {
+                    this.projectsByPublisher.computeIfAbsent(fields[1], (String publisher) -> new java.util.TreeSet<>()).add(fields[2]);
+                    final String key = QubCreateProjectDependencyIndex.getKey(fields[1], fields[2]);
+                    final long versionsModified = Long.parseLong(fields[3]);
+                    this.versionsLastModified.put(key, versionsModified);
+                    if (fields.length > 4)
+                    {
+                        this.versionsByKey.put(key, java.util.Arrays.copyOfRange(fields, 4, fields.length));
+                    }
+                }
+                else
+                {
+                    break;
+                }
+            }
+            catch (NumberFormatException e)
+            {
+                break;
+            }
+            ++lineCount;
+        }
+        return result;
+    }
+
+    private static String getKey(String publisher, String project)
+    {
+        return publisher + "/" + project;
+    }
+
+    /**
+     * Compare the provided versions. The parts of each version that are separated by '.' are
+     * compared in order, as numbers if both parts are numbers and as text otherwise, so "10" is
+     * newer than "9" and "1.10" is newer than "1.9".
+     * @param lhs The first version.
+     * @param rhs The second version.
+     * @return A negative number if lhs is older than rhs, 0 if they are the same, and a positive
+     * number if lhs is newer than rhs.
+     */
+    static int compareVersions(String lhs, String rhs)
+    {
+        PreCondition.assertNotNull(lhs, "lhs");
+        PreCondition.assertNotNull(rhs, "rhs");
+
+        final String[] lhsParts = lhs.split("\\.");
+        final String[] rhsParts = rhs.split("\\.");
+        int result = 0;
+        for (int i = 0; result == 0 && i < Math.min(lhsParts.length, rhsParts.length); ++i)
+        {
+            final String lhsPart = lhsParts[i];
+            final String rhsPart = rhsParts[i];
+            if (QubCreateProjectDependencyIndex.isNumber(lhsPart) && QubCreateProjectDependencyIndex.isNumber(rhsPart))
+            {
+                result = new java.math.BigInteger(lhsPart).compareTo(new java.math.BigInteger(rhsPart));
+            }
+            else
+            {
+                result = lhsPart.compareTo(rhsPart);
+            }
+        }
+        if (result == 0)
+        {
+            result = Integer.compare(lhsParts.length, rhsParts.length);
+        }
+        return result;
+    }
+
+    private static boolean isNumber(String text)
+    {
+        boolean result = !text.isEmpty();
+        for (int i = 0; result && i < text.length(); ++i)
+        {
+            result = Character.isDigit(text.charAt(i));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,34 @@
+package qub;
+
+/**
+ * The policies that decide when the files and folders of new projects are synced to disk.
+ */
+public interface QubCreateProjectDurability
+{
+    /**
+     * New projects aren't synced, so the operating system decides when they are written to disk.
+     */
+    String none = "none";
+
+    /**
+     * The files and folders of each new project are synced together before the project is
+     * reported as created.
+     */
+    String project = "project";
+
+    /**
+     * The files and folders of every project in a batch are synced together at the end of the
+     * batch.
+     */
+    String batch = "batch";
+
+    /**
+     * The policies that can be used when a single project is created.
+     */
+    Iterable<String> runValues = Iterable.create(QubCreateProjectDurability.none, QubCreateProjectDurability.project);
+
+    /**
+     * The policies that can be used when a batch of projects is created.
+     */
+    Iterable<String> batchValues = Iterable.create(QubCreateProjectDurability.none, QubCreateProjectDurability.project, QubCreateProjectDurability.batch);
+}
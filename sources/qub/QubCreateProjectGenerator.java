@@ -0,0 +1,25 @@
+package qub;
+
+/**
+ * The part of creating a new project that depends on the type of project that is being created.
+ * Every type of project gets the same README.md, LICENSE, and .gitignore files, and a generator
+ * decides what else the project.json file contains and which folders are created.
+ * <p>
+ * A generator is found through QubCreateProjectGenerators by its type. Its class must have a
+ * public constructor with no parameters, and it is only loaded when its type is selected.
+ */
+public interface QubCreateProjectGenerator
+{
+    /**
+     * Add the properties that this generator's type of project needs to the provided project.json
+     * contents. The publisher, project, and version have already been set.
+     * @param projectJson The project.json contents of the new project.
+     */
+    void configureProjectJson(ProjectJSON projectJson);
+
+    /**
+     * Get the names of the folders that are created in the new project.
+     * @return The names of the folders that are created in the new project.
+     */
+    Iterable<String> getFolderNames();
+}
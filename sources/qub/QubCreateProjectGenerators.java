@@ -0,0 +1,75 @@
+package qub;
+
+/**
+ * The index of the types of project that can be created. The index only holds the name of each
+ * generator's class, so a generator's classes aren't loaded until its type is selected.
+ */
+public interface QubCreateProjectGenerators
+{
+    /**
+     * The type of project that is created when no type is selected.
+     */
+    String defaultType = "java";
+
+    /**
+     * The types of project that can be created.
+     */
+    Iterable<String> types = Iterable.create("java", "plain", "library", "app");
+
+    /**
+     * Get the full name of the generator class for the provided type of project.
+     * @param type The type of project.
+     * @return The full name of the generator class.
+     */
+    static String getClassName(String type)
+    {
+        PreCondition.assertOneOf(type, QubCreateProjectGenerators.types, "type");
+
+        String result;
+        switch (type)
+        {
+            case "plain":
+                result = "qub.QubCreateProjectPlainGenerator";
+                break;
+
+            case "library":
+                result = "qub.QubCreateProjectLibraryGenerator";
+                break;
+
+            case "app":
+                result = "qub.QubCreateProjectAppGenerator";
+                break;
+
+            default:
+                result = "qub.QubCreateProjectJavaGenerator";
+                break;
+        }
+
+        PostCondition.assertNotNullAndNotEmpty(result, "result");
+
+        return result;
+    }
+
+    /**
+     * Load the generator for the provided type of project. Only the selected generator's class is
+     * loaded.
+     * @param type The type of project.
+     * @return The generator for the provided type of project.
+     */
+    static QubCreateProjectGenerator getGenerator(String type)
+    {
+        PreCondition.assertOneOf(type, QubCreateProjectGenerators.types, "type");
+
+        final String className = QubCreateProjectGenerators.getClassName(type);
+        try
+        {
+            return (QubCreateProjectGenerator)Class.forName(className, true, QubCreateProjectGenerators.class.getClassLoader())
+                .getDeclaredConstructor()
+                .newInstance();
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+}
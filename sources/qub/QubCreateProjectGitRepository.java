@@ -0,0 +1,265 @@
+package qub;
+
+/**
+ * A git repository with a single commit that is written directly to a new project's folder from
+ * the contents of the project's files, without starting a git process. The repository contains
+ * the loose blob, tree, and commit objects for the files, a branch that points at the commit, and
+ * an index that matches the commit so that the new project's files don't show up as changed.
+ * <p>
+ * Only files in the root of the project can be added, since a new project's other folders are
+ * empty and git doesn't track empty folders.
+ */
+public class QubCreateProjectGitRepository
+{
+    /**
+     * The name of the folder that contains the repository.
+     */
+    public static final String folderName = ".git";
+
+    /**
+     * The name of the branch that the commit is added to.
+     */
+    public static final String branchName = "main";
+
+    private static final int regularFileMode = 0100644;
+
+    private final java.util.TreeMap<String,byte[]> files;
+
+    private QubCreateProjectGitRepository()
+    {
+        this.files = new java.util.TreeMap<>();
+    }
+
+    /**
+     * Create a new repository that doesn't have any files.
+     * @return The new repository.
+     */
+    public static QubCreateProjectGitRepository create()
+    {
+        return new QubCreateProjectGitRepository();
+    }
+
+    /**
+     * Add the file with the provided name and contents to the repository's commit. This can be
+     * called from multiple threads at the same time.
+     * @param fileName The name of the file in the root of the project folder.
+     * @param contents The contents of the file.
+     * @return This object for method chaining.
+     */
+    public synchronized QubCreateProjectGitRepository addFile(String fileName, byte[] contents)
+    {
+        PreCondition.assertNotNullAndNotEmpty(fileName, "fileName");
+        PreCondition.assertNotNull(contents, "contents");
+
+        this.files.put(fileName, contents);
+        return this;
+    }
+
+    /**
+     * Get the names of the files that have been added, in the order that git sorts them.
+     * @return The names of the files that have been added.
+     */
+    public synchronized Iterable<String> getFileNames()
+    {
+        return Iterable.create(this.files.keySet().toArray(new String[0]));
+    }
+
+    /**
+     * Write the repository to the .git folder of the provided project folder. The .git folder is
+     * created exclusively, so an existing repository is never changed.
+     * @param projectFolder The project folder that the repository will be written to.
+     * @param authorName The name of the commit's author and committer.
+     * @param authorEmail The email address of the commit's author and committer.
+     * @param timestampSeconds The time of the commit in seconds since the Unix epoch.
+     * @param message The commit's message.
+     * @return The id of the commit, or null if the project folder already has a .git folder.
+     */
+    public synchronized String writeTo(Folder projectFolder, String authorName, String authorEmail, long timestampSeconds, String message)
+    {
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+        PreCondition.assertNotNullAndNotEmpty(authorName, "authorName");
+        PreCondition.assertNotNull(authorEmail, "authorEmail");
+        PreCondition.assertNotNullAndNotEmpty(message, "message");
+
+        final Folder gitFolder = projectFolder.getFolder(QubCreateProjectGitRepository.folderName).await();
+        final boolean created = gitFolder.create()
+            .then(() -> true)
+            .catchError(FolderAlreadyExistsException.class, () -> false)
+            .await();
+
+        String result = null;
+        if (created)
+        {
+            gitFolder.createFolder("refs/tags").await();
+
+            final List<byte[]> blobIds = List.create();
+            final java.io.ByteArrayOutputStream tree = new java.io.ByteArrayOutputStream();
+            for (final java.util.Map.Entry<String,byte[]> file : this.files.entrySet())
+            {
+                final byte[] blobId = QubCreateProjectGitRepository.writeObject(gitFolder, "blob", file.getValue());
+                blobIds.add(blobId);
+
+                tree.writeBytes(QubCreateProjectGitRepository.encode(Integer.toOctalString(QubCreateProjectGitRepository.regularFileMode) + " " + file.getKey() + "\0"));
+                tree.writeBytes(blobId);
+            }
+            final byte[] treeId = QubCreateProjectGitRepository.writeObject(gitFolder, "tree", tree.toByteArray());
+
+            final String identity = authorName + " <" + authorEmail + "> " + timestampSeconds + " +0000";
+            final String commit =
+                "tree " + QubCreateProjectGitRepository.toHex(treeId) + "\n" +
+                "author " + identity + "\n" +
+                "committer " + identity + "\n" +
+                "\n" +
+                message + "\n";
+            result = QubCreateProjectGitRepository.toHex(QubCreateProjectGitRepository.writeObject(gitFolder, "commit", QubCreateProjectGitRepository.encode(commit)));
+
+            gitFolder.getFile("refs/heads/" + QubCreateProjectGitRepository.branchName).await().setContentsAsString(result + "\n").await();
+            gitFolder.getFile("config").await().setContentsAsString("[core]\n\trepositoryformatversion = 0\n\tbare = false\n").await();
+            gitFolder.getFile("index").await().setContents(this.createIndex(blobIds)).await();
+
+            // HEAD is written last because git only treats a folder as a repository once it has
+            // a HEAD file, so a partially written repository isn't mistaken for a complete one.
+            gitFolder.getFile("HEAD").await().setContentsAsString("ref: refs/heads/" + QubCreateProjectGitRepository.branchName + "\n").await();
+        }
+        return result;
+    }
+
+    /**
+     * Create the contents of a version 2 index file that matches the files of this repository.
+     * The entries don't record the files' timestamps, so git compares the files' contents the
+     * first time that it checks them and then records their timestamps itself.
+     * @param blobIds The ids of the files' blobs, in the same order as the files.
+     * @return The contents of the index file.
+     */
+    private byte[] createIndex(List<byte[]> blobIds)
+    {
+        final java.io.ByteArrayOutputStream bytes = new java.io.ByteArrayOutputStream();
+        final java.io.DataOutputStream index = new java.io.DataOutputStream(bytes);
+        try
+        {
+            index.writeBytes("DIRC");
+            index.writeInt(2);
+            index.writeInt(this.files.size());
+
+            int blobIndex = 0;
+            for (final java.util.Map.Entry<String,byte[]> file : this.files.entrySet())
+            {
+                final byte[] nameBytes = QubCreateProjectGitRepository.encode(file.getKey());
+
+                // ctime, mtime, dev, and ino.
+                for (int i = 0; i < 6; ++i)
+                {
+                    index.writeInt(0);
+                }
+                index.writeInt(QubCreateProjectGitRepository.regularFileMode);
+                // uid and gid.
+                index.writeInt(0);
+                index.writeInt(0);
+                index.writeInt(file.getValue().length);
+                index.write(blobIds.get(blobIndex++));
+                index.writeShort(Math.min(nameBytes.length, 0xFFF));
+                index.write(nameBytes);
+
+                // Each entry is padded with 1 to 8 null bytes so that its length is a multiple
+                // of 8.
+                final int entryLength = 62 + nameBytes.length;
+                index.write(new byte[8 - (entryLength % 8)]);
+            }
+            index.flush();
+            index.write(QubCreateProjectGitRepository.sha1(bytes.toByteArray()));
+        }
+        catch (java.io.IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Get the id of the git object with the provided type and contents.
+     * @param type The type of the object, such as "blob", "tree", or "commit".
+     * @param contents The contents of the object.
+     * @return The hexadecimal id of the object.
+     */
+    public static String getObjectId(String type, byte[] contents)
+    {
+        PreCondition.assertNotNullAndNotEmpty(type, "type");
+        PreCondition.assertNotNull(contents, "contents");
+
+        return QubCreateProjectGitRepository.toHex(QubCreateProjectGitRepository.sha1(QubCreateProjectGitRepository.createObject(type, contents)));
+    }
+
+    private static byte[] createObject(String type, byte[] contents)
+    {
+        final byte[] header = QubCreateProjectGitRepository.encode(type + " " + contents.length + "\0");
+        final byte[] result = java.util.Arrays.copyOf(header, header.length + contents.length);
+        System.arraycopy(contents, 0, result, header.length, contents.length);
+        return result;
+    }
+
+    /**
+     * Write the git object with the provided type and contents to the provided .git folder as a
+     * zlib compressed loose object.
+     * @param gitFolder The .git folder to write the object to.
+     * @param type The type of the object.
+     * @param contents The contents of the object.
+     * @return The binary id of the object.
+     */
+    private static byte[] writeObject(Folder gitFolder, String type, byte[] contents)
+    {
+        final byte[] object = QubCreateProjectGitRepository.createObject(type, contents);
+        final byte[] result = QubCreateProjectGitRepository.sha1(object);
+
+        final java.util.zip.Deflater deflater = new java.util.zip.Deflater(java.util.zip.Deflater.BEST_SPEED);
+        final java.io.ByteArrayOutputStream compressed = new java.io.ByteArrayOutputStream(object.length / 2 + 64);
+        try
+        {
+            deflater.setInput(object);
+            deflater.finish();
+            final byte[] buffer = new byte[4096];
+            while (!deflater.finished())
+            {
+                compressed.write(buffer, 0, deflater.deflate(buffer));
+            }
+        }
+        finally
+        {
+            deflater.end();
+        }
+
+        final String id = QubCreateProjectGitRepository.toHex(result);
+        gitFolder.getFile("objects/" + id.substring(0, 2) + "/" + id.substring(2)).await()
+            .setContents(compressed.toByteArray()).await();
+
+        return result;
+    }
+
+    private static byte[] sha1(byte[] bytes)
+    {
+        try
+        {
+            return java.security.MessageDigest.getInstance("SHA-1").digest(bytes);
+        }
+        catch (java.security.NoSuchAlgorithmException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+
+    private static byte[] encode(String text)
+    {
+        return text.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    private static String toHex(byte[] bytes)
+    {
+        final char[] hexDigits = "0123456789abcdef".toCharArray();
+        final char[] result = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; ++i)
+        {
+            result[i * 2] = hexDigits[(bytes[i] >> 4) & 0xF];
+            result[i * 2 + 1] = hexDigits[bytes[i] & 0xF];
+        }
+        return new String(result);
+    }
+}
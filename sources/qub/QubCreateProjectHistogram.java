@@ -0,0 +1,254 @@
+package qub;
+
+/**
+ * The latencies of one phase of creating projects, grouped into a fixed number of buckets. Each
+ * power of two is split into eight buckets, so a latency that is reported from a bucket is never
+ * more than 12.5% larger than the latency that was recorded. The largest bucket holds every
+ * latency of 2^42 nanoseconds (about 73 minutes) or longer.
+ */
+public class QubCreateProjectHistogram
+{
+    /**
+     * The number of buckets in every histogram.
+     */
+    public static final int bucketCount = 320;
+
+    private static final int subBucketBits = 3;
+    private static final int subBucketCount = 1 << QubCreateProjectHistogram.subBucketBits;
+
+    private final String name;
+    private final long[] bucketCounts;
+    private long count;
+    private long totalNanoseconds;
+    private long maximumNanoseconds;
+
+    private QubCreateProjectHistogram(String name)
+    {
+        PreCondition.assertNotNullAndNotEmpty(name, "name");
+
+        this.name = name;
+        this.bucketCounts = new long[QubCreateProjectHistogram.bucketCount];
+    }
+
+    /**
+     * Create a new empty histogram.
+     * @param name The name of the phase that the histogram's latencies were recorded for.
+     * @return The new histogram.
+     */
+    public static QubCreateProjectHistogram create(String name)
+    {
+        return new QubCreateProjectHistogram(name);
+    }
+
+    /**
+     * Get the index of the bucket that the provided latency is recorded in.
+     * @param nanoseconds The latency.
+     * @return The index of the bucket that the provided latency is recorded in.
+     */
+    public static int getBucketIndex(long nanoseconds)
+    {
+        int result;
+        if (nanoseconds < QubCreateProjectHistogram.subBucketCount)
+        {
+            result = (int)Math.max(0, nanoseconds);
+        }
+        else
+        {
+            final int exponent = 63 - Long.numberOfLeadingZeros(nanoseconds);
+            final int subBucket = (int)(nanoseconds >>> (exponent - QubCreateProjectHistogram.subBucketBits)) & (QubCreateProjectHistogram.subBucketCount - 1);
+            result = Math.min(
+                (exponent - QubCreateProjectHistogram.subBucketBits + 1) * QubCreateProjectHistogram.subBucketCount + subBucket,
+                QubCreateProjectHistogram.bucketCount - 1);
+        }
+
+        PostCondition.assertBetween(0, result, QubCreateProjectHistogram.bucketCount - 1, "result");
+
+        return result;
+    }
+
+    /**
+     * Get the largest latency that is recorded in the bucket with the provided index.
+     * @param bucketIndex The index of the bucket.
+     * @return The largest latency that is recorded in the bucket.
+     */
+    public static long getBucketUpperBound(int bucketIndex)
+    {
+        PreCondition.assertIndexAccess(bucketIndex, QubCreateProjectHistogram.bucketCount, "bucketIndex");
+
+        long result;
+        if (bucketIndex < QubCreateProjectHistogram.subBucketCount)
+        {
+            result = bucketIndex;
+        }
+        else
+        {
+            final int shift = bucketIndex / QubCreateProjectHistogram.subBucketCount - 1;
+            final long lowerBound = (long)(QubCreateProjectHistogram.subBucketCount + bucketIndex % QubCreateProjectHistogram.subBucketCount) << shift;
+            result = lowerBound + (1L << shift) - 1;
+        }
+        return result;
+    }
+
+    public String getName()
+    {
+        return this.name;
+    }
+
+    /**
+     * Get the number of latencies that have been recorded in this histogram.
+     * @return The number of latencies that have been recorded in this histogram.
+     */
+    public long getCount()
+    {
+        return this.count;
+    }
+
+    public long getTotalNanoseconds()
+    {
+        return this.totalNanoseconds;
+    }
+
+    public long getMaximumNanoseconds()
+    {
+        return this.maximumNanoseconds;
+    }
+
+    /**
+     * Get the number of latencies that have been recorded in the bucket with the provided index.
+     * @param bucketIndex The index of the bucket.
+     * @return The number of latencies that have been recorded in the bucket.
+     */
+    public long getBucketCount(int bucketIndex)
+    {
+        PreCondition.assertIndexAccess(bucketIndex, QubCreateProjectHistogram.bucketCount, "bucketIndex");
+
+        return this.bucketCounts[bucketIndex];
+    }
+
+    /**
+     * Record the provided latency in this histogram.
+     * @param nanoseconds The latency to record.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectHistogram add(long nanoseconds)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(nanoseconds, 0L, "nanoseconds");
+
+        ++this.bucketCounts[QubCreateProjectHistogram.getBucketIndex(nanoseconds)];
+        ++this.count;
+        this.totalNanoseconds += nanoseconds;
+        this.maximumNanoseconds = Math.max(this.maximumNanoseconds, nanoseconds);
+        return this;
+    }
+
+    /**
+     * Add the provided number of latencies that were read from a histogram file to the bucket with
+     * the provided index.
+     * @param bucketIndex The index of the bucket.
+     * @param bucketCount The number of latencies in the bucket.
+     * @return This object for method chaining.
+     */
+    QubCreateProjectHistogram addBucketCount(int bucketIndex, long bucketCount)
+    {
+        PreCondition.assertIndexAccess(bucketIndex, QubCreateProjectHistogram.bucketCount, "bucketIndex");
+        PreCondition.assertGreaterThanOrEqualTo(bucketCount, 0L, "bucketCount");
+
+        this.bucketCounts[bucketIndex] += bucketCount;
+        return this;
+    }
+
+    /**
+     * Add the provided totals that were read from a histogram file to this histogram.
+     * @param count The number of latencies.
+     * @param totalNanoseconds The sum of the latencies.
+     * @param maximumNanoseconds The largest latency.
+     * @return This object for method chaining.
+     */
+    QubCreateProjectHistogram addTotals(long count, long totalNanoseconds, long maximumNanoseconds)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(count, 0L, "count");
+
+        this.count += count;
+        this.totalNanoseconds += totalNanoseconds;
+        this.maximumNanoseconds = Math.max(this.maximumNanoseconds, maximumNanoseconds);
+        return this;
+    }
+
+    /**
+     * Get the latency that the provided percentage of the recorded latencies are less than or
+     * equal to. The latency is the upper bound of the bucket that it is in, but it is never larger
+     * than the largest recorded latency.
+     * @param percentile The percentage, between 0 and 100.
+     * @return The latency at the provided percentile, or 0 if no latencies have been recorded.
+     */
+    public long getPercentileNanoseconds(double percentile)
+    {
+        PreCondition.assertBetween(0.0, percentile, 100.0, "percentile");
+
+        // The bucket counts are summed instead of using the count because another process can be
+        // part way through recording a latency when a histogram file is read.
+        long bucketTotal = 0;
+        for (final long bucketCount : this.bucketCounts)
+        {
+            bucketTotal += bucketCount;
+        }
+
+        long result = 0;
+        if (bucketTotal > 0)
+        {
+            final long rank = Math.max(1, (long)Math.ceil(percentile / 100.0 * bucketTotal));
+            long cumulativeCount = 0;
+            for (int bucketIndex = 0; bucketIndex < QubCreateProjectHistogram.bucketCount; ++bucketIndex)
+            {
+                cumulativeCount += this.bucketCounts[bucketIndex];
+                if (cumulativeCount >= rank)
+                {
+                    result = QubCreateProjectHistogram.getBucketUpperBound(bucketIndex);
+                    break;
+                }
+            }
+            if (this.maximumNanoseconds > 0)
+            {
+                result = Math.min(result, this.maximumNanoseconds);
+            }
+        }
+        return result;
+    }
+
+    public JSONObject toJson()
+    {
+        final JSONObject bucketsJson = JSONObject.create();
+        for (int bucketIndex = 0; bucketIndex < QubCreateProjectHistogram.bucketCount; ++bucketIndex)
+        {
+            if (this.bucketCounts[bucketIndex] > 0)
+            {
+                bucketsJson.setNumber(Long.toString(QubCreateProjectHistogram.getBucketUpperBound(bucketIndex)), this.bucketCounts[bucketIndex]);
+            }
+        }
+
+        return JSONObject.create()
+            .setNumber("count", this.count)
+            .setNumber("totalNanoseconds", this.totalNanoseconds)
+            .setNumber("p50Nanoseconds", this.getPercentileNanoseconds(50))
+            .setNumber("p90Nanoseconds", this.getPercentileNanoseconds(90))
+            .setNumber("p99Nanoseconds", this.getPercentileNanoseconds(99))
+            .setNumber("maximumNanoseconds", this.maximumNanoseconds)
+            .setObject("bucketUpperBoundNanoseconds", bucketsJson);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.name + ": " +
+            this.count + " runs, " +
+            "p50 " + QubCreateProjectHistogram.formatMicroseconds(this.getPercentileNanoseconds(50)) + ", " +
+            "p90 " + QubCreateProjectHistogram.formatMicroseconds(this.getPercentileNanoseconds(90)) + ", " +
+            "p99 " + QubCreateProjectHistogram.formatMicroseconds(this.getPercentileNanoseconds(99)) + ", " +
+            "max " + QubCreateProjectHistogram.formatMicroseconds(this.maximumNanoseconds);
+    }
+
+    private static String formatMicroseconds(long nanoseconds)
+    {
+        return String.format("%.1f", nanoseconds / 1000.0) + " us";
+    }
+}
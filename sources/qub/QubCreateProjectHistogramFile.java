@@ -0,0 +1,393 @@
+package qub;
+
+/**
+ * The latency histograms of every run, stored in a single file whose size never changes. The file
+ * is laid out as little-endian longs like this:
+ * <pre>
+ *   header    magic, then 7 reserved longs
+ *   slot 0    state, name (8 longs of UTF-8), count, total, maximum, 320 bucket counts
+ *   ...
+ *   slot 31
+ * </pre>
+ * A slot's state is 0 while it is empty, 1 while a process is writing its name, and 2 once its name
+ * has been written. When the file is on the local file system, it is mapped into memory and every
+ * update is a single atomic add, compare-and-set, or maximum on one long, so runs in different
+ * processes merge their latencies into the file without taking a lock. A run only has to wait if
+ * another process is writing the name of the slot that it wants, and that wait is bounded. Files on
+ * other file systems are read, updated, and written back.
+ */
+public class QubCreateProjectHistogramFile
+{
+    public static final String fileName = "stats.histograms";
+
+    /**
+     * The number of phases that the file can hold histograms for.
+     */
+    public static final int slotCount = 32;
+
+    /**
+     * The number of bytes of a phase's UTF-8 name that are stored. Longer names are truncated.
+     */
+    public static final int nameByteCount = 64;
+
+    /**
+     * The name of the phase that holds the latency of a whole run.
+     */
+    public static final String totalPhaseName = "total";
+
+    static final long magic = 0x3130545348504351L; // "QCPHST01"
+
+    private static final int headerByteCount = 8 * Long.BYTES;
+    private static final int stateOffset = 0;
+    private static final int nameOffset = QubCreateProjectHistogramFile.stateOffset + Long.BYTES;
+    private static final int countOffset = QubCreateProjectHistogramFile.nameOffset + QubCreateProjectHistogramFile.nameByteCount;
+    private static final int totalOffset = QubCreateProjectHistogramFile.countOffset + Long.BYTES;
+    private static final int maximumOffset = QubCreateProjectHistogramFile.totalOffset + Long.BYTES;
+    private static final int bucketsOffset = QubCreateProjectHistogramFile.maximumOffset + Long.BYTES;
+    private static final int slotByteCount = QubCreateProjectHistogramFile.bucketsOffset + QubCreateProjectHistogram.bucketCount * Long.BYTES;
+
+    /**
+     * The number of bytes in every histogram file.
+     */
+    public static final int fileByteCount = QubCreateProjectHistogramFile.headerByteCount + QubCreateProjectHistogramFile.slotCount * QubCreateProjectHistogramFile.slotByteCount;
+
+    private static final long emptyState = 0;
+    private static final long claimingState = 1;
+    private static final long readyState = 2;
+    private static final int claimingSpinLimit = 100000;
+
+    private static final java.lang.invoke.VarHandle longs = java.lang.invoke.MethodHandles.byteBufferViewVarHandle(long[].class, java.nio.ByteOrder.LITTLE_ENDIAN);
+
+    private QubCreateProjectHistogramFile()
+    {
+    }
+
+    /**
+     * Get the histogram file within the provided qub project data folder.
+     * @param qubProjectDataFolder The data folder of this application.
+     * @return The histogram file.
+     */
+    public static File getHistogramFile(Folder qubProjectDataFolder)
+    {
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+
+        return qubProjectDataFolder.getFile(QubCreateProjectHistogramFile.fileName).await();
+    }
+
+    /**
+     * Record the latency of each phase of the provided metrics in the provided histogram file. The
+     * file is created if it doesn't exist. Phases that don't fit in the file are not recorded, except
+     * for the total phase, which is always recorded.
+     * @param histogramFile The histogram file.
+     * @param metrics The metrics of the run to record.
+     * @return The number of phases that were recorded.
+     */
+    public static Result<Integer> record(File histogramFile, QubCreateProjectMetrics metrics)
+    {
+        PreCondition.assertNotNull(histogramFile, "histogramFile");
+        PreCondition.assertNotNull(metrics, "metrics");
+
+        return QubCreateProjectHistogramFile.update(histogramFile, true, (java.nio.ByteBuffer buffer) ->
+        {
+            int result = 0;
+            QubCreateProjectHistogramFile.compareAndSetLong(buffer, 0, 0, QubCreateProjectHistogramFile.magic);
+            if (QubCreateProjectHistogramFile.getLong(buffer, 0) == QubCreateProjectHistogramFile.magic)
+            {
+                // The total latency is recorded first so that it always has a slot, even if the
+                // runs have had more phases than the file has slots.
+                final List<String> phaseNames = List.create();
+                if (metrics.getPhaseNanoseconds(QubCreateProjectHistogramFile.totalPhaseName).catchError().await() != null)
+                {
+                    phaseNames.add(QubCreateProjectHistogramFile.totalPhaseName);
+                }
+                phaseNames.addAll(metrics.getPhaseNames().where((String phaseName) -> !phaseName.equals(QubCreateProjectHistogramFile.totalPhaseName)));
+
+                for (final String phaseName : phaseNames)
+                {
+                    final long nanoseconds = Math.max(0, metrics.getPhaseNanoseconds(phaseName).await());
+                    final int slotOffset = QubCreateProjectHistogramFile.findOrClaimSlot(buffer, phaseName);
+                    if (slotOffset >= 0)
+                    {
+                        QubCreateProjectHistogramFile.addLong(buffer, slotOffset + QubCreateProjectHistogramFile.countOffset, 1);
+                        QubCreateProjectHistogramFile.addLong(buffer, slotOffset + QubCreateProjectHistogramFile.totalOffset, nanoseconds);
+                        QubCreateProjectHistogramFile.maximumLong(buffer, slotOffset + QubCreateProjectHistogramFile.maximumOffset, nanoseconds);
+                        QubCreateProjectHistogramFile.addLong(buffer, slotOffset + QubCreateProjectHistogramFile.bucketsOffset + QubCreateProjectHistogram.getBucketIndex(nanoseconds) * Long.BYTES, 1);
+                        ++result;
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Read the histograms in the provided histogram file, in the order that their phases were
+     * first recorded. A file that doesn't exist or isn't a histogram file has no histograms.
+     * @param histogramFile The histogram file.
+     * @return The histograms in the file.
+     */
+    public static Result<Iterable<QubCreateProjectHistogram>> read(File histogramFile)
+    {
+        PreCondition.assertNotNull(histogramFile, "histogramFile");
+
+        return QubCreateProjectHistogramFile.update(histogramFile, false, (java.nio.ByteBuffer buffer) ->
+        {
+            final List<QubCreateProjectHistogram> result = List.create();
+            if (buffer != null && QubCreateProjectHistogramFile.getLong(buffer, 0) == QubCreateProjectHistogramFile.magic)
+            {
+                for (int slotIndex = 0; slotIndex < QubCreateProjectHistogramFile.slotCount; ++slotIndex)
+                {
+                    final int slotOffset = QubCreateProjectHistogramFile.getSlotOffset(slotIndex);
+                    final String phaseName = QubCreateProjectHistogramFile.readName(buffer, slotOffset);
+                    if (QubCreateProjectHistogramFile.getLong(buffer, slotOffset + QubCreateProjectHistogramFile.stateOffset) == QubCreateProjectHistogramFile.readyState && !phaseName.isEmpty())
+                    {
+                        final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create(phaseName)
+                            .addTotals(
+                                QubCreateProjectHistogramFile.getLong(buffer, slotOffset + QubCreateProjectHistogramFile.countOffset),
+                                QubCreateProjectHistogramFile.getLong(buffer, slotOffset + QubCreateProjectHistogramFile.totalOffset),
+                                QubCreateProjectHistogramFile.getLong(buffer, slotOffset + QubCreateProjectHistogramFile.maximumOffset));
+                        for (int bucketIndex = 0; bucketIndex < QubCreateProjectHistogram.bucketCount; ++bucketIndex)
+                        {
+                            histogram.addBucketCount(bucketIndex, QubCreateProjectHistogramFile.getLong(buffer, slotOffset + QubCreateProjectHistogramFile.bucketsOffset + bucketIndex * Long.BYTES));
+                        }
+                        result.add(histogram);
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Delete every histogram by deleting the provided histogram file.
+     * @param histogramFile The histogram file.
+     * @return Whether the histogram file existed.
+     */
+    public static Result<Boolean> reset(File histogramFile)
+    {
+        PreCondition.assertNotNull(histogramFile, "histogramFile");
+
+        return histogramFile.delete()
+            .then(() -> true)
+            .catchError(FileNotFoundException.class, () -> false)
+            .catchError(FolderNotFoundException.class, () -> false);
+    }
+
+    /**
+     * Run the provided function against the contents of the provided histogram file. If the file is
+     * on the local file system, then the function gets the file mapped into memory. Otherwise the
+     * function gets a copy of the file's contents, which is written back to the file if it is
+     * writable.
+     * @param histogramFile The histogram file.
+     * @param writable Whether the function can change the file. If it can, the file is created if
+     * it doesn't exist. If it can't and the file doesn't exist, the function gets null.
+     * @param function The function to run.
+     * @param <T> The type of value that the function returns.
+     * @return The value that the function returned.
+     */
+    private static <T> Result<T> update(File histogramFile, boolean writable, Function1<java.nio.ByteBuffer,T> function)
+    {
+        return Result.create(() ->
+        {
+            T result;
+            if (histogramFile.getFileSystem() instanceof JavaFileSystem)
+            {
+                final java.nio.file.Path path = java.nio.file.Paths.get(histogramFile.toString());
+                if (writable)
+                {
+                    java.nio.file.Files.createDirectories(path.getParent());
+                }
+
+                if (!writable && (!java.nio.file.Files.exists(path) || java.nio.file.Files.size(path) < QubCreateProjectHistogramFile.fileByteCount))
+                {
+                    result = function.run(null);
+                }
+                else
+                {
+                    try (final java.nio.channels.FileChannel channel = writable
+                        ? java.nio.channels.FileChannel.open(path, java.nio.file.StandardOpenOption.CREATE, java.nio.file.StandardOpenOption.READ, java.nio.file.StandardOpenOption.WRITE)
+                        : java.nio.channels.FileChannel.open(path, java.nio.file.StandardOpenOption.READ))
+                    {
+                        // Mapping a new, empty file in read-write mode grows it to its full size
+                        // and fills it with zeros, which is an empty histogram file.
+                        final java.nio.MappedByteBuffer buffer = channel.map(
+                            writable ? java.nio.channels.FileChannel.MapMode.READ_WRITE : java.nio.channels.FileChannel.MapMode.READ_ONLY,
+                            0,
+                            QubCreateProjectHistogramFile.fileByteCount);
+                        result = function.run(buffer);
+                    }
+                }
+            }
+            else
+            {
+                final byte[] contents = histogramFile.getContents()
+                    .catchError(FileNotFoundException.class, () -> null)
+                    .catchError(FolderNotFoundException.class, () -> null)
+                    .await();
+                if (contents == null && !writable)
+                {
+                    result = function.run(null);
+                }
+                else
+                {
+                    final java.nio.ByteBuffer buffer = java.nio.ByteBuffer.allocate(QubCreateProjectHistogramFile.fileByteCount)
+                        .order(java.nio.ByteOrder.LITTLE_ENDIAN);
+                    if (contents != null && contents.length == QubCreateProjectHistogramFile.fileByteCount)
+                    {
+                        buffer.put(contents);
+                    }
+                    result = function.run(buffer);
+                    if (writable)
+                    {
+                        histogramFile.setContents(buffer.array()).await();
+                    }
+                }
+            }
+            return result;
+        });
+    }
+
+    private static int getSlotOffset(int slotIndex)
+    {
+        return QubCreateProjectHistogramFile.headerByteCount + slotIndex * QubCreateProjectHistogramFile.slotByteCount;
+    }
+
+    /**
+     * Get the offset of the slot that holds the histogram for the phase with the provided name. If
+     * no slot holds the phase's histogram yet, then the first empty slot is claimed for it.
+     * @param buffer The contents of the histogram file.
+     * @param phaseName The name of the phase.
+     * @return The offset of the phase's slot, or -1 if every slot holds another phase's histogram.
+     */
+    private static int findOrClaimSlot(java.nio.ByteBuffer buffer, String phaseName)
+    {
+        final byte[] nameBytes = QubCreateProjectHistogramFile.encodeName(phaseName);
+
+        int result = -1;
+        for (int slotIndex = 0; result == -1 && slotIndex < QubCreateProjectHistogramFile.slotCount; ++slotIndex)
+        {
+            final int slotOffset = QubCreateProjectHistogramFile.getSlotOffset(slotIndex);
+            final int stateIndex = slotOffset + QubCreateProjectHistogramFile.stateOffset;
+            if (QubCreateProjectHistogramFile.compareAndSetLong(buffer, stateIndex, QubCreateProjectHistogramFile.emptyState, QubCreateProjectHistogramFile.claimingState))
+            {
+                for (int i = 0; i < nameBytes.length; ++i)
+                {
+                    buffer.put(slotOffset + QubCreateProjectHistogramFile.nameOffset + i, nameBytes[i]);
+                }
+                QubCreateProjectHistogramFile.setLong(buffer, stateIndex, QubCreateProjectHistogramFile.readyState);
+                result = slotOffset;
+            }
+            else
+            {
+                // Another process is writing this slot's name. If it stopped before finishing,
+                // then the slot is skipped.
+                int spinCount = 0;
+                while (QubCreateProjectHistogramFile.getLong(buffer, stateIndex) == QubCreateProjectHistogramFile.claimingState && spinCount < QubCreateProjectHistogramFile.claimingSpinLimit)
+                {
+                    Thread.onSpinWait();
+                    ++spinCount;
+                }
+
+                if (QubCreateProjectHistogramFile.getLong(buffer, stateIndex) == QubCreateProjectHistogramFile.readyState &&
+                    QubCreateProjectHistogramFile.nameEquals(buffer, slotOffset, nameBytes))
+                {
+                    result = slotOffset;
+                }
+            }
+        }
+        return result;
+    }
+
+    private static byte[] encodeName(String phaseName)
+    {
+        final byte[] encodedName = phaseName.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        return java.util.Arrays.copyOf(encodedName, QubCreateProjectHistogramFile.nameByteCount);
+    }
+
+    private static boolean nameEquals(java.nio.ByteBuffer buffer, int slotOffset, byte[] nameBytes)
+    {
+        boolean result = true;
+        for (int i = 0; result && i < nameBytes.length; ++i)
+        {
+            result = buffer.get(slotOffset + QubCreateProjectHistogramFile.nameOffset + i) == nameBytes[i];
+        }
+        return result;
+    }
+
+    private static String readName(java.nio.ByteBuffer buffer, int slotOffset)
+    {
+        final byte[] nameBytes = new byte[QubCreateProjectHistogramFile.nameByteCount];
+        int nameLength = 0;
+        while (nameLength < nameBytes.length)
+        {
+            final byte nameByte = buffer.get(slotOffset + QubCreateProjectHistogramFile.nameOffset + nameLength);
+            if (nameByte == 0)
+            {
+                break;
+            }
+            nameBytes[nameLength++] = nameByte;
+        }
+        return new String(nameBytes, 0, nameLength, java.nio.charset.StandardCharsets.UTF_8);
+    }
+
+    // A mapped file is shared with other processes, so its longs are accessed atomically. A copy of
+    // a file's contents is only used by this process, so its longs are accessed directly.
+
+    private static long getLong(java.nio.ByteBuffer buffer, int index)
+    {
+        return buffer.isDirect()
+            ? (long)QubCreateProjectHistogramFile.longs.getVolatile(buffer, index)
+            : buffer.getLong(index);
+    }
+
+    private static void setLong(java.nio.ByteBuffer buffer, int index, long value)
+    {
+        if (buffer.isDirect())
+        {
+            QubCreateProjectHistogramFile.longs.setVolatile(buffer, index, value);
+        }
+        else
+        {
+            buffer.putLong(index, value);
+        }
+    }
+
+    private static boolean compareAndSetLong(java.nio.ByteBuffer buffer, int index, long expectedValue, long newValue)
+    {
+        boolean result;
+        if (buffer.isDirect())
+        {
+            result = QubCreateProjectHistogramFile.longs.compareAndSet(buffer, index, expectedValue, newValue);
+        }
+        else
+        {
+            result = buffer.getLong(index) == expectedValue;
+            if (result)
+            {
+                buffer.putLong(index, newValue);
+            }
+        }
+        return result;
+    }
+
+    private static void addLong(java.nio.ByteBuffer buffer, int index, long delta)
+    {
+        if (buffer.isDirect())
+        {
+            QubCreateProjectHistogramFile.longs.getAndAdd(buffer, index, delta);
+        }
+        else
+        {
+            buffer.putLong(index, buffer.getLong(index) + delta);
+        }
+    }
+
+    private static void maximumLong(java.nio.ByteBuffer buffer, int index, long value)
+    {
+        long currentValue = QubCreateProjectHistogramFile.getLong(buffer, index);
+        while (currentValue < value && !QubCreateProjectHistogramFile.compareAndSetLong(buffer, index, currentValue, value))
+        {
+            currentValue = QubCreateProjectHistogramFile.getLong(buffer, index);
+        }
+    }
+}
@@ -0,0 +1,233 @@
+package qub;
+
+/**
+ * A writer that writes pretty-printed JSON directly to a ByteWriteStream. The JSON is encoded into
+ * a byte buffer that is reused by every writer on the same thread, so writing a document doesn't
+ * create the whole document's text or its encoded bytes. Because of this, a writer must be flushed
+ * before another writer is used on the same thread.
+ */
+public class QubCreateProjectJSONWriter
+{
+    private static final int bufferSize = 4096;
+    private static final ThreadLocal<byte[]> buffers = ThreadLocal.withInitial(() -> new byte[QubCreateProjectJSONWriter.bufferSize]);
+    private static final byte[] hexDigits = { '0', '1', '2', '3', '4', '5', '6', '7', '8', '9', 'a', 'b', 'c', 'd', 'e', 'f' };
+
+    private final ByteWriteStream stream;
+    private final byte[] buffer;
+    private int bufferLength;
+    private long bytesWritten;
+
+    private QubCreateProjectJSONWriter(ByteWriteStream stream)
+    {
+        PreCondition.assertNotNull(stream, "stream");
+
+        this.stream = stream;
+        this.buffer = QubCreateProjectJSONWriter.buffers.get();
+    }
+
+    public static QubCreateProjectJSONWriter create(ByteWriteStream stream)
+    {
+        return new QubCreateProjectJSONWriter(stream);
+    }
+
+    /**
+     * Get the number of bytes that have been written to this writer, including any bytes that
+     * haven't been flushed to the stream yet.
+     * @return The number of bytes that have been written to this writer.
+     */
+    public long getBytesWritten()
+    {
+        return this.bytesWritten;
+    }
+
+    /**
+     * Write the provided JSON segment with the same formatting as JSONFormat.pretty.
+     * @param segment The segment to write.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectJSONWriter write(JSONSegment segment)
+    {
+        PreCondition.assertNotNull(segment, "segment");
+
+        this.writeSegment(segment, 0);
+        return this;
+    }
+
+    /**
+     * Write any buffered bytes to the stream.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectJSONWriter flush()
+    {
+        if (this.bufferLength > 0)
+        {
+            this.stream.writeAll(this.buffer, 0, this.bufferLength).await();
+            this.bufferLength = 0;
+        }
+        return this;
+    }
+
+    private void writeSegment(JSONSegment segment, int indentLevel)
+    {
+        if (segment instanceof JSONObject)
+        {
+            final Iterable<JSONProperty> properties = ((JSONObject)segment).getProperties();
+            if (!properties.any())
+            {
+                this.writeAscii("{}");
+            }
+            else
+            {
+                this.writeByte('{');
+                boolean first = true;
+                for (final JSONProperty property : properties)
+                {
+                    if (first)
+                    {
+                        first = false;
+                    }
+                    else
+                    {
+                        this.writeByte(',');
+                    }
+                    this.writeNewLine(indentLevel + 1);
+                    this.writeString(property.getName());
+                    this.writeAscii(": ");
+                    this.writeSegment(property.getValue(), indentLevel + 1);
+                }
+                this.writeNewLine(indentLevel);
+                this.writeByte('}');
+            }
+        }
+        else if (segment instanceof JSONArray)
+        {
+            final JSONArray array = (JSONArray)segment;
+            if (!array.any())
+            {
+                this.writeAscii("[]");
+            }
+            else
+            {
+                this.writeByte('[');
+                boolean first = true;
+                for (final JSONSegment element : array)
+                {
+                    if (first)
+                    {
+                        first = false;
+                    }
+                    else
+                    {
+                        this.writeByte(',');
+                    }
+                    this.writeNewLine(indentLevel + 1);
+                    this.writeSegment(element, indentLevel + 1);
+                }
+                this.writeNewLine(indentLevel);
+                this.writeByte(']');
+            }
+        }
+        else if (segment instanceof JSONString)
+        {
+            this.writeString(((JSONString)segment).getValue());
+        }
+        else
+        {
+            // Numbers, booleans, and nulls are short ASCII tokens.
+            this.writeAscii(segment.toString());
+        }
+    }
+
+    private void writeNewLine(int indentLevel)
+    {
+        this.writeByte('\n');
+        for (int i = 0; i < indentLevel; ++i)
+        {
+            this.writeAscii("  ");
+        }
+    }
+
+    private void writeString(String value)
+    {
+        this.writeByte('"');
+        final int length = value.length();
+        for (int i = 0; i < length; ++i)
+        {
+            final char c = value.charAt(i);
+            switch (c)
+            {
+                case '"':
+                    this.writeAscii("\\\"");
+                    break;
+
+                case '\\':
+                    this.writeAscii("\\\\");
+                    break;
+
+                case '\n':
+                    this.writeAscii("\\n");
+                    break;
+
+                case '\r':
+                    this.writeAscii("\\r");
+                    break;
+
+                case '\t':
+                    this.writeAscii("\\t");
+                    break;
+
+                default:
+                    if (c < 0x20)
+                    {
+                        this.writeAscii("\\u00");
+                        this.writeByte(QubCreateProjectJSONWriter.hexDigits[c >> 4]);
+                        this.writeByte(QubCreateProjectJSONWriter.hexDigits[c & 0xF]);
+                    }
+                    else if (c < 0x80)
+                    {
+                        this.writeByte(c);
+                    }
+                    else if (c < 0x800)
+                    {
+                        this.writeByte(0xC0 | (c >> 6));
+                        this.writeByte(0x80 | (c & 0x3F));
+                    }
+                    else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1)))
+                    {
+                        final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                        this.writeByte(0xF0 | (codePoint >> 18));
+                        this.writeByte(0x80 | ((codePoint >> 12) & 0x3F));
+                        this.writeByte(0x80 | ((codePoint >> 6) & 0x3F));
+                        this.writeByte(0x80 | (codePoint & 0x3F));
+                    }
+                    else
+                    {
+                        this.writeByte(0xE0 | (c >> 12));
+                        this.writeByte(0x80 | ((c >> 6) & 0x3F));
+                        this.writeByte(0x80 | (c & 0x3F));
+                    }
+                    break;
+            }
+        }
+        this.writeByte('"');
+    }
+
+    private void writeAscii(String text)
+    {
+        final int length = text.length();
+        for (int i = 0; i < length; ++i)
+        {
+            this.writeByte(text.charAt(i));
+        }
+    }
+
+    private void writeByte(int value)
+    {
+        if (this.bufferLength == this.buffer.length)
+        {
+            this.flush();
+        }
+        this.buffer[this.bufferLength++] = (byte)value;
+        ++this.bytesWritten;
+    }
+}
@@ -0,0 +1,22 @@
+package qub;
+
+/**
+ * The generator for a Java project. This is the type of project that is created when no type is
+ * selected.
+ */
+public class QubCreateProjectJavaGenerator implements QubCreateProjectGenerator
+{
+    @Override
+    public void configureProjectJson(ProjectJSON projectJson)
+    {
+        PreCondition.assertNotNull(projectJson, "projectJson");
+
+        projectJson.setJava(ProjectJSONJava.create());
+    }
+
+    @Override
+    public Iterable<String> getFolderNames()
+    {
+        return Iterable.create("sources", "tests");
+    }
+}
@@ -0,0 +1,22 @@
+package qub;
+
+/**
+ * The generator for a Java library that other projects depend on. A library doesn't have a main
+ * class or a shortcut.
+ */
+public class QubCreateProjectLibraryGenerator implements QubCreateProjectGenerator
+{
+    @Override
+    public void configureProjectJson(ProjectJSON projectJson)
+    {
+        PreCondition.assertNotNull(projectJson, "projectJson");
+
+        projectJson.setJava(ProjectJSONJava.create());
+    }
+
+    @Override
+    public Iterable<String> getFolderNames()
+    {
+        return Iterable.create("sources", "tests");
+    }
+}
@@ -0,0 +1,99 @@
+package qub;
+
+/**
+ * A lock that is held by creating a file and released by deleting it. A lock file that is older than
+ * a timeout was left behind by a process that stopped while it held the lock, so it can be taken
+ * over.
+ * <p>
+ * A stale lock is taken over by renaming it to a name that is derived from its last modified time
+ * instead of by deleting it. Every process that finds the same stale lock tries to rename it to the
+ * same name, so only one of those renames succeeds, and only the process whose rename succeeded
+ * creates the new lock. Deleting the stale lock instead would let a second process delete the lock
+ * that the first process had just created. The renamed file is kept until the new lock is released
+ * so that a rename from a process that is slow to notice the stale lock still fails.
+ */
+public interface QubCreateProjectLockFile
+{
+    String staleFileExtension = ".stale";
+
+    /**
+     * Try to take the lock that is held by the provided lock file.
+     * @param lockFile The lock file.
+     * @param clock The clock that decides whether an existing lock is stale, or null if existing
+     *              locks are never stale.
+     * @param timeout The age after which an existing lock is stale.
+     * @return Whether the lock was taken.
+     */
+    static boolean tryLock(File lockFile, Clock clock, Duration timeout)
+    {
+        PreCondition.assertNotNull(lockFile, "lockFile");
+        PreCondition.assertNotNull(timeout, "timeout");
+
+        boolean result = QubCreateProjectLockFile.tryCreate(lockFile);
+        if (!result && clock != null)
+        {
+            final DateTime lastModified = lockFile.getLastModified()
+                .catchError(FileNotFoundException.class)
+                .await();
+            if (lastModified != null && lastModified.lessThan(clock.getCurrentDateTime().minus(timeout)))
+            {
+                final boolean renamed = lockFile.rename(QubCreateProjectLockFile.getStaleFileName(lockFile, lastModified))
+                    .then(() -> true)
+                    .catchError(FileNotFoundException.class, () -> false)
+                    .catchError(FileAlreadyExistsException.class, () -> false)
+                    .await();
+                if (renamed)
+                {
+                    result = QubCreateProjectLockFile.tryCreate(lockFile);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Release the lock that is held by the provided lock file, and delete any stale locks that
+     * were taken over while it was held.
+     * @param lockFile The lock file.
+     */
+    static void unlock(File lockFile)
+    {
+        PreCondition.assertNotNull(lockFile, "lockFile");
+
+        final Folder parentFolder = lockFile.getParentFolder().await();
+        final String staleFileNamePrefix = lockFile.getName() + ".";
+        final Iterable<File> staleFiles = parentFolder.getFiles()
+            .catchError(FolderNotFoundException.class, () -> Iterable.create())
+            .await()
+            .where((File file) -> file.getName().startsWith(staleFileNamePrefix) && file.getName().endsWith(QubCreateProjectLockFile.staleFileExtension))
+            .toList();
+        for (final File staleFile : staleFiles)
+        {
+            staleFile.delete().catchError(FileNotFoundException.class).await();
+        }
+        lockFile.delete().catchError(FileNotFoundException.class).await();
+    }
+
+    /**
+     * Get the name that a stale lock with the provided last modified time is renamed to when it is
+     * taken over.
+     * @param lockFile The lock file.
+     * @param lastModified The last modified time of the stale lock.
+     * @return The name that the stale lock is renamed to.
+     */
+    static String getStaleFileName(File lockFile, DateTime lastModified)
+    {
+        PreCondition.assertNotNull(lockFile, "lockFile");
+        PreCondition.assertNotNull(lastModified, "lastModified");
+
+        return lockFile.getName() + "." + lastModified.toString().replaceAll("[^0-9]", "") + QubCreateProjectLockFile.staleFileExtension;
+    }
+
+    private static boolean tryCreate(File lockFile)
+    {
+        return lockFile.create()
+            .then(() -> true)
+            .catchError(FileAlreadyExistsException.class, () -> false)
+            .await();
+    }
+}
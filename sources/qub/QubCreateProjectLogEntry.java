@@ -0,0 +1,291 @@
+package qub;
+
+/**
+ * The index record of a single run's log within a QubCreateProjectLogStore. A record is written as
+ * a single tab-separated line so that a torn write only damages the record that was being
+ * written.
+ */
+public class QubCreateProjectLogEntry
+{
+    private static final String missingValue = "-";
+    private static final int fieldCount = 8;
+
+    private final long sequence;
+    private String timestamp;
+    private String actionName;
+    private String projectFolder;
+    private Integer exitCode;
+    private String logPath;
+    private long offset;
+    private long length;
+
+    private QubCreateProjectLogEntry(long sequence)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(sequence, 1, "sequence");
+
+        this.sequence = sequence;
+    }
+
+    public static QubCreateProjectLogEntry create(long sequence)
+    {
+        return new QubCreateProjectLogEntry(sequence);
+    }
+
+    /**
+     * Get the number of this run. Runs are numbered in the order that they started.
+     * @return The number of this run.
+     */
+    public long getSequence()
+    {
+        return this.sequence;
+    }
+
+    /**
+     * Get the time that this run started, or null if it isn't known.
+     * @return The time that this run started.
+     */
+    public String getTimestamp()
+    {
+        return this.timestamp;
+    }
+
+    public QubCreateProjectLogEntry setTimestamp(String timestamp)
+    {
+        this.timestamp = timestamp;
+        return this;
+    }
+
+    /**
+     * Get the name of the action that this run ran, or null if it isn't known.
+     * @return The name of the action that this run ran.
+     */
+    public String getActionName()
+    {
+        return this.actionName;
+    }
+
+    public QubCreateProjectLogEntry setActionName(String actionName)
+    {
+        this.actionName = actionName;
+        return this;
+    }
+
+    /**
+     * Get the path of the project folder that this run created, or null if this run didn't create
+     * a single project.
+     * @return The path of the project folder that this run created.
+     */
+    public String getProjectFolder()
+    {
+        return this.projectFolder;
+    }
+
+    public QubCreateProjectLogEntry setProjectFolder(String projectFolder)
+    {
+        this.projectFolder = projectFolder;
+        return this;
+    }
+
+    /**
+     * Get the exit code of this run, or null if it isn't known.
+     * @return The exit code of this run.
+     */
+    public Integer getExitCode()
+    {
+        return this.exitCode;
+    }
+
+    public QubCreateProjectLogEntry setExitCode(Integer exitCode)
+    {
+        this.exitCode = exitCode;
+        return this;
+    }
+
+    /**
+     * Get the path, relative to the logs folder, of the file that contains this run's log.
+     * @return The path of the file that contains this run's log.
+     */
+    public String getLogPath()
+    {
+        return this.logPath;
+    }
+
+    public QubCreateProjectLogEntry setLogPath(String logPath)
+    {
+        PreCondition.assertNotNullAndNotEmpty(logPath, "logPath");
+
+        this.logPath = logPath;
+        return this;
+    }
+
+    /**
+     * Get the byte offset of this run's log within its log file.
+     * @return The byte offset of this run's log within its log file.
+     */
+    public long getOffset()
+    {
+        return this.offset;
+    }
+
+    public QubCreateProjectLogEntry setOffset(long offset)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(offset, 0, "offset");
+
+        this.offset = offset;
+        return this;
+    }
+
+    /**
+     * Get the number of bytes in this run's log.
+     * @return The number of bytes in this run's log.
+     */
+    public long getLength()
+    {
+        return this.length;
+    }
+
+    public QubCreateProjectLogEntry setLength(long length)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(length, 0, "length");
+
+        this.length = length;
+        return this;
+    }
+
+    /**
+     * Get the index line that describes this entry. The line doesn't end with a line separator.
+     * @return The index line that describes this entry.
+     */
+    public String toIndexLine()
+    {
+        return this.sequence +
+            "\t" + QubCreateProjectLogEntry.escape(this.timestamp) +
+            "\t" + (this.exitCode == null ? QubCreateProjectLogEntry.missingValue : this.exitCode.toString()) +
+            "\t" + QubCreateProjectLogEntry.escape(this.logPath) +
+            "\t" + this.offset +
+            "\t" + this.length +
+            "\t" + QubCreateProjectLogEntry.escape(this.actionName) +
+            "\t" + QubCreateProjectLogEntry.escape(this.projectFolder);
+    }
+
+    /**
+     * Parse a QubCreateProjectLogEntry from the provided index line.
+     * @param indexLine The index line to parse.
+     * @return The parsed entry, or a ParseException if the line isn't a complete index line.
+     */
+    public static Result<QubCreateProjectLogEntry> parse(String indexLine)
+    {
+        PreCondition.assertNotNull(indexLine, "indexLine");
+
+        return Result.create(() ->
+        {
+            final String[] fields = indexLine.split("\t", -1);
+            if (fields.length != QubCreateProjectLogEntry.fieldCount)
+            {
+                throw new ParseException("Expected " + QubCreateProjectLogEntry.fieldCount + " fields in log index line, but found " + fields.length + ": " + Strings.escapeAndQuote(indexLine));
+            }
+
+            try
+            {
+                final String exitCodeText = fields[2];
+                return QubCreateProjectLogEntry.create(Long.parseLong(fields[0]))
+                    .setTimestamp(QubCreateProjectLogEntry.unescape(fields[1]))
+                    .setExitCode(exitCodeText.equals(QubCreateProjectLogEntry.missingValue) ? null : Integer.valueOf(exitCodeText))
+                    .setLogPath(QubCreateProjectLogEntry.unescape(fields[3]))
+                    .setOffset(Long.parseLong(fields[4]))
+                    .setLength(Long.parseLong(fields[5]))
+                    .setActionName(QubCreateProjectLogEntry.unescape(fields[6]))
+                    .setProjectFolder(QubCreateProjectLogEntry.unescape(fields[7]));
+            }
+            catch (NumberFormatException e)
+            {
+                throw new ParseException("Invalid number in log index line: " + Strings.escapeAndQuote(indexLine));
+            }
+        });
+    }
+
+    private static String escape(String value)
+    {
+        String result;
+        if (value == null)
+        {
+            result = QubCreateProjectLogEntry.missingValue;
+        }
+        else
+        {
+            final StringBuilder builder = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); ++i)
+            {
+                final char c = value.charAt(i);
+                switch (c)
+                {
+                    case '\\':
+                        builder.append("\\\\");
+                        break;
+
+                    case '\t':
+                        builder.append("\\t");
+                        break;
+
+                    case '\n':
+                        builder.append("\\n");
+                        break;
+
+                    case '\r':
+                        builder.append("\\r");
+                        break;
+
+                    default:
+                        builder.append(c);
+                        break;
+                }
+            }
+            result = builder.toString();
+        }
+        return result;
+    }
+
+    private static String unescape(String value)
+    {
+        String result;
+        if (value.equals(QubCreateProjectLogEntry.missingValue))
+        {
+            result = null;
+        }
+        else
+        {
+            final StringBuilder builder = new StringBuilder(value.length());
+            for (int i = 0; i < value.length(); ++i)
+            {
+                char c = value.charAt(i);
+                if (c == '\\' && i + 1 < value.length())
+                {
+                    c = value.charAt(++i);
+                    switch (c)
+                    {
+                        case 't':
+                            c = '\t';
+                            break;
+
+                        case 'n':
+                            c = '\n';
+                            break;
+
+                        case 'r':
+                            c = '\r';
+                            break;
+                    }
+                }
+                builder.append(c);
+            }
+            result = builder.toString();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toIndexLine();
+    }
+}
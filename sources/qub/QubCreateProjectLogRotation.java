@@ -0,0 +1,116 @@
+package qub;
+
+/**
+ * The limits that keep the logs in a project data folder from growing forever. When a
+ * QubCreateProjectLogStore is compacted, its segments are kept under the maximum file size, the
+ * segments whose runs are all older than the maximum age are deleted, and then the oldest
+ * segments are deleted until the store is within its maximum total size.
+ */
+public class QubCreateProjectLogRotation
+{
+    public static final long defaultMaximumFileBytes = 1024L * 1024;
+    public static final long defaultMaximumTotalBytes = 16L * 1024 * 1024;
+    public static final Duration defaultMaximumAge = Duration.days(30);
+
+    private long maximumFileBytes;
+    private long maximumTotalBytes;
+    private Duration maximumAge;
+    private Clock clock;
+
+    private QubCreateProjectLogRotation()
+    {
+        this.setMaximumFileBytes(QubCreateProjectLogRotation.defaultMaximumFileBytes);
+        this.setMaximumTotalBytes(QubCreateProjectLogRotation.defaultMaximumTotalBytes);
+        this.setMaximumAge(QubCreateProjectLogRotation.defaultMaximumAge);
+    }
+
+    public static QubCreateProjectLogRotation create()
+    {
+        return new QubCreateProjectLogRotation();
+    }
+
+    public long getMaximumFileBytes()
+    {
+        return this.maximumFileBytes;
+    }
+
+    public QubCreateProjectLogRotation setMaximumFileBytes(long maximumFileBytes)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(maximumFileBytes, 1, "maximumFileBytes");
+
+        this.maximumFileBytes = maximumFileBytes;
+        return this;
+    }
+
+    public long getMaximumTotalBytes()
+    {
+        return this.maximumTotalBytes;
+    }
+
+    public QubCreateProjectLogRotation setMaximumTotalBytes(long maximumTotalBytes)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(maximumTotalBytes, 1, "maximumTotalBytes");
+
+        this.maximumTotalBytes = maximumTotalBytes;
+        return this;
+    }
+
+    public Duration getMaximumAge()
+    {
+        return this.maximumAge;
+    }
+
+    public QubCreateProjectLogRotation setMaximumAge(Duration maximumAge)
+    {
+        PreCondition.assertNotNull(maximumAge, "maximumAge");
+
+        this.maximumAge = maximumAge;
+        return this;
+    }
+
+    /**
+     * Get the clock that log file ages are measured with.
+     * @return The clock that log file ages are measured with, or null if log files are never
+     * deleted because of their age.
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public QubCreateProjectLogRotation setClock(Clock clock)
+    {
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Get the number of the provided per-run log file (such as "7.log"), or -1 if the file's name
+     * isn't a per-run log file name.
+     * @param file The file to get the log number of.
+     * @return The number of the provided log file.
+     */
+    static int getLogNumber(File file)
+    {
+        PreCondition.assertNotNull(file, "file");
+
+        int result = -1;
+        final String fileName = file.getName();
+        final int logNumberLength = fileName.length() - ".log".length();
+        if (fileName.endsWith(".log") && 1 <= logNumberLength && logNumberLength <= 9)
+        {
+            result = 0;
+            for (int i = 0; i < logNumberLength; ++i)
+            {
+                final char c = fileName.charAt(i);
+                if (c < '0' || '9' < c)
+                {
+                    result = -1;
+                    break;
+                }
+                result = (result * 10) + (c - '0');
+            }
+        }
+        return result;
+    }
+}
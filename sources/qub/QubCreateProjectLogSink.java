@@ -0,0 +1,290 @@
+package qub;
+
+/**
+ * A ByteWriteStream that writes log bytes to a log file without making the writer wait for the
+ * file system. Written bytes are copied into a ring buffer, and a background thread drains the
+ * buffer into the log file in batches. Before it writes anything, the background thread runs an
+ * optional action (such as compacting the log store) so that the action is also kept off of the
+ * writer's thread.
+ * <p>
+ * A writer only waits if the ring buffer is full. Disposing the sink waits until every buffered
+ * byte has been written to the log file.
+ * <p>
+ * A log that can't be written never fails the writer. If the background thread fails, its error is
+ * kept (see getWriterError()) and everything that is written to the sink after that is dropped.
+ */
+public class QubCreateProjectLogSink implements ByteWriteStream
+{
+    public static final int defaultBufferSize = 64 * 1024;
+    public static final long defaultFlushIntervalMilliseconds = 50;
+
+    private final File logFile;
+    private final Action0 backgroundAction;
+    private final long flushIntervalMilliseconds;
+    private final byte[] buffer;
+    private final Thread writerThread;
+
+    private int bufferStart;
+    private int bufferCount;
+    private boolean disposed;
+    private Throwable writerError;
+
+    private ByteWriteStream logFileStream;
+    private long bytesWritten;
+    private long batchCount;
+
+    private QubCreateProjectLogSink(File logFile, Action0 backgroundAction, int bufferSize, long flushIntervalMilliseconds)
+    {
+        PreCondition.assertNotNull(logFile, "logFile");
+        PreCondition.assertNotNull(backgroundAction, "backgroundAction");
+        PreCondition.assertGreaterThanOrEqualTo(bufferSize, 1, "bufferSize");
+        PreCondition.assertGreaterThanOrEqualTo(flushIntervalMilliseconds, 1, "flushIntervalMilliseconds");
+
+        this.logFile = logFile;
+        this.backgroundAction = backgroundAction;
+        this.flushIntervalMilliseconds = flushIntervalMilliseconds;
+        this.buffer = new byte[bufferSize];
+
+        this.writerThread = new Thread(this::runWriter, "qub-createproject-log-writer");
+        this.writerThread.setDaemon(true);
+        this.writerThread.start();
+    }
+
+    /**
+     * Create a new log sink that writes to the provided log file.
+     * @param logFile The file that the log is written to.
+     * @return The new log sink.
+     */
+    public static QubCreateProjectLogSink create(File logFile)
+    {
+        return QubCreateProjectLogSink.create(logFile, () -> {});
+    }
+
+    /**
+     * Create a new log sink that writes to the provided log file.
+     * @param logFile The file that the log is written to.
+     * @param backgroundAction The action that the background thread will run before it writes
+     *                         anything to the log file.
+     * @return The new log sink.
+     */
+    public static QubCreateProjectLogSink create(File logFile, Action0 backgroundAction)
+    {
+        return QubCreateProjectLogSink.create(logFile, backgroundAction, QubCreateProjectLogSink.defaultBufferSize, QubCreateProjectLogSink.defaultFlushIntervalMilliseconds);
+    }
+
+    /**
+     * Create a new log sink that writes to the provided log file.
+     * @param logFile The file that the log is written to.
+     * @param backgroundAction The action that the background thread will run before it writes
+     *                         anything to the log file.
+     * @param bufferSize The number of bytes that can be buffered before a writer has to wait.
+     * @param flushIntervalMilliseconds The longest time that buffered bytes wait before they are
+     *                                  written to the log file.
+     * @return The new log sink.
+     */
+    public static QubCreateProjectLogSink create(File logFile, Action0 backgroundAction, int bufferSize, long flushIntervalMilliseconds)
+    {
+        return new QubCreateProjectLogSink(logFile, backgroundAction, bufferSize, flushIntervalMilliseconds);
+    }
+
+    /**
+     * Get the log file that this sink writes to.
+     * @return The log file that this sink writes to.
+     */
+    public File getLogFile()
+    {
+        return this.logFile;
+    }
+
+    /**
+     * Get the number of bytes that have been written to this sink.
+     * @return The number of bytes that have been written to this sink.
+     */
+    public synchronized long getBytesWritten()
+    {
+        return this.bytesWritten;
+    }
+
+    /**
+     * Get the number of batches that the background thread has written to the log file.
+     * @return The number of batches that the background thread has written to the log file.
+     */
+    public synchronized long getBatchCount()
+    {
+        return this.batchCount;
+    }
+
+    /**
+     * Get the error that stopped the background thread from writing to the log file, if there is
+     * one.
+     * @return The error that stopped the background thread, or null if it hasn't failed.
+     */
+    public synchronized Throwable getWriterError()
+    {
+        return this.writerError;
+    }
+
+    @Override
+    public Result<Integer> write(byte toWrite)
+    {
+        return this.write(new byte[] { toWrite }, 0, 1);
+    }
+
+    @Override
+    public Result<Integer> write(byte[] toWrite, int startIndex, int length)
+    {
+        PreCondition.assertNotNull(toWrite, "toWrite");
+        PreCondition.assertBetween(0, startIndex, toWrite.length, "startIndex");
+        PreCondition.assertBetween(0, length, toWrite.length - startIndex, "length");
+        PreCondition.assertFalse(this.isDisposed(), "this.isDisposed()");
+
+        return Result.create(() ->
+        {
+            synchronized (this)
+            {
+                int written = 0;
+                while (written < length)
+                {
+                    while (this.bufferCount == this.buffer.length && this.writerError == null)
+                    {
+                        this.notifyAll();
+                        QubCreateProjectLogSink.waitFor(this, 0);
+                    }
+                    if (this.writerError != null)
+                    {
+                        // Nothing will ever drain the buffer again, so drop the rest of the bytes.
+                        return length;
+                    }
+
+                    final int bufferEnd = (this.bufferStart + this.bufferCount) % this.buffer.length;
+                    final int copyLength = Math.min(length - written, Math.min(this.buffer.length - this.bufferCount, this.buffer.length - bufferEnd));
+                    System.arraycopy(toWrite, startIndex + written, this.buffer, bufferEnd, copyLength);
+                    this.bufferCount += copyLength;
+                    written += copyLength;
+                }
+                this.bytesWritten += length;
+
+                // Only wake up the writer early if the buffer is getting full. Otherwise the
+                // writer wakes up on its own and writes everything that was buffered as one batch.
+                if (this.bufferCount >= this.buffer.length / 2)
+                {
+                    this.notifyAll();
+                }
+                return length;
+            }
+        });
+    }
+
+    @Override
+    public synchronized boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(() ->
+        {
+            boolean result;
+            synchronized (this)
+            {
+                result = !this.disposed;
+                this.disposed = true;
+                this.notifyAll();
+            }
+
+            if (result)
+            {
+                try
+                {
+                    this.writerThread.join();
+                }
+                catch (InterruptedException e)
+                {
+                    throw Exceptions.asRuntime(e);
+                }
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Wait on the provided lock's monitor, which must already be held by the current thread.
+     * @param lock The object whose monitor will be waited on.
+     * @param timeoutMilliseconds The longest time to wait, or 0 to wait until notified.
+     */
+    private static void waitFor(Object lock, long timeoutMilliseconds)
+    {
+        try
+        {
+            lock.wait(timeoutMilliseconds);
+        }
+        catch (InterruptedException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+
+    private void runWriter()
+    {
+        try
+        {
+            this.backgroundAction.run();
+
+            final byte[] batch = new byte[this.buffer.length];
+            while (true)
+            {
+                int batchLength;
+                synchronized (this)
+                {
+                    if (this.bufferCount == 0 && !this.disposed)
+                    {
+                        QubCreateProjectLogSink.waitFor(this, this.flushIntervalMilliseconds);
+                    }
+                    if (this.bufferCount == 0 && this.disposed)
+                    {
+                        break;
+                    }
+
+                    batchLength = this.bufferCount;
+                    final int firstLength = Math.min(batchLength, this.buffer.length - this.bufferStart);
+                    System.arraycopy(this.buffer, this.bufferStart, batch, 0, firstLength);
+                    System.arraycopy(this.buffer, 0, batch, firstLength, batchLength - firstLength);
+                    this.bufferStart = (this.bufferStart + batchLength) % this.buffer.length;
+                    this.bufferCount = 0;
+                    this.notifyAll();
+                }
+
+                if (batchLength > 0)
+                {
+                    if (this.logFileStream == null)
+                    {
+                        this.logFileStream = this.logFile.getContentsByteWriteStream().await();
+                    }
+                    this.logFileStream.writeAll(batch, 0, batchLength).await();
+                    synchronized (this)
+                    {
+                        ++this.batchCount;
+                    }
+                }
+            }
+        }
+        catch (Throwable error)
+        {
+            synchronized (this)
+            {
+                this.writerError = error;
+                this.notifyAll();
+            }
+        }
+        finally
+        {
+            if (this.logFileStream != null)
+            {
+                this.logFileStream.dispose().await();
+                this.logFileStream = null;
+            }
+        }
+    }
+}
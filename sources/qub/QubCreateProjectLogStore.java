@@ -0,0 +1,750 @@
+package qub;
+
+/**
+ * The logs of previous runs, stored so that finding and reading a run's log doesn't depend on how
+ * many runs there have been. The logs folder is laid out like this:
+ * <pre>
+ *   pending/&lt;sequence&gt;.log         The log of a single run that hasn't been compacted yet.
+ *   pending/&lt;sequence&gt;.entry       The index line of a finished run that hasn't been compacted yet.
+ *   segments/&lt;first&gt;-&lt;last&gt;.log    The logs of many runs, one after another.
+ *   segments/&lt;first&gt;-&lt;last&gt;.tsv    The index lines of the runs in the segment with the same name.
+ *   sequence.txt                The largest sequence of a run that has been started.
+ *   &lt;number&gt;.log                A log that was written before this store existed.
+ * </pre>
+ * Compacting the store moves the logs of finished pending runs and older per-run log files into
+ * segment files, writes each new segment's index lines next to it, and then deletes the segments
+ * that are too old or that make the store too large. A compaction never rewrites the index lines of
+ * the runs that were already compacted. Each segment's index ends with a line that counts its
+ * entries, so a segment whose index was only partially written is ignored and its runs are
+ * compacted again.
+ */
+public class QubCreateProjectLogStore
+{
+    public static final String pendingFolderName = "pending";
+    public static final String segmentsFolderName = "segments";
+    public static final String sequenceFileName = "sequence.txt";
+    public static final String lockFileName = "compact.lock";
+    public static final int defaultCompactionThreshold = 32;
+    public static final Duration lockTimeout = Duration.minutes(10);
+
+    private static final String segmentLogFileExtension = ".log";
+    private static final String segmentIndexFileExtension = ".tsv";
+    private static final String indexTrailerPrefix = "# entries: ";
+
+    private final Folder logsFolder;
+    private final QubCreateProjectLogRotation rotation;
+    private int compactionThreshold;
+
+    private QubCreateProjectLogStore(Folder logsFolder, QubCreateProjectLogRotation rotation)
+    {
+        PreCondition.assertNotNull(logsFolder, "logsFolder");
+        PreCondition.assertNotNull(rotation, "rotation");
+
+        this.logsFolder = logsFolder;
+        this.rotation = rotation;
+        this.setCompactionThreshold(QubCreateProjectLogStore.defaultCompactionThreshold);
+    }
+
+    public static QubCreateProjectLogStore create(Folder logsFolder, QubCreateProjectLogRotation rotation)
+    {
+        return new QubCreateProjectLogStore(logsFolder, rotation);
+    }
+
+    public Folder getLogsFolder()
+    {
+        return this.logsFolder;
+    }
+
+    public QubCreateProjectLogRotation getRotation()
+    {
+        return this.rotation;
+    }
+
+    /**
+     * Get the number of finished pending runs that there must be before compactIfNeeded() will
+     * compact this store.
+     * @return The number of finished pending runs that there must be before this store is
+     * compacted.
+     */
+    public int getCompactionThreshold()
+    {
+        return this.compactionThreshold;
+    }
+
+    public QubCreateProjectLogStore setCompactionThreshold(int compactionThreshold)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(compactionThreshold, 1, "compactionThreshold");
+
+        this.compactionThreshold = compactionThreshold;
+        return this;
+    }
+
+    private Folder getPendingFolder()
+    {
+        return this.logsFolder.getFolder(QubCreateProjectLogStore.pendingFolderName).await();
+    }
+
+    private Folder getSegmentsFolder()
+    {
+        return this.logsFolder.getFolder(QubCreateProjectLogStore.segmentsFolderName).await();
+    }
+
+    private String getCurrentTimestamp()
+    {
+        final Clock clock = this.rotation.getClock();
+        return clock == null ? null : clock.getCurrentDateTime().toString();
+    }
+
+    /**
+     * Start a new run. This creates the run's empty pending log file and returns the entry that
+     * describes it. The entry's length and exit code should be set when the run finishes, and then
+     * the entry should be passed to finishRun().
+     * @param actionName The name of the action that the run is running.
+     * @return The entry that describes the new run.
+     */
+    public Result<QubCreateProjectLogEntry> startRun(String actionName)
+    {
+        PreCondition.assertNotNullAndNotEmpty(actionName, "actionName");
+
+        return Result.create(() ->
+        {
+            // The sequence file means that a run doesn't have to list the logs folders to find the
+            // largest sequence. It is only a hint, because two runs that start at the same time can
+            // write it out of order. If a run reuses the sequence of a run that was already
+            // compacted, then the run is given a new sequence when it is compacted.
+            long sequence = this.readSequenceFile();
+            if (sequence == -1)
+            {
+                sequence = this.findLastSequence();
+            }
+
+            // Creating the pending log file fails if another process has already started a run
+            // with the same sequence, so each run gets its own sequence.
+            final Folder pendingFolder = this.getPendingFolder();
+            File pendingLogFile;
+            while (true)
+            {
+                ++sequence;
+                pendingLogFile = pendingFolder.getFile(sequence + ".log").await();
+                final boolean created = pendingLogFile.create()
+                    .then(() -> true)
+                    .catchError(FileAlreadyExistsException.class, () -> false)
+                    .await();
+                if (created)
+                {
+                    break;
+                }
+            }
+            this.writeSequenceFile(sequence);
+
+            return QubCreateProjectLogEntry.create(sequence)
+                .setTimestamp(this.getCurrentTimestamp())
+                .setActionName(actionName)
+                .setLogPath(QubCreateProjectLogStore.pendingFolderName + "/" + pendingLogFile.getName());
+        });
+    }
+
+    /**
+     * Record that the run that is described by the provided entry has finished.
+     * @param entry The entry that describes the finished run.
+     * @return The result of recording the finished run.
+     */
+    public Result<Void> finishRun(QubCreateProjectLogEntry entry)
+    {
+        PreCondition.assertNotNull(entry, "entry");
+
+        return Result.create(() ->
+        {
+            this.getPendingFolder().setFileContentsAsString(entry.getSequence() + ".entry", entry.toIndexLine() + "\n").await();
+        });
+    }
+
+    /**
+     * Get the entries of every finished run in this store, ordered from oldest to newest.
+     * @return The entries of every finished run in this store.
+     */
+    public Result<Iterable<QubCreateProjectLogEntry>> getEntries()
+    {
+        return Result.create(() ->
+        {
+            final List<QubCreateProjectLogEntry> result = List.create();
+            result.addAll(this.readIndex());
+            result.addAll(this.getPendingEntries());
+            result.addAll(this.getLegacyEntries());
+            return QubCreateProjectLogStore.sortBySequence(result);
+        });
+    }
+
+    /**
+     * Get the log text of the run that is described by the provided entry.
+     * @param entry The entry that describes the run.
+     * @return The log text of the run.
+     */
+    public Result<String> getLogText(QubCreateProjectLogEntry entry)
+    {
+        PreCondition.assertNotNull(entry, "entry");
+
+        return Result.create(() ->
+        {
+            final byte[] logBytes = this.logsFolder.getFile(entry.getLogPath()).await().getContents().await();
+            final int offset = (int)Math.min(entry.getOffset(), logBytes.length);
+            final int length = (int)Math.min(entry.getLength(), logBytes.length - offset);
+            return new String(logBytes, offset, length, java.nio.charset.StandardCharsets.UTF_8);
+        });
+    }
+
+    /**
+     * Compact this store if there are at least getCompactionThreshold() finished pending runs or if
+     * there are any logs that were written before this store existed.
+     * @return The number of runs that were moved into segments.
+     */
+    public Result<Integer> compactIfNeeded()
+    {
+        return Result.create(() ->
+        {
+            int result = 0;
+            final Iterable<File> pendingFiles = QubCreateProjectLogStore.getFiles(this.getPendingFolder());
+            final int finishedRunCount = pendingFiles.where((File file) -> file.getName().endsWith(".entry")).getCount();
+            if (finishedRunCount >= this.compactionThreshold || this.getLegacyLogFiles().any())
+            {
+                result = this.compact().await();
+            }
+            return result;
+        });
+    }
+
+    /**
+     * Move the logs of every finished pending run and every log that was written before this store
+     * existed into segments, and then delete the segments that are too old or that make this
+     * store too large. If another process is already compacting this store, then this does
+     * nothing.
+     * @return The number of runs that were moved into segments.
+     */
+    public Result<Integer> compact()
+    {
+        return Result.create(() ->
+        {
+            int result = 0;
+            final File lockFile = this.logsFolder.getFile(QubCreateProjectLogStore.lockFileName).await();
+            if (QubCreateProjectLockFile.tryLock(lockFile, this.rotation.getClock(), QubCreateProjectLogStore.lockTimeout))
+            {
+                try
+                {
+                    result = this.compactRuns();
+                    this.applyRetention();
+                }
+                finally
+                {
+                    QubCreateProjectLockFile.unlock(lockFile);
+                }
+            }
+            return result;
+        });
+    }
+
+    private int compactRuns()
+    {
+        final List<QubCreateProjectLogEntry> runs = List.create();
+        runs.addAll(this.getPendingEntries());
+        runs.addAll(this.getLegacyEntries());
+        final Iterable<QubCreateProjectLogEntry> sortedRuns = QubCreateProjectLogStore.sortBySequence(runs);
+
+        final Folder segmentsFolder = this.getSegmentsFolder();
+        final Map<Long,QubCreateProjectLogEntry> indexedRuns = QubCreateProjectLogStore.readIndexedRuns(segmentsFolder, sortedRuns);
+
+        // A run that is already in the index was compacted by a compaction that stopped before it
+        // deleted the run's pending files, so only its pending files are deleted. A different run
+        // with the same sequence started from an out of date sequence file, so it is given a new
+        // sequence after every other run instead.
+        final List<QubCreateProjectLogEntry> runsToCompact = List.create();
+        final List<QubCreateProjectLogEntry> resequencedRuns = List.create();
+        long lastSequence = -1;
+        for (final QubCreateProjectLogEntry run : sortedRuns)
+        {
+            if (!indexedRuns.containsKey(run.getSequence()))
+            {
+                runsToCompact.add(QubCreateProjectLogStore.copyRun(run, run.getSequence()));
+            }
+            else if (!QubCreateProjectLogStore.isSameRun(indexedRuns.get(run.getSequence()).await(), run))
+            {
+                if (lastSequence == -1)
+                {
+                    lastSequence = Math.max(this.readSequenceFile(), this.findLastSequence());
+                }
+                ++lastSequence;
+                resequencedRuns.add(QubCreateProjectLogStore.copyRun(run, lastSequence));
+            }
+        }
+        if (resequencedRuns.any())
+        {
+            runsToCompact.addAll(resequencedRuns);
+            this.writeSequenceFile(lastSequence);
+        }
+
+        final List<QubCreateProjectLogEntry> compactedRuns = List.create();
+        final List<QubCreateProjectLogEntry> segmentRuns = List.create();
+        final java.io.ByteArrayOutputStream segmentBytes = new java.io.ByteArrayOutputStream();
+        for (final QubCreateProjectLogEntry run : runsToCompact)
+        {
+            final byte[] runBytes = this.getLogText(run).await().getBytes(java.nio.charset.StandardCharsets.UTF_8);
+            if (segmentRuns.any() && segmentBytes.size() + runBytes.length > this.rotation.getMaximumFileBytes())
+            {
+                compactedRuns.addAll(QubCreateProjectLogStore.writeSegment(segmentsFolder, segmentRuns, segmentBytes.toByteArray()));
+                segmentRuns.clear();
+                segmentBytes.reset();
+            }
+
+            segmentRuns.add(run
+                .setOffset(segmentBytes.size())
+                .setLength(runBytes.length));
+            segmentBytes.write(runBytes, 0, runBytes.length);
+        }
+        if (segmentRuns.any())
+        {
+            compactedRuns.addAll(QubCreateProjectLogStore.writeSegment(segmentsFolder, segmentRuns, segmentBytes.toByteArray()));
+        }
+
+        // Every segment's index has been written before any of the pending files are deleted. If
+        // this compaction stops before it deletes them, then the next compaction finds their
+        // sequences in the index and doesn't add them again.
+        for (final QubCreateProjectLogEntry run : sortedRuns)
+        {
+            this.logsFolder.getFile(run.getLogPath()).await().delete().catchError(FileNotFoundException.class).await();
+            if (run.getLogPath().startsWith(QubCreateProjectLogStore.pendingFolderName + "/"))
+            {
+                this.getPendingFolder().getFile(run.getSequence() + ".entry").await().delete().catchError(FileNotFoundException.class).await();
+            }
+        }
+
+        return compactedRuns.getCount();
+    }
+
+    private static QubCreateProjectLogEntry copyRun(QubCreateProjectLogEntry run, long sequence)
+    {
+        return QubCreateProjectLogEntry.create(sequence)
+            .setTimestamp(run.getTimestamp())
+            .setActionName(run.getActionName())
+            .setProjectFolder(run.getProjectFolder())
+            .setExitCode(run.getExitCode())
+            .setLogPath(run.getLogPath())
+            .setOffset(run.getOffset())
+            .setLength(run.getLength());
+    }
+
+    private static boolean isSameRun(QubCreateProjectLogEntry indexedRun, QubCreateProjectLogEntry run)
+    {
+        return java.util.Objects.equals(indexedRun.getTimestamp(), run.getTimestamp()) &&
+            java.util.Objects.equals(indexedRun.getActionName(), run.getActionName()) &&
+            java.util.Objects.equals(indexedRun.getProjectFolder(), run.getProjectFolder()) &&
+            java.util.Objects.equals(indexedRun.getExitCode(), run.getExitCode()) &&
+            indexedRun.getLength() == run.getLength();
+    }
+
+    /**
+     * Read the indexed runs of the segments whose sequences overlap the provided runs. A segment
+     * whose index is missing or was only partially written is deleted, because the runs in it
+     * are still pending.
+     * @param segmentsFolder The segments folder.
+     * @param runs The runs to look for.
+     * @return The indexed runs, by sequence.
+     */
+    private static Map<Long,QubCreateProjectLogEntry> readIndexedRuns(Folder segmentsFolder, Iterable<QubCreateProjectLogEntry> runs)
+    {
+        final Map<Long,QubCreateProjectLogEntry> result = Map.create();
+        final Iterable<File> segmentFiles = QubCreateProjectLogStore.getFiles(segmentsFolder);
+        final Set<String> segmentFileNames = Set.create();
+        segmentFileNames.addAll(segmentFiles.map(File::getName));
+        for (final File segmentFile : segmentFiles)
+        {
+            final String segmentName = QubCreateProjectLogStore.getSegmentName(segmentFile);
+            if (segmentName != null)
+            {
+                final File segmentLogFile = segmentsFolder.getFile(segmentName + QubCreateProjectLogStore.segmentLogFileExtension).await();
+                if (segmentFile.getName().endsWith(QubCreateProjectLogStore.segmentLogFileExtension))
+                {
+                    if (!segmentFileNames.contains(segmentName + QubCreateProjectLogStore.segmentIndexFileExtension))
+                    {
+                        segmentLogFile.delete().catchError(FileNotFoundException.class).await();
+                    }
+                }
+                else
+                {
+                    final long firstSequence = QubCreateProjectLogStore.getSegmentFirstSequence(segmentFile);
+                    final long lastSequence = QubCreateProjectLogStore.getSegmentLastSequence(segmentFile);
+                    if (runs.where((QubCreateProjectLogEntry run) -> firstSequence <= run.getSequence() && run.getSequence() <= lastSequence).any())
+                    {
+                        final Iterable<QubCreateProjectLogEntry> segmentRuns = QubCreateProjectLogStore.readSegmentIndex(segmentFile);
+                        if (segmentRuns == null)
+                        {
+                            segmentFile.delete().catchError(FileNotFoundException.class).await();
+                            segmentLogFile.delete().catchError(FileNotFoundException.class).await();
+                        }
+                        else
+                        {
+                            for (final QubCreateProjectLogEntry segmentRun : segmentRuns)
+                            {
+                                result.set(segmentRun.getSequence(), segmentRun);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    private static Iterable<QubCreateProjectLogEntry> writeSegment(Folder segmentsFolder, Iterable<QubCreateProjectLogEntry> segmentRuns, byte[] segmentBytes)
+    {
+        final String segmentName = segmentRuns.first().getSequence() + "-" + segmentRuns.last().getSequence();
+        segmentsFolder.setFileContents(segmentName + QubCreateProjectLogStore.segmentLogFileExtension, segmentBytes).await();
+
+        final String segmentLogPath = QubCreateProjectLogStore.segmentsFolderName + "/" + segmentName + QubCreateProjectLogStore.segmentLogFileExtension;
+        final Iterable<QubCreateProjectLogEntry> result = segmentRuns.map((QubCreateProjectLogEntry run) -> run.setLogPath(segmentLogPath)).toList();
+
+        // The index is written after the log, so a segment that has a complete index always has
+        // a complete log.
+        final StringBuilder indexText = new StringBuilder();
+        for (final QubCreateProjectLogEntry run : result)
+        {
+            indexText.append(run.toIndexLine()).append('\n');
+        }
+        indexText.append(QubCreateProjectLogStore.indexTrailerPrefix).append(result.getCount()).append('\n');
+        segmentsFolder.setFileContentsAsString(segmentName + QubCreateProjectLogStore.segmentIndexFileExtension, indexText.toString()).await();
+
+        return result;
+    }
+
+    private void applyRetention()
+    {
+        final Iterable<QubCreateProjectLogEntry> indexEntries = this.readIndex();
+
+        // Group the index entries by segment. The segments are in the same order as the entries,
+        // so the first segment is the oldest.
+        final List<String> segmentLogPaths = List.create();
+        final Map<String,Long> segmentBytes = Map.create();
+        final Map<String,Boolean> segmentIsOld = Map.create();
+        final Clock clock = this.rotation.getClock();
+        final DateTime oldestAllowed = clock == null ? null : clock.getCurrentDateTime().minus(this.rotation.getMaximumAge());
+        long totalBytes = 0;
+        for (final QubCreateProjectLogEntry entry : indexEntries)
+        {
+            final String logPath = entry.getLogPath();
+            if (!segmentBytes.containsKey(logPath))
+            {
+                segmentLogPaths.add(logPath);
+                segmentBytes.set(logPath, 0L);
+                segmentIsOld.set(logPath, true);
+            }
+            segmentBytes.set(logPath, segmentBytes.get(logPath).await() + entry.getLength());
+            totalBytes += entry.getLength();
+            if (!QubCreateProjectLogStore.isOlderThan(entry, oldestAllowed))
+            {
+                segmentIsOld.set(logPath, false);
+            }
+        }
+
+        final Set<String> deletedLogPaths = Set.create();
+        for (final String logPath : segmentLogPaths)
+        {
+            if (totalBytes > this.rotation.getMaximumTotalBytes() || segmentIsOld.get(logPath).await())
+            {
+                deletedLogPaths.add(logPath);
+                totalBytes -= segmentBytes.get(logPath).await();
+            }
+        }
+
+        // A segment's index is deleted before its log, so a segment that is only partially
+        // deleted is never read.
+        for (final String logPath : deletedLogPaths)
+        {
+            final File segmentLogFile = this.logsFolder.getFile(logPath).await();
+            final String segmentName = QubCreateProjectLogStore.getSegmentName(segmentLogFile);
+            if (segmentName != null)
+            {
+                segmentLogFile.getParentFolder().await().getFile(segmentName + QubCreateProjectLogStore.segmentIndexFileExtension).await()
+                    .delete().catchError(FileNotFoundException.class).await();
+            }
+            segmentLogFile.delete().catchError(FileNotFoundException.class).await();
+        }
+
+        // A pending log without an entry belongs to a run that is still running or to a run that
+        // stopped before it finished. Once it is too old, it must be the second kind.
+        if (oldestAllowed != null)
+        {
+            final Iterable<File> pendingFiles = QubCreateProjectLogStore.getFiles(this.getPendingFolder());
+            final Set<String> pendingFileNames = Set.create();
+            pendingFileNames.addAll(pendingFiles.map(File::getName));
+            for (final File pendingFile : pendingFiles)
+            {
+                final long sequence = QubCreateProjectLogStore.getPendingSequence(pendingFile);
+                if (pendingFile.getName().endsWith(".log") &&
+                    !pendingFileNames.contains(sequence + ".entry") &&
+                    pendingFile.getLastModified().await().lessThan(oldestAllowed))
+                {
+                    pendingFile.delete().catchError(FileNotFoundException.class).await();
+                }
+            }
+        }
+    }
+
+    private static boolean isOlderThan(QubCreateProjectLogEntry entry, DateTime oldestAllowed)
+    {
+        boolean result = false;
+        final String timestamp = entry.getTimestamp();
+        if (oldestAllowed != null && timestamp != null)
+        {
+            final DateTime entryDateTime = DateTime.parse(timestamp).catchError().await();
+            result = entryDateTime != null && entryDateTime.lessThan(oldestAllowed);
+        }
+        return result;
+    }
+
+    /**
+     * Read the entries of every segment whose index was completely written.
+     * @return The entries of every compacted run, ordered from oldest to newest.
+     */
+    private Iterable<QubCreateProjectLogEntry> readIndex()
+    {
+        final List<QubCreateProjectLogEntry> result = List.create();
+        for (final File segmentFile : QubCreateProjectLogStore.getFiles(this.getSegmentsFolder()))
+        {
+            if (segmentFile.getName().endsWith(QubCreateProjectLogStore.segmentIndexFileExtension))
+            {
+                final Iterable<QubCreateProjectLogEntry> segmentRuns = QubCreateProjectLogStore.readSegmentIndex(segmentFile);
+                if (segmentRuns != null)
+                {
+                    result.addAll(segmentRuns);
+                }
+            }
+        }
+        return QubCreateProjectLogStore.sortBySequence(result);
+    }
+
+    private static Iterable<QubCreateProjectLogEntry> readSegmentIndex(File segmentIndexFile)
+    {
+        final String indexText = segmentIndexFile.getContentsAsString()
+            .catchError(FileNotFoundException.class, () -> "")
+            .await();
+        return QubCreateProjectLogStore.parseSegmentIndex(indexText);
+    }
+
+    /**
+     * Parse the provided segment index text.
+     * @param indexText The text of a segment's index.
+     * @return The entries in the index, or null if the index doesn't end with a trailer that
+     * matches the number of entries.
+     */
+    static Iterable<QubCreateProjectLogEntry> parseSegmentIndex(String indexText)
+    {
+        PreCondition.assertNotNull(indexText, "indexText");
+
+        final List<QubCreateProjectLogEntry> result = List.create();
+        boolean complete = false;
+        for (final String indexLine : Strings.getLines(indexText))
+        {
+            if (indexLine.startsWith(QubCreateProjectLogStore.indexTrailerPrefix))
+            {
+                final String countText = indexLine.substring(QubCreateProjectLogStore.indexTrailerPrefix.length());
+                complete = countText.equals(Integer.toString(result.getCount())) && indexText.endsWith("\n");
+                break;
+            }
+
+            final QubCreateProjectLogEntry entry = QubCreateProjectLogEntry.parse(indexLine)
+                .catchError(ParseException.class)
+                .await();
+            if (entry == null)
+            {
+                break;
+            }
+            result.add(entry);
+        }
+        return complete ? result : null;
+    }
+
+    /**
+     * Get the largest sequence in the sequence file, or -1 if the sequence file doesn't exist or
+     * can't be parsed.
+     * @return The largest sequence in the sequence file.
+     */
+    private long readSequenceFile()
+    {
+        final String sequenceText = this.logsFolder.getFile(QubCreateProjectLogStore.sequenceFileName).await()
+            .getContentsAsString()
+            .catchError(FileNotFoundException.class, () -> "")
+            .await();
+        return QubCreateProjectLogStore.parseSequence(sequenceText.trim());
+    }
+
+    private void writeSequenceFile(long sequence)
+    {
+        // A run doesn't fail because the hint couldn't be written.
+        this.logsFolder.setFileContentsAsString(QubCreateProjectLogStore.sequenceFileName, Long.toString(sequence))
+            .catchError()
+            .await();
+    }
+
+    /**
+     * Find the largest sequence of any run in this store by listing the logs folders.
+     * @return The largest sequence of any run in this store, or 0 if there are no runs.
+     */
+    private long findLastSequence()
+    {
+        long result = 0;
+        for (final File legacyLogFile : this.getLegacyLogFiles())
+        {
+            result = Math.max(result, QubCreateProjectLogRotation.getLogNumber(legacyLogFile));
+        }
+        for (final File pendingFile : QubCreateProjectLogStore.getFiles(this.getPendingFolder()))
+        {
+            result = Math.max(result, QubCreateProjectLogStore.getPendingSequence(pendingFile));
+        }
+        for (final File segmentFile : QubCreateProjectLogStore.getFiles(this.getSegmentsFolder()))
+        {
+            result = Math.max(result, QubCreateProjectLogStore.getSegmentLastSequence(segmentFile));
+        }
+        return result;
+    }
+
+    private Iterable<QubCreateProjectLogEntry> getPendingEntries()
+    {
+        final List<QubCreateProjectLogEntry> result = List.create();
+        for (final File pendingFile : QubCreateProjectLogStore.getFiles(this.getPendingFolder()))
+        {
+            if (pendingFile.getName().endsWith(".entry"))
+            {
+                final QubCreateProjectLogEntry entry = QubCreateProjectLogEntry.parse(pendingFile.getContentsAsString().await().trim())
+                    .catchError(ParseException.class)
+                    .await();
+                if (entry != null)
+                {
+                    result.add(entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    private Iterable<File> getLegacyLogFiles()
+    {
+        return QubCreateProjectLogStore.getFiles(this.logsFolder)
+            .where((File file) -> QubCreateProjectLogRotation.getLogNumber(file) != -1)
+            .toList();
+    }
+
+    private Iterable<QubCreateProjectLogEntry> getLegacyEntries()
+    {
+        final List<QubCreateProjectLogEntry> result = List.create();
+        for (final File legacyLogFile : this.getLegacyLogFiles())
+        {
+            result.add(QubCreateProjectLogEntry.create(QubCreateProjectLogRotation.getLogNumber(legacyLogFile))
+                .setTimestamp(legacyLogFile.getLastModified().await().toString())
+                .setLogPath(legacyLogFile.getName())
+                .setLength(legacyLogFile.getContentsByteCount().await()));
+        }
+        return result;
+    }
+
+    private static Iterable<File> getFiles(Folder folder)
+    {
+        return folder.getFiles()
+            .catchError(FolderNotFoundException.class, () -> Iterable.create())
+            .await();
+    }
+
+    /**
+     * Get the sequence of the provided pending file, or -1 if it isn't a pending file.
+     * @param pendingFile The pending file.
+     * @return The sequence of the provided pending file.
+     */
+    static long getPendingSequence(File pendingFile)
+    {
+        PreCondition.assertNotNull(pendingFile, "pendingFile");
+
+        final String fileName = pendingFile.getName();
+        final int extensionIndex = fileName.lastIndexOf('.');
+        return extensionIndex <= 0 ? -1 : QubCreateProjectLogStore.parseSequence(fileName.substring(0, extensionIndex));
+    }
+
+    /**
+     * Get the name of the provided segment log or index file without its extension, or null if it
+     * isn't a segment file.
+     * @param segmentFile The segment file.
+     * @return The name of the provided segment file without its extension.
+     */
+    static String getSegmentName(File segmentFile)
+    {
+        PreCondition.assertNotNull(segmentFile, "segmentFile");
+
+        String result = null;
+        final String fileName = segmentFile.getName();
+        if (fileName.endsWith(QubCreateProjectLogStore.segmentLogFileExtension) || fileName.endsWith(QubCreateProjectLogStore.segmentIndexFileExtension))
+        {
+            final String segmentName = fileName.substring(0, fileName.lastIndexOf('.'));
+            final int dashIndex = segmentName.indexOf('-');
+            if (dashIndex > 0 &&
+                QubCreateProjectLogStore.parseSequence(segmentName.substring(0, dashIndex)) != -1 &&
+                QubCreateProjectLogStore.parseSequence(segmentName.substring(dashIndex + 1)) != -1)
+            {
+                result = segmentName;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the sequence of the first run in the provided segment file, or -1 if it isn't a segment
+     * file.
+     * @param segmentFile The segment file.
+     * @return The sequence of the first run in the provided segment file.
+     */
+    static long getSegmentFirstSequence(File segmentFile)
+    {
+        final String segmentName = QubCreateProjectLogStore.getSegmentName(segmentFile);
+        return segmentName == null
+            ? -1
+            : QubCreateProjectLogStore.parseSequence(segmentName.substring(0, segmentName.indexOf('-')));
+    }
+
+    /**
+     * Get the sequence of the last run in the provided segment file, or -1 if it isn't a segment
+     * file.
+     * @param segmentFile The segment file.
+     * @return The sequence of the last run in the provided segment file.
+     */
+    static long getSegmentLastSequence(File segmentFile)
+    {
+        final String segmentName = QubCreateProjectLogStore.getSegmentName(segmentFile);
+        return segmentName == null
+            ? -1
+            : QubCreateProjectLogStore.parseSequence(segmentName.substring(segmentName.indexOf('-') + 1));
+    }
+
+    private static long parseSequence(String text)
+    {
+        long result;
+        try
+        {
+            result = Long.parseLong(text);
+        }
+        catch (NumberFormatException e)
+        {
+            result = -1;
+        }
+        return result;
+    }
+
+    private static Iterable<QubCreateProjectLogEntry> sortBySequence(Iterable<QubCreateProjectLogEntry> entries)
+    {
+        final List<QubCreateProjectLogEntry> result = List.create();
+        for (final QubCreateProjectLogEntry entry : entries)
+        {
+            int insertIndex = result.getCount();
+            while (insertIndex > 0 && entry.getSequence() < result.get(insertIndex - 1).getSequence())
+            {
+                --insertIndex;
+            }
+            result.insert(insertIndex, entry);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,182 @@
+package qub;
+
+/**
+ * The output and verbose streams of a run that also write to the run's log in the
+ * QubCreateProjectLogStore in the run's project data folder. The log is written by a
+ * QubCreateProjectLogSink, so writing to these streams doesn't wait for the log file to be
+ * written. Disposing these streams waits for the log to be written and then records the run's
+ * entry in the log store. If the log couldn't be written, the first error is written once to the
+ * run's verbose stream instead of failing the run.
+ */
+public class QubCreateProjectLogStreams implements Disposable
+{
+    private final QubCreateProjectLogStore logStore;
+    private final QubCreateProjectLogEntry entry;
+    private final QubCreateProjectLogSink logSink;
+    private final CharacterToByteWriteStream output;
+    private final QubCreateProjectVerbose verbose;
+    private final VerboseCharacterToByteWriteStream runVerbose;
+    private boolean disposed;
+
+    private QubCreateProjectLogStreams(QubCreateProjectLogStore logStore, QubCreateProjectLogEntry entry, QubCreateProjectLogSink logSink, CharacterToByteWriteStream output, QubCreateProjectVerbose verbose, VerboseCharacterToByteWriteStream runVerbose)
+    {
+        PreCondition.assertNotNull(logStore, "logStore");
+        PreCondition.assertNotNull(entry, "entry");
+        PreCondition.assertNotNull(logSink, "logSink");
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(verbose, "verbose");
+        PreCondition.assertNotNull(runVerbose, "runVerbose");
+
+        this.logStore = logStore;
+        this.entry = entry;
+        this.logSink = logSink;
+        this.output = output;
+        this.verbose = verbose;
+        this.runVerbose = runVerbose;
+    }
+
+    /**
+     * Create new log streams that write to the provided streams and to a new run's log in the
+     * provided project data folder's logs folder. Verbose text is only written to the log if the
+     * provided verbose stream is verbose.
+     * @param qubProjectDataFolder The project data folder that contains the logs folder.
+     * @param actionName The name of the action that the run is running.
+     * @param output The stream that normal output will be written to.
+     * @param verbose The stream that verbose output will be written to.
+     * @param rotation The limits for the logs in the logs folder.
+     * @return The new log streams.
+     */
+    public static Result<QubCreateProjectLogStreams> create(Folder qubProjectDataFolder, String actionName, CharacterToByteWriteStream output, VerboseCharacterToByteWriteStream verbose, QubCreateProjectLogRotation rotation)
+    {
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+        PreCondition.assertNotNullAndNotEmpty(actionName, "actionName");
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(verbose, "verbose");
+        PreCondition.assertNotNull(rotation, "rotation");
+
+        return Result.create(() ->
+        {
+            final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(qubProjectDataFolder.getFolder("logs").await(), rotation);
+            final QubCreateProjectLogEntry entry = logStore.startRun(actionName).await();
+            final File logFile = logStore.getLogsFolder().getFile(entry.getLogPath()).await();
+            final QubCreateProjectLogSink logSink = QubCreateProjectLogSink.create(logFile, () -> logStore.compactIfNeeded().await());
+            final CharacterToByteWriteStream logStream = CharacterToByteWriteStream.create(logSink);
+            final VerboseCharacterToByteWriteStream logVerbose = VerboseCharacterToByteWriteStream.create(logStream)
+                .setIsVerbose(verbose.isVerbose());
+
+            return new QubCreateProjectLogStreams(
+                logStore,
+                entry,
+                logSink,
+                LinkedCharacterToByteWriteStream.create(output, logStream),
+                QubCreateProjectVerbose.create(LinkedCharacterToByteWriteStream.create(verbose, logVerbose), verbose.isVerbose()),
+                verbose);
+        });
+    }
+
+    public QubCreateProjectLogStore getLogStore()
+    {
+        return this.logStore;
+    }
+
+    /**
+     * Get the entry that describes this run in the log store.
+     * @return The entry that describes this run in the log store.
+     */
+    public QubCreateProjectLogEntry getEntry()
+    {
+        return this.entry;
+    }
+
+    /**
+     * Get the file that this run's log is written to until the log store is compacted.
+     * @return The file that this run's log is written to.
+     */
+    public File getLogFile()
+    {
+        return this.logSink.getLogFile();
+    }
+
+    /**
+     * Get the Disposable that finishes this run's log.
+     * @return The Disposable that finishes this run's log.
+     */
+    public Disposable getLogStream()
+    {
+        return this;
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    public QubCreateProjectVerbose getVerbose()
+    {
+        return this.verbose;
+    }
+
+    /**
+     * Set the project folder that this run creates.
+     * @param projectFolder The project folder that this run creates.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectLogStreams setProjectFolder(Folder projectFolder)
+    {
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+
+        this.entry.setProjectFolder(projectFolder.toString());
+        return this;
+    }
+
+    /**
+     * Set the exit code that will be recorded for this run.
+     * @param exitCode The exit code of this run.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectLogStreams setExitCode(int exitCode)
+    {
+        this.entry.setExitCode(exitCode);
+        return this;
+    }
+
+    @Override
+    public boolean isDisposed()
+    {
+        return this.disposed;
+    }
+
+    @Override
+    public Result<Boolean> dispose()
+    {
+        return Result.create(() ->
+        {
+            final boolean result = !this.disposed;
+            if (result)
+            {
+                this.disposed = true;
+
+                this.logSink.dispose().await();
+                Throwable logError = this.logSink.getWriterError();
+                this.entry.setLength(this.logSink.getBytesWritten());
+                try
+                {
+                    this.logStore.finishRun(this.entry).await();
+                }
+                catch (Throwable error)
+                {
+                    if (logError == null)
+                    {
+                        logError = error;
+                    }
+                }
+
+                if (logError != null)
+                {
+                    this.runVerbose.writeLine("Failed to write the log for this run: " + logError.getMessage()).catchError().await();
+                }
+            }
+            return result;
+        });
+    }
+}
@@ -0,0 +1,135 @@
+package qub;
+
+/**
+ * A QubProject action that shows the logs of previous runs from the QubCreateProjectLogStore in
+ * this application's project data folder.
+ */
+public interface QubCreateProjectLogs
+{
+    String actionName = "logs";
+    String actionDescription = "Show the logs of previous runs.";
+
+    int defaultLast = 10;
+
+    static QubCreateProjectLogsParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectLogs.actionName))
+            .setApplicationDescription(QubCreateProjectLogs.actionDescription);
+
+        final CommandLineParameter<Integer> lastParameter = parameters.addInteger("last")
+            .setValueName("<count>")
+            .setDescription("The number of most recent runs to show. Defaults to " + QubCreateProjectLogs.defaultLast + ".");
+        final CommandLineParameter<Folder> projectFolderParameter = parameters.addFolder("projectFolder", process)
+            .setValueName("<project-folder-path>")
+            .setDescription("Only show the runs that created the project in this folder.");
+        final CommandLineParameter<String> actionNameParameter = parameters.addString("actionName")
+            .setValueName("<action-name>")
+            .setDescription("Only show the runs of this action.");
+        final CommandLineParameterBoolean failedParameter = parameters.addBoolean("failed")
+            .setDescription("Only show the runs that failed.");
+        final CommandLineParameterBoolean showParameter = parameters.addBoolean("show")
+            .setDescription("Write the log of each run after its description.");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectLogsParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await() &&
+            QubCreateProjectRun.validateBetween(process, "last", lastParameter.getValue().await(), 1, Integer.MAX_VALUE))
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            final Folder qubProjectDataFolder = process.getQubProjectDataFolder().await();
+            final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(
+                qubProjectDataFolder.getFolder("logs").await(),
+                QubCreateProjectLogRotation.create().setClock(process.getClock()));
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectLogsParameters.create(output, logStore)
+                .setVerbose(verbose)
+                .setProjectFolder(projectFolderParameter.getValue().await())
+                .setActionName(actionNameParameter.getValue().await())
+                .setFailedOnly(failedParameter.getValue().await())
+                .setShowLogText(showParameter.getValue().await());
+
+            final Integer last = lastParameter.getValue().await();
+            if (last != null)
+            {
+                result.setLast(last);
+            }
+        }
+
+        return result;
+    }
+
+    static int run(QubCreateProjectLogsParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final QubCreateProjectLogStore logStore = parameters.getLogStore();
+
+        final int compactedRunCount = logStore.compactIfNeeded().await();
+        if (compactedRunCount > 0)
+        {
+            verbose.writeLine("Compacted " + compactedRunCount + " runs.").await();
+        }
+
+        final Folder projectFolder = parameters.getProjectFolder();
+        final String projectFolderPath = projectFolder == null ? null : projectFolder.toString();
+        final String actionName = parameters.getActionName();
+        final boolean failedOnly = parameters.getFailedOnly();
+        final List<QubCreateProjectLogEntry> matchingEntries = List.create();
+        for (final QubCreateProjectLogEntry entry : logStore.getEntries().await())
+        {
+            if ((projectFolderPath == null || projectFolderPath.equals(entry.getProjectFolder())) &&
+                (actionName == null || actionName.equals(entry.getActionName())) &&
+                (!failedOnly || (entry.getExitCode() != null && entry.getExitCode() != 0)))
+            {
+                matchingEntries.add(entry);
+            }
+        }
+
+        if (!matchingEntries.any())
+        {
+            output.writeLine("No runs found.").await();
+        }
+        else
+        {
+            final int matchingEntryCount = matchingEntries.getCount();
+            for (int i = Math.max(0, matchingEntryCount - parameters.getLast()); i < matchingEntryCount; ++i)
+            {
+                final QubCreateProjectLogEntry entry = matchingEntries.get(i);
+                output.writeLine(QubCreateProjectLogs.getDescription(entry)).await();
+                if (parameters.getShowLogText())
+                {
+                    output.write(logStore.getLogText(entry).await()).await();
+                }
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Get the one line description of the run that is described by the provided entry.
+     * @param entry The entry that describes the run.
+     * @return The one line description of the run.
+     */
+    static String getDescription(QubCreateProjectLogEntry entry)
+    {
+        PreCondition.assertNotNull(entry, "entry");
+
+        final String timestamp = entry.getTimestamp();
+        final String entryActionName = entry.getActionName();
+        final Integer exitCode = entry.getExitCode();
+        final String projectFolder = entry.getProjectFolder();
+        return "#" + entry.getSequence() +
+            " " + (entryActionName == null ? "unknown action" : entryActionName) +
+            " (exit code " + (exitCode == null ? "unknown" : exitCode.toString()) + ")" +
+            (projectFolder == null ? "" : " " + projectFolder) +
+            (timestamp == null ? "" : " at " + timestamp);
+    }
+}
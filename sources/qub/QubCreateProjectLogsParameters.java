@@ -0,0 +1,131 @@
+package qub;
+
+public class QubCreateProjectLogsParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final QubCreateProjectLogStore logStore;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private int last;
+    private Folder projectFolder;
+    private String actionName;
+    private boolean failedOnly;
+    private boolean showLogText;
+
+    private QubCreateProjectLogsParameters(CharacterToByteWriteStream output, QubCreateProjectLogStore logStore)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(logStore, "logStore");
+
+        this.output = output;
+        this.logStore = logStore;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setLast(QubCreateProjectLogs.defaultLast);
+    }
+
+    public static QubCreateProjectLogsParameters create(CharacterToByteWriteStream output, QubCreateProjectLogStore logStore)
+    {
+        return new QubCreateProjectLogsParameters(output, logStore);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    public QubCreateProjectLogStore getLogStore()
+    {
+        return this.logStore;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectLogsParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get the maximum number of runs to show.
+     * @return The maximum number of runs to show.
+     */
+    public int getLast()
+    {
+        return this.last;
+    }
+
+    public QubCreateProjectLogsParameters setLast(int last)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(last, 1, "last");
+
+        this.last = last;
+        return this;
+    }
+
+    /**
+     * Get the project folder that shown runs must have created, or null if runs aren't filtered by
+     * project folder.
+     * @return The project folder that shown runs must have created.
+     */
+    public Folder getProjectFolder()
+    {
+        return this.projectFolder;
+    }
+
+    public QubCreateProjectLogsParameters setProjectFolder(Folder projectFolder)
+    {
+        this.projectFolder = projectFolder;
+        return this;
+    }
+
+    /**
+     * Get the name of the action that shown runs must have run, or null if runs aren't filtered by
+     * action.
+     * @return The name of the action that shown runs must have run.
+     */
+    public String getActionName()
+    {
+        return this.actionName;
+    }
+
+    public QubCreateProjectLogsParameters setActionName(String actionName)
+    {
+        this.actionName = actionName;
+        return this;
+    }
+
+    /**
+     * Get whether only runs that failed will be shown.
+     * @return Whether only runs that failed will be shown.
+     */
+    public boolean getFailedOnly()
+    {
+        return this.failedOnly;
+    }
+
+    public QubCreateProjectLogsParameters setFailedOnly(boolean failedOnly)
+    {
+        this.failedOnly = failedOnly;
+        return this;
+    }
+
+    /**
+     * Get whether the log text of each shown run will be written after its description.
+     * @return Whether the log text of each shown run will be written.
+     */
+    public boolean getShowLogText()
+    {
+        return this.showLogText;
+    }
+
+    public QubCreateProjectLogsParameters setShowLogText(boolean showLogText)
+    {
+        this.showLogText = showLogText;
+        return this;
+    }
+}
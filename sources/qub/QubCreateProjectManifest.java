@@ -0,0 +1,266 @@
+package qub;
+
+/**
+ * The manifest of the files in a project folder that were generated by this application. The
+ * manifest is stored in the project folder so that the sync action can tell which generated files
+ * still contain what this application wrote to them and can be safely replaced. The manifest also
+ * records the copyright year and author that the project's LICENSE file was rendered with, so that
+ * the sync action renders it again with the same values instead of the current ones.
+ */
+public class QubCreateProjectManifest
+{
+    public static final String fileName = ".qub-createproject.manifest";
+
+    private static final String yearLinePrefix = "#year\t";
+    private static final String authorLinePrefix = "#author\t";
+
+    private final List<QubCreateProjectManifestEntry> entries;
+    private int year;
+    private String author;
+
+    private QubCreateProjectManifest()
+    {
+        this.entries = List.create();
+    }
+
+    public static QubCreateProjectManifest create()
+    {
+        return new QubCreateProjectManifest();
+    }
+
+    /**
+     * Parse a QubCreateProjectManifest from the provided manifest text. Lines that can't be
+     * parsed are skipped, so a damaged line only causes its file to be treated as not generated.
+     * @param manifestText The manifest text to parse.
+     * @return The parsed manifest.
+     */
+    public static QubCreateProjectManifest parse(String manifestText)
+    {
+        PreCondition.assertNotNull(manifestText, "manifestText");
+
+        final QubCreateProjectManifest result = QubCreateProjectManifest.create();
+        for (final String manifestLine : Strings.getLines(manifestText))
+        {
+            if (manifestLine.startsWith(QubCreateProjectManifest.yearLinePrefix))
+            {
+                try
+                {
+                    final int year = Integer.parseInt(manifestLine.substring(QubCreateProjectManifest.yearLinePrefix.length()));
+                    if (year >= 1)
+                    {
+                        result.setYear(year);
+                    }
+                }
+                catch (NumberFormatException ignored)
+                {
+                    // A damaged year line is skipped just like a damaged entry line.
+                }
+            }
+            else if (manifestLine.startsWith(QubCreateProjectManifest.authorLinePrefix))
+            {
+                final String author = manifestLine.substring(QubCreateProjectManifest.authorLinePrefix.length());
+                if (!author.isEmpty())
+                {
+                    result.setAuthor(author);
+                }
+            }
+            else
+            {
+                final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.parse(manifestLine)
+                    .catchError(ParseException.class)
+                    .await();
+                if (entry != null)
+                {
+                    result.set(entry);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read the manifest in the provided project folder. If the project folder doesn't have a
+     * manifest, then an empty manifest is returned.
+     * @param projectFolder The project folder to read the manifest from.
+     * @return The manifest in the provided project folder.
+     */
+    public static Result<QubCreateProjectManifest> read(Folder projectFolder)
+    {
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+
+        return Result.create(() ->
+        {
+            final String manifestText = projectFolder.getFile(QubCreateProjectManifest.fileName).await()
+                .getContentsAsString()
+                .catchError(FileNotFoundException.class, () -> "")
+                .await();
+            return QubCreateProjectManifest.parse(manifestText);
+        });
+    }
+
+    /**
+     * Get the entries in this manifest, in the order that they were added.
+     * @return The entries in this manifest.
+     */
+    public synchronized Iterable<QubCreateProjectManifestEntry> getEntries()
+    {
+        return this.entries.toList();
+    }
+
+    /**
+     * Get the entry for the generated file with the provided name.
+     * @param fileName The name of the generated file.
+     * @return The entry for the generated file, or null if the file isn't in this manifest.
+     */
+    public synchronized QubCreateProjectManifestEntry get(String fileName)
+    {
+        PreCondition.assertNotNullAndNotEmpty(fileName, "fileName");
+
+        QubCreateProjectManifestEntry result = null;
+        for (final QubCreateProjectManifestEntry entry : this.entries)
+        {
+            if (entry.getFileName().equals(fileName))
+            {
+                result = entry;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add the provided entry to this manifest, replacing any entry for the same file.
+     * @param entry The entry to add.
+     * @return This object for method chaining.
+     */
+    public synchronized QubCreateProjectManifest set(QubCreateProjectManifestEntry entry)
+    {
+        PreCondition.assertNotNull(entry, "entry");
+
+        int existingIndex = -1;
+        for (int i = 0; i < this.entries.getCount(); ++i)
+        {
+            if (this.entries.get(i).getFileName().equals(entry.getFileName()))
+            {
+                existingIndex = i;
+                break;
+            }
+        }
+
+        if (existingIndex == -1)
+        {
+            this.entries.add(entry);
+        }
+        else
+        {
+            this.entries.set(existingIndex, entry);
+        }
+
+        return this;
+    }
+
+    /**
+     * Get the copyright year that the project's LICENSE file was rendered with.
+     * @return The copyright year, or 0 if this manifest doesn't record it.
+     */
+    public synchronized int getYear()
+    {
+        return this.year;
+    }
+
+    public synchronized QubCreateProjectManifest setYear(int year)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(year, 1, "year");
+
+        this.year = year;
+        return this;
+    }
+
+    /**
+     * Get the copyright holder that the project's LICENSE file was rendered with.
+     * @return The copyright holder, or null if this manifest doesn't record it.
+     */
+    public synchronized String getAuthor()
+    {
+        return this.author;
+    }
+
+    public synchronized QubCreateProjectManifest setAuthor(String author)
+    {
+        PreCondition.assertNotNullAndNotEmpty(author, "author");
+
+        this.author = author;
+        return this;
+    }
+
+    public synchronized boolean any()
+    {
+        return this.entries.any();
+    }
+
+    /**
+     * Get the text of this manifest. The recorded year and author come first, followed by one line
+     * per entry. The entry lines are sorted by file name so that the text doesn't depend on the
+     * order that the files were generated in.
+     * @return The text of this manifest.
+     */
+    public synchronized String toManifestText()
+    {
+        final QubCreateProjectManifestEntry[] sortedEntries = new QubCreateProjectManifestEntry[this.entries.getCount()];
+        for (int i = 0; i < sortedEntries.length; ++i)
+        {
+            sortedEntries[i] = this.entries.get(i);
+        }
+        java.util.Arrays.sort(sortedEntries, (QubCreateProjectManifestEntry lhs, QubCreateProjectManifestEntry rhs) -> lhs.getFileName().compareTo(rhs.getFileName()));
+
+        final StringBuilder builder = new StringBuilder();
+        if (this.year != 0)
+        {
+            builder.append(QubCreateProjectManifest.yearLinePrefix).append(this.year).append('\n');
+        }
+        if (this.author != null)
+        {
+            builder.append(QubCreateProjectManifest.authorLinePrefix).append(this.author).append('\n');
+        }
+        for (final QubCreateProjectManifestEntry entry : sortedEntries)
+        {
+            builder.append(entry.toManifestLine()).append('\n');
+        }
+        return builder.toString();
+    }
+
+    /**
+     * Get the hash of the provided contents that is recorded in a manifest.
+     * @param contents The contents to hash.
+     * @return The hexadecimal SHA-256 hash of the provided contents.
+     */
+    public static String hash(byte[] contents)
+    {
+        PreCondition.assertNotNull(contents, "contents");
+
+        final byte[] digest;
+        try
+        {
+            digest = java.security.MessageDigest.getInstance("SHA-256").digest(contents);
+        }
+        catch (java.security.NoSuchAlgorithmException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+
+        final char[] hexDigits = "0123456789abcdef".toCharArray();
+        final char[] result = new char[digest.length * 2];
+        for (int i = 0; i < digest.length; ++i)
+        {
+            result[i * 2] = hexDigits[(digest[i] >> 4) & 0xF];
+            result[i * 2 + 1] = hexDigits[digest[i] & 0xF];
+        }
+        return new String(result);
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toManifestText();
+    }
+}
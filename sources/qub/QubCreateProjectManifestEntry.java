@@ -0,0 +1,156 @@
+package qub;
+
+/**
+ * The record of a single generated file within a QubCreateProjectManifest. A record is written as
+ * a single tab-separated line that contains the file's name, the size and last modified time that
+ * the file had when it was last checked, and the hash of the contents that this application wrote
+ * to it.
+ */
+public class QubCreateProjectManifestEntry
+{
+    private static final String missingValue = "-";
+    private static final int fieldCount = 4;
+
+    private final String fileName;
+    private long size;
+    private String lastModified;
+    private String hash;
+
+    private QubCreateProjectManifestEntry(String fileName)
+    {
+        PreCondition.assertNotNullAndNotEmpty(fileName, "fileName");
+
+        this.fileName = fileName;
+    }
+
+    public static QubCreateProjectManifestEntry create(String fileName)
+    {
+        return new QubCreateProjectManifestEntry(fileName);
+    }
+
+    /**
+     * Get the name of the generated file, relative to the project folder.
+     * @return The name of the generated file.
+     */
+    public String getFileName()
+    {
+        return this.fileName;
+    }
+
+    /**
+     * Get the number of bytes that the file had when it was last checked.
+     * @return The number of bytes that the file had when it was last checked.
+     */
+    public long getSize()
+    {
+        return this.size;
+    }
+
+    public QubCreateProjectManifestEntry setSize(long size)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(size, 0, "size");
+
+        this.size = size;
+        return this;
+    }
+
+    /**
+     * Get the time that the file was last modified when it was last checked, or null if the file
+     * hasn't been checked since it was written.
+     * @return The time that the file was last modified when it was last checked.
+     */
+    public String getLastModified()
+    {
+        return this.lastModified;
+    }
+
+    public QubCreateProjectManifestEntry setLastModified(String lastModified)
+    {
+        this.lastModified = lastModified;
+        return this;
+    }
+
+    /**
+     * Get the hash of the contents that this application wrote to the file.
+     * @return The hash of the contents that this application wrote to the file.
+     */
+    public String getHash()
+    {
+        return this.hash;
+    }
+
+    public QubCreateProjectManifestEntry setHash(String hash)
+    {
+        PreCondition.assertNotNullAndNotEmpty(hash, "hash");
+
+        this.hash = hash;
+        return this;
+    }
+
+    /**
+     * Get whether the provided size and last modified time match the ones that were recorded when
+     * the file was last checked. If they match, then the file hasn't been changed since then and
+     * its contents don't need to be hashed again.
+     * @param size The current size of the file.
+     * @param lastModified The current last modified time of the file.
+     * @return Whether the file hasn't been changed since it was last checked.
+     */
+    public boolean matches(long size, String lastModified)
+    {
+        return this.size == size &&
+            this.lastModified != null &&
+            this.lastModified.equals(lastModified);
+    }
+
+    /**
+     * Get the manifest line that describes this entry. The line doesn't end with a line separator.
+     * @return The manifest line that describes this entry.
+     */
+    public String toManifestLine()
+    {
+        return this.fileName +
+            "\t" + this.size +
+            "\t" + (this.lastModified == null ? QubCreateProjectManifestEntry.missingValue : this.lastModified) +
+            "\t" + this.hash;
+    }
+
+    /**
+     * Parse a QubCreateProjectManifestEntry from the provided manifest line.
+     * @param manifestLine The manifest line to parse.
+     * @return The parsed entry, or a ParseException if the line isn't a complete manifest line.
+     */
+    public static Result<QubCreateProjectManifestEntry> parse(String manifestLine)
+    {
+        PreCondition.assertNotNull(manifestLine, "manifestLine");
+
+        return Result.create(() ->
+        {
+            final String[] fields = manifestLine.split("\t", -1);
+            if (fields.length != QubCreateProjectManifestEntry.fieldCount || fields[0].isEmpty() || fields[3].isEmpty())
+            {
+                throw new ParseException("Expected " + QubCreateProjectManifestEntry.fieldCount + " fields in manifest line: " + Strings.escapeAndQuote(manifestLine));
+            }
+
+            final long size;
+            try
+            {
+                size = Long.parseLong(fields[1]);
+            }
+            catch (NumberFormatException e)
+            {
+                throw new ParseException("Invalid size in manifest line: " + Strings.escapeAndQuote(manifestLine));
+            }
+
+            return QubCreateProjectManifestEntry.create(fields[0])
+                .setSize(size)
+                .setLastModified(fields[2].equals(QubCreateProjectManifestEntry.missingValue) ? null : fields[2])
+                .setHash(fields[3]);
+        });
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toManifestLine();
+    }
+}
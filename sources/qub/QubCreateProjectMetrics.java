@@ -0,0 +1,168 @@
+package qub;
+
+/**
+ * Timings and operation counts that are recorded while a project is created. The disabled metrics
+ * object returns before reading the clock or taking a lock, so recording metrics costs almost
+ * nothing when they haven't been requested.
+ */
+public class QubCreateProjectMetrics
+{
+    /**
+     * A metrics object that doesn't record anything.
+     */
+    public static final QubCreateProjectMetrics disabled = new QubCreateProjectMetrics(false);
+
+    private final boolean enabled;
+    private final Map<String,Long> phaseNanoseconds;
+    private long statCalls;
+    private long bytesWritten;
+    private long filesCreated;
+    private long foldersCreated;
+
+    private QubCreateProjectMetrics(boolean enabled)
+    {
+        this.enabled = enabled;
+        this.phaseNanoseconds = Map.create();
+    }
+
+    /**
+     * Create a new metrics object that records timings and operation counts.
+     * @return A new metrics object.
+     */
+    public static QubCreateProjectMetrics create()
+    {
+        return new QubCreateProjectMetrics(true);
+    }
+
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    /**
+     * Get the timestamp that marks the start of a phase.
+     * @return The timestamp that marks the start of a phase, or 0 if these metrics are disabled.
+     */
+    public long startPhase()
+    {
+        return this.enabled ? System.nanoTime() : 0;
+    }
+
+    /**
+     * Record the end of the phase with the provided name that started at the provided timestamp.
+     * If a phase with the same name was already recorded, then the durations are added together.
+     * @param phaseName The name of the phase.
+     * @param startTimestamp The timestamp that was returned from startPhase().
+     */
+    public void endPhase(String phaseName, long startTimestamp)
+    {
+        if (this.enabled)
+        {
+            final long durationNanoseconds = System.nanoTime() - startTimestamp;
+            synchronized (this)
+            {
+                final long previousNanoseconds = this.phaseNanoseconds.containsKey(phaseName)
+                    ? this.phaseNanoseconds.get(phaseName).await()
+                    : 0;
+                this.phaseNanoseconds.set(phaseName, previousNanoseconds + durationNanoseconds);
+            }
+        }
+    }
+
+    public void addStatCalls(long statCalls)
+    {
+        if (this.enabled)
+        {
+            synchronized (this)
+            {
+                this.statCalls += statCalls;
+            }
+        }
+    }
+
+    public void addBytesWritten(long bytesWritten)
+    {
+        if (this.enabled)
+        {
+            synchronized (this)
+            {
+                this.bytesWritten += bytesWritten;
+            }
+        }
+    }
+
+    public void addFileCreated()
+    {
+        if (this.enabled)
+        {
+            synchronized (this)
+            {
+                ++this.filesCreated;
+            }
+        }
+    }
+
+    public void addFolderCreated()
+    {
+        if (this.enabled)
+        {
+            synchronized (this)
+            {
+                ++this.foldersCreated;
+            }
+        }
+    }
+
+    /**
+     * Get the number of nanoseconds that were recorded for the phase with the provided name.
+     * @param phaseName The name of the phase.
+     * @return The number of nanoseconds that were recorded for the phase.
+     */
+    public synchronized Result<Long> getPhaseNanoseconds(String phaseName)
+    {
+        PreCondition.assertNotNullAndNotEmpty(phaseName, "phaseName");
+
+        return this.phaseNanoseconds.get(phaseName);
+    }
+
+    public synchronized Iterable<String> getPhaseNames()
+    {
+        return this.phaseNanoseconds.getKeys().toList();
+    }
+
+    public synchronized long getStatCalls()
+    {
+        return this.statCalls;
+    }
+
+    public synchronized long getBytesWritten()
+    {
+        return this.bytesWritten;
+    }
+
+    public synchronized long getFilesCreated()
+    {
+        return this.filesCreated;
+    }
+
+    public synchronized long getFoldersCreated()
+    {
+        return this.foldersCreated;
+    }
+
+    public synchronized JSONObject toJson()
+    {
+        final JSONObject phasesJson = JSONObject.create();
+        for (final MapEntry<String,Long> phase : this.phaseNanoseconds)
+        {
+            phasesJson.setNumber(phase.getKey(), phase.getValue());
+        }
+
+        return JSONObject.create()
+            .setObject("phaseNanoseconds", phasesJson)
+            .setNumber("statCalls", this.statCalls)
+            .setNumber("bytesWritten", this.bytesWritten)
+            .setNumber("filesCreated", this.filesCreated)
+            .setNumber("foldersCreated", this.foldersCreated);
+    }
+}
@@ -0,0 +1,20 @@
+package qub;
+
+/**
+ * The generator for a project that isn't written in any particular language. Its project.json
+ * file doesn't have a java section, and no folders are created.
+ */
+public class QubCreateProjectPlainGenerator implements QubCreateProjectGenerator
+{
+    @Override
+    public void configureProjectJson(ProjectJSON projectJson)
+    {
+        PreCondition.assertNotNull(projectJson, "projectJson");
+    }
+
+    @Override
+    public Iterable<String> getFolderNames()
+    {
+        return Iterable.create();
+    }
+}
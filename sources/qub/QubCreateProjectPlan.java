@@ -0,0 +1,116 @@
+package qub;
+
+/**
+ * A snapshot of a project folder's contents that is used to decide which of the project's files
+ * and folders need to be created. The project folder is listed once when the plan is created so
+ * that each file and folder doesn't need its own existence check.
+ */
+public class QubCreateProjectPlan
+{
+    private final boolean projectFolderExists;
+    private final boolean exclusive;
+    private final Set<String> existingFileNames;
+    private final Set<String> existingFolderNames;
+
+    private QubCreateProjectPlan(boolean projectFolderExists, boolean exclusive, Set<String> existingFileNames, Set<String> existingFolderNames)
+    {
+        PreCondition.assertNotNull(existingFileNames, "existingFileNames");
+        PreCondition.assertNotNull(existingFolderNames, "existingFolderNames");
+
+        this.projectFolderExists = projectFolderExists;
+        this.exclusive = exclusive;
+        this.existingFileNames = existingFileNames;
+        this.existingFolderNames = existingFolderNames;
+    }
+
+    /**
+     * Create a new plan by listing the contents of the provided project folder.
+     * @param projectFolder The project folder to list.
+     * @return The plan for the provided project folder.
+     */
+    public static Result<QubCreateProjectPlan> create(Folder projectFolder)
+    {
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+
+        return Result.create(() ->
+        {
+            final Iterable<FileSystemEntry> entries = projectFolder.getFilesAndFolders()
+                .catchError(FolderNotFoundException.class)
+                .await();
+
+            final Set<String> existingFileNames = Set.create();
+            final Set<String> existingFolderNames = Set.create();
+            if (entries != null)
+            {
+                for (final FileSystemEntry entry : entries)
+                {
+                    if (entry instanceof Folder)
+                    {
+                        existingFolderNames.add(entry.getName());
+                    }
+                    else
+                    {
+                        existingFileNames.add(entry.getName());
+                    }
+                }
+            }
+
+            return new QubCreateProjectPlan(entries != null, false, existingFileNames, existingFolderNames);
+        });
+    }
+
+    /**
+     * Create a new plan for a project folder that was just created exclusively for the current run,
+     * so it is known to be empty without listing it.
+     * @return The plan for an empty project folder.
+     */
+    public static QubCreateProjectPlan createEmpty()
+    {
+        return new QubCreateProjectPlan(true, true, Set.create(), Set.create());
+    }
+
+    /**
+     * Get whether the project folder existed when this plan was created.
+     * @return Whether the project folder existed when this plan was created.
+     */
+    public boolean projectFolderExists()
+    {
+        return this.projectFolderExists;
+    }
+
+    /**
+     * Get whether the project folder belongs to the current run, so no other process can create
+     * files in it while the project is being created.
+     * @return Whether the project folder belongs to the current run.
+     */
+    public boolean isExclusive()
+    {
+        return this.exclusive;
+    }
+
+    /**
+     * Get whether a file with the provided name existed in the project folder when this plan was
+     * created.
+     * @param fileName The name of the file.
+     * @return Whether the file existed when this plan was created.
+     */
+    public boolean fileExists(String fileName)
+    {
+        PreCondition.assertNotNullAndNotEmpty(fileName, "fileName");
+
+        return this.existingFileNames.contains(fileName);
+    }
+
+    /**
+     * Get whether a folder with the provided name existed in the project folder when this plan
+     * was created.
+     * @param folderName The name of the folder.
+     * @return Whether the folder existed when this plan was created.
+     */
+    public boolean folderExists(String folderName)
+    {
+        PreCondition.assertNotNullAndNotEmpty(folderName, "folderName");
+
+        return this.existingFolderNames.contains(folderName);
+    }
+}
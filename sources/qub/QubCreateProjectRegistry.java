@@ -0,0 +1,456 @@
+package qub;
+
+/**
+ * The projects that have been created by this application, stored so that questions such as
+ * "has a project with this name already been created?" can be answered without searching the file
+ * system. The registry folder is laid out like this:
+ * <pre>
+ *   pending/&lt;id&gt;.entry            The index line of a project that hasn't been compacted yet.
+ *   index.&lt;generation&gt;.tsv         The index lines of every project that has been compacted.
+ *   compact.lock                The lock that is held while the registry is being compacted.
+ * </pre>
+ * Each project is added by creating its own pending file, so adding a project never rewrites a
+ * file that another process might be reading. Compacting the registry writes a new index
+ * generation that ends with a line that counts its entries, so an index that was only partially
+ * written is ignored in favor of the previous generation.
+ */
+public class QubCreateProjectRegistry
+{
+    public static final String folderName = "registry";
+    public static final String pendingFolderName = "pending";
+    public static final String lockFileName = "compact.lock";
+    public static final int defaultCompactionThreshold = 32;
+    public static final Duration lockTimeout = Duration.minutes(10);
+
+    private static final String indexFileNamePrefix = "index.";
+    private static final String indexFileNameSuffix = ".tsv";
+    private static final String pendingFileNameSuffix = ".entry";
+    private static final String indexTrailerPrefix = "# entries: ";
+
+    private final Folder registryFolder;
+    private Map<String,List<QubCreateProjectRegistryEntry>> entriesByKey;
+    private Map<String,QubCreateProjectRegistryEntry> entriesByProjectFolderPath;
+    private Clock clock;
+    private int compactionThreshold;
+    private int pendingCount;
+
+    private QubCreateProjectRegistry(Folder registryFolder)
+    {
+        PreCondition.assertNotNull(registryFolder, "registryFolder");
+
+        this.registryFolder = registryFolder;
+        this.entriesByKey = Map.create();
+        this.entriesByProjectFolderPath = Map.create();
+        this.setCompactionThreshold(QubCreateProjectRegistry.defaultCompactionThreshold);
+    }
+
+    /**
+     * Get the registry folder within the provided qub project data folder.
+     * @param qubProjectDataFolder The data folder of this application.
+     * @return The registry folder.
+     */
+    public static Folder getRegistryFolder(Folder qubProjectDataFolder)
+    {
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+
+        return qubProjectDataFolder.getFolder(QubCreateProjectRegistry.folderName).await();
+    }
+
+    /**
+     * Open the registry in the provided registry folder. This reads the newest complete index and
+     * the pending entries once so that each lookup afterwards doesn't touch the file system.
+     * @param registryFolder The folder that the registry is stored in.
+     * @return The opened registry.
+     */
+    public static Result<QubCreateProjectRegistry> open(Folder registryFolder)
+    {
+        PreCondition.assertNotNull(registryFolder, "registryFolder");
+
+        return Result.create(() ->
+        {
+            final QubCreateProjectRegistry result = new QubCreateProjectRegistry(registryFolder);
+            for (final QubCreateProjectRegistryEntry entry : result.readIndex())
+            {
+                result.put(entry);
+            }
+            for (final QubCreateProjectRegistryEntry entry : result.readPendingEntries().getValues())
+            {
+                result.put(entry);
+                ++result.pendingCount;
+            }
+            return result;
+        });
+    }
+
+    public Folder getRegistryFolder()
+    {
+        return this.registryFolder;
+    }
+
+    /**
+     * Get the clock that is used to decide whether a compaction lock was left behind by a process
+     * that stopped while it was compacting. If this is null, then a lock is never taken over.
+     * @return The clock that is used to decide whether a compaction lock is abandoned.
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public QubCreateProjectRegistry setClock(Clock clock)
+    {
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Get the number of pending entries that there must be before compactIfNeeded() will compact
+     * this registry.
+     * @return The number of pending entries that there must be before this registry is compacted.
+     */
+    public int getCompactionThreshold()
+    {
+        return this.compactionThreshold;
+    }
+
+    public QubCreateProjectRegistry setCompactionThreshold(int compactionThreshold)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(compactionThreshold, 1, "compactionThreshold");
+
+        this.compactionThreshold = compactionThreshold;
+        return this;
+    }
+
+    private Folder getPendingFolder()
+    {
+        return this.registryFolder.getFolder(QubCreateProjectRegistry.pendingFolderName).await();
+    }
+
+    /**
+     * Get the entries for the projects with the provided publisher and name.
+     * @param publisher The publisher of the projects.
+     * @param project The name of the projects.
+     * @return The entries for the projects with the provided publisher and name.
+     */
+    public synchronized Iterable<QubCreateProjectRegistryEntry> getEntries(String publisher, String project)
+    {
+        final String key = QubCreateProjectRegistryEntry.getKey(publisher, project);
+        return this.entriesByKey.containsKey(key)
+            ? this.entriesByKey.get(key).await().toList()
+            : Iterable.create();
+    }
+
+    /**
+     * Get the entries for every project in this registry.
+     * @return The entries for every project in this registry.
+     */
+    public synchronized Iterable<QubCreateProjectRegistryEntry> getEntries()
+    {
+        return this.entriesByProjectFolderPath.getValues().toList();
+    }
+
+    /**
+     * Add the provided entry to this registry. An entry for the same project folder replaces the
+     * previous entry for that folder.
+     * @param entry The entry to add.
+     * @return The result of adding the entry.
+     */
+    public Result<Void> add(QubCreateProjectRegistryEntry entry)
+    {
+        PreCondition.assertNotNull(entry, "entry");
+
+        return Result.create(() ->
+        {
+            // The pending file is created exclusively so that two processes never write to the
+            // same file, and the entry's line separator is written last so that a pending file
+            // that was only partially written is ignored.
+            final Folder pendingFolder = this.getPendingFolder();
+            while (true)
+            {
+                final File pendingFile = pendingFolder.getFile(Long.toString(System.nanoTime(), 36) + QubCreateProjectRegistry.pendingFileNameSuffix).await();
+                final boolean created = pendingFile.create()
+                    .then(() -> true)
+                    .catchError(FileAlreadyExistsException.class, () -> false)
+                    .await();
+                if (created)
+                {
+                    pendingFile.setContentsAsString(entry.toIndexLine() + "\n").await();
+                    break;
+                }
+            }
+
+            synchronized (this)
+            {
+                this.put(entry);
+                ++this.pendingCount;
+            }
+        });
+    }
+
+    private void put(QubCreateProjectRegistryEntry entry)
+    {
+        final String projectFolderPath = entry.getProjectFolderPath();
+        if (this.entriesByProjectFolderPath.containsKey(projectFolderPath))
+        {
+            final QubCreateProjectRegistryEntry previousEntry = this.entriesByProjectFolderPath.get(projectFolderPath).await();
+            final List<QubCreateProjectRegistryEntry> previousKeyEntries = this.entriesByKey.get(previousEntry.getKey()).await();
+            for (int i = previousKeyEntries.getCount() - 1; i >= 0; --i)
+            {
+                if (previousKeyEntries.get(i) == previousEntry)
+                {
+                    previousKeyEntries.removeAt(i);
+                }
+            }
+        }
+
+        final String key = entry.getKey();
+        List<QubCreateProjectRegistryEntry> keyEntries;
+        if (this.entriesByKey.containsKey(key))
+        {
+            keyEntries = this.entriesByKey.get(key).await();
+        }
+        else
+        {
+            keyEntries = List.create();
+            this.entriesByKey.set(key, keyEntries);
+        }
+        keyEntries.add(entry);
+        this.entriesByProjectFolderPath.set(projectFolderPath, entry);
+    }
+
+    /**
+     * Compact this registry if it has at least getCompactionThreshold() pending entries.
+     * @return Whether this registry was compacted.
+     */
+    public Result<Boolean> compactIfNeeded()
+    {
+        return Result.create(() ->
+        {
+            final int pendingCount;
+            synchronized (this)
+            {
+                pendingCount = this.pendingCount;
+            }
+            return pendingCount >= this.compactionThreshold && this.compact().await();
+        });
+    }
+
+    /**
+     * Move every pending entry into a new index generation and delete the older generations. If
+     * another process is already compacting this registry, then this does nothing.
+     * @return Whether this registry was compacted.
+     */
+    public Result<Boolean> compact()
+    {
+        return Result.create(() ->
+        {
+            boolean result = false;
+            final File lockFile = this.registryFolder.getFile(QubCreateProjectRegistry.lockFileName).await();
+            if (QubCreateProjectLockFile.tryLock(lockFile, this.clock, QubCreateProjectRegistry.lockTimeout))
+            {
+                try
+                {
+                    this.compactEntries();
+                    result = true;
+                }
+                finally
+                {
+                    QubCreateProjectLockFile.unlock(lockFile);
+                }
+            }
+            return result;
+        });
+    }
+
+    private void compactEntries()
+    {
+        // The entries are read again from the file system so that the projects that other
+        // processes have added since this registry was opened are kept.
+        final QubCreateProjectRegistry merged = new QubCreateProjectRegistry(this.registryFolder);
+        for (final QubCreateProjectRegistryEntry entry : this.readIndex())
+        {
+            merged.put(entry);
+        }
+        final Map<File,QubCreateProjectRegistryEntry> pendingEntries = this.readPendingEntries();
+        for (final QubCreateProjectRegistryEntry entry : pendingEntries.getValues())
+        {
+            merged.put(entry);
+        }
+
+        final Iterable<File> indexFiles = this.getIndexFiles();
+        final long generation = indexFiles.any() ? QubCreateProjectRegistry.getIndexGeneration(indexFiles.first()) + 1 : 1;
+        final Iterable<QubCreateProjectRegistryEntry> mergedEntries = merged.getEntries();
+        final StringBuilder indexText = new StringBuilder();
+        for (final QubCreateProjectRegistryEntry entry : mergedEntries)
+        {
+            indexText.append(entry.toIndexLine()).append('\n');
+        }
+        indexText.append(QubCreateProjectRegistry.indexTrailerPrefix).append(mergedEntries.getCount()).append('\n');
+
+        // The new generation is complete before the pending files and older generations are
+        // deleted, so a compaction that is interrupted at any point loses nothing.
+        this.registryFolder.setFileContentsAsString(QubCreateProjectRegistry.getIndexFileName(generation), indexText.toString()).await();
+        for (final File pendingFile : pendingEntries.getKeys())
+        {
+            pendingFile.delete().catchError(FileNotFoundException.class).await();
+        }
+        for (final File indexFile : indexFiles)
+        {
+            indexFile.delete().catchError(FileNotFoundException.class).await();
+        }
+
+        synchronized (this)
+        {
+            this.entriesByKey = Map.create();
+            this.entriesByProjectFolderPath = Map.create();
+            for (final QubCreateProjectRegistryEntry entry : mergedEntries)
+            {
+                this.put(entry);
+            }
+            this.pendingCount = 0;
+        }
+    }
+
+    /**
+     * Read the entries of the newest index generation that was completely written.
+     * @return The entries of the newest complete index generation.
+     */
+    private Iterable<QubCreateProjectRegistryEntry> readIndex()
+    {
+        Iterable<QubCreateProjectRegistryEntry> result = Iterable.create();
+        for (final File indexFile : this.getIndexFiles())
+        {
+            final String indexText = indexFile.getContentsAsString()
+                .catchError(FileNotFoundException.class, () -> "")
+                .await();
+            final Iterable<QubCreateProjectRegistryEntry> entries = QubCreateProjectRegistry.parseIndex(indexText);
+            if (entries != null)
+            {
+                result = entries;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Parse the provided index text.
+     * @param indexText The text of an index generation.
+     * @return The entries in the index, or null if the index doesn't end with a trailer that
+     * matches the number of entries.
+     */
+    static Iterable<QubCreateProjectRegistryEntry> parseIndex(String indexText)
+    {
+        PreCondition.assertNotNull(indexText, "indexText");
+
+        final List<QubCreateProjectRegistryEntry> result = List.create();
+        boolean complete = false;
+        for (final String indexLine : Strings.getLines(indexText))
+        {
+            if (indexLine.startsWith(QubCreateProjectRegistry.indexTrailerPrefix))
+            {
+                final String countText = indexLine.substring(QubCreateProjectRegistry.indexTrailerPrefix.length());
+                complete = countText.equals(Integer.toString(result.getCount())) && indexText.endsWith("\n");
+                break;
+            }
+
+            final QubCreateProjectRegistryEntry entry = QubCreateProjectRegistryEntry.parse(indexLine)
+                .catchError(ParseException.class)
+                .await();
+            if (entry == null)
+            {
+                break;
+            }
+            result.add(entry);
+        }
+        return complete ? result : null;
+    }
+
+    private Map<File,QubCreateProjectRegistryEntry> readPendingEntries()
+    {
+        final Map<File,QubCreateProjectRegistryEntry> result = Map.create();
+        final Iterable<File> pendingFiles = this.getPendingFolder().getFiles()
+            .catchError(FolderNotFoundException.class, () -> Iterable.create())
+            .await();
+        for (final File pendingFile : pendingFiles)
+        {
+            if (pendingFile.getName().endsWith(QubCreateProjectRegistry.pendingFileNameSuffix))
+            {
+                // A pending file that doesn't end with a line separator was only partially
+                // written, so it is skipped.
+                final String pendingText = pendingFile.getContentsAsString()
+                    .catchError(FileNotFoundException.class, () -> "")
+                    .await();
+                if (pendingText.endsWith("\n"))
+                {
+                    final QubCreateProjectRegistryEntry entry = QubCreateProjectRegistryEntry.parse(pendingText.substring(0, pendingText.length() - 1))
+                        .catchError(ParseException.class)
+                        .await();
+                    if (entry != null)
+                    {
+                        result.set(pendingFile, entry);
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the index generation files in this registry, ordered from newest to oldest.
+     * @return The index generation files in this registry.
+     */
+    private Iterable<File> getIndexFiles()
+    {
+        final List<File> result = List.create();
+        final Iterable<File> files = this.registryFolder.getFiles()
+            .catchError(FolderNotFoundException.class, () -> Iterable.create())
+            .await();
+        for (final File file : files)
+        {
+            final long generation = QubCreateProjectRegistry.getIndexGeneration(file);
+            if (generation != -1)
+            {
+                int insertIndex = result.getCount();
+                while (insertIndex > 0 && generation > QubCreateProjectRegistry.getIndexGeneration(result.get(insertIndex - 1)))
+                {
+                    --insertIndex;
+                }
+                result.insert(insertIndex, file);
+            }
+        }
+        return result;
+    }
+
+    static String getIndexFileName(long generation)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(generation, 1, "generation");
+
+        return QubCreateProjectRegistry.indexFileNamePrefix + generation + QubCreateProjectRegistry.indexFileNameSuffix;
+    }
+
+    /**
+     * Get the generation of the provided index file, or -1 if it isn't an index file.
+     * @param indexFile The index file.
+     * @return The generation of the provided index file.
+     */
+    static long getIndexGeneration(File indexFile)
+    {
+        PreCondition.assertNotNull(indexFile, "indexFile");
+
+        long result = -1;
+        final String fileName = indexFile.getName();
+        if (fileName.startsWith(QubCreateProjectRegistry.indexFileNamePrefix) && fileName.endsWith(QubCreateProjectRegistry.indexFileNameSuffix))
+        {
+            try
+            {
+                result = Long.parseLong(fileName.substring(QubCreateProjectRegistry.indexFileNamePrefix.length(), fileName.length() - QubCreateProjectRegistry.indexFileNameSuffix.length()));
+            }
+            catch (NumberFormatException e)
+            {
+                result = -1;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,120 @@
+package qub;
+
+/**
+ * The record of a single project that was created by this application. A record is written as a
+ * single tab-separated line that contains the project's publisher, name, version, and folder.
+ */
+public class QubCreateProjectRegistryEntry
+{
+    private static final int fieldCount = 4;
+
+    private final String publisher;
+    private final String project;
+    private final String version;
+    private final String projectFolderPath;
+
+    private QubCreateProjectRegistryEntry(String publisher, String project, String version, String projectFolderPath)
+    {
+        PreCondition.assertNotNullAndNotEmpty(publisher, "publisher");
+        PreCondition.assertNotNullAndNotEmpty(project, "project");
+        PreCondition.assertNotNullAndNotEmpty(version, "version");
+        PreCondition.assertNotNullAndNotEmpty(projectFolderPath, "projectFolderPath");
+
+        this.publisher = publisher;
+        this.project = project;
+        this.version = version;
+        this.projectFolderPath = projectFolderPath;
+    }
+
+    public static QubCreateProjectRegistryEntry create(String publisher, String project, String version, String projectFolderPath)
+    {
+        return new QubCreateProjectRegistryEntry(publisher, project, version, projectFolderPath);
+    }
+
+    /**
+     * Get the key that identifies the project's name within the registry. Two entries with the same
+     * key describe projects with the same publisher and name.
+     * @param publisher The project's publisher.
+     * @param project The project's name.
+     * @return The key that identifies the project's name.
+     */
+    public static String getKey(String publisher, String project)
+    {
+        PreCondition.assertNotNullAndNotEmpty(publisher, "publisher");
+        PreCondition.assertNotNullAndNotEmpty(project, "project");
+
+        return publisher + "/" + project;
+    }
+
+    public String getKey()
+    {
+        return QubCreateProjectRegistryEntry.getKey(this.publisher, this.project);
+    }
+
+    public String getPublisher()
+    {
+        return this.publisher;
+    }
+
+    public String getProject()
+    {
+        return this.project;
+    }
+
+    public String getVersion()
+    {
+        return this.version;
+    }
+
+    /**
+     * Get the path of the folder that the project was created in.
+     * @return The path of the folder that the project was created in.
+     */
+    public String getProjectFolderPath()
+    {
+        return this.projectFolderPath;
+    }
+
+    /**
+     * Get the index line that describes this entry. The line doesn't end with a line separator.
+     * @return The index line that describes this entry.
+     */
+    public String toIndexLine()
+    {
+        return this.publisher + "\t" + this.project + "\t" + this.version + "\t" + this.projectFolderPath;
+    }
+
+    /**
+     * Parse a QubCreateProjectRegistryEntry from the provided index line.
+     * @param indexLine The index line to parse.
+     * @return The parsed entry, or a ParseException if the line isn't a complete index line.
+     */
+    public static Result<QubCreateProjectRegistryEntry> parse(String indexLine)
+    {
+        PreCondition.assertNotNull(indexLine, "indexLine");
+
+        return Result.create(() ->
+        {
+            final String[] fields = indexLine.split("\t", -1);
+            if (fields.length != QubCreateProjectRegistryEntry.fieldCount)
+            {
+                throw new ParseException("Expected " + QubCreateProjectRegistryEntry.fieldCount + " fields in registry line: " + Strings.escapeAndQuote(indexLine));
+            }
+            for (final String field : fields)
+            {
+                if (field.isEmpty())
+                {
+                    throw new ParseException("Empty field in registry line: " + Strings.escapeAndQuote(indexLine));
+                }
+            }
+
+            return QubCreateProjectRegistryEntry.create(fields[0], fields[1], fields[2], fields[3]);
+        });
+    }
+
+    @Override
+    public String toString()
+    {
+        return this.toIndexLine();
+    }
+}
@@ -18,6 +18,24 @@ public interface QubCreateProjectRun
             .setDescription("The path to the project folder. The current folder will be used if this isn't defined.");
     }
 
+    static CommandLineParameterBoolean addStagedParameter(CommandLineParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        return parameters.addBoolean("staged")
+            .setDescription("Build a new project folder in a sibling staging folder and then move it into place.");
+    }
+
+    static CommandLineParameter<String> addDurabilityParameter(CommandLineParameters parameters, Iterable<String> durabilities)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertNotNull(durabilities, "durabilities");
+
+        return parameters.addString("durability")
+            .setValueName("<" + Strings.join('|', durabilities) + ">")
+            .setDescription("When the files and folders of new projects are synced to disk. Defaults to " + QubCreateProjectDurability.none + ".");
+    }
+
     static QubCreateProjectRunParameters getParameters(QubProcess process)
     {
         PreCondition.assertNotNull(process, "process");
@@ -27,11 +45,37 @@ public interface QubCreateProjectRun
             .setApplicationDescription(QubCreateProjectRun.actionDescription);
 
         final CommandLineParameter<Folder> projectFolderParameter = QubCreateProjectRun.addProjectFolderParameter(parameters, process);
+        final CommandLineParameterBoolean metricsParameter = parameters.addBoolean("metrics")
+            .setDescription("Write the timings and operation counts of creating the project as JSON.");
+        final CommandLineParameterBoolean noStatsParameter = parameters.addBoolean("noStats")
+            .setDescription("Don't record the latency of each phase of this run in the application's stats file.");
+        final CommandLineParameterBoolean stagedParameter = QubCreateProjectRun.addStagedParameter(parameters);
+        final CommandLineParameter<String> archiveParameter = parameters.addString("archive")
+            .setValueName("<zip|tar>")
+            .setDescription("Write the new project to the output stream as a zip or tar archive instead of creating it in the project folder.");
+        final CommandLineParameter<String> templateParameter = parameters.addString("template")
+            .setValueName("<template-name>")
+            .setDescription("The name of a folder in the application's templates folder whose files will be copied into the new project.");
+        final CommandLineParameterBoolean linkTemplateParameter = parameters.addBoolean("linkTemplate")
+            .setDescription("Hard link the template's files into the new project instead of copying them.");
+        final CommandLineParameterBoolean gitParameter = parameters.addBoolean("git")
+            .setDescription("Create a git repository in the new project with an initial commit of the generated files.");
+        final CommandLineParameter<String> durabilityParameter = QubCreateProjectRun.addDurabilityParameter(parameters, QubCreateProjectDurability.runValues);
+        final CommandLineParameter<String> typeParameter = parameters.addString("type")
+            .setValueName("<" + Strings.join('|', QubCreateProjectGenerators.types) + ">")
+            .setDescription("The type of project to create. Defaults to " + QubCreateProjectGenerators.defaultType + ".");
+        final CommandLineParameter<String> dependencyParameter = parameters.addString("dependency")
+            .setValueName("<publisher/project>[,...]")
+            .setDescription("The installed projects that the new project depends on. The newest installed version of each project will be used.");
         final CommandLineParameterHelp helpParameter = parameters.addHelp();
         final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
 
         QubCreateProjectRunParameters result = null;
-        if (!helpParameter.showApplicationHelpLines(process).await())
+        if (!helpParameter.showApplicationHelpLines(process).await() &&
+            QubCreateProjectRun.validateOneOf(process, "durability", durabilityParameter.getValue().await(), QubCreateProjectDurability.runValues) &&
+            QubCreateProjectRun.validateOneOf(process, "type", typeParameter.getValue().await(), QubCreateProjectGenerators.types) &&
+            QubCreateProjectRun.validateDependencies(process, dependencyParameter.getValue().await()) &&
+            QubCreateProjectRun.validateArchiveParameters(process, archiveParameter, stagedParameter, templateParameter, gitParameter, durabilityParameter))
         {
             final CharacterToByteWriteStream output = process.getOutputWriteStream();
             final Folder projectFolder = projectFolderParameter.getValue().await();
@@ -39,162 +83,979 @@ public interface QubCreateProjectRun
             final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
 
             result = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
-                .setVerbose(verbose);
+                .setVerbose(verbose)
+                .setAsyncRunner(process.getParallelAsyncRunner())
+                .setLogRotation(QubCreateProjectLogRotation.create().setClock(process.getClock()))
+                .setClock(process.getClock())
+                .setYear(process.getClock().getCurrentDateTime().getYear())
+                .setStaged(stagedParameter.getValue().await())
+                .setArchiveFormat(archiveParameter.getValue().await())
+                .setTemplate(templateParameter.getValue().await())
+                .setLinkTemplate(linkTemplateParameter.getValue().await())
+                .setGit(gitParameter.getValue().await());
+
+            final String durability = durabilityParameter.getValue().await();
+            if (durability != null)
+            {
+                result.setDurability(durability);
+            }
+
+            final String type = typeParameter.getValue().await();
+            if (type != null)
+            {
+                result.setType(type);
+            }
+
+            result.setDependencies(QubCreateProjectRun.parseDependencies(dependencyParameter.getValue().await()));
+
+            if (metricsParameter.getValue().await())
+            {
+                result.setMetrics(QubCreateProjectMetrics.create());
+            }
+
+            if (!noStatsParameter.getValue().await())
+            {
+                result.setHistogramFile(QubCreateProjectHistogramFile.getHistogramFile(qubProjectDataFolder));
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Write the provided usage error to the provided process's output stream and set the process's
+     * exit code to -1.
+     * @param process The process whose command line arguments were invalid.
+     * @param message The message that describes what was invalid.
+     */
+    static void writeUsageError(QubProcess process, String message)
+    {
+        PreCondition.assertNotNull(process, "process");
+        PreCondition.assertNotNullAndNotEmpty(message, "message");
+
+        process.getOutputWriteStream().writeLine(message).await();
+        process.setExitCode(-1);
+    }
+
+    /**
+     * Get whether the provided value of the parameter with the provided name is either not defined
+     * or one of the provided values. If it isn't, then a usage error is written.
+     * @param process The process that the parameter was parsed from.
+     * @param parameterName The name of the parameter.
+     * @param value The parameter's value, or null if it wasn't defined.
+     * @param values The values that the parameter can have.
+     * @return Whether the parameter's value is valid.
+     */
+    static boolean validateOneOf(QubProcess process, String parameterName, String value, Iterable<String> values)
+    {
+        PreCondition.assertNotNull(process, "process");
+        PreCondition.assertNotNullAndNotEmpty(parameterName, "parameterName");
+        PreCondition.assertNotNull(values, "values");
+
+        boolean result = true;
+        if (value != null && !values.contains(value))
+        {
+            QubCreateProjectRun.writeUsageError(process, "--" + parameterName + " must be one of " + Strings.join(", ", values) + ", but was " + Strings.escapeAndQuote(value) + ".");
+            result = false;
         }
+        return result;
+    }
+
+    /**
+     * Get whether the provided value of the parameter with the provided name is either not defined
+     * or between the provided minimum and maximum. If it isn't, then a usage error is written.
+     * @param process The process that the parameter was parsed from.
+     * @param parameterName The name of the parameter.
+     * @param value The parameter's value, or null if it wasn't defined.
+     * @param minimum The smallest value that the parameter can have.
+     * @param maximum The largest value that the parameter can have.
+     * @return Whether the parameter's value is valid.
+     */
+    static boolean validateBetween(QubProcess process, String parameterName, Integer value, int minimum, int maximum)
+    {
+        PreCondition.assertNotNull(process, "process");
+        PreCondition.assertNotNullAndNotEmpty(parameterName, "parameterName");
+        PreCondition.assertLessThanOrEqualTo(minimum, maximum, "minimum");
+
+        boolean result = true;
+        if (value != null && (value < minimum || maximum < value))
+        {
+            final String range = maximum == Integer.MAX_VALUE
+                ? "greater than or equal to " + minimum
+                : "between " + minimum + " and " + maximum;
+            QubCreateProjectRun.writeUsageError(process, "--" + parameterName + " must be " + range + ", but was " + value + ".");
+            result = false;
+        }
+        return result;
+    }
 
+    /**
+     * Parse the provided value of the dependency parameter.
+     * @param dependencies The comma-separated dependencies, or null if the parameter wasn't
+     *                     defined.
+     * @return The dependencies, which may not all be in the form "&lt;publisher&gt;/&lt;project&gt;".
+     */
+    static Iterable<String> parseDependencies(String dependencies)
+    {
+        final List<String> result = List.create();
+        if (!Strings.isNullOrEmpty(dependencies))
+        {
+            for (final String dependency : dependencies.split(","))
+            {
+                result.add(dependency.trim());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get whether each of the provided comma-separated dependencies is in the form
+     * "&lt;publisher&gt;/&lt;project&gt;". If one isn't, then a usage error is written.
+     * @param process The process that the dependency parameter was parsed from.
+     * @param dependencies The comma-separated dependencies, or null if the parameter wasn't
+     *                     defined.
+     * @return Whether the dependencies are valid.
+     */
+    static boolean validateDependencies(QubProcess process, String dependencies)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        boolean result = true;
+        for (final String dependency : QubCreateProjectRun.parseDependencies(dependencies))
+        {
+            if (!QubCreateProjectRunParameters.isDependency(dependency))
+            {
+                QubCreateProjectRun.writeUsageError(process, "--dependency must be a comma-separated list of <publisher>/<project>, but " + Strings.escapeAndQuote(dependency) + " isn't.");
+                result = false;
+                break;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get whether the provided archive parameter has a valid value that can be used with the other
+     * provided parameters. If it doesn't, then a usage error is written.
+     * @param process The process that the parameters were parsed from.
+     * @param archiveParameter The archive format parameter.
+     * @param stagedParameter The parameter that stages the project folder.
+     * @param templateParameter The template parameter.
+     * @param gitParameter The parameter that creates a git repository.
+     * @param durabilityParameter The durability parameter.
+     * @return Whether the archive parameter is valid.
+     */
+    static boolean validateArchiveParameters(QubProcess process, CommandLineParameter<String> archiveParameter, CommandLineParameterBoolean stagedParameter, CommandLineParameter<String> templateParameter, CommandLineParameterBoolean gitParameter, CommandLineParameter<String> durabilityParameter)
+    {
+        PreCondition.assertNotNull(process, "process");
+        PreCondition.assertNotNull(archiveParameter, "archiveParameter");
+        PreCondition.assertNotNull(stagedParameter, "stagedParameter");
+        PreCondition.assertNotNull(templateParameter, "templateParameter");
+        PreCondition.assertNotNull(gitParameter, "gitParameter");
+        PreCondition.assertNotNull(durabilityParameter, "durabilityParameter");
+
+        boolean result = true;
+        final String archiveFormat = archiveParameter.getValue().await();
+        if (archiveFormat != null)
+        {
+            if (!QubCreateProjectRun.validateOneOf(process, "archive", archiveFormat, QubCreateProjectArchiveWriter.formats))
+            {
+                result = false;
+            }
+            else if (stagedParameter.getValue().await() ||
+                templateParameter.getValue().await() != null ||
+                gitParameter.getValue().await() ||
+                durabilityParameter.getValue().await() != null)
+            {
+                // An archive is only written to the output stream, so none of the options that
+                // change how the project folder is created can be applied to it.
+                QubCreateProjectRun.writeUsageError(process, "--archive can't be used with --staged, --template, --git, or --durability.");
+                result = false;
+            }
+        }
         return result;
     }
 
     static int run(QubCreateProjectRunParameters parameters)
     {
         PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertTrue(!parameters.isGit() || parameters.getClock() != null, "!parameters.isGit() || parameters.getClock() != null");
 
-        int result = 0;
+        // The archive is the only thing that can be written to the output stream, so writing an
+        // archive doesn't write a log, verbose messages, or metrics.
+        if (parameters.getArchiveFormat() != null)
+        {
+            int result = 0;
+            try
+            {
+                QubCreateProjectRun.writeArchive(parameters, parameters.getOutput());
+            }
+            catch (NotFoundException e)
+            {
+                parameters.getOutput().writeLine(e.getMessage()).await();
+                result = -1;
+            }
+            return result;
+        }
+
+        // The latency of each phase is recorded in the histogram file even if the metrics won't
+        // be written, so the phases are timed whenever there is a histogram file. The parameters
+        // aren't changed, because they can be shared between runs.
+        final QubCreateProjectMetrics outputMetrics = parameters.getMetrics();
+        final File histogramFile = parameters.getHistogramFile();
+        final QubCreateProjectMetrics metrics = histogramFile != null && !outputMetrics.isEnabled()
+            ? QubCreateProjectMetrics.create()
+            : outputMetrics;
+        final long totalStart = metrics.startPhase();
 
-        final Folder projectFolder = parameters.getProjectFolder();
         final Folder qubProjectDataFolder = parameters.getQubProjectDataFolder();
-        final LogStreams logStreams = CommandLineLogsAction.addLogStream(qubProjectDataFolder, parameters.getOutput(), parameters.getVerbose());
+        final long logSetupStart = metrics.startPhase();
+        final QubCreateProjectLogStreams logStreams = QubCreateProjectLogStreams.create(qubProjectDataFolder, QubCreateProjectRun.actionName, parameters.getOutput(), parameters.getVerbose(), parameters.getLogRotation()).await()
+            .setProjectFolder(parameters.getProjectFolder());
+        metrics.endPhase("logSetup", logSetupStart);
         try (final Disposable logStream = logStreams.getLogStream())
         {
             final CharacterToByteWriteStream output = logStreams.getOutput();
-            final VerboseCharacterToByteWriteStream verbose = logStreams.getVerbose();
+            final int result = QubCreateProjectRun.createProject(parameters, metrics, output, logStreams.getVerbose());
+            metrics.endPhase(QubCreateProjectHistogramFile.totalPhaseName, totalStart);
 
-            verbose.write("Checking if project folder (" + projectFolder + ") already exists...").await();
-            final boolean projectFolderAlreadyExists = projectFolder.exists().await();
-            verbose.writeLine(" Done.").await();
-            if (projectFolderAlreadyExists)
+            if (histogramFile != null && result == 0)
             {
-                verbose.writeLine("Project folder (" + projectFolder + ") already exists.").await();
+                // A run doesn't fail because its latencies couldn't be recorded.
+                final Integer recordedPhaseCount = QubCreateProjectHistogramFile.record(histogramFile, metrics).catchError().await();
+                if (recordedPhaseCount != null)
+                {
+                    logStreams.getVerbose().writeLine("Recorded the latencies of ", recordedPhaseCount, " phases.");
+                }
             }
-            else
+
+            if (outputMetrics.isEnabled())
             {
-                verbose.write("Project folder (" + projectFolder + ") doesn't exist. Creating it now...").await();
-                projectFolder.create().await();
-                verbose.writeLine(" Done.");
+                output.writeLine(metrics.toJson().toString(JSONFormat.pretty)).await();
+            }
+
+            logStreams.setExitCode(result);
+            return result;
+        }
+    }
+
+    /**
+     * Create the project that is described by the provided parameters, writing any output to the
+     * provided streams instead of the streams in the parameters. This doesn't add a log stream, so
+     * it can be used by actions (such as batch) that create many projects within a single log.
+     * @param parameters The parameters that describe the project to create.
+     * @param metrics The metrics that timings and operation counts will be recorded in instead of
+     *                the metrics in the parameters.
+     * @param output The stream that normal output will be written to.
+     * @param verbose The log that verbose output will be written to.
+     * @return The exit code for creating the project.
+     */
+    static int createProject(QubCreateProjectRunParameters parameters, QubCreateProjectMetrics metrics, CharacterToByteWriteStream output, QubCreateProjectVerbose verbose)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertNotNull(metrics, "metrics");
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(verbose, "verbose");
+
+        int result = 0;
+
+        final Folder projectFolder = parameters.getProjectFolder();
+
+        final String template = parameters.getTemplate();
+        if (template != null && !QubCreateProjectTemplateAssets.getTemplateFolder(parameters.getQubProjectDataFolder(), template).exists().await())
+        {
+            output.writeLine("The template " + template + " doesn't exist in folder " + QubCreateProjectTemplateAssets.getTemplatesFolder(parameters.getQubProjectDataFolder()) + ".").await();
+            return -1;
+        }
+
+        final Iterable<ProjectSignature> dependencies;
+        try
+        {
+            dependencies = QubCreateProjectRun.resolveDependencies(parameters, metrics).await();
+        }
+        catch (NotFoundException e)
+        {
+            output.writeLine(e.getMessage()).await();
+            return -1;
+        }
+        if (verbose.isEnabled())
+        {
+            for (final ProjectSignature dependency : dependencies)
+            {
+                verbose.writeLine("Using version " + dependency.getVersion() + " of dependency " + dependency.getPublisher() + "/" + dependency.getProject() + ".");
             }
+        }
+
+        verbose.write("Checking if project folder (", projectFolder, ") already exists...");
+        final long planStart = metrics.startPhase();
+        final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+        metrics.endPhase("plan", planStart);
+        metrics.addStatCalls(1);
+        verbose.writeLine(" Done.");
 
-            final File projectJsonFile = projectFolder.getFile("project.json").await();
-            if (projectJsonFile.exists().await())
+        // An existing project folder can't be replaced by a rename, so a project is only staged
+        // when its whole project folder is new.
+        final boolean staged = parameters.isStaged() && !plan.projectFolderExists();
+        if (plan.projectFolderExists())
+        {
+            verbose.writeLine("Project folder (", projectFolder, ") already exists.");
+        }
+        else if (staged)
+        {
+            verbose.writeLine("Project folder (", projectFolder, ") doesn't exist. The project will be staged in a sibling folder.");
+        }
+        else
+        {
+            verbose.write("Project folder (", projectFolder, ") doesn't exist. Creating it now...");
+            final long projectFolderStart = metrics.startPhase();
+            // Another run that creates the same project can create the folder first. Which of
+            // the runs owns the project is decided by project.json below, not by the folder.
+            final boolean projectFolderCreated = projectFolder.create()
+                .then(() -> true)
+                .catchError(FolderAlreadyExistsException.class, () -> false)
+                .await();
+            metrics.endPhase("projectFolder", projectFolderStart);
+            if (projectFolderCreated)
             {
-                verbose.writeLine("project.json file (" + projectJsonFile + ") already exists.").await();
-                output.writeLine("A Qub project already exists in folder " + projectFolder + ".").await();
-                result--;
+                metrics.addFolderCreated();
+                verbose.writeLine(" Done.");
             }
             else
             {
-                output.write("Creating Qub project in folder " + projectFolder + "...").await();
-                verbose.writeLine().await();
-
-                final String project = projectFolder.getName();
-                final String publisher = "qub";
-                final String version = "1";
-
-                verbose.write("Creating project.json file (" + projectJsonFile + ")...").await();
-                projectJsonFile.setContentsAsString(
-                    ProjectJSON.create()
-                        .setProject(project)
-                        .setPublisher(publisher)
-                        .setVersion(version)
-                        .setJava(ProjectJSONJava.create())
-                        .toString(JSONFormat.pretty))
-                    .await();
-                verbose.writeLine(" Done.").await();
-
-                final File readmeMdFile = projectFolder.getFile("README.md").await();
-                if (readmeMdFile.exists().await())
-                {
-                    verbose.writeLine("README.md file (" + readmeMdFile + ") already exists.").await();
-                }
-                else
+                verbose.writeLine(" Another run already created it.");
+            }
+        }
+
+        // Claiming project.json with an exclusive create is the existence check, so two runs that
+        // create the same project can't both get past this point. A staged project is claimed when its staging folder is moved into
+        // place instead.
+        final File projectJsonFile = projectFolder.getFile("project.json").await();
+        byte[] projectJsonContents = null;
+        boolean claimed = !plan.fileExists(projectJsonFile.getName());
+        if (claimed && !staged)
+        {
+            final long projectJsonStart = metrics.startPhase();
+            final QubCreateProjectGenerator generator = QubCreateProjectGenerators.getGenerator(parameters.getType());
+            projectJsonContents = QubCreateProjectRun.createProjectJsonContents(QubCreateProjectRun.createProjectJson(parameters, generator, dependencies));
+            claimed = QubCreateProjectRun.tryCreateFile(plan, projectJsonFile, projectJsonContents);
+            metrics.endPhase(projectJsonFile.getName(), projectJsonStart);
+        }
+        if (!claimed)
+        {
+            verbose.writeLine("project.json file (", projectJsonFile, ") already exists.");
+            output.writeLine("A Qub project already exists in folder " + projectFolder + ".").await();
+            result--;
+        }
+        else
+        {
+            // The registry answers whether a project with the same name was already created
+            // without searching the file system for other project.json files.
+            final long registryStart = metrics.startPhase();
+            final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(QubCreateProjectRegistry.getRegistryFolder(parameters.getQubProjectDataFolder())).await()
+                .setClock(parameters.getClock());
+            final String publisher = parameters.getPublisher();
+            final String project = projectFolder.getName();
+            for (final QubCreateProjectRegistryEntry duplicateEntry : registry.getEntries(publisher, project))
+            {
+                if (!duplicateEntry.getProjectFolderPath().equals(projectFolder.toString()))
                 {
-                    verbose.write("Creating README.md file (" + readmeMdFile + ")...").await();
-                    readmeMdFile.setContentsAsString("# " + ProjectSignature.create(publisher, project, version).toStringIgnoreVersion() + "\n").await();
-                    verbose.writeLine(" Done.");
+                    output.writeLine("Warning: A project named " + duplicateEntry.getKey() + " was already created in folder " + duplicateEntry.getProjectFolderPath() + ".").await();
                 }
+            }
+            metrics.endPhase("registry", registryStart);
+
+            output.write("Creating Qub project in folder " + projectFolder + "...").await();
+            verbose.writeLine();
+
+            if (!staged)
+            {
+                QubCreateProjectRun.createArtifacts(parameters, metrics, dependencies, plan, projectFolder, projectJsonContents, verbose);
+                output.writeLine(" Done.").await();
+            }
+            else
+            {
+                final long stagingFolderStart = metrics.startPhase();
+                final Folder stagingFolder = QubCreateProjectRun.createStagingFolder(projectFolder);
+                metrics.endPhase("stagingFolder", stagingFolderStart);
+                metrics.addFolderCreated();
 
-                final File licenseFile = projectFolder.getFile("LICENSE").await();
-                if (licenseFile.exists().await())
+                boolean published = false;
+                try
                 {
-                    verbose.writeLine("LICENSE file (" + licenseFile + ") already exists.").await();
+                    QubCreateProjectRun.createArtifacts(parameters, metrics, dependencies, QubCreateProjectPlan.createEmpty(), stagingFolder, null, verbose);
+
+                    verbose.write("Moving staging folder (", stagingFolder, ") into place...");
+                    final long publishStart = metrics.startPhase();
+                    published = QubCreateProjectRun.publishStagingFolder(stagingFolder, projectFolder);
+                    metrics.endPhase("publish", publishStart);
                 }
-                else
+                finally
                 {
-                    verbose.write("Creating LICENSE file (" + licenseFile + ")...").await();
-                    licenseFile.setContentsAsString(
-                        Strings.join(
-                            '\n',
-                            Iterable.create(
-                                "MIT License",
-                                "",
-                                "Copyright (c) 2020 danschultequb",
-                                "",
-                                "Permission is hereby granted, free of charge, to any person obtaining a copy",
-                                "of this software and associated documentation files (the \"Software\"), to deal",
-                                "in the Software without restriction, including without limitation the rights",
-                                "to use, copy, modify, merge, publish, distribute, sublicense, and/or sell",
-                                "copies of the Software, and to permit persons to whom the Software is",
-                                "furnished to do so, subject to the following conditions:",
-                                "",
-                                "The above copyright notice and this permission notice shall be included in all",
-                                "copies or substantial portions of the Software.",
-                                "",
-                                "THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR",
-                                "IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,",
-                                "FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE",
-                                "AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER",
-                                "LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,",
-                                "OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE",
-                                "SOFTWARE.")))
-                        .await();
-                    verbose.writeLine(" Done.");
+                    if (!published)
+                    {
+                        stagingFolder.delete().catchError(FolderNotFoundException.class).await();
+                    }
                 }
 
-                final File gitIgnoreFile = projectFolder.getFile(".gitignore").await();
-                if (gitIgnoreFile.exists().await())
+                if (published)
                 {
-                    verbose.writeLine(".gitignore file (" + gitIgnoreFile + ") already exists.").await();
+                    verbose.writeLine(" Done.");
+                    output.writeLine(" Done.").await();
                 }
                 else
                 {
-                    verbose.write("Creating .gitignore file (" + gitIgnoreFile + ")...").await();
-                    gitIgnoreFile.setContentsAsString(
-                        Strings.join('\n', Iterable.create(
-                            ".idea",
-                            "out",
-                            "outputs",
-                            "target")))
-                        .await();
-                    verbose.writeLine(" Done.");
+                    verbose.writeLine(" Failed.");
+                    verbose.writeLine("Project folder (", projectFolder, ") was created by another process.");
+                    output.writeLine(" Failed.").await();
+                    output.writeLine("A Qub project already exists in folder " + projectFolder + ".").await();
+                    result--;
                 }
+            }
 
-                final Folder sourcesFolder = projectFolder.getFolder("sources").await();
-                if (sourcesFolder.exists().await())
+            if (result == 0)
+            {
+                // A project is synced before it is added to the registry so that the registry never
+                // refers to a project that a crash could still lose. A project that is part of a
+                // sync group is synced later along with the rest of its group, so it is only added
+                // to the registry once its group has been synced.
+                final Action0 register = () ->
+                {
+                    final long registerStart = metrics.startPhase();
+                    registry.add(QubCreateProjectRegistryEntry.create(publisher, project, parameters.getVersion(), projectFolder.toString())).await();
+                    registry.compactIfNeeded().await();
+                    metrics.endPhase("registry", registerStart);
+                };
+                final QubCreateProjectSyncGroup syncGroup = parameters.getSyncGroup();
+                if (syncGroup != null)
                 {
-                    verbose.writeLine("sources folder (" + sourcesFolder + ") already exists.").await();
+                    syncGroup.addFolder(projectFolder, register);
                 }
                 else
                 {
-                    verbose.write("Creating sources folder (" + sourcesFolder + ")...").await();
-                    sourcesFolder.create().catchError(FolderAlreadyExistsException.class).await();
-                    verbose.writeLine(" Done.");
+                    if (parameters.getDurability().equals(QubCreateProjectDurability.project))
+                    {
+                        verbose.write("Syncing project folder (", projectFolder, ")...");
+                        final long syncStart = metrics.startPhase();
+                        QubCreateProjectSyncGroup.create().addFolder(projectFolder).sync();
+                        metrics.endPhase("sync", syncStart);
+                        verbose.writeLine(" Done.");
+                    }
+                    register.run();
                 }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Create the project's files and folders in the provided target folder. The target folder is
+     * either the project folder or a staging folder that will be moved into the project folder's
+     * place, so the project's name always comes from the parameters' project folder.
+     * @param parameters The parameters that describe the project to create.
+     * @param metrics The metrics that timings and operation counts will be recorded in.
+     * @param dependencies The resolved dependencies of the project.
+     * @param plan The plan that knows which of the target folder's files and folders already
+     *             exist.
+     * @param targetFolder The folder that the project's files and folders will be created in.
+     * @param projectJsonContents The contents that project.json was already created with when the
+     *                            project was claimed, or null if project.json still needs to be
+     *                            created.
+     * @param verbose The log that verbose output will be written to.
+     */
+    static void createArtifacts(QubCreateProjectRunParameters parameters, QubCreateProjectMetrics metrics, Iterable<ProjectSignature> dependencies, QubCreateProjectPlan plan, Folder targetFolder, byte[] projectJsonContents, QubCreateProjectVerbose verbose)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertNotNull(metrics, "metrics");
+        PreCondition.assertNotNull(dependencies, "dependencies");
+        PreCondition.assertNotNull(plan, "plan");
+        PreCondition.assertNotNull(targetFolder, "targetFolder");
+        PreCondition.assertNotNull(verbose, "verbose");
+
+        final QubCreateProjectTemplateValues templateValues = QubCreateProjectRun.createTemplateValues(parameters);
+        final AsyncRunner asyncRunner = parameters.getAsyncRunner();
+        final QubCreateProjectManifest manifest = QubCreateProjectManifest.create()
+            .setYear(parameters.getYear())
+            .setAuthor(parameters.getAuthor());
+        final QubCreateProjectGitRepository repository = parameters.isGit() ? QubCreateProjectGitRepository.create() : null;
 
-                final Folder testsFolder = projectFolder.getFolder("tests").await();
-                if (testsFolder.exists().await())
+        final long generatorStart = metrics.startPhase();
+        final QubCreateProjectGenerator generator = QubCreateProjectGenerators.getGenerator(parameters.getType());
+        metrics.endPhase("generator", generatorStart);
+
+        // The project's files and folders don't depend on each other, so they are all started
+        // before any of them are awaited. The verbose messages are written afterwards in a
+        // fixed order so that the logs don't depend on which creation finishes first.
+        final long artifactsStart = metrics.startPhase();
+        final List<Result<String>> artifactResults = List.create();
+        artifactResults.add(QubCreateProjectRun.schedule(asyncRunner, () ->
+        {
+            final File projectJsonFile = targetFolder.getFile("project.json").await();
+            final long projectJsonBytes;
+            if (projectJsonContents != null)
+            {
+                if (repository != null)
                 {
-                    verbose.writeLine("tests folder (" + testsFolder + ") already exists.").await();
+                    repository.addFile(projectJsonFile.getName(), projectJsonContents);
+                }
+                projectJsonBytes = projectJsonContents.length;
+            }
+            else
+            {
+                final long projectJsonStart = metrics.startPhase();
+                final ProjectJSON projectJson = QubCreateProjectRun.createProjectJson(parameters, generator, dependencies);
+                if (repository == null)
+                {
+                    projectJsonBytes = QubCreateProjectRun.writeProjectJsonFile(projectJsonFile, projectJson);
                 }
                 else
                 {
-                    verbose.write("Creating tests folder (" + testsFolder + ")...").await();
-                    testsFolder.create().catchError(FolderAlreadyExistsException.class).await();
-                    verbose.writeLine(" Done.");
+                    // The repository needs project.json's bytes, so they are created in memory
+                    // once and used for both the file and the repository.
+                    final byte[] contents = QubCreateProjectRun.createProjectJsonContents(projectJson);
+                    projectJsonFile.setContents(contents).await();
+                    repository.addFile(projectJsonFile.getName(), contents);
+                    projectJsonBytes = contents.length;
                 }
+                metrics.endPhase(projectJsonFile.getName(), projectJsonStart);
+            }
+            metrics.addFileCreated();
+            metrics.addBytesWritten(projectJsonBytes);
+            return verbose.isEnabled() ? "Creating project.json file (" + projectJsonFile + ")... Done." : null;
+        }));
+        artifactResults.add(QubCreateProjectRun.schedule(asyncRunner, () ->
+        {
+            final File readmeMdFile = targetFolder.getFile("README.md").await();
+            return QubCreateProjectRun.createFile(plan, readmeMdFile, QubCreateProjectTemplates.readmeMd.render(templateValues), manifest, repository, metrics, verbose);
+        }));
+        artifactResults.add(QubCreateProjectRun.schedule(asyncRunner, () ->
+        {
+            final File licenseFile = targetFolder.getFile("LICENSE").await();
+            return QubCreateProjectRun.createFile(plan, licenseFile, QubCreateProjectTemplates.license.render(templateValues), manifest, repository, metrics, verbose);
+        }));
+        artifactResults.add(QubCreateProjectRun.schedule(asyncRunner, () ->
+        {
+            final File gitIgnoreFile = targetFolder.getFile(".gitignore").await();
+            return QubCreateProjectRun.createFile(plan, gitIgnoreFile, QubCreateProjectTemplates.gitIgnore.render(templateValues), manifest, repository, metrics, verbose);
+        }));
+        for (final String folderName : generator.getFolderNames())
+        {
+            artifactResults.add(QubCreateProjectRun.schedule(asyncRunner, () ->
+            {
+                final Folder folder = targetFolder.getFolder(folderName).await();
+                return QubCreateProjectRun.createFolder(plan, folder, metrics, verbose);
+            }));
+        }
 
-                output.writeLine(" Done.").await();
+        for (final Result<String> artifactResult : artifactResults)
+        {
+            artifactResult.await();
+        }
+        metrics.endPhase("artifacts", artifactsStart);
+
+        for (final Result<String> artifactResult : artifactResults)
+        {
+            verbose.writeLine(artifactResult.await());
+        }
+
+        // The manifest records the generated files that this run wrote so that the sync action can
+        // later tell them apart from files that have been changed by hand.
+        if (manifest.any())
+        {
+            final File manifestFile = targetFolder.getFile(QubCreateProjectManifest.fileName).await();
+            final byte[] manifestContents = CharacterEncoding.UTF_8.encodeCharacters(manifest.toManifestText()).await();
+            verbose.writeLine(QubCreateProjectRun.createFile(plan, manifestFile, manifestContents, null, repository, metrics, verbose));
+        }
+
+        // The template's files are created after the generated files so that a generated file
+        // always wins over a template file with the same path.
+        final String template = parameters.getTemplate();
+        if (template != null)
+        {
+            final long templateAssetsStart = metrics.startPhase();
+            final Folder templateFolder = QubCreateProjectTemplateAssets.getTemplateFolder(parameters.getQubProjectDataFolder(), template);
+            QubCreateProjectTemplateAssets.materialize(templateFolder, targetFolder, parameters.isLinkTemplate(), metrics, verbose);
+            metrics.endPhase("templateAssets", templateAssetsStart);
+        }
+
+        if (repository != null)
+        {
+            final long gitStart = metrics.startPhase();
+            final long commitSeconds = (long)parameters.getClock().getCurrentDateTime().getDurationSinceEpoch().toSeconds().getValue();
+            final String commitId = repository.writeTo(targetFolder, parameters.getAuthor(), parameters.getEmail(), commitSeconds, "Initial commit");
+            metrics.endPhase("git", gitStart);
+            if (commitId == null)
+            {
+                verbose.writeLine(".git folder (", targetFolder.getFolder(QubCreateProjectGitRepository.folderName).await(), ") already exists.");
+            }
+            else if (verbose.isEnabled())
+            {
+                verbose.writeLine("Creating git repository (" + targetFolder.getFolder(QubCreateProjectGitRepository.folderName).await() + ") with commit " + commitId + "... Done.");
             }
+        }
+    }
+
+    /**
+     * Create a new, empty staging folder next to the provided project folder. The staging folder's
+     * name starts with a '.' and the project folder's name, and it is created exclusively so that
+     * concurrent runs never share a staging folder.
+     * @param projectFolder The project folder that the staging folder will be moved to.
+     * @return The new staging folder.
+     */
+    static Folder createStagingFolder(Folder projectFolder)
+    {
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+
+        final Folder parentFolder = projectFolder.getParentFolder().await();
+        Folder result;
+        long suffix = System.nanoTime() & Long.MAX_VALUE;
+        while (true)
+        {
+            result = parentFolder.getFolder("." + projectFolder.getName() + ".staging-" + Long.toString(suffix, 36)).await();
+            final boolean created = result.create()
+                .then(() -> true)
+                .catchError(FolderAlreadyExistsException.class, () -> false)
+                .await();
+            if (created)
+            {
+                break;
+            }
+            ++suffix;
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
 
+    /**
+     * Move the provided staging folder to the provided project folder with a single rename.
+     * @param stagingFolder The staging folder that contains the new project.
+     * @param projectFolder The project folder that the staging folder will be moved to.
+     * @return Whether the staging folder was moved. This is false if the project folder was
+     * created by another process after the staging folder was created.
+     */
+    static boolean publishStagingFolder(Folder stagingFolder, Folder projectFolder)
+    {
+        PreCondition.assertNotNull(stagingFolder, "stagingFolder");
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+
+        return stagingFolder.rename(projectFolder.getName())
+            .then(() -> true)
+            .catchError(FolderAlreadyExistsException.class, () -> false)
+            .await();
+    }
+
+    /**
+     * Run the provided action on the provided AsyncRunner, or immediately on the current thread if
+     * the AsyncRunner is null.
+     * @param asyncRunner The AsyncRunner that will run the action, or null.
+     * @param action The action to run.
+     * @param <T> The type of value that the action returns.
+     * @return The result of running the action.
+     */
+    static <T> Result<T> schedule(AsyncRunner asyncRunner, Function0<T> action)
+    {
+        PreCondition.assertNotNull(action, "action");
+
+        return asyncRunner == null
+            ? Result.create(action)
+            : asyncRunner.schedule(action);
+    }
+
+    /**
+     * Get the values that the templates of the project that is described by the provided
+     * parameters are rendered with.
+     * @param parameters The parameters that describe the project.
+     * @return The template values for the project.
+     */
+    static QubCreateProjectTemplateValues createTemplateValues(QubCreateProjectRunParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        return QubCreateProjectTemplateValues.create()
+            .setPublisher(parameters.getPublisher())
+            .setProject(parameters.getProjectFolder().getName())
+            .setVersion(parameters.getVersion())
+            .setYear(parameters.getYear())
+            .setAuthor(parameters.getAuthor());
+    }
+
+    /**
+     * Get the project.json contents of the project that is described by the provided parameters.
+     * @param parameters The parameters that describe the project.
+     * @param generator The generator for the project's type.
+     * @param dependencies The resolved dependencies of the project. If there are any, then the
+     *                     project.json contents get a java section even if the generator didn't
+     *                     add one.
+     * @return The project.json contents for the project.
+     */
+    static ProjectJSON createProjectJson(QubCreateProjectRunParameters parameters, QubCreateProjectGenerator generator, Iterable<ProjectSignature> dependencies)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertNotNull(generator, "generator");
+        PreCondition.assertNotNull(dependencies, "dependencies");
+
+        final ProjectJSON result = ProjectJSON.create()
+            .setProject(parameters.getProjectFolder().getName())
+            .setPublisher(parameters.getPublisher())
+            .setVersion(parameters.getVersion());
+        generator.configureProjectJson(result);
+
+        if (dependencies.any())
+        {
+            final ProjectJSONJava projectJsonJava = result.getJava() == null ? ProjectJSONJava.create() : result.getJava();
+            result.setJava(projectJsonJava.setDependencies(dependencies));
+        }
+
+        return result;
+    }
+
+    /**
+     * Find the newest installed version of each of the dependencies in the provided parameters.
+     * The installed versions come from the dependency index in the parameters' qub project data
+     * folder, which is brought up to date with the qub folder first.
+     * @param parameters The parameters that describe the project.
+     * @param metrics The metrics that the time to resolve the dependencies will be recorded in.
+     * @return The resolved dependencies, or a NotFoundException if one of the dependencies isn't
+     * installed.
+     */
+    static Result<Iterable<ProjectSignature>> resolveDependencies(QubCreateProjectRunParameters parameters, QubCreateProjectMetrics metrics)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertNotNull(metrics, "metrics");
+
+        return Result.create(() ->
+        {
+            final List<ProjectSignature> result = List.create();
+            final Iterable<String> dependencies = parameters.getDependencies();
+            if (dependencies.any())
+            {
+                final long dependenciesStart = metrics.startPhase();
+                final Folder qubProjectDataFolder = parameters.getQubProjectDataFolder();
+                final Folder qubFolder = QubCreateProjectDependencyIndex.getQubFolder(qubProjectDataFolder);
+                final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(QubCreateProjectDependencyIndex.getIndexFile(qubProjectDataFolder)).await();
+                index.update(qubFolder).await();
+                for (final String dependency : dependencies)
+                {
+                    final int slashIndex = dependency.indexOf('/');
+                    final String publisher = dependency.substring(0, slashIndex);
+                    final String project = dependency.substring(slashIndex + 1);
+                    final String version = index.getNewestVersion(publisher, project);
+                    if (version == null)
+                    {
+                        throw new NotFoundException("The dependency " + dependency + " isn't installed in folder " + qubFolder + ".");
+                    }
+                    result.add(ProjectSignature.create(publisher, project, version));
+                }
+                metrics.endPhase("dependencies", dependenciesStart);
+            }
             return result;
+        });
+    }
+
+    /**
+     * Write the project that is described by the provided parameters to the provided stream as an
+     * archive in the parameters' archive format. The archive contains the same files and folders
+     * that creating the project in its project folder would create, relative to the root of the
+     * archive. Nothing is read from or written to the file system, except for the dependency index
+     * when the project has dependencies.
+     * @param parameters The parameters that describe the project.
+     * @param stream The stream that the archive will be written to.
+     * @return The number of bytes that were written to the stream.
+     */
+    static long writeArchive(QubCreateProjectRunParameters parameters, ByteWriteStream stream)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+        PreCondition.assertNotNull(parameters.getArchiveFormat(), "parameters.getArchiveFormat()");
+        PreCondition.assertNotNull(stream, "stream");
+
+        // The dependencies are resolved first so that nothing has been written to the stream if one
+        // of them isn't installed.
+        final Iterable<ProjectSignature> dependencies = QubCreateProjectRun.resolveDependencies(parameters, QubCreateProjectMetrics.disabled).await();
+
+        final QubCreateProjectArchiveWriter archive = QubCreateProjectArchiveWriter.create(parameters.getArchiveFormat(), stream);
+        final QubCreateProjectGenerator generator = QubCreateProjectGenerators.getGenerator(parameters.getType());
+
+        archive.addFile("project.json", QubCreateProjectRun.createProjectJsonContents(QubCreateProjectRun.createProjectJson(parameters, generator, dependencies)));
+
+        final QubCreateProjectTemplateValues templateValues = QubCreateProjectRun.createTemplateValues(parameters);
+        final QubCreateProjectManifest manifest = QubCreateProjectManifest.create()
+            .setYear(parameters.getYear())
+            .setAuthor(parameters.getAuthor());
+        for (final String generatedFileName : QubCreateProjectTemplates.generatedFileNames)
+        {
+            final byte[] contents = QubCreateProjectTemplates.getTemplate(generatedFileName).render(templateValues);
+            archive.addFile(generatedFileName, contents);
+            manifest.set(QubCreateProjectManifestEntry.create(generatedFileName)
+                .setSize(contents.length)
+                .setHash(QubCreateProjectManifest.hash(contents)));
+        }
+        archive.addFile(QubCreateProjectManifest.fileName, CharacterEncoding.UTF_8.encodeCharacters(manifest.toManifestText()).await());
+
+        for (final String folderName : generator.getFolderNames())
+        {
+            archive.addFolder(folderName + "/");
+        }
+
+        return archive.finish();
+    }
+
+    /**
+     * Get the pretty-printed JSON bytes of the provided ProjectJSON.
+     * @param projectJson The ProjectJSON to write.
+     * @return The pretty-printed JSON bytes.
+     */
+    static byte[] createProjectJsonContents(ProjectJSON projectJson)
+    {
+        PreCondition.assertNotNull(projectJson, "projectJson");
+
+        final InMemoryByteStream projectJsonStream = InMemoryByteStream.create();
+        QubCreateProjectJSONWriter.create(projectJsonStream)
+            .write(projectJson.toJson())
+            .flush();
+        return projectJsonStream.getBytes();
+    }
+
+    /**
+     * Write the provided ProjectJSON to the provided file. The pretty-printed JSON is streamed into
+     * the file instead of being created as a String first.
+     * @param projectJsonFile The file to write to.
+     * @param projectJson The ProjectJSON to write.
+     * @return The number of bytes that were written.
+     */
+    static long writeProjectJsonFile(File projectJsonFile, ProjectJSON projectJson)
+    {
+        PreCondition.assertNotNull(projectJsonFile, "projectJsonFile");
+        PreCondition.assertNotNull(projectJson, "projectJson");
+
+        try (final ByteWriteStream projectJsonStream = projectJsonFile.getContentsByteWriteStream().await())
+        {
+            return QubCreateProjectJSONWriter.create(projectJsonStream)
+                .write(projectJson.toJson())
+                .flush()
+                .getBytesWritten();
         }
     }
+
+    /**
+     * Create the provided file with the provided contents if the provided plan says that it
+     * doesn't already exist and no other process creates it first.
+     * @param plan The plan that knows which of the project's files already exist.
+     * @param file The file to create.
+     * @param contents The encoded contents of the file.
+     * @param manifest The manifest that the created file's hash will be recorded in, or null if
+     *                 the file shouldn't be recorded.
+     * @param repository The git repository that the created file will be added to, or null if
+     *                   a git repository isn't being created.
+     * @param metrics The metrics that the file's creation will be recorded in.
+     * @param verbose The verbose log that decides whether a message is needed.
+     * @return The verbose message that describes what happened, or null if verbose output is
+     * disabled.
+     */
+    static String createFile(QubCreateProjectPlan plan, File file, byte[] contents, QubCreateProjectManifest manifest, QubCreateProjectGitRepository repository, QubCreateProjectMetrics metrics, QubCreateProjectVerbose verbose)
+    {
+        PreCondition.assertNotNull(plan, "plan");
+        PreCondition.assertNotNull(file, "file");
+        PreCondition.assertNotNull(contents, "contents");
+        PreCondition.assertNotNull(metrics, "metrics");
+        PreCondition.assertNotNull(verbose, "verbose");
+
+        String result = null;
+        final long fileStart = metrics.startPhase();
+        if (plan.fileExists(file.getName()) || !QubCreateProjectRun.tryCreateFile(plan, file, contents))
+        {
+            if (verbose.isEnabled())
+            {
+                result = file.getName() + " file (" + file + ") already exists.";
+            }
+        }
+        else
+        {
+            if (manifest != null)
+            {
+                manifest.set(QubCreateProjectManifestEntry.create(file.getName())
+                    .setSize(contents.length)
+                    .setHash(QubCreateProjectManifest.hash(contents)));
+            }
+            if (repository != null)
+            {
+                repository.addFile(file.getName(), contents);
+            }
+            metrics.endPhase(file.getName(), fileStart);
+            metrics.addFileCreated();
+            metrics.addBytesWritten(contents.length);
+            if (verbose.isEnabled())
+            {
+                result = "Creating " + file.getName() + " file (" + file + ")... Done.";
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Create the provided file with the provided contents if it doesn't already exist. The file is
+     * claimed by an exclusive create before its contents are written, so if two runs try to create
+     * the same file, then only one of them will succeed. If the provided plan's folder belongs to
+     * the current run, then no other process can have created the file and its contents are written
+     * directly.
+     * @param plan The plan for the folder that contains the file.
+     * @param file The file to create.
+     * @param contents The encoded contents of the file.
+     * @return Whether the current run created the file.
+     */
+    static boolean tryCreateFile(QubCreateProjectPlan plan, File file, byte[] contents)
+    {
+        PreCondition.assertNotNull(plan, "plan");
+        PreCondition.assertNotNull(file, "file");
+        PreCondition.assertNotNull(contents, "contents");
+
+        final boolean result = plan.isExclusive() ||
+            file.create()
+                .then(() -> true)
+                .catchError(FileAlreadyExistsException.class, () -> false)
+                .await();
+        if (result)
+        {
+            file.setContents(contents).await();
+        }
+        return result;
+    }
+
+    /**
+     * Create the provided folder if the provided plan says that it doesn't already exist.
+     * @param plan The plan that knows which of the project's folders already exist.
+     * @param folder The folder to create.
+     * @param metrics The metrics that the folder's creation will be recorded in.
+     * @param verbose The verbose log that decides whether a message is needed.
+     * @return The verbose message that describes what happened, or null if verbose output is
+     * disabled.
+     */
+    static String createFolder(QubCreateProjectPlan plan, Folder folder, QubCreateProjectMetrics metrics, QubCreateProjectVerbose verbose)
+    {
+        PreCondition.assertNotNull(plan, "plan");
+        PreCondition.assertNotNull(folder, "folder");
+        PreCondition.assertNotNull(metrics, "metrics");
+        PreCondition.assertNotNull(verbose, "verbose");
+
+        String result = null;
+        if (plan.folderExists(folder.getName()))
+        {
+            if (verbose.isEnabled())
+            {
+                result = folder.getName() + " folder (" + folder + ") already exists.";
+            }
+        }
+        else
+        {
+            final long folderStart = metrics.startPhase();
+            folder.create().catchError(FolderAlreadyExistsException.class).await();
+            metrics.endPhase(folder.getName(), folderStart);
+            metrics.addFolderCreated();
+            if (verbose.isEnabled())
+            {
+                result = "Creating " + folder.getName() + " folder (" + folder + ")... Done.";
+            }
+        }
+        return result;
+    }
 }
@@ -7,6 +7,25 @@ public class QubCreateProjectRunParameters
     private final Folder qubProjectDataFolder;
 
     private VerboseCharacterToByteWriteStream verbose;
+    private String publisher;
+    private String version;
+    private AsyncRunner asyncRunner;
+    private String author;
+    private String email;
+    private int year;
+    private QubCreateProjectMetrics metrics;
+    private QubCreateProjectLogRotation logRotation;
+    private Clock clock;
+    private boolean staged;
+    private String archiveFormat;
+    private String template;
+    private boolean linkTemplate;
+    private boolean git;
+    private String durability;
+    private QubCreateProjectSyncGroup syncGroup;
+    private String type;
+    private Iterable<String> dependencies;
+    private File histogramFile;
 
     private QubCreateProjectRunParameters(CharacterToByteWriteStream output, Folder projectFolder, Folder qubProjectDataFolder)
     {
@@ -19,6 +38,16 @@ public class QubCreateProjectRunParameters
         this.qubProjectDataFolder = qubProjectDataFolder;
 
         this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setPublisher("qub");
+        this.setVersion("1");
+        this.setAuthor("danschultequb");
+        this.setEmail("danschultequb@users.noreply.github.com");
+        this.setYear(java.time.Year.now().getValue());
+        this.setMetrics(QubCreateProjectMetrics.disabled);
+        this.setLogRotation(QubCreateProjectLogRotation.create());
+        this.setDurability(QubCreateProjectDurability.none);
+        this.setType(QubCreateProjectGenerators.defaultType);
+        this.setDependencies(Iterable.create());
     }
 
     public static QubCreateProjectRunParameters create(CharacterToByteWriteStream output, Folder projectFolder, Folder qubProjectDataFolder)
@@ -51,4 +80,343 @@ public class QubCreateProjectRunParameters
         this.verbose = verbose;
         return this;
     }
+
+    public String getPublisher()
+    {
+        return this.publisher;
+    }
+
+    public QubCreateProjectRunParameters setPublisher(String publisher)
+    {
+        PreCondition.assertNotNullAndNotEmpty(publisher, "publisher");
+
+        this.publisher = publisher;
+        return this;
+    }
+
+    public String getVersion()
+    {
+        return this.version;
+    }
+
+    public QubCreateProjectRunParameters setVersion(String version)
+    {
+        PreCondition.assertNotNullAndNotEmpty(version, "version");
+
+        this.version = version;
+        return this;
+    }
+
+    /**
+     * Get the AsyncRunner that the project's files and folders will be created on. If this is null,
+     * then the files and folders will be created one at a time on the current thread.
+     * @return The AsyncRunner that the project's files and folders will be created on.
+     */
+    public AsyncRunner getAsyncRunner()
+    {
+        return this.asyncRunner;
+    }
+
+    public QubCreateProjectRunParameters setAsyncRunner(AsyncRunner asyncRunner)
+    {
+        this.asyncRunner = asyncRunner;
+        return this;
+    }
+
+    /**
+     * Get the name of the copyright holder that will be written to the project's LICENSE file.
+     * @return The name of the copyright holder.
+     */
+    public String getAuthor()
+    {
+        return this.author;
+    }
+
+    public QubCreateProjectRunParameters setAuthor(String author)
+    {
+        PreCondition.assertNotNullAndNotEmpty(author, "author");
+
+        this.author = author;
+        return this;
+    }
+
+    /**
+     * Get the email address of the author and committer of a new git repository's initial commit.
+     * @return The email address of the initial commit's author.
+     */
+    public String getEmail()
+    {
+        return this.email;
+    }
+
+    public QubCreateProjectRunParameters setEmail(String email)
+    {
+        PreCondition.assertNotNullAndNotEmpty(email, "email");
+
+        this.email = email;
+        return this;
+    }
+
+    /**
+     * Get the copyright year that will be written to the project's LICENSE file. The run action
+     * sets this from the process's clock.
+     * @return The copyright year.
+     */
+    public int getYear()
+    {
+        return this.year;
+    }
+
+    public QubCreateProjectRunParameters setYear(int year)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(year, 1, "year");
+
+        this.year = year;
+        return this;
+    }
+
+    /**
+     * Get the metrics that timings and operation counts will be recorded in while the project is
+     * created.
+     * @return The metrics for creating the project.
+     */
+    public QubCreateProjectMetrics getMetrics()
+    {
+        return this.metrics;
+    }
+
+    public QubCreateProjectRunParameters setMetrics(QubCreateProjectMetrics metrics)
+    {
+        PreCondition.assertNotNull(metrics, "metrics");
+
+        this.metrics = metrics;
+        return this;
+    }
+
+    /**
+     * Get the limits for the log files in the project data folder.
+     * @return The limits for the log files in the project data folder.
+     */
+    public QubCreateProjectLogRotation getLogRotation()
+    {
+        return this.logRotation;
+    }
+
+    public QubCreateProjectRunParameters setLogRotation(QubCreateProjectLogRotation logRotation)
+    {
+        PreCondition.assertNotNull(logRotation, "logRotation");
+
+        this.logRotation = logRotation;
+        return this;
+    }
+
+    /**
+     * Get the clock that is used to decide whether the registry's compaction lock was left behind
+     * by a process that stopped, and that gives the time of a new git repository's initial commit.
+     * If this is null, then the lock is never taken over and a git repository can't be written.
+     * @return The clock that is used for the registry's compaction lock and the initial commit, or
+     * null.
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public QubCreateProjectRunParameters setClock(Clock clock)
+    {
+        this.clock = clock;
+        return this;
+    }
+
+    /**
+     * Get whether a new project folder will be built in a sibling staging folder and then moved
+     * into place with a single rename.
+     * @return Whether a new project folder will be staged.
+     */
+    public boolean isStaged()
+    {
+        return this.staged;
+    }
+
+    public QubCreateProjectRunParameters setStaged(boolean staged)
+    {
+        this.staged = staged;
+        return this;
+    }
+
+    /**
+     * Get the format of the archive that the project will be written to the output stream as. If
+     * this is null, then the project will be created in the project folder instead.
+     * @return The format of the archive that the project will be written as, or null.
+     */
+    public String getArchiveFormat()
+    {
+        return this.archiveFormat;
+    }
+
+    public QubCreateProjectRunParameters setArchiveFormat(String archiveFormat)
+    {
+        if (archiveFormat != null)
+        {
+            PreCondition.assertOneOf(archiveFormat, QubCreateProjectArchiveWriter.formats, "archiveFormat");
+        }
+
+        this.archiveFormat = archiveFormat;
+        return this;
+    }
+
+    /**
+     * Get the name of the template in the application's data folder whose files will be copied
+     * into the new project.
+     * @return The name of the template, or null if only the generated files will be created.
+     */
+    public String getTemplate()
+    {
+        return this.template;
+    }
+
+    public QubCreateProjectRunParameters setTemplate(String template)
+    {
+        if (template != null)
+        {
+            PreCondition.assertNotEmpty(template, "template");
+        }
+
+        this.template = template;
+        return this;
+    }
+
+    /**
+     * Get whether the template's files will be hard linked into the new project instead of being
+     * copied. A hard linked file shares its contents with the template, so changing the file in
+     * the new project also changes the template.
+     * @return Whether the template's files will be hard linked into the new project.
+     */
+    public boolean isLinkTemplate()
+    {
+        return this.linkTemplate;
+    }
+
+    public QubCreateProjectRunParameters setLinkTemplate(boolean linkTemplate)
+    {
+        this.linkTemplate = linkTemplate;
+        return this;
+    }
+
+    /**
+     * Get whether a git repository with an initial commit of the generated files will be written
+     * to the new project folder.
+     * @return Whether a git repository will be written to the new project folder.
+     */
+    public boolean isGit()
+    {
+        return this.git;
+    }
+
+    public QubCreateProjectRunParameters setGit(boolean git)
+    {
+        this.git = git;
+        return this;
+    }
+
+    /**
+     * Get when the new project's files and folders will be synced to disk. This is ignored if the
+     * project has a sync group.
+     * @return One of the QubCreateProjectDurability.runValues.
+     */
+    public String getDurability()
+    {
+        return this.durability;
+    }
+
+    public QubCreateProjectRunParameters setDurability(String durability)
+    {
+        PreCondition.assertOneOf(durability, QubCreateProjectDurability.runValues, "durability");
+
+        this.durability = durability;
+        return this;
+    }
+
+    /**
+     * Get the sync group that the new project's folder will be added to. The owner of the sync
+     * group is responsible for syncing it.
+     * @return The sync group that the new project's folder will be added to, or null if the
+     * project's durability decides when it is synced.
+     */
+    public QubCreateProjectSyncGroup getSyncGroup()
+    {
+        return this.syncGroup;
+    }
+
+    public QubCreateProjectRunParameters setSyncGroup(QubCreateProjectSyncGroup syncGroup)
+    {
+        this.syncGroup = syncGroup;
+        return this;
+    }
+
+    /**
+     * Get the type of project that will be created.
+     * @return One of the QubCreateProjectGenerators.types.
+     */
+    public String getType()
+    {
+        return this.type;
+    }
+
+    public QubCreateProjectRunParameters setType(String type)
+    {
+        PreCondition.assertOneOf(type, QubCreateProjectGenerators.types, "type");
+
+        this.type = type;
+        return this;
+    }
+
+    /**
+     * Get the installed projects that the new project will depend on. Each dependency is written
+     * as "publisher/project", and the new project will depend on its newest installed version.
+     * @return The installed projects that the new project will depend on.
+     */
+    public Iterable<String> getDependencies()
+    {
+        return this.dependencies;
+    }
+
+    public QubCreateProjectRunParameters setDependencies(Iterable<String> dependencies)
+    {
+        PreCondition.assertNotNull(dependencies, "dependencies");
+        for (final String dependency : dependencies)
+        {
+            PreCondition.assertTrue(QubCreateProjectRunParameters.isDependency(dependency), "QubCreateProjectRunParameters.isDependency(dependency)");
+        }
+
+        this.dependencies = dependencies;
+        return this;
+    }
+
+    /**
+     * Get the file that the latency of each phase of a successful run will be recorded in, or null
+     * if the latencies won't be recorded.
+     * @return The file that the latency of each phase of a successful run will be recorded in.
+     */
+    public File getHistogramFile()
+    {
+        return this.histogramFile;
+    }
+
+    public QubCreateProjectRunParameters setHistogramFile(File histogramFile)
+    {
+        this.histogramFile = histogramFile;
+        return this;
+    }
+
+    /**
+     * Get whether the provided text is formatted as publisher/project.
+     * @param text The text to check.
+     * @return Whether the provided text is formatted as publisher/project.
+     */
+    static boolean isDependency(String text)
+    {
+        final int slashIndex = text == null ? -1 : text.indexOf('/');
+        return slashIndex > 0 && slashIndex < text.length() - 1 && text.indexOf('/', slashIndex + 1) == -1;
+    }
 }
@@ -0,0 +1,227 @@
+package qub;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A QubProject action that searches a workspace for the folders that are missing the files and
+ * folders that the run action creates.
+ * <p>
+ * A folder that contains any of those files or folders is treated as a project and is reported if
+ * it is missing the rest of them. The scan doesn't look inside a project. A folder that doesn't
+ * contain any of them is treated as a grouping folder and its sub-folders are scanned instead,
+ * unless it doesn't have any sub-folders, in which case it is reported as missing all of them.
+ */
+public interface QubCreateProjectScan
+{
+    String actionName = "scan";
+    String actionDescription = "Find the folders in a workspace that need to be scaffolded.";
+
+    /**
+     * The names of the files that the run action creates in a project folder.
+     */
+    Iterable<String> projectFileNames = Iterable.create("project.json", "README.md", "LICENSE", ".gitignore");
+
+    /**
+     * The names of the folders that the run action creates in a project folder of the default type.
+     */
+    Iterable<String> projectFolderNames = Iterable.create("sources", "tests");
+
+    static QubCreateProjectScanParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectScan.actionName))
+            .setApplicationDescription(QubCreateProjectScan.actionDescription);
+
+        final CommandLineParameter<Folder> workspaceFolderParameter = parameters.addPositionalFolder("workspaceFolder", process)
+            .setValueName("<workspace-folder-path>")
+            .setDescription("The folder to scan. The current folder will be used if this isn't defined.");
+        final CommandLineParameter<Integer> parallelismParameter = parameters.addInteger("parallelism")
+            .setValueName("<thread-count>")
+            .setDescription("The maximum number of folders to list at the same time. The number of processors will be used if this isn't defined.");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectScanParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await() &&
+            QubCreateProjectRun.validateBetween(process, "parallelism", parallelismParameter.getValue().await(), 1, Integer.MAX_VALUE))
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            final Folder workspaceFolder = workspaceFolderParameter.getValue().await();
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectScanParameters.create(output, workspaceFolder)
+                .setVerbose(verbose);
+
+            final Integer parallelism = parallelismParameter.getValue().await();
+            if (parallelism != null)
+            {
+                result.setParallelism(parallelism);
+            }
+        }
+
+        return result;
+    }
+
+    static int run(QubCreateProjectScanParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final Folder workspaceFolder = parameters.getWorkspaceFolder();
+
+        int result = 0;
+        if (!workspaceFolder.exists().await())
+        {
+            output.writeLine("The folder " + workspaceFolder + " doesn't exist.").await();
+            result = -1;
+        }
+        else
+        {
+            verbose.writeLine("Scanning " + workspaceFolder + " with " + parameters.getParallelism() + " threads...").await();
+
+            // Each folder is written as soon as it is found, so the output of a large scan starts
+            // right away and the found folders don't need to be held in memory.
+            final AtomicLong foundFolderCount = new AtomicLong(0);
+            final long startNanoseconds = System.nanoTime();
+            final long scannedFolderCount = QubCreateProjectScan.scan(workspaceFolder, parameters.getParallelism(), (Folder folder, Iterable<String> missingNames) ->
+            {
+                foundFolderCount.incrementAndGet();
+                synchronized (output)
+                {
+                    output.writeLine(folder + " is missing " + Strings.join(", ", missingNames) + ".").await();
+                }
+            });
+
+            final double elapsedSeconds = (System.nanoTime() - startNanoseconds) / 1_000_000_000.0;
+            final double foldersPerSecond = elapsedSeconds == 0 ? 0 : scannedFolderCount / elapsedSeconds;
+            output.writeLine("Found " + foundFolderCount.get() + " folders that need to be scaffolded.").await();
+            output.writeLine("Scanned " + scannedFolderCount + " folders in " +
+                String.format(java.util.Locale.ROOT, "%.3f", elapsedSeconds) + " seconds (" + String.format(java.util.Locale.ROOT, "%.1f", foldersPerSecond) + " folders/second).").await();
+        }
+
+        return result;
+    }
+
+    /**
+     * Scan the provided workspace folder for the folders that need to be scaffolded. Each folder
+     * is listed by its own task in a work-stealing pool, so idle threads take over the sub-folders
+     * of busy threads no matter how uneven the folder tree is.
+     * @param workspaceFolder The folder to scan.
+     * @param parallelism The number of threads that will list folders at the same time.
+     * @param onFolderFound The action that will be run with each folder that needs to be
+     *                      scaffolded and the names of the files and folders that it is missing.
+     *                      This may be run from multiple threads at the same time.
+     * @return The number of folders that were listed.
+     */
+    static long scan(Folder workspaceFolder, int parallelism, Action2<Folder,Iterable<String>> onFolderFound)
+    {
+        PreCondition.assertNotNull(workspaceFolder, "workspaceFolder");
+        PreCondition.assertGreaterThanOrEqualTo(parallelism, 1, "parallelism");
+        PreCondition.assertNotNull(onFolderFound, "onFolderFound");
+
+        final AtomicLong scannedFolderCount = new AtomicLong(0);
+        final ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try
+        {
+            pool.invoke(QubCreateProjectScan.createScanTask(workspaceFolder, scannedFolderCount, onFolderFound));
+        }
+        finally
+        {
+            pool.shutdown();
+        }
+        return scannedFolderCount.get();
+    }
+
+    static ForkJoinTask<?> createScanTask(Folder folder, AtomicLong scannedFolderCount, Action2<Folder,Iterable<String>> onFolderFound)
+    {
+        return ForkJoinTask.adapt(() -> QubCreateProjectScan.scanFolder(folder, scannedFolderCount, onFolderFound));
+    }
+
+    static void scanFolder(Folder folder, AtomicLong scannedFolderCount, Action2<Folder,Iterable<String>> onFolderFound)
+    {
+        PreCondition.assertNotNull(folder, "folder");
+        PreCondition.assertNotNull(scannedFolderCount, "scannedFolderCount");
+        PreCondition.assertNotNull(onFolderFound, "onFolderFound");
+
+        // A folder that was deleted after its parent was listed is skipped.
+        final Iterable<FileSystemEntry> entries = folder.getFilesAndFolders()
+            .catchError(FolderNotFoundException.class)
+            .await();
+        if (entries != null)
+        {
+            scannedFolderCount.incrementAndGet();
+
+            final Set<String> fileNames = Set.create();
+            final Set<String> folderNames = Set.create();
+            final java.util.List<ForkJoinTask<?>> subFolderTasks = new java.util.ArrayList<>();
+            for (final FileSystemEntry entry : entries)
+            {
+                final String entryName = entry.getName();
+                if (!(entry instanceof Folder))
+                {
+                    fileNames.add(entryName);
+                }
+                else
+                {
+                    folderNames.add(entryName);
+                    if (!QubCreateProjectScan.isIgnoredFolderName(entryName))
+                    {
+                        subFolderTasks.add(QubCreateProjectScan.createScanTask((Folder)entry, scannedFolderCount, onFolderFound));
+                    }
+                }
+            }
+
+            final List<String> missingNames = List.create();
+            for (final String projectFileName : QubCreateProjectScan.projectFileNames)
+            {
+                if (!fileNames.contains(projectFileName))
+                {
+                    missingNames.add(projectFileName);
+                }
+            }
+            for (final String projectFolderName : QubCreateProjectScan.projectFolderNames)
+            {
+                if (!folderNames.contains(projectFolderName))
+                {
+                    missingNames.add(projectFolderName);
+                }
+            }
+
+            final boolean isProject = missingNames.getCount() < QubCreateProjectScan.projectFileNames.getCount() + QubCreateProjectScan.projectFolderNames.getCount();
+            if (isProject)
+            {
+                if (missingNames.any())
+                {
+                    onFolderFound.run(folder, missingNames);
+                }
+            }
+            else if (subFolderTasks.isEmpty())
+            {
+                onFolderFound.run(folder, missingNames);
+            }
+            else
+            {
+                ForkJoinTask.invokeAll(subFolderTasks);
+            }
+        }
+    }
+
+    /**
+     * Get whether the scan should skip the folder with the provided name. Hidden folders, such as
+     * .git and the staging folders that are created by the run action, are skipped along with the
+     * folders that are listed in a new project's .gitignore file.
+     * @param folderName The name of the folder.
+     * @return Whether the scan should skip the folder.
+     */
+    static boolean isIgnoredFolderName(String folderName)
+    {
+        PreCondition.assertNotNullAndNotEmpty(folderName, "folderName");
+
+        return folderName.startsWith(".") || QubCreateProjectTemplates.ignoredFolderNames.contains(folderName);
+    }
+}
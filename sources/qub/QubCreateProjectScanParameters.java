@@ -0,0 +1,69 @@
+package qub;
+
+public class QubCreateProjectScanParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final Folder workspaceFolder;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private int parallelism;
+
+    private QubCreateProjectScanParameters(CharacterToByteWriteStream output, Folder workspaceFolder)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(workspaceFolder, "workspaceFolder");
+
+        this.output = output;
+        this.workspaceFolder = workspaceFolder;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setParallelism(Runtime.getRuntime().availableProcessors());
+    }
+
+    public static QubCreateProjectScanParameters create(CharacterToByteWriteStream output, Folder workspaceFolder)
+    {
+        return new QubCreateProjectScanParameters(output, workspaceFolder);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    /**
+     * Get the folder that will be scanned for folders that need to be scaffolded.
+     * @return The folder that will be scanned.
+     */
+    public Folder getWorkspaceFolder()
+    {
+        return this.workspaceFolder;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectScanParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get the number of threads that will list folders at the same time.
+     * @return The number of threads that will list folders at the same time.
+     */
+    public int getParallelism()
+    {
+        return this.parallelism;
+    }
+
+    public QubCreateProjectScanParameters setParallelism(int parallelism)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(parallelism, 1, "parallelism");
+
+        this.parallelism = parallelism;
+        return this;
+    }
+}
@@ -0,0 +1,109 @@
+package qub;
+
+/**
+ * A QubProject action that shows the latency of each phase of the previous runs that were recorded
+ * in the QubCreateProjectHistogramFile in this application's project data folder.
+ */
+public interface QubCreateProjectStats
+{
+    String actionName = "stats";
+    String actionDescription = "Show the latency percentiles of each phase of previous runs.";
+
+    static QubCreateProjectStatsParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectStats.actionName))
+            .setApplicationDescription(QubCreateProjectStats.actionDescription);
+
+        final CommandLineParameterBoolean jsonParameter = parameters.addBoolean("json")
+            .setDescription("Write the recorded latencies, including their histogram buckets, as JSON.");
+        final CommandLineParameterBoolean resetParameter = parameters.addBoolean("reset")
+            .setDescription("Delete the recorded latencies after they are shown.");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectStatsParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await())
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            final Folder qubProjectDataFolder = process.getQubProjectDataFolder().await();
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectStatsParameters.create(output, QubCreateProjectHistogramFile.getHistogramFile(qubProjectDataFolder))
+                .setVerbose(verbose)
+                .setJson(jsonParameter.getValue().await())
+                .setReset(resetParameter.getValue().await());
+        }
+
+        return result;
+    }
+
+    static int run(QubCreateProjectStatsParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final File histogramFile = parameters.getHistogramFile();
+
+        verbose.writeLine("Reading " + histogramFile + "...").await();
+        final Iterable<QubCreateProjectHistogram> histograms = QubCreateProjectHistogramFile.read(histogramFile).await();
+        if (parameters.getJson())
+        {
+            output.writeLine(QubCreateProjectStats.toJson(histograms).toString(JSONFormat.pretty)).await();
+        }
+        else if (!histograms.any())
+        {
+            output.writeLine("No runs have been recorded.").await();
+        }
+        else
+        {
+            for (final QubCreateProjectHistogram histogram : histograms)
+            {
+                output.writeLine(histogram.toString()).await();
+            }
+        }
+
+        if (parameters.getReset())
+        {
+            final boolean histogramFileExisted = QubCreateProjectHistogramFile.reset(histogramFile).await();
+            if (!histogramFileExisted)
+            {
+                verbose.writeLine("No recorded latencies to reset.").await();
+            }
+            else if (parameters.getJson())
+            {
+                // The JSON output is meant to be parsed, so the reset is only reported when verbose
+                // output is on.
+                verbose.writeLine("Reset the recorded latencies.").await();
+            }
+            else
+            {
+                output.writeLine("Reset the recorded latencies.").await();
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Get the JSON object that contains the provided histograms, keyed by their phase names.
+     * @param histograms The histograms.
+     * @return The JSON object that contains the provided histograms.
+     */
+    static JSONObject toJson(Iterable<QubCreateProjectHistogram> histograms)
+    {
+        PreCondition.assertNotNull(histograms, "histograms");
+
+        final JSONObject phasesJson = JSONObject.create();
+        for (final QubCreateProjectHistogram histogram : histograms)
+        {
+            phasesJson.setObject(histogram.getName(), histogram.toJson());
+        }
+
+        return JSONObject.create()
+            .setObject("phases", phasesJson);
+    }
+}
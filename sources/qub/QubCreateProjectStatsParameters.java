@@ -0,0 +1,82 @@
+package qub;
+
+public class QubCreateProjectStatsParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final File histogramFile;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private boolean reset;
+    private boolean json;
+
+    private QubCreateProjectStatsParameters(CharacterToByteWriteStream output, File histogramFile)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(histogramFile, "histogramFile");
+
+        this.output = output;
+        this.histogramFile = histogramFile;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+    }
+
+    public static QubCreateProjectStatsParameters create(CharacterToByteWriteStream output, File histogramFile)
+    {
+        return new QubCreateProjectStatsParameters(output, histogramFile);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    /**
+     * Get the file that the latency histograms of previous runs are stored in.
+     * @return The file that the latency histograms of previous runs are stored in.
+     */
+    public File getHistogramFile()
+    {
+        return this.histogramFile;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectStatsParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get whether the recorded latencies will be deleted after they are shown.
+     * @return Whether the recorded latencies will be deleted after they are shown.
+     */
+    public boolean getReset()
+    {
+        return this.reset;
+    }
+
+    public QubCreateProjectStatsParameters setReset(boolean reset)
+    {
+        this.reset = reset;
+        return this;
+    }
+
+    /**
+     * Get whether the recorded latencies will be written as JSON instead of one line per phase.
+     * @return Whether the recorded latencies will be written as JSON.
+     */
+    public boolean getJson()
+    {
+        return this.json;
+    }
+
+    public QubCreateProjectStatsParameters setJson(boolean json)
+    {
+        this.json = json;
+        return this;
+    }
+}
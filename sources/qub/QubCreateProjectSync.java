@@ -0,0 +1,206 @@
+package qub;
+
+/**
+ * A QubProject action that updates the generated files in an existing project to match the
+ * current templates. Only the files that are recorded in the project's QubCreateProjectManifest
+ * and that still contain what this application wrote to them are replaced, so files that have
+ * been changed by hand are left alone.
+ */
+public interface QubCreateProjectSync
+{
+    String actionName = "sync";
+    String actionDescription = "Update the generated files in an existing Qub project.";
+
+    static QubCreateProjectSyncParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectSync.actionName))
+            .setApplicationDescription(QubCreateProjectSync.actionDescription);
+
+        final CommandLineParameter<Folder> projectFolderParameter = QubCreateProjectRun.addProjectFolderParameter(parameters, process);
+        final CommandLineParameterBoolean checkParameter = parameters.addBoolean("check")
+            .setDescription("Only report the generated files that are out of date. The exit code is the negative number of out of date files.");
+        final CommandLineParameterBoolean forceParameter = parameters.addBoolean("force")
+            .setDescription("Replace generated files even if they have been changed by hand.");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectSyncParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await())
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            final Folder projectFolder = projectFolderParameter.getValue().await();
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectSyncParameters.create(output, projectFolder)
+                .setVerbose(verbose)
+                .setClock(process.getClock())
+                .setYear(process.getClock().getCurrentDateTime().getYear())
+                .setCheckOnly(checkParameter.getValue().await())
+                .setForce(forceParameter.getValue().await());
+        }
+
+        return result;
+    }
+
+    static int run(QubCreateProjectSyncParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final Folder projectFolder = parameters.getProjectFolder();
+        final boolean checkOnly = parameters.getCheckOnly();
+
+        // The project folder is listed once so that generated files that don't exist don't need
+        // their own metadata requests.
+        final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+        if (!plan.fileExists("project.json"))
+        {
+            output.writeLine("No Qub project exists in folder " + projectFolder + ".").await();
+            return -1;
+        }
+
+        final ProjectJSON projectJson = ProjectJSON.parse(projectFolder.getFile("project.json").await()).await();
+        final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await();
+        boolean manifestChanged = false;
+
+        // The LICENSE file is rendered with the year and author that the project was created
+        // with, so that syncing doesn't change them. A manifest that was written before they were
+        // recorded gets the parameters' values, which are then recorded with the next update.
+        if (manifest.getYear() == 0)
+        {
+            manifest.setYear(parameters.getYear());
+            manifestChanged = true;
+        }
+        if (manifest.getAuthor() == null)
+        {
+            manifest.setAuthor(parameters.getAuthor());
+            manifestChanged = true;
+        }
+        final QubCreateProjectTemplateValues templateValues = QubCreateProjectTemplateValues.create()
+            .setPublisher(projectJson.getPublisher() == null ? "qub" : projectJson.getPublisher())
+            .setProject(projectFolder.getName())
+            .setVersion(projectJson.getVersion() == null ? "1" : projectJson.getVersion())
+            .setYear(manifest.getYear())
+            .setAuthor(manifest.getAuthor());
+
+        int outOfDateCount = 0;
+        for (final String fileName : QubCreateProjectTemplates.generatedFileNames)
+        {
+            final File file = projectFolder.getFile(fileName).await();
+            final byte[] contents = QubCreateProjectTemplates.getTemplate(fileName).render(templateValues);
+            final String hash = QubCreateProjectManifest.hash(contents);
+            final QubCreateProjectManifestEntry entry = manifest.get(fileName);
+
+            boolean outOfDate;
+            if (!plan.fileExists(fileName))
+            {
+                verbose.writeLine(fileName + " file (" + file + ") doesn't exist.").await();
+                outOfDate = true;
+            }
+            else
+            {
+                final long size = file.getContentsByteCount().await();
+                final DateTime lastModified = file.getLastModified().await();
+
+                // A file whose size and last modified time haven't changed since it was last
+                // checked still has the recorded hash, so it doesn't need to be read.
+                final boolean unchanged = entry != null && entry.matches(size, lastModified.toString());
+                final String currentHash = unchanged
+                    ? entry.getHash()
+                    : QubCreateProjectManifest.hash(file.getContents().await());
+                if (currentHash.equals(hash))
+                {
+                    verbose.writeLine(fileName + " file (" + file + ") is up to date.").await();
+                    outOfDate = false;
+                    if (!unchanged)
+                    {
+                        manifest.set(QubCreateProjectManifestEntry.create(fileName)
+                            .setSize(size)
+                            .setLastModified(QubCreateProjectSync.getReliableLastModified(lastModified, parameters.getClock()))
+                            .setHash(hash));
+                        manifestChanged = true;
+                    }
+                }
+                else if (parameters.getForce() || (entry != null && currentHash.equals(entry.getHash())))
+                {
+                    verbose.writeLine(fileName + " file (" + file + ") doesn't match the current template.").await();
+                    outOfDate = true;
+                }
+                else
+                {
+                    output.writeLine("Skipped " + fileName + " because it has been changed by hand.").await();
+                    outOfDate = false;
+                }
+            }
+
+            if (outOfDate)
+            {
+                ++outOfDateCount;
+                if (checkOnly)
+                {
+                    output.writeLine(fileName + " is out of date.").await();
+                }
+                else
+                {
+                    file.setContents(contents).await();
+                    manifest.set(QubCreateProjectManifestEntry.create(fileName)
+                        .setSize(contents.length)
+                        .setLastModified(QubCreateProjectSync.getReliableLastModified(file.getLastModified().await(), parameters.getClock()))
+                        .setHash(hash));
+                    manifestChanged = true;
+                    output.writeLine("Updated " + fileName + ".").await();
+                }
+            }
+        }
+
+        int result = 0;
+        if (checkOnly)
+        {
+            result = -outOfDateCount;
+            output.writeLine(outOfDateCount == 0
+                ? "The generated files in folder " + projectFolder + " are up to date."
+                : outOfDateCount + " generated files in folder " + projectFolder + " are out of date.").await();
+        }
+        else
+        {
+            if (manifestChanged)
+            {
+                projectFolder.setFileContentsAsString(QubCreateProjectManifest.fileName, manifest.toManifestText()).await();
+            }
+            output.writeLine("Updated " + outOfDateCount + " generated files in folder " + projectFolder + ".").await();
+        }
+
+        return result;
+    }
+
+    /**
+     * Get the last modified time that will be recorded in the manifest for a file with the
+     * provided last modified time. A file that was modified too close to when it was checked could
+     * still be changed within the same timestamp granularity without changing its size or last
+     * modified time, so its last modified time isn't trusted, which is the same rule that
+     * QubCreateProjectDependencyIndex uses for folders.
+     * @param lastModified The last modified time of the file.
+     * @param clock The clock that gives the time that the file was checked at, or null if it isn't
+     *              known.
+     * @return The provided last modified time as a string, or null if it can't be trusted.
+     */
+    static String getReliableLastModified(DateTime lastModified, Clock clock)
+    {
+        PreCondition.assertNotNull(lastModified, "lastModified");
+
+        String result = null;
+        if (clock != null)
+        {
+            final DateTime reliableBefore = clock.getCurrentDateTime().minus(Duration.milliseconds(QubCreateProjectDependencyIndex.reliableLastModifiedMilliseconds));
+            if (!reliableBefore.lessThan(lastModified))
+            {
+                result = lastModified.toString();
+            }
+        }
+        return result;
+    }
+}
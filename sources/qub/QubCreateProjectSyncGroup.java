@@ -0,0 +1,245 @@
+package qub;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * A group of new project folders whose files and folders are synced to disk together in a single
+ * pass after they have all been written, instead of syncing each file as soon as it is written.
+ * <p>
+ * The syncs in a pass are started from several threads at the same time, which lets journaling
+ * file systems commit many of them with a single journal write. Every file is synced before any
+ * folder is, so a folder's entries are never on disk before the files that they name.
+ */
+public class QubCreateProjectSyncGroup
+{
+    /**
+     * The number of files or folders that are synced at the same time.
+     */
+    public static final int syncThreadCount = 8;
+
+    private final List<Folder> folders;
+    private final List<Action0> syncedActions;
+
+    private QubCreateProjectSyncGroup()
+    {
+        this.folders = List.create();
+        this.syncedActions = List.create();
+    }
+
+    /**
+     * Create a new empty sync group.
+     * @return The new sync group.
+     */
+    public static QubCreateProjectSyncGroup create()
+    {
+        return new QubCreateProjectSyncGroup();
+    }
+
+    /**
+     * Add the provided folder to this group. The folder, everything inside it, and its entry in its
+     * parent folder will be synced the next time that this group is synced. This can be called
+     * from multiple threads at the same time.
+     * @param folder The folder to add.
+     * @return This object for method chaining.
+     */
+    public synchronized QubCreateProjectSyncGroup addFolder(Folder folder)
+    {
+        PreCondition.assertNotNull(folder, "folder");
+
+        this.folders.add(folder);
+        return this;
+    }
+
+    /**
+     * Add the provided folder to this group, along with an action that will be run once the folder
+     * has been synced. The action is used for work that must not happen before the folder is on
+     * disk, such as recording the folder's project in the registry. This can be called from
+     * multiple threads at the same time.
+     * @param folder The folder to add.
+     * @param syncedAction The action to run after the folder has been synced.
+     * @return This object for method chaining.
+     */
+    public synchronized QubCreateProjectSyncGroup addFolder(Folder folder, Action0 syncedAction)
+    {
+        PreCondition.assertNotNull(folder, "folder");
+        PreCondition.assertNotNull(syncedAction, "syncedAction");
+
+        this.folders.add(folder);
+        this.syncedActions.add(syncedAction);
+        return this;
+    }
+
+    /**
+     * Get the number of folders that are waiting to be synced.
+     * @return The number of folders that are waiting to be synced.
+     */
+    public synchronized int getFolderCount()
+    {
+        return this.folders.getCount();
+    }
+
+    /**
+     * Sync the folders that have been added to this group, and then remove them from this group.
+     * @return The number of files and folders that were synced.
+     */
+    public long sync()
+    {
+        return this.sync(QubCreateProjectSyncGroup.syncThreadCount);
+    }
+
+    /**
+     * Sync the folders that have been added to this group with the provided number of threads, and
+     * then remove them from this group. Folders that aren't on the local file system can't be
+     * synced and are skipped. Once every folder has been synced, the actions that were added with
+     * the folders are run in the order that they were added.
+     * @param threadCount The number of files or folders to sync at the same time.
+     * @return The number of files and folders that were synced.
+     */
+    public long sync(int threadCount)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(threadCount, 1, "threadCount");
+
+        final List<Folder> foldersToSync = List.create();
+        final List<Action0> actionsToRun = List.create();
+        synchronized (this)
+        {
+            foldersToSync.addAll(this.folders);
+            this.folders.clear();
+            actionsToRun.addAll(this.syncedActions);
+            this.syncedActions.clear();
+        }
+
+        final List<java.nio.file.Path> filePaths = List.create();
+        final java.util.LinkedHashSet<java.nio.file.Path> folderPaths = new java.util.LinkedHashSet<>();
+        for (final Folder folder : foldersToSync)
+        {
+            if (folder.getFileSystem() instanceof JavaFileSystem)
+            {
+                final Iterable<FileSystemEntry> entries = folder.getFilesAndFoldersRecursively()
+                    .catchError(FolderNotFoundException.class)
+                    .await();
+                if (entries != null)
+                {
+                    for (final FileSystemEntry entry : entries)
+                    {
+                        final java.nio.file.Path entryPath = Paths.get(entry.toString());
+                        if (entry instanceof File)
+                        {
+                            filePaths.add(entryPath);
+                        }
+                        else
+                        {
+                            folderPaths.add(entryPath);
+                        }
+                    }
+
+                    final java.nio.file.Path folderPath = Paths.get(folder.toString());
+                    folderPaths.add(folderPath);
+                    if (folderPath.getParent() != null)
+                    {
+                        folderPaths.add(folderPath.getParent());
+                    }
+                }
+            }
+        }
+
+        final long result = QubCreateProjectSyncGroup.force(filePaths, true, threadCount) +
+            QubCreateProjectSyncGroup.force(Iterable.create(folderPaths.toArray(new java.nio.file.Path[0])), false, threadCount);
+
+        for (final Action0 action : actionsToRun)
+        {
+            action.run();
+        }
+
+        return result;
+    }
+
+    /**
+     * Sync each of the provided files or folders to disk.
+     * @param paths The paths of the files or folders to sync.
+     * @param files Whether the paths are files. If they aren't, then they are folders.
+     * @param threadCount The number of paths to sync at the same time.
+     * @return The number of paths that were synced.
+     */
+    static long force(Iterable<java.nio.file.Path> paths, boolean files, int threadCount)
+    {
+        PreCondition.assertNotNull(paths, "paths");
+        PreCondition.assertGreaterThanOrEqualTo(threadCount, 1, "threadCount");
+
+        long result = 0;
+        final int pathCount = paths.getCount();
+        if (threadCount == 1 || pathCount <= 1)
+        {
+            for (final java.nio.file.Path path : paths)
+            {
+                if (QubCreateProjectSyncGroup.force(path, files))
+                {
+                    ++result;
+                }
+            }
+        }
+        else
+        {
+            final ExecutorService syncThreads = Executors.newFixedThreadPool(Math.min(threadCount, pathCount));
+            try
+            {
+                final List<Future<Boolean>> synced = List.create();
+                for (final java.nio.file.Path path : paths)
+                {
+                    synced.add(syncThreads.submit(() -> QubCreateProjectSyncGroup.force(path, files)));
+                }
+                for (final Future<Boolean> pathSynced : synced)
+                {
+                    if (pathSynced.get())
+                    {
+                        ++result;
+                    }
+                }
+            }
+            catch (InterruptedException | ExecutionException e)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+            finally
+            {
+                syncThreads.shutdownNow();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Sync the provided file or folder to disk.
+     * @param path The path of the file or folder.
+     * @param file Whether the path is a file. If it isn't, then it is a folder.
+     * @return Whether the path was synced. Folders can't be opened on some operating systems, such
+     * as Windows, where they are skipped.
+     */
+    static boolean force(java.nio.file.Path path, boolean file)
+    {
+        PreCondition.assertNotNull(path, "path");
+
+        boolean result;
+        try (final FileChannel channel = FileChannel.open(path, file ? StandardOpenOption.WRITE : StandardOpenOption.READ))
+        {
+            channel.force(true);
+            result = true;
+        }
+        catch (IOException e)
+        {
+            if (file)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+            result = false;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+package qub;
+
+public class QubCreateProjectSyncParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final Folder projectFolder;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private String author;
+    private int year;
+    private boolean checkOnly;
+    private boolean force;
+    private Clock clock;
+
+    private QubCreateProjectSyncParameters(CharacterToByteWriteStream output, Folder projectFolder)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+
+        this.output = output;
+        this.projectFolder = projectFolder;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setAuthor("danschultequb");
+        this.setYear(java.time.Year.now().getValue());
+    }
+
+    public static QubCreateProjectSyncParameters create(CharacterToByteWriteStream output, Folder projectFolder)
+    {
+        return new QubCreateProjectSyncParameters(output, projectFolder);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    public Folder getProjectFolder()
+    {
+        return this.projectFolder;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectSyncParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get the name of the copyright holder that will be written to the project's LICENSE file if
+     * the project's manifest doesn't record the one that the project was created with.
+     * @return The name of the copyright holder.
+     */
+    public String getAuthor()
+    {
+        return this.author;
+    }
+
+    public QubCreateProjectSyncParameters setAuthor(String author)
+    {
+        PreCondition.assertNotNullAndNotEmpty(author, "author");
+
+        this.author = author;
+        return this;
+    }
+
+    /**
+     * Get the copyright year that will be written to the project's LICENSE file if the project's
+     * manifest doesn't record the one that the project was created with. The sync action sets this
+     * from the process's clock.
+     * @return The copyright year.
+     */
+    public int getYear()
+    {
+        return this.year;
+    }
+
+    public QubCreateProjectSyncParameters setYear(int year)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(year, 1, "year");
+
+        this.year = year;
+        return this;
+    }
+
+    /**
+     * Get whether the generated files will only be checked. If this is true, then no files will be
+     * written and the exit code will be the negative number of generated files that are out of
+     * date.
+     * @return Whether the generated files will only be checked.
+     */
+    public boolean getCheckOnly()
+    {
+        return this.checkOnly;
+    }
+
+    public QubCreateProjectSyncParameters setCheckOnly(boolean checkOnly)
+    {
+        this.checkOnly = checkOnly;
+        return this;
+    }
+
+    /**
+     * Get whether generated files that were changed by hand will be replaced.
+     * @return Whether generated files that were changed by hand will be replaced.
+     */
+    public boolean getForce()
+    {
+        return this.force;
+    }
+
+    public QubCreateProjectSyncParameters setForce(boolean force)
+    {
+        this.force = force;
+        return this;
+    }
+
+    /**
+     * Get the clock that gives the time that the generated files are checked at. A file's last
+     * modified time is only recorded in the manifest if it is far enough before that time to be
+     * trusted. If this is null, then no last modified times are recorded and every generated file
+     * is read.
+     * @return The clock that gives the time that the generated files are checked at, or null.
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public QubCreateProjectSyncParameters setClock(Clock clock)
+    {
+        this.clock = clock;
+        return this;
+    }
+}
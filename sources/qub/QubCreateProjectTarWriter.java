@@ -0,0 +1,148 @@
+package qub;
+
+/**
+ * A QubCreateProjectArchiveWriter that writes a POSIX (ustar) tar archive. Every entry has the
+ * same owner, permissions, and a modification time of 0 so that the same project always produces
+ * the same archive bytes.
+ */
+public class QubCreateProjectTarWriter implements QubCreateProjectArchiveWriter
+{
+    private static final int blockSize = 512;
+    private static final int maximumNameLength = 100;
+    private static final byte[] zeroBlock = new byte[QubCreateProjectTarWriter.blockSize];
+
+    private final ByteWriteStream stream;
+    private final byte[] header;
+    private long bytesWritten;
+    private boolean finished;
+
+    private QubCreateProjectTarWriter(ByteWriteStream stream)
+    {
+        PreCondition.assertNotNull(stream, "stream");
+
+        this.stream = stream;
+        this.header = new byte[QubCreateProjectTarWriter.blockSize];
+    }
+
+    public static QubCreateProjectTarWriter create(ByteWriteStream stream)
+    {
+        return new QubCreateProjectTarWriter(stream);
+    }
+
+    @Override
+    public QubCreateProjectTarWriter addFolder(String folderPath)
+    {
+        PreCondition.assertNotNullAndNotEmpty(folderPath, "folderPath");
+        PreCondition.assertTrue(folderPath.endsWith("/"), "folderPath.endsWith(\"/\")");
+        PreCondition.assertFalse(this.finished, "this.finished");
+
+        this.writeHeader(folderPath, 0, '5', "0000755");
+        return this;
+    }
+
+    @Override
+    public QubCreateProjectTarWriter addFile(String filePath, byte[] contents)
+    {
+        PreCondition.assertNotNullAndNotEmpty(filePath, "filePath");
+        PreCondition.assertNotNull(contents, "contents");
+        PreCondition.assertFalse(this.finished, "this.finished");
+
+        this.writeHeader(filePath, contents.length, '0', "0000644");
+        this.write(contents, contents.length);
+
+        final int paddingLength = (QubCreateProjectTarWriter.blockSize - (contents.length % QubCreateProjectTarWriter.blockSize)) % QubCreateProjectTarWriter.blockSize;
+        this.write(QubCreateProjectTarWriter.zeroBlock, paddingLength);
+        return this;
+    }
+
+    @Override
+    public long finish()
+    {
+        PreCondition.assertFalse(this.finished, "this.finished");
+
+        this.finished = true;
+        this.write(QubCreateProjectTarWriter.zeroBlock, QubCreateProjectTarWriter.blockSize);
+        this.write(QubCreateProjectTarWriter.zeroBlock, QubCreateProjectTarWriter.blockSize);
+        return this.bytesWritten;
+    }
+
+    private void writeHeader(String path, long size, char typeFlag, String mode)
+    {
+        final byte[] pathBytes = path.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        if (pathBytes.length > QubCreateProjectTarWriter.maximumNameLength)
+        {
+            throw new IllegalArgumentException("The path " + Strings.escapeAndQuote(path) + " is longer than " + QubCreateProjectTarWriter.maximumNameLength + " bytes.");
+        }
+
+        final byte[] header = this.header;
+        java.util.Arrays.fill(header, (byte)0);
+        System.arraycopy(pathBytes, 0, header, 0, pathBytes.length);
+        QubCreateProjectTarWriter.putOctal(header, 100, 8, mode);
+        QubCreateProjectTarWriter.putOctal(header, 108, 8, "0000000");
+        QubCreateProjectTarWriter.putOctal(header, 116, 8, "0000000");
+        QubCreateProjectTarWriter.putOctal(header, 124, 12, QubCreateProjectTarWriter.toOctal(size, 11));
+        QubCreateProjectTarWriter.putOctal(header, 136, 12, "00000000000");
+        header[156] = (byte)typeFlag;
+        QubCreateProjectTarWriter.putAscii(header, 257, "ustar");
+        QubCreateProjectTarWriter.putAscii(header, 263, "00");
+
+        // The checksum is calculated with the checksum field filled with spaces.
+        java.util.Arrays.fill(header, 148, 156, (byte)' ');
+        long checksum = 0;
+        for (final byte headerByte : header)
+        {
+            checksum += headerByte & 0xFF;
+        }
+        QubCreateProjectTarWriter.putOctal(header, 148, 7, QubCreateProjectTarWriter.toOctal(checksum, 6));
+
+        this.write(header, header.length);
+    }
+
+    private void write(byte[] bytes, int length)
+    {
+        if (length > 0)
+        {
+            this.stream.writeAll(bytes, 0, length).await();
+            this.bytesWritten += length;
+        }
+    }
+
+    /**
+     * Write the provided octal digits followed by a null terminator into the provided field.
+     */
+    private static void putOctal(byte[] header, int fieldStart, int fieldLength, String octalDigits)
+    {
+        PreCondition.assertEqual(fieldLength - 1, octalDigits.length(), "octalDigits.length()");
+
+        QubCreateProjectTarWriter.putAscii(header, fieldStart, octalDigits);
+        header[fieldStart + octalDigits.length()] = 0;
+    }
+
+    private static void putAscii(byte[] header, int start, String text)
+    {
+        for (int i = 0; i < text.length(); ++i)
+        {
+            header[start + i] = (byte)text.charAt(i);
+        }
+    }
+
+    /**
+     * Get the octal representation of the provided value padded with leading zeros to the
+     * provided number of digits.
+     * @param value The value to convert.
+     * @param digitCount The number of digits in the result.
+     * @return The octal representation of the provided value.
+     */
+    static String toOctal(long value, int digitCount)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(value, 0, "value");
+        PreCondition.assertGreaterThanOrEqualTo(digitCount, 1, "digitCount");
+
+        final String digits = Long.toOctalString(value);
+        if (digits.length() > digitCount)
+        {
+            throw new IllegalArgumentException("The value " + value + " doesn't fit in " + digitCount + " octal digits.");
+        }
+        return "0".repeat(digitCount - digits.length()) + digits;
+    }
+}
@@ -0,0 +1,135 @@
+package qub;
+
+/**
+ * A file template that has been compiled into its encoded bytes and the offsets where its
+ * placeholders' values are inserted. Placeholders are written in the template text as
+ * "{{name}}", where name is one of the names in QubCreateProjectTemplateValues. Rendering a
+ * template copies the constant slices and the encoded placeholder values into a single byte
+ * array without decoding or re-encoding any text.
+ */
+public class QubCreateProjectTemplate
+{
+    private static final String placeholderStart = "{{";
+    private static final String placeholderEnd = "}}";
+
+    private final byte[] constantBytes;
+    private final int[] placeholderOffsets;
+    private final String[] placeholderNames;
+
+    private QubCreateProjectTemplate(byte[] constantBytes, int[] placeholderOffsets, String[] placeholderNames)
+    {
+        PreCondition.assertNotNull(constantBytes, "constantBytes");
+        PreCondition.assertNotNull(placeholderOffsets, "placeholderOffsets");
+        PreCondition.assertNotNull(placeholderNames, "placeholderNames");
+        PreCondition.assertEqual(placeholderOffsets.length, placeholderNames.length, "placeholderNames.length");
+
+        this.constantBytes = constantBytes;
+        this.placeholderOffsets = placeholderOffsets;
+        this.placeholderNames = placeholderNames;
+    }
+
+    /**
+     * Compile the provided template text.
+     * @param text The text of the template.
+     * @return The compiled template.
+     */
+    public static QubCreateProjectTemplate compile(String text)
+    {
+        PreCondition.assertNotNull(text, "text");
+
+        final ByteList constantBytes = ByteList.create();
+        final IntegerList placeholderOffsets = IntegerList.create();
+        final List<String> placeholderNames = List.create();
+
+        int textIndex = 0;
+        while (textIndex < text.length())
+        {
+            final int placeholderStartIndex = text.indexOf(QubCreateProjectTemplate.placeholderStart, textIndex);
+            final int constantEndIndex = placeholderStartIndex == -1 ? text.length() : placeholderStartIndex;
+            constantBytes.addAll(CharacterEncoding.UTF_8.encodeCharacters(text.substring(textIndex, constantEndIndex)).await());
+
+            if (placeholderStartIndex == -1)
+            {
+                textIndex = text.length();
+            }
+            else
+            {
+                final int nameStartIndex = placeholderStartIndex + QubCreateProjectTemplate.placeholderStart.length();
+                final int placeholderEndIndex = text.indexOf(QubCreateProjectTemplate.placeholderEnd, nameStartIndex);
+                if (placeholderEndIndex == -1)
+                {
+                    throw new ParseException("Missing placeholder end (" + Strings.escapeAndQuote(QubCreateProjectTemplate.placeholderEnd) + ") for placeholder that starts at index " + placeholderStartIndex + ".");
+                }
+
+                final String placeholderName = text.substring(nameStartIndex, placeholderEndIndex);
+                if (!QubCreateProjectTemplateValues.isPlaceholderName(placeholderName))
+                {
+                    throw new ParseException("Unrecognized placeholder name: " + Strings.escapeAndQuote(placeholderName));
+                }
+
+                placeholderOffsets.add(constantBytes.getCount());
+                placeholderNames.add(placeholderName);
+                textIndex = placeholderEndIndex + QubCreateProjectTemplate.placeholderEnd.length();
+            }
+        }
+
+        final int placeholderCount = placeholderNames.getCount();
+        final int[] placeholderOffsetsArray = new int[placeholderCount];
+        final String[] placeholderNamesArray = new String[placeholderCount];
+        for (int i = 0; i < placeholderCount; ++i)
+        {
+            placeholderOffsetsArray[i] = placeholderOffsets.get(i);
+            placeholderNamesArray[i] = placeholderNames.get(i);
+        }
+
+        return new QubCreateProjectTemplate(constantBytes.toByteArray(), placeholderOffsetsArray, placeholderNamesArray);
+    }
+
+    /**
+     * Get the names of the placeholders in this template in the order that they appear.
+     * @return The names of the placeholders in this template.
+     */
+    public Iterable<String> getPlaceholderNames()
+    {
+        return Iterable.create(this.placeholderNames);
+    }
+
+    /**
+     * Render this template with the provided placeholder values.
+     * @param values The values to substitute into this template's placeholders.
+     * @return The encoded bytes of the rendered template.
+     */
+    public byte[] render(QubCreateProjectTemplateValues values)
+    {
+        PreCondition.assertNotNull(values, "values");
+
+        final int placeholderCount = this.placeholderNames.length;
+        final byte[][] encodedValues = new byte[placeholderCount][];
+        int resultLength = this.constantBytes.length;
+        for (int i = 0; i < placeholderCount; ++i)
+        {
+            encodedValues[i] = values.getEncodedValue(this.placeholderNames[i]).await();
+            resultLength += encodedValues[i].length;
+        }
+
+        final byte[] result = new byte[resultLength];
+        int constantIndex = 0;
+        int resultIndex = 0;
+        for (int i = 0; i < placeholderCount; ++i)
+        {
+            final int constantLength = this.placeholderOffsets[i] - constantIndex;
+            System.arraycopy(this.constantBytes, constantIndex, result, resultIndex, constantLength);
+            resultIndex += constantLength;
+            constantIndex += constantLength;
+
+            final byte[] encodedValue = encodedValues[i];
+            System.arraycopy(encodedValue, 0, result, resultIndex, encodedValue.length);
+            resultIndex += encodedValue.length;
+        }
+        System.arraycopy(this.constantBytes, constantIndex, result, resultIndex, this.constantBytes.length - constantIndex);
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+}
@@ -0,0 +1,234 @@
+package qub;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.FileSystemException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The files of a custom template that are copied into each new project that uses the template. A
+ * template is a folder in the templates folder of the application's data folder, and every file
+ * and folder inside it is created at the same relative path in the new project.
+ * <p>
+ * When both the template and the new project are on the local file system, the bytes of each file
+ * are moved by the operating system with FileChannel.transferTo() instead of being read into the
+ * JVM and written back out. On Linux this uses copy_file_range(), which file systems such as Btrfs
+ * and XFS can satisfy by sharing the template's blocks instead of copying them. If hard links are
+ * requested, then each file is hard linked instead, which doesn't copy anything but means that the
+ * new project and the template share the same file contents.
+ */
+public interface QubCreateProjectTemplateAssets
+{
+    /**
+     * The name of the folder in the application's data folder that contains the templates.
+     */
+    String templatesFolderName = "templates";
+
+    /**
+     * The file was hard linked to the template's file.
+     */
+    String linkTransfer = "link";
+
+    /**
+     * The file's bytes were moved from the template's file by the operating system.
+     */
+    String channelTransfer = "channel";
+
+    /**
+     * The file's bytes were read from the template's file and then written to the new file.
+     */
+    String streamTransfer = "stream";
+
+    /**
+     * Get the folder that contains the templates in the provided data folder.
+     * @param qubProjectDataFolder The application's data folder.
+     * @return The folder that contains the templates.
+     */
+    static Folder getTemplatesFolder(Folder qubProjectDataFolder)
+    {
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+
+        return qubProjectDataFolder.getFolder(QubCreateProjectTemplateAssets.templatesFolderName).await();
+    }
+
+    /**
+     * Get the folder of the template with the provided name in the provided data folder.
+     * @param qubProjectDataFolder The application's data folder.
+     * @param templateName The name of the template.
+     * @return The folder of the template.
+     */
+    static Folder getTemplateFolder(Folder qubProjectDataFolder, String templateName)
+    {
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+        PreCondition.assertNotNullAndNotEmpty(templateName, "templateName");
+
+        return QubCreateProjectTemplateAssets.getTemplatesFolder(qubProjectDataFolder).getFolder(templateName).await();
+    }
+
+    /**
+     * Create each of the files and folders in the provided template folder at the same relative
+     * path in the provided target folder. A file that already exists in the target folder, such
+     * as a file that the run action generated, is left alone.
+     * @param templateFolder The folder that contains the template's files.
+     * @param targetFolder The folder that the template's files will be created in.
+     * @param link Whether the template's files will be hard linked into the target folder when
+     *             possible.
+     * @param metrics The metrics that the created files will be recorded in.
+     * @param verbose The log that verbose output will be written to.
+     * @return The number of files that were created.
+     */
+    static long materialize(Folder templateFolder, Folder targetFolder, boolean link, QubCreateProjectMetrics metrics, QubCreateProjectVerbose verbose)
+    {
+        PreCondition.assertNotNull(templateFolder, "templateFolder");
+        PreCondition.assertNotNull(targetFolder, "targetFolder");
+        PreCondition.assertNotNull(metrics, "metrics");
+        PreCondition.assertNotNull(verbose, "verbose");
+
+        long result = 0;
+        for (final FileSystemEntry entry : templateFolder.getFilesAndFolders().await())
+        {
+            if (entry instanceof Folder)
+            {
+                final Folder assetFolder = (Folder)entry;
+                final Folder targetAssetFolder = targetFolder.getFolder(assetFolder.getName()).await();
+                final boolean created = targetAssetFolder.create()
+                    .then(() -> true)
+                    .catchError(FolderAlreadyExistsException.class, () -> false)
+                    .await();
+                if (created)
+                {
+                    metrics.addFolderCreated();
+                }
+                result += QubCreateProjectTemplateAssets.materialize(assetFolder, targetAssetFolder, link, metrics, verbose);
+            }
+            else
+            {
+                final File assetFile = (File)entry;
+                final File targetAssetFile = targetFolder.getFile(assetFile.getName()).await();
+                final String transfer = QubCreateProjectTemplateAssets.transferFile(assetFile, targetAssetFile, link, metrics);
+                if (transfer == null)
+                {
+                    if (verbose.isEnabled())
+                    {
+                        verbose.writeLine(targetAssetFile.getName() + " file (" + targetAssetFile + ") already exists.");
+                    }
+                }
+                else
+                {
+                    ++result;
+                    metrics.addFileCreated();
+                    if (verbose.isEnabled())
+                    {
+                        verbose.writeLine("Creating " + targetAssetFile.getName() + " file (" + targetAssetFile + ") with a " + transfer + " transfer... Done.");
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Create the provided destination file with the same contents as the provided source file.
+     * The destination file is created exclusively, so an existing file is never overwritten.
+     * @param source The file to copy.
+     * @param destination The file to create.
+     * @param link Whether the destination file should be hard linked to the source file when
+     *             possible.
+     * @param metrics The metrics that the number of copied bytes will be recorded in. A hard link
+     *                doesn't copy any bytes.
+     * @return The kind of transfer that was used to create the destination file, or null if the
+     * destination file already existed.
+     */
+    static String transferFile(File source, File destination, boolean link, QubCreateProjectMetrics metrics)
+    {
+        PreCondition.assertNotNull(source, "source");
+        PreCondition.assertNotNull(destination, "destination");
+        PreCondition.assertNotNull(metrics, "metrics");
+
+        String result;
+        if (QubCreateProjectTemplateAssets.isLocalFile(source) && QubCreateProjectTemplateAssets.isLocalFile(destination))
+        {
+            final java.nio.file.Path sourcePath = Paths.get(source.toString());
+            final java.nio.file.Path destinationPath = Paths.get(destination.toString());
+            try
+            {
+                result = null;
+                if (link)
+                {
+                    try
+                    {
+                        Files.createLink(destinationPath, sourcePath);
+                        result = QubCreateProjectTemplateAssets.linkTransfer;
+                    }
+                    catch (java.nio.file.FileAlreadyExistsException e)
+                    {
+                        throw e;
+                    }
+                    catch (UnsupportedOperationException | FileSystemException e)
+                    {
+                        // Hard links can't cross file systems and aren't supported everywhere, so
+                        // fall back to having the operating system copy the bytes.
+                    }
+                }
+
+                if (result == null)
+                {
+                    try (final FileChannel sourceChannel = FileChannel.open(sourcePath, StandardOpenOption.READ);
+                         final FileChannel destinationChannel = FileChannel.open(destinationPath, StandardOpenOption.WRITE, StandardOpenOption.CREATE_NEW))
+                    {
+                        final long size = sourceChannel.size();
+                        long position = 0;
+                        while (position < size)
+                        {
+                            position += sourceChannel.transferTo(position, size - position, destinationChannel);
+                        }
+                        metrics.addBytesWritten(size);
+                    }
+                    result = QubCreateProjectTemplateAssets.channelTransfer;
+                }
+            }
+            catch (java.nio.file.FileAlreadyExistsException e)
+            {
+                result = null;
+            }
+            catch (IOException e)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+        }
+        else
+        {
+            final boolean created = destination.create()
+                .then(() -> true)
+                .catchError(FileAlreadyExistsException.class, () -> false)
+                .await();
+            if (created)
+            {
+                final byte[] contents = source.getContents().await();
+                destination.setContents(contents).await();
+                metrics.addBytesWritten(contents.length);
+                result = QubCreateProjectTemplateAssets.streamTransfer;
+            }
+            else
+            {
+                result = null;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get whether the provided file is on the local file system, which means that its path can be
+     * used with the java.nio.file APIs.
+     * @param file The file to check.
+     * @return Whether the provided file is on the local file system.
+     */
+    static boolean isLocalFile(File file)
+    {
+        PreCondition.assertNotNull(file, "file");
+
+        return file.getFileSystem() instanceof JavaFileSystem;
+    }
+}
@@ -0,0 +1,93 @@
+package qub;
+
+/**
+ * The values that will be substituted into the placeholders of a QubCreateProjectTemplate. Each
+ * value is encoded once when it is set so that rendering many templates with the same values
+ * doesn't re-encode them.
+ */
+public class QubCreateProjectTemplateValues
+{
+    public static final String publisherName = "publisher";
+    public static final String projectName = "project";
+    public static final String versionName = "version";
+    public static final String yearName = "year";
+    public static final String authorName = "author";
+
+    private final Map<String,byte[]> encodedValues;
+
+    private QubCreateProjectTemplateValues()
+    {
+        this.encodedValues = Map.create();
+    }
+
+    public static QubCreateProjectTemplateValues create()
+    {
+        return new QubCreateProjectTemplateValues();
+    }
+
+    /**
+     * Get whether the provided name is a placeholder name that templates can refer to.
+     * @param name The name to check.
+     * @return Whether the provided name is a known placeholder name.
+     */
+    public static boolean isPlaceholderName(String name)
+    {
+        return QubCreateProjectTemplateValues.publisherName.equals(name) ||
+            QubCreateProjectTemplateValues.projectName.equals(name) ||
+            QubCreateProjectTemplateValues.versionName.equals(name) ||
+            QubCreateProjectTemplateValues.yearName.equals(name) ||
+            QubCreateProjectTemplateValues.authorName.equals(name);
+    }
+
+    /**
+     * Set the value of the placeholder with the provided name.
+     * @param name The name of the placeholder.
+     * @param value The value of the placeholder.
+     * @return This object for method chaining.
+     */
+    public QubCreateProjectTemplateValues set(String name, String value)
+    {
+        PreCondition.assertTrue(QubCreateProjectTemplateValues.isPlaceholderName(name), "QubCreateProjectTemplateValues.isPlaceholderName(name)");
+        PreCondition.assertNotNull(value, "value");
+
+        this.encodedValues.set(name, CharacterEncoding.UTF_8.encodeCharacters(value).await());
+        return this;
+    }
+
+    public QubCreateProjectTemplateValues setPublisher(String publisher)
+    {
+        return this.set(QubCreateProjectTemplateValues.publisherName, publisher);
+    }
+
+    public QubCreateProjectTemplateValues setProject(String project)
+    {
+        return this.set(QubCreateProjectTemplateValues.projectName, project);
+    }
+
+    public QubCreateProjectTemplateValues setVersion(String version)
+    {
+        return this.set(QubCreateProjectTemplateValues.versionName, version);
+    }
+
+    public QubCreateProjectTemplateValues setYear(int year)
+    {
+        return this.set(QubCreateProjectTemplateValues.yearName, Integers.toString(year));
+    }
+
+    public QubCreateProjectTemplateValues setAuthor(String author)
+    {
+        return this.set(QubCreateProjectTemplateValues.authorName, author);
+    }
+
+    /**
+     * Get the encoded value of the placeholder with the provided name.
+     * @param name The name of the placeholder.
+     * @return The encoded value of the placeholder.
+     */
+    public Result<byte[]> getEncodedValue(String name)
+    {
+        PreCondition.assertNotNullAndNotEmpty(name, "name");
+
+        return this.encodedValues.get(name);
+    }
+}
@@ -0,0 +1,85 @@
+package qub;
+
+/**
+ * The compiled templates for the files that are created in a new project. Each template is
+ * compiled once when this interface is first used.
+ */
+public interface QubCreateProjectTemplates
+{
+    QubCreateProjectTemplate readmeMd = QubCreateProjectTemplate.compile("# {{publisher}}/{{project}}\n");
+
+    QubCreateProjectTemplate license = QubCreateProjectTemplate.compile(
+        Strings.join(
+            '\n',
+            Iterable.create(
+                "MIT License",
+                "",
+                "Copyright (c) {{year}} {{author}}",
+                "",
+                "Permission is hereby granted, free of charge, to any person obtaining a copy",
+                "of this software and associated documentation files (the \"Software\"), to deal",
+                "in the Software without restriction, including without limitation the rights",
+                "to use, copy, modify, merge, publish, distribute, sublicense, and/or sell",
+                "copies of the Software, and to permit persons to whom the Software is",
+                "furnished to do so, subject to the following conditions:",
+                "",
+                "The above copyright notice and this permission notice shall be included in all",
+                "copies or substantial portions of the Software.",
+                "",
+                "THE SOFTWARE IS PROVIDED \"AS IS\", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR",
+                "IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,",
+                "FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE",
+                "AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER",
+                "LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,",
+                "OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE",
+                "SOFTWARE.")));
+
+    /**
+     * The names of the folders that are listed in a new project's .gitignore file. The scan action
+     * doesn't look inside folders with these names.
+     */
+    Iterable<String> ignoredFolderNames = Iterable.create(
+        ".idea",
+        "out",
+        "outputs",
+        "target");
+
+    QubCreateProjectTemplate gitIgnore = QubCreateProjectTemplate.compile(
+        Strings.join('\n', QubCreateProjectTemplates.ignoredFolderNames));
+
+    /**
+     * The names of the files that are generated from these templates. These are the files that
+     * the sync action keeps up to date.
+     */
+    Iterable<String> generatedFileNames = Iterable.create("README.md", "LICENSE", ".gitignore");
+
+    /**
+     * Get the template that the generated file with the provided name is created from.
+     * @param fileName The name of the generated file.
+     * @return The template that the generated file is created from.
+     */
+    static QubCreateProjectTemplate getTemplate(String fileName)
+    {
+        PreCondition.assertOneOf(fileName, QubCreateProjectTemplates.generatedFileNames, "fileName");
+
+        QubCreateProjectTemplate result;
+        switch (fileName)
+        {
+            case "README.md":
+                result = QubCreateProjectTemplates.readmeMd;
+                break;
+
+            case "LICENSE":
+                result = QubCreateProjectTemplates.license;
+                break;
+
+            default:
+                result = QubCreateProjectTemplates.gitIgnore;
+                break;
+        }
+
+        PostCondition.assertNotNull(result, "result");
+
+        return result;
+    }
+}
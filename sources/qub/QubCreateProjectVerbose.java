@@ -0,0 +1,127 @@
+package qub;
+
+/**
+ * A wrapper around a verbose stream that only builds its messages when verbose output is enabled.
+ * When verbose output is disabled, none of the write methods concatenate strings, call their
+ * message functions, or write to and await the stream, so a disabled verbose log doesn't allocate
+ * anything.
+ * <p>
+ * Messages that are a single value between two constant strings should use the
+ * (prefix, value, suffix) overloads. Any other message should be built inside a check of
+ * isEnabled(), or be provided by a Function0 that doesn't capture any variables, because a
+ * capturing lambda is allocated on every call.
+ */
+public class QubCreateProjectVerbose
+{
+    private final CharacterToByteWriteStream stream;
+    private final boolean enabled;
+
+    private QubCreateProjectVerbose(CharacterToByteWriteStream stream, boolean enabled)
+    {
+        PreCondition.assertNotNull(stream, "stream");
+
+        this.stream = stream;
+        this.enabled = enabled;
+    }
+
+    public static QubCreateProjectVerbose create(VerboseCharacterToByteWriteStream stream)
+    {
+        PreCondition.assertNotNull(stream, "stream");
+
+        return new QubCreateProjectVerbose(stream, stream.isVerbose());
+    }
+
+    /**
+     * Create a new verbose log that writes to the provided stream. The stream is expected to add
+     * any verbose prefix itself, such as a VerboseCharacterToByteWriteStream or a stream that is
+     * linked to several of them.
+     * @param stream The stream that verbose messages will be written to.
+     * @param enabled Whether verbose messages will be written to the stream.
+     * @return The new verbose log.
+     */
+    public static QubCreateProjectVerbose create(CharacterToByteWriteStream stream, boolean enabled)
+    {
+        return new QubCreateProjectVerbose(stream, enabled);
+    }
+
+    public CharacterToByteWriteStream getStream()
+    {
+        return this.stream;
+    }
+
+    /**
+     * Get whether verbose messages will be written to the stream.
+     * @return Whether verbose messages will be written to the stream.
+     */
+    public boolean isEnabled()
+    {
+        return this.enabled;
+    }
+
+    public QubCreateProjectVerbose write(String text)
+    {
+        if (this.isEnabled())
+        {
+            this.stream.write(text).await();
+        }
+        return this;
+    }
+
+    public QubCreateProjectVerbose write(String prefix, Object value, String suffix)
+    {
+        if (this.isEnabled())
+        {
+            this.stream.write(prefix + value + suffix).await();
+        }
+        return this;
+    }
+
+    public QubCreateProjectVerbose write(Function0<String> messageFunction)
+    {
+        PreCondition.assertNotNull(messageFunction, "messageFunction");
+
+        if (this.isEnabled())
+        {
+            this.stream.write(messageFunction.run()).await();
+        }
+        return this;
+    }
+
+    public QubCreateProjectVerbose writeLine()
+    {
+        if (this.isEnabled())
+        {
+            this.stream.writeLine().await();
+        }
+        return this;
+    }
+
+    public QubCreateProjectVerbose writeLine(String text)
+    {
+        if (this.isEnabled())
+        {
+            this.stream.writeLine(text).await();
+        }
+        return this;
+    }
+
+    public QubCreateProjectVerbose writeLine(String prefix, Object value, String suffix)
+    {
+        if (this.isEnabled())
+        {
+            this.stream.writeLine(prefix + value + suffix).await();
+        }
+        return this;
+    }
+
+    public QubCreateProjectVerbose writeLine(Function0<String> messageFunction)
+    {
+        PreCondition.assertNotNull(messageFunction, "messageFunction");
+
+        if (this.isEnabled())
+        {
+            this.stream.writeLine(messageFunction.run()).await();
+        }
+        return this;
+    }
+}
@@ -0,0 +1,214 @@
+package qub;
+
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A QubProject action that waits for new folders to be created in a workspace and scaffolds each
+ * of them with the run action once they have settled.
+ * <p>
+ * The workspace is watched with the operating system's file change notifications, so the watch
+ * doesn't poll the file system and doesn't use any CPU while nothing is happening in the
+ * workspace.
+ */
+public interface QubCreateProjectWatch
+{
+    String actionName = "watch";
+    String actionDescription = "Scaffold the new folders that are created in a workspace.";
+
+    int defaultDebounceMilliseconds = 500;
+
+    static QubCreateProjectWatchParameters getParameters(QubProcess process)
+    {
+        PreCondition.assertNotNull(process, "process");
+
+        final CommandLineParameters parameters = process.createCommandLineParameters()
+            .setApplicationName(QubCreateProject.getActionFullName(QubCreateProjectWatch.actionName))
+            .setApplicationDescription(QubCreateProjectWatch.actionDescription);
+
+        final CommandLineParameter<Folder> workspaceFolderParameter = parameters.addPositionalFolder("workspaceFolder", process)
+            .setValueName("<workspace-folder-path>")
+            .setDescription("The folder to watch. The current folder will be used if this isn't defined.");
+        final CommandLineParameter<Integer> debounceParameter = parameters.addInteger("debounce")
+            .setValueName("<milliseconds>")
+            .setDescription("The number of milliseconds that a new folder must go without changes before it is scaffolded. Defaults to " + QubCreateProjectWatch.defaultDebounceMilliseconds + ".");
+        final CommandLineParameter<File> countersParameter = parameters.addFile("counters", process)
+            .setValueName("<counters-file-path>")
+            .setDescription("The file that the watch counters will be written to as JSON after new folders are scaffolded.");
+        final CommandLineParameterHelp helpParameter = parameters.addHelp();
+        final CommandLineParameterVerbose verboseParameter = parameters.addVerbose(process);
+
+        QubCreateProjectWatchParameters result = null;
+        if (!helpParameter.showApplicationHelpLines(process).await() &&
+            QubCreateProjectRun.validateBetween(process, "debounce", debounceParameter.getValue().await(), 0, Integer.MAX_VALUE))
+        {
+            final CharacterToByteWriteStream output = process.getOutputWriteStream();
+            final Folder workspaceFolder = workspaceFolderParameter.getValue().await();
+            final Folder qubProjectDataFolder = process.getQubProjectDataFolder().await();
+            final VerboseCharacterToByteWriteStream verbose = verboseParameter.getVerboseCharacterToByteWriteStream().await();
+
+            result = QubCreateProjectWatchParameters.create(output, workspaceFolder, qubProjectDataFolder)
+                .setVerbose(verbose)
+                .setClock(process.getClock())
+                .setCountersFile(countersParameter.getValue().await());
+
+            final Integer debounceMilliseconds = debounceParameter.getValue().await();
+            if (debounceMilliseconds != null)
+            {
+                result.setDebounceMilliseconds(debounceMilliseconds);
+            }
+        }
+
+        return result;
+    }
+
+    static int run(QubCreateProjectWatchParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final Folder workspaceFolder = parameters.getWorkspaceFolder();
+
+        int result = 0;
+        if (!workspaceFolder.exists().await())
+        {
+            output.writeLine("The folder " + workspaceFolder + " doesn't exist.").await();
+            result = -1;
+        }
+        else
+        {
+            final QubCreateProjectWatcher watcher = QubCreateProjectWatch.createWatcher(parameters);
+            final java.nio.file.Path workspacePath = Paths.get(workspaceFolder.toString());
+            try (final WatchService watchService = FileSystems.getDefault().newWatchService())
+            {
+                workspacePath.register(watchService, StandardWatchEventKinds.ENTRY_CREATE);
+                output.writeLine("Watching " + workspaceFolder + " for new folders...").await();
+
+                boolean workspaceExists = true;
+                while (workspaceExists)
+                {
+                    // Block without a timeout when nothing is waiting to be scaffolded so that an
+                    // idle watch doesn't wake up at all.
+                    final long nextDeadline = watcher.getNextDeadline();
+                    final WatchKey key = nextDeadline == -1
+                        ? watchService.take()
+                        : watchService.poll(Math.max(0, nextDeadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                    if (key != null)
+                    {
+                        final long eventNanoseconds = System.nanoTime();
+                        for (final WatchEvent<?> event : key.pollEvents())
+                        {
+                            if (event.kind() == StandardWatchEventKinds.OVERFLOW)
+                            {
+                                verbose.writeLine("Too many events to track individually. Checking every folder in " + workspaceFolder + ".").await();
+                                QubCreateProjectWatch.addAllFolders(watcher, eventNanoseconds);
+                            }
+                            else
+                            {
+                                final java.nio.file.Path createdPath = workspacePath.resolve((java.nio.file.Path)event.context());
+                                if (Files.isDirectory(createdPath))
+                                {
+                                    watcher.addEvent(createdPath.getFileName().toString(), eventNanoseconds);
+                                }
+                            }
+                        }
+                        workspaceExists = key.reset();
+                    }
+
+                    if (watcher.scaffoldReadyFolders(System.nanoTime()) > 0)
+                    {
+                        QubCreateProjectWatch.writeCounters(watcher, parameters);
+                    }
+                }
+
+                output.writeLine("The folder " + workspaceFolder + " is no longer available.").await();
+            }
+            catch (InterruptedException e)
+            {
+                // Being interrupted is how the watch is stopped, but the thread's interrupt is
+                // restored so that whoever interrupted it can still see that it was interrupted.
+                Thread.currentThread().interrupt();
+            }
+            catch (IOException e)
+            {
+                throw Exceptions.asRuntime(e);
+            }
+
+            output.writeLine("Stopped after " + watcher.getEventCount() + " events and " + watcher.getScaffoldCount() + " scaffolded folders.").await();
+        }
+
+        return result;
+    }
+
+    /**
+     * Create the watcher that will scaffold the new folders in the provided parameters' workspace.
+     * @param parameters The parameters of the watch action.
+     * @return The watcher.
+     */
+    static QubCreateProjectWatcher createWatcher(QubCreateProjectWatchParameters parameters)
+    {
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final CharacterToByteWriteStream output = parameters.getOutput();
+        final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
+        final Folder qubProjectDataFolder = parameters.getQubProjectDataFolder();
+        final Clock clock = parameters.getClock();
+        final long debounceNanoseconds = TimeUnit.MILLISECONDS.toNanos(parameters.getDebounceMilliseconds());
+        return QubCreateProjectWatcher.create(parameters.getWorkspaceFolder(), debounceNanoseconds, (Folder projectFolder) ->
+        {
+            final QubCreateProjectRunParameters runParameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                .setVerbose(verbose)
+                .setClock(clock);
+            if (clock != null)
+            {
+                runParameters.setYear(clock.getCurrentDateTime().getYear());
+            }
+            return QubCreateProjectBatch.createProject(runParameters, output, verbose);
+        });
+    }
+
+    /**
+     * Add an event for every folder in the watcher's workspace. This is used when the operating
+     * system drops events, since there is no way to know which folders were created.
+     * @param watcher The watcher to add the events to.
+     * @param eventNanoseconds The System.nanoTime() value when the events were seen.
+     */
+    static void addAllFolders(QubCreateProjectWatcher watcher, long eventNanoseconds)
+    {
+        PreCondition.assertNotNull(watcher, "watcher");
+
+        final Iterable<Folder> folders = watcher.getWorkspaceFolder().getFolders()
+            .catchError(FolderNotFoundException.class)
+            .await();
+        if (folders != null)
+        {
+            for (final Folder folder : folders)
+            {
+                watcher.addEvent(folder.getName(), eventNanoseconds);
+            }
+        }
+    }
+
+    static void writeCounters(QubCreateProjectWatcher watcher, QubCreateProjectWatchParameters parameters)
+    {
+        PreCondition.assertNotNull(watcher, "watcher");
+        PreCondition.assertNotNull(parameters, "parameters");
+
+        final JSONObject countersJson = watcher.toJson();
+        parameters.getVerbose().writeLine("Counters: " + countersJson.toString()).await();
+
+        final File countersFile = parameters.getCountersFile();
+        if (countersFile != null)
+        {
+            countersFile.setContentsAsString(countersJson.toString(JSONFormat.pretty)).await();
+        }
+    }
+}
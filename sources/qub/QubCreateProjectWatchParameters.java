@@ -0,0 +1,113 @@
+package qub;
+
+public class QubCreateProjectWatchParameters
+{
+    private final CharacterToByteWriteStream output;
+    private final Folder workspaceFolder;
+    private final Folder qubProjectDataFolder;
+
+    private VerboseCharacterToByteWriteStream verbose;
+    private int debounceMilliseconds;
+    private File countersFile;
+    private Clock clock;
+
+    private QubCreateProjectWatchParameters(CharacterToByteWriteStream output, Folder workspaceFolder, Folder qubProjectDataFolder)
+    {
+        PreCondition.assertNotNull(output, "output");
+        PreCondition.assertNotNull(workspaceFolder, "workspaceFolder");
+        PreCondition.assertNotNull(qubProjectDataFolder, "qubProjectDataFolder");
+
+        this.output = output;
+        this.workspaceFolder = workspaceFolder;
+        this.qubProjectDataFolder = qubProjectDataFolder;
+
+        this.setVerbose(VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+        this.setDebounceMilliseconds(QubCreateProjectWatch.defaultDebounceMilliseconds);
+    }
+
+    public static QubCreateProjectWatchParameters create(CharacterToByteWriteStream output, Folder workspaceFolder, Folder qubProjectDataFolder)
+    {
+        return new QubCreateProjectWatchParameters(output, workspaceFolder, qubProjectDataFolder);
+    }
+
+    public CharacterToByteWriteStream getOutput()
+    {
+        return this.output;
+    }
+
+    /**
+     * Get the folder whose new sub-folders will be scaffolded.
+     * @return The folder whose new sub-folders will be scaffolded.
+     */
+    public Folder getWorkspaceFolder()
+    {
+        return this.workspaceFolder;
+    }
+
+    public Folder getQubProjectDataFolder()
+    {
+        return this.qubProjectDataFolder;
+    }
+
+    public VerboseCharacterToByteWriteStream getVerbose()
+    {
+        return this.verbose;
+    }
+
+    public QubCreateProjectWatchParameters setVerbose(VerboseCharacterToByteWriteStream verbose)
+    {
+        this.verbose = verbose;
+        return this;
+    }
+
+    /**
+     * Get the number of milliseconds that must pass without a new event for a folder before the
+     * folder is scaffolded.
+     * @return The number of milliseconds to wait for a folder to settle.
+     */
+    public int getDebounceMilliseconds()
+    {
+        return this.debounceMilliseconds;
+    }
+
+    public QubCreateProjectWatchParameters setDebounceMilliseconds(int debounceMilliseconds)
+    {
+        PreCondition.assertGreaterThanOrEqualTo(debounceMilliseconds, 0, "debounceMilliseconds");
+
+        this.debounceMilliseconds = debounceMilliseconds;
+        return this;
+    }
+
+    /**
+     * Get the file that the watch counters will be written to after each group of scaffolds.
+     * @return The file that the watch counters will be written to, or null if they won't be
+     * written to a file.
+     */
+    public File getCountersFile()
+    {
+        return this.countersFile;
+    }
+
+    public QubCreateProjectWatchParameters setCountersFile(File countersFile)
+    {
+        this.countersFile = countersFile;
+        return this;
+    }
+
+    /**
+     * Get the clock that is used to decide whether the registry's compaction lock was left behind
+     * by a process that stopped. If this is null, then the lock is never taken over.
+     * @return The clock that is used to decide whether the registry's compaction lock is
+     * abandoned, or null.
+     */
+    public Clock getClock()
+    {
+        return this.clock;
+    }
+
+    public QubCreateProjectWatchParameters setClock(Clock clock)
+    {
+        this.clock = clock;
+        return this;
+    }
+}
@@ -0,0 +1,233 @@
+package qub;
+
+/**
+ * The part of the watch action that decides when and which new folders are scaffolded. Events are
+ * coalesced by folder name, and a folder is only scaffolded once no new event has been seen for it
+ * for the debounce time, so a burst of events for the same folder results in a single scaffold.
+ * Only counters are kept after a folder has been handled, so the memory that is used doesn't grow
+ * the longer the watcher runs.
+ */
+public class QubCreateProjectWatcher
+{
+    private final Folder workspaceFolder;
+    private final long debounceNanoseconds;
+    private final Function1<Folder,Integer> scaffold;
+    private final java.util.Map<String,long[]> pendingEventNanoseconds;
+
+    private long eventCount;
+    private long scaffoldCount;
+    private long failedScaffoldCount;
+    private long skippedFolderCount;
+    private long totalLatencyNanoseconds;
+    private long maximumLatencyNanoseconds;
+
+    private QubCreateProjectWatcher(Folder workspaceFolder, long debounceNanoseconds, Function1<Folder,Integer> scaffold)
+    {
+        PreCondition.assertNotNull(workspaceFolder, "workspaceFolder");
+        PreCondition.assertGreaterThanOrEqualTo(debounceNanoseconds, 0, "debounceNanoseconds");
+        PreCondition.assertNotNull(scaffold, "scaffold");
+
+        this.workspaceFolder = workspaceFolder;
+        this.debounceNanoseconds = debounceNanoseconds;
+        this.scaffold = scaffold;
+        this.pendingEventNanoseconds = new java.util.LinkedHashMap<>();
+    }
+
+    /**
+     * Create a new watcher.
+     * @param workspaceFolder The folder whose new sub-folders will be scaffolded.
+     * @param debounceNanoseconds The number of nanoseconds that must pass without a new event for
+     *                            a folder before the folder is scaffolded.
+     * @param scaffold The function that scaffolds a folder and returns its exit code.
+     * @return The new watcher.
+     */
+    public static QubCreateProjectWatcher create(Folder workspaceFolder, long debounceNanoseconds, Function1<Folder,Integer> scaffold)
+    {
+        return new QubCreateProjectWatcher(workspaceFolder, debounceNanoseconds, scaffold);
+    }
+
+    public Folder getWorkspaceFolder()
+    {
+        return this.workspaceFolder;
+    }
+
+    public long getDebounceNanoseconds()
+    {
+        return this.debounceNanoseconds;
+    }
+
+    /**
+     * Record that an entry with the provided name was created in the workspace folder.
+     * @param folderName The name of the entry that was created.
+     * @param eventNanoseconds The System.nanoTime() value when the event was seen.
+     */
+    public synchronized void addEvent(String folderName, long eventNanoseconds)
+    {
+        PreCondition.assertNotNullAndNotEmpty(folderName, "folderName");
+
+        ++this.eventCount;
+        if (!QubCreateProjectScan.isIgnoredFolderName(folderName))
+        {
+            final long[] pendingNanoseconds = this.pendingEventNanoseconds.get(folderName);
+            if (pendingNanoseconds == null)
+            {
+                this.pendingEventNanoseconds.put(folderName, new long[] { eventNanoseconds, eventNanoseconds });
+            }
+            else
+            {
+                pendingNanoseconds[1] = eventNanoseconds;
+            }
+        }
+    }
+
+    /**
+     * Get the number of folders that are waiting for their debounce time to pass.
+     * @return The number of folders that are waiting to be scaffolded.
+     */
+    public synchronized int getPendingFolderCount()
+    {
+        return this.pendingEventNanoseconds.size();
+    }
+
+    /**
+     * Get the System.nanoTime() value when the next pending folder will be ready to scaffold.
+     * @return The System.nanoTime() value when the next pending folder will be ready, or -1 if
+     * there aren't any pending folders.
+     */
+    public synchronized long getNextDeadline()
+    {
+        long result = -1;
+        boolean first = true;
+        for (final long[] pendingNanoseconds : this.pendingEventNanoseconds.values())
+        {
+            final long deadline = pendingNanoseconds[1] + this.debounceNanoseconds;
+            if (first || deadline - result < 0)
+            {
+                result = deadline;
+                first = false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Scaffold each pending folder whose debounce time has passed. A folder that no longer exists
+     * or that isn't empty anymore is skipped.
+     * @param nowNanoseconds The current System.nanoTime() value.
+     * @return The number of folders that were scaffolded.
+     */
+    public int scaffoldReadyFolders(long nowNanoseconds)
+    {
+        final List<String> readyFolderNames = List.create();
+        final List<Long> readyFirstEventNanoseconds = List.create();
+        synchronized (this)
+        {
+            final java.util.Iterator<java.util.Map.Entry<String,long[]>> pendingIterator = this.pendingEventNanoseconds.entrySet().iterator();
+            while (pendingIterator.hasNext())
+            {
+                final java.util.Map.Entry<String,long[]> pending = pendingIterator.next();
+                if (nowNanoseconds - (pending.getValue()[1] + this.debounceNanoseconds) >= 0)
+                {
+                    readyFolderNames.add(pending.getKey());
+                    readyFirstEventNanoseconds.add(pending.getValue()[0]);
+                    pendingIterator.remove();
+                }
+            }
+        }
+
+        int result = 0;
+        for (int i = 0; i < readyFolderNames.getCount(); ++i)
+        {
+            final Folder folder = this.workspaceFolder.getFolder(readyFolderNames.get(i)).await();
+            final Iterable<FileSystemEntry> entries = folder.getFilesAndFolders()
+                .catchError(FolderNotFoundException.class)
+                .await();
+            if (entries == null || entries.any())
+            {
+                synchronized (this)
+                {
+                    ++this.skippedFolderCount;
+                }
+            }
+            else
+            {
+                final int exitCode = this.scaffold.run(folder);
+                final long latencyNanoseconds = System.nanoTime() - readyFirstEventNanoseconds.get(i);
+                synchronized (this)
+                {
+                    if (exitCode == 0)
+                    {
+                        ++this.scaffoldCount;
+                        ++result;
+                        this.totalLatencyNanoseconds += latencyNanoseconds;
+                        this.maximumLatencyNanoseconds = Math.max(this.maximumLatencyNanoseconds, latencyNanoseconds);
+                    }
+                    else
+                    {
+                        ++this.failedScaffoldCount;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Get the number of events that have been seen.
+     * @return The number of events that have been seen.
+     */
+    public synchronized long getEventCount()
+    {
+        return this.eventCount;
+    }
+
+    /**
+     * Get the number of folders that have been scaffolded.
+     * @return The number of folders that have been scaffolded.
+     */
+    public synchronized long getScaffoldCount()
+    {
+        return this.scaffoldCount;
+    }
+
+    public synchronized long getFailedScaffoldCount()
+    {
+        return this.failedScaffoldCount;
+    }
+
+    /**
+     * Get the number of folders that were skipped because they didn't exist or weren't empty by
+     * the time their debounce time had passed.
+     * @return The number of folders that were skipped.
+     */
+    public synchronized long getSkippedFolderCount()
+    {
+        return this.skippedFolderCount;
+    }
+
+    /**
+     * Get the average number of nanoseconds between the first event for a folder and the end of
+     * the folder's scaffold.
+     * @return The average event-to-scaffold latency, or 0 if no folders have been scaffolded.
+     */
+    public synchronized long getAverageLatencyNanoseconds()
+    {
+        return this.scaffoldCount == 0 ? 0 : this.totalLatencyNanoseconds / this.scaffoldCount;
+    }
+
+    public synchronized long getMaximumLatencyNanoseconds()
+    {
+        return this.maximumLatencyNanoseconds;
+    }
+
+    public synchronized JSONObject toJson()
+    {
+        return JSONObject.create()
+            .setNumber("eventCount", this.eventCount)
+            .setNumber("scaffoldCount", this.scaffoldCount)
+            .setNumber("failedScaffoldCount", this.failedScaffoldCount)
+            .setNumber("skippedFolderCount", this.skippedFolderCount)
+            .setNumber("averageLatencyNanoseconds", this.getAverageLatencyNanoseconds())
+            .setNumber("maximumLatencyNanoseconds", this.maximumLatencyNanoseconds);
+    }
+}
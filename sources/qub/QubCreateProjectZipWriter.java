@@ -0,0 +1,111 @@
+package qub;
+
+/**
+ * A QubCreateProjectArchiveWriter that writes a zip archive. The entries are stored without
+ * compression because a project's files are small and are usually extracted right away, and
+ * every entry has the same modification time so that the same project always produces the same
+ * archive bytes.
+ */
+public class QubCreateProjectZipWriter implements QubCreateProjectArchiveWriter
+{
+    private static final java.time.LocalDateTime entryTime = java.time.LocalDateTime.of(1980, 1, 1, 0, 0);
+
+    private final java.util.zip.ZipOutputStream zipStream;
+    private final java.util.zip.CRC32 crc;
+    private long bytesWritten;
+    private boolean finished;
+
+    private QubCreateProjectZipWriter(ByteWriteStream stream)
+    {
+        PreCondition.assertNotNull(stream, "stream");
+
+        // The zip stream writes each entry's header fields separately, so its writes are
+        // buffered before they reach the stream.
+        this.zipStream = new java.util.zip.ZipOutputStream(new java.io.BufferedOutputStream(new java.io.OutputStream()
+        {
+            @Override
+            public void write(int b)
+            {
+                this.write(new byte[] { (byte)b }, 0, 1);
+            }
+
+            @Override
+            public void write(byte[] bytes, int startIndex, int length)
+            {
+                stream.writeAll(bytes, startIndex, length).await();
+                QubCreateProjectZipWriter.this.bytesWritten += length;
+            }
+        }));
+        this.zipStream.setMethod(java.util.zip.ZipOutputStream.STORED);
+        this.crc = new java.util.zip.CRC32();
+    }
+
+    public static QubCreateProjectZipWriter create(ByteWriteStream stream)
+    {
+        return new QubCreateProjectZipWriter(stream);
+    }
+
+    @Override
+    public QubCreateProjectZipWriter addFolder(String folderPath)
+    {
+        PreCondition.assertNotNullAndNotEmpty(folderPath, "folderPath");
+        PreCondition.assertTrue(folderPath.endsWith("/"), "folderPath.endsWith(\"/\")");
+        PreCondition.assertFalse(this.finished, "this.finished");
+
+        this.putEntry(folderPath, new byte[0]);
+        return this;
+    }
+
+    @Override
+    public QubCreateProjectZipWriter addFile(String filePath, byte[] contents)
+    {
+        PreCondition.assertNotNullAndNotEmpty(filePath, "filePath");
+        PreCondition.assertNotNull(contents, "contents");
+        PreCondition.assertFalse(this.finished, "this.finished");
+
+        this.putEntry(filePath, contents);
+        return this;
+    }
+
+    @Override
+    public long finish()
+    {
+        PreCondition.assertFalse(this.finished, "this.finished");
+
+        this.finished = true;
+        try
+        {
+            this.zipStream.finish();
+            this.zipStream.flush();
+        }
+        catch (java.io.IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+        return this.bytesWritten;
+    }
+
+    private void putEntry(String path, byte[] contents)
+    {
+        // Stored entries must have their size and CRC set before they are written.
+        this.crc.reset();
+        this.crc.update(contents);
+
+        final java.util.zip.ZipEntry entry = new java.util.zip.ZipEntry(path);
+        entry.setMethod(java.util.zip.ZipEntry.STORED);
+        entry.setSize(contents.length);
+        entry.setCompressedSize(contents.length);
+        entry.setCrc(this.crc.getValue());
+        entry.setTimeLocal(QubCreateProjectZipWriter.entryTime);
+        try
+        {
+            this.zipStream.putNextEntry(entry);
+            this.zipStream.write(contents);
+            this.zipStream.closeEntry();
+        }
+        catch (java.io.IOException e)
+        {
+            throw Exceptions.asRuntime(e);
+        }
+    }
+}
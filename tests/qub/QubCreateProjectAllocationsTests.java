@@ -0,0 +1,56 @@
+package qub;
+
+public interface QubCreateProjectAllocationsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectAllocations.class, () ->
+        {
+            runner.testGroup("getCurrentThreadAllocatedBytes()", () ->
+            {
+                runner.test("with no arguments", (Test test) ->
+                {
+                    final long allocatedBytes = QubCreateProjectAllocations.getCurrentThreadAllocatedBytes();
+                    if (QubCreateProjectAllocations.isSupported())
+                    {
+                        test.assertGreaterThanOrEqualTo(allocatedBytes, 0L);
+                    }
+                    else
+                    {
+                        test.assertEqual(-1L, allocatedBytes);
+                    }
+                });
+            });
+
+            runner.testGroup("measure(Action0)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectAllocations.measure(null),
+                        new PreConditionFailure("action cannot be null."));
+                });
+
+                runner.test("with project scaffold", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+
+                    final long allocatedBytes = QubCreateProjectAllocations.measure(() -> QubCreateProjectRun.run(parameters));
+                    if (QubCreateProjectAllocations.isSupported())
+                    {
+                        test.assertGreaterThan(allocatedBytes, 0L);
+                    }
+                    else
+                    {
+                        test.assertEqual(-1L, allocatedBytes);
+                    }
+                    test.assertTrue(fileSystem.getFile("/project/project.json").await().exists().await());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,72 @@
+package qub;
+
+public interface QubCreateProjectAppGeneratorTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectAppGenerator.class, () ->
+        {
+            runner.testGroup("configureProjectJson(ProjectJSON)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectAppGenerator generator = new QubCreateProjectAppGenerator();
+                    test.assertThrows(() -> generator.configureProjectJson(null),
+                        new PreConditionFailure("projectJson cannot be null."));
+                });
+
+                runner.test("with project", (Test test) ->
+                {
+                    final QubCreateProjectAppGenerator generator = new QubCreateProjectAppGenerator();
+                    final ProjectJSON projectJson = ProjectJSON.create()
+                        .setPublisher("me")
+                        .setProject("my-app")
+                        .setVersion("1");
+
+                    generator.configureProjectJson(projectJson);
+
+                    final ProjectJSONJava projectJsonJava = projectJson.getJava();
+                    test.assertNotNull(projectJsonJava);
+                    test.assertEqual("me.MyApp", projectJsonJava.getMainClass());
+                    test.assertEqual("my-app", projectJsonJava.getShortcutName());
+                });
+            });
+
+            runner.test("getFolderNames()", (Test test) ->
+            {
+                final QubCreateProjectAppGenerator generator = new QubCreateProjectAppGenerator();
+                test.assertEqual(Iterable.create("sources", "tests"), generator.getFolderNames());
+            });
+
+            runner.testGroup("getMainClass(String,String)", () ->
+            {
+                runner.test("with null publisher", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectAppGenerator.getMainClass(null, "my-app"),
+                        new PreConditionFailure("publisher cannot be null."));
+                });
+
+                runner.test("with empty project", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectAppGenerator.getMainClass("qub", ""),
+                        new PreConditionFailure("project cannot be empty."));
+                });
+
+                final Action2<String,String> getMainClassTest = (String project, String expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(project), (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectAppGenerator.getMainClass("qub", project));
+                    });
+                };
+
+                getMainClassTest.run("app", "qub.App");
+                getMainClassTest.run("my-app", "qub.MyApp");
+                getMainClassTest.run("createproject-java", "qub.CreateprojectJava");
+                getMainClassTest.run("my.cool app", "qub.MyCoolApp");
+                getMainClassTest.run("2048", "qub.Program2048");
+                getMainClassTest.run("---", "qub.Program");
+            });
+        });
+    }
+}
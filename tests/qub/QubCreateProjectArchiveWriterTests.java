@@ -0,0 +1,29 @@
+package qub;
+
+public interface QubCreateProjectArchiveWriterTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectArchiveWriter.class, () ->
+        {
+            runner.testGroup("create(String,ByteWriteStream)", () ->
+            {
+                runner.test("with null stream", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectArchiveWriter.create("zip", null),
+                        new PreConditionFailure("stream cannot be null."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("zip"), (Test test) ->
+                {
+                    test.assertInstanceOf(QubCreateProjectArchiveWriter.create("zip", InMemoryByteStream.create()), QubCreateProjectZipWriter.class);
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("tar"), (Test test) ->
+                {
+                    test.assertInstanceOf(QubCreateProjectArchiveWriter.create("tar", InMemoryByteStream.create()), QubCreateProjectTarWriter.class);
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,54 @@
+package qub;
+
+public interface QubCreateProjectBatchEntryTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectBatchEntry.class, () ->
+        {
+            runner.testGroup("create(Folder)", () ->
+            {
+                runner.test("with null projectFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBatchEntry.create(null),
+                        new PreConditionFailure("projectFolder cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/").await();
+
+                    final QubCreateProjectBatchEntry entry = QubCreateProjectBatchEntry.create(projectFolder);
+                    test.assertSame(projectFolder, entry.getProjectFolder());
+                    test.assertEqual("qub", entry.getPublisher());
+                    test.assertEqual("1", entry.getVersion());
+                    test.assertEqual("/project/ --publisher=qub --version=1", entry.toString());
+                });
+            });
+
+            runner.testGroup("toRunParameters(CharacterToByteWriteStream,Folder)", () ->
+            {
+                runner.test("with overridden publisher and version", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectBatchEntry.create(projectFolder)
+                        .setPublisher("me")
+                        .setVersion("7")
+                        .toRunParameters(output, qubProjectDataFolder);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(projectFolder, parameters.getProjectFolder());
+                    test.assertSame(qubProjectDataFolder, parameters.getQubProjectDataFolder());
+                    test.assertEqual("me", parameters.getPublisher());
+                    test.assertEqual("7", parameters.getVersion());
+                });
+            });
+        });
+    }
+}
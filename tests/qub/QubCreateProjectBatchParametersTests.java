@@ -0,0 +1,113 @@
+package qub;
+
+public interface QubCreateProjectBatchParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectBatchParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,Iterable<QubCreateProjectBatchEntry>,Folder)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+
+                    test.assertThrows(() -> QubCreateProjectBatchParameters.create(null, Iterable.create(), qubProjectDataFolder),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null entries", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+
+                    test.assertThrows(() -> QubCreateProjectBatchParameters.create(InMemoryCharacterToByteStream.create(), null, qubProjectDataFolder),
+                        new PreConditionFailure("entries cannot be null."));
+                });
+
+                runner.test("with null qubProjectDataFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBatchParameters.create(InMemoryCharacterToByteStream.create(), Iterable.create(), null),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final Iterable<QubCreateProjectBatchEntry> entries = Iterable.create(
+                        QubCreateProjectBatchEntry.create(fileSystem.getFolder("/a/").await()));
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+
+                    final QubCreateProjectBatchParameters parameters = QubCreateProjectBatchParameters.create(output, entries, qubProjectDataFolder);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(entries, parameters.getEntries());
+                    test.assertSame(qubProjectDataFolder, parameters.getQubProjectDataFolder());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertGreaterThanOrEqualTo(parameters.getParallelism(), 1);
+                    test.assertNotNull(parameters.getLogRotation());
+                    test.assertNull(parameters.getLogRotation().getClock());
+                    test.assertNull(parameters.getClock());
+                    test.assertFalse(parameters.isStaged());
+                    test.assertEqual(QubCreateProjectDurability.none, parameters.getDurability());
+                });
+            });
+
+            runner.testGroup("setDurability(String)", () ->
+            {
+                final Action1<String> setDurabilityTest = (String durability) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(durability), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectBatchParameters parameters = QubCreateProjectBatchParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            Iterable.create(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+
+                        test.assertSame(parameters, parameters.setDurability(durability));
+                        test.assertEqual(durability, parameters.getDurability());
+                    });
+                };
+
+                setDurabilityTest.run("none");
+                setDurabilityTest.run("project");
+                setDurabilityTest.run("batch");
+            });
+
+            runner.testGroup("setParallelism(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectBatchParameters parameters = QubCreateProjectBatchParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        Iterable.create(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+
+                    test.assertThrows(() -> parameters.setParallelism(0),
+                        new PreConditionFailure("parallelism (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 3", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectBatchParameters parameters = QubCreateProjectBatchParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        Iterable.create(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+
+                    test.assertSame(parameters, parameters.setParallelism(3));
+                    test.assertEqual(3, parameters.getParallelism());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,239 @@
+package qub;
+
+public interface QubCreateProjectBatchTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectBatch.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBatch.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("-?"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("-?"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final InMemoryCharacterToByteStream error = InMemoryCharacterToByteStream.create();
+                        process.setErrorWriteStream(error);
+
+                        final QubCreateProjectBatchParameters parameters = QubCreateProjectBatch.getParameters(process);
+
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "Usage: qub-createproject batch [--manifest=<manifest-file-path>] [--parallelism=<project-count>] [--staged] [--durability=<none|project|batch>] [--help] [--verbose]",
+                                "  Create many new Qub projects from a manifest.",
+                                "  --manifest:    The path to the manifest file that lists the projects to create. The manifest will be read from standard input if this isn't defined.",
+                                "  --parallelism: The maximum number of projects to create at the same time. The number of processors will be used if this isn't defined.",
+                                "  --staged:      Build a new project folder in a sibling staging folder and then move it into place.",
+                                "  --durability:  When the files and folders of new projects are synced to disk. Defaults to none.",
+                                "  --help(?):     Show the help message for this application.",
+                                "  --verbose(v):  Whether or not to show verbose logs."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual("", error.getText().await());
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--durability=always"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--durability=always"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectBatchParameters parameters = QubCreateProjectBatch.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--durability must be one of none, project, batch, but was \"always\"."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--parallelism=0"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--parallelism=0"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectBatchParameters parameters = QubCreateProjectBatch.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--parallelism must be greater than or equal to 1, but was 0."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
+                runner.test("with non-existing manifest file", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--manifest=does-not-exist.txt"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectBatchParameters parameters = QubCreateProjectBatch.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "The manifest file " + process.getCurrentFolder().getFile("does-not-exist.txt").await() + " doesn't exist."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
+                runner.test("with manifest that can't be parsed", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+                        process.setInputReadStream(InMemoryByteStream.create(CharacterEncoding.UTF_8.encodeCharacters("a\nb --publisher=\n").await()).endOfStream());
+
+                        final QubCreateProjectBatchParameters parameters = QubCreateProjectBatch.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "Missing manifest token value on line 2: \"--publisher=\""),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+            });
+
+            runner.testGroup("parseManifest(String,Folder)", () ->
+            {
+                runner.test("with null manifestText", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder currentFolder = fileSystem.getFolder("/current/").await();
+
+                    test.assertThrows(() -> QubCreateProjectBatch.parseManifest(null, currentFolder),
+                        new PreConditionFailure("manifestText cannot be null."));
+                });
+
+                runner.test("with null currentFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBatch.parseManifest("", null),
+                        new PreConditionFailure("currentFolder cannot be null."));
+                });
+
+                runner.test("with empty and comment lines", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder currentFolder = fileSystem.getFolder("/current/").await();
+
+                    final Iterable<QubCreateProjectBatchEntry> entries = QubCreateProjectBatch.parseManifest("\n# comment\n   \n", currentFolder).await();
+                    test.assertEqual(0, entries.getCount());
+                });
+
+                runner.test("with relative and rooted folders", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder currentFolder = fileSystem.getFolder("/current/").await();
+
+                    final Iterable<QubCreateProjectBatchEntry> entries = QubCreateProjectBatch.parseManifest(
+                        "a\n/other/b --publisher=me --version=3\n",
+                        currentFolder).await();
+                    test.assertEqual(
+                        Iterable.create(
+                            "/current/a/ --publisher=qub --version=1",
+                            "/other/b/ --publisher=me --version=3"),
+                        entries.map(QubCreateProjectBatchEntry::toString));
+                });
+
+                runner.test("with unrecognized token", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder currentFolder = fileSystem.getFolder("/current/").await();
+
+                    test.assertThrows(() -> QubCreateProjectBatch.parseManifest("a --bananas", currentFolder).await(),
+                        new ParseException("Unrecognized manifest token on line 1: \"--bananas\""));
+                });
+
+                runner.test("with empty version", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder currentFolder = fileSystem.getFolder("/current/").await();
+
+                    test.assertThrows(() -> QubCreateProjectBatch.parseManifest("# projects\na --version=", currentFolder).await(),
+                        new ParseException("Missing manifest token value on line 2: \"--version=\""));
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectBatchParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBatch.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with new and existing projects", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder existingProjectFolder = fileSystem.createFolder("/projects/b/").await();
+                    existingProjectFolder.createFile("project.json").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectBatchParameters parameters = QubCreateProjectBatchParameters.create(
+                        output,
+                        QubCreateProjectBatch.parseManifest("/projects/a --publisher=me\n/projects/b\n", fileSystem.getFolder("/").await()).await(),
+                        qubProjectDataFolder)
+                        .setParallelism(1);
+
+                    final int exitCode = QubCreateProjectBatch.run(parameters);
+
+                    final List<String> outputLines = Strings.getLines(output.getText().await()).toList();
+                    test.assertEqual(3, outputLines.getCount());
+                    test.assertEqual("Creating Qub project in folder /projects/a/... Done.", outputLines.get(0));
+                    test.assertEqual("A Qub project already exists in folder /projects/b/.", outputLines.get(1));
+                    test.assertStartsWith(outputLines.get(2), "Created 1 of 2 projects in ");
+                    test.assertEqual(-1, exitCode);
+                    test.assertEqual(
+                        "# me/a\n",
+                        fileSystem.getFile("/projects/a/README.md").await().getContentsAsString().await());
+                });
+
+                runner.test("with batch durability", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectBatchParameters parameters = QubCreateProjectBatchParameters.create(
+                        output,
+                        QubCreateProjectBatch.parseManifest("/projects/a\n/projects/b\n", fileSystem.getFolder("/").await()).await(),
+                        qubProjectDataFolder)
+                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose))
+                        .setDurability(QubCreateProjectDurability.batch);
+
+                    final int exitCode = QubCreateProjectBatch.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertTrue(verbose.getText().await().contains("Syncing 2 project folders... Done."));
+                    test.assertTrue(fileSystem.getFile("/projects/b/project.json").await().exists().await());
+                });
+            });
+        });
+    }
+}
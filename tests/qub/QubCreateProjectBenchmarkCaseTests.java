@@ -0,0 +1,86 @@
+package qub;
+
+public interface QubCreateProjectBenchmarkCaseTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectBenchmarkCase.class, () ->
+        {
+            runner.testGroup("create(String,Function0<Action0>)", () ->
+            {
+                runner.test("with null name", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmarkCase.create(null, () -> () -> {}),
+                        new PreConditionFailure("name cannot be null."));
+                });
+
+                runner.test("with empty name", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmarkCase.create("", () -> () -> {}),
+                        new PreConditionFailure("name cannot be empty."));
+                });
+
+                runner.test("with null prepareOperation", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmarkCase.create("abc", null),
+                        new PreConditionFailure("prepareOperation cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final Action0 operation = () -> {};
+                    final QubCreateProjectBenchmarkCase benchmarkCase = QubCreateProjectBenchmarkCase.create("abc", () -> operation);
+                    test.assertEqual("abc", benchmarkCase.getName());
+                    test.assertSame(operation, benchmarkCase.prepareOperation());
+                    test.assertTrue(benchmarkCase.isAvailable());
+                    benchmarkCase.cleanUp();
+                });
+            });
+
+            runner.testGroup("setCleanUp(Action0)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectBenchmarkCase benchmarkCase = QubCreateProjectBenchmarkCase.create("abc", () -> () -> {});
+                    test.assertThrows(() -> benchmarkCase.setCleanUp(null),
+                        new PreConditionFailure("cleanUp cannot be null."));
+                });
+
+                runner.test("with non-null", (Test test) ->
+                {
+                    final BooleanValue cleanedUp = BooleanValue.create(false);
+                    final QubCreateProjectBenchmarkCase benchmarkCase = QubCreateProjectBenchmarkCase.create("abc", () -> () -> {});
+                    test.assertSame(benchmarkCase, benchmarkCase.setCleanUp(() -> cleanedUp.set(true)));
+                    test.assertFalse(cleanedUp.get());
+                    benchmarkCase.cleanUp();
+                    test.assertTrue(cleanedUp.get());
+                });
+            });
+
+            runner.testGroup("setIsAvailable(Function0<Boolean>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectBenchmarkCase benchmarkCase = QubCreateProjectBenchmarkCase.create("abc", () -> () -> {});
+                    test.assertThrows(() -> benchmarkCase.setIsAvailable(null),
+                        new PreConditionFailure("isAvailable cannot be null."));
+                    test.assertTrue(benchmarkCase.isAvailable());
+                });
+
+                runner.test("with non-null", (Test test) ->
+                {
+                    final IntegerValue checkCount = IntegerValue.create(0);
+                    final QubCreateProjectBenchmarkCase benchmarkCase = QubCreateProjectBenchmarkCase.create("abc", () -> () -> {});
+                    test.assertSame(benchmarkCase, benchmarkCase.setIsAvailable(() ->
+                    {
+                        checkCount.increment();
+                        return false;
+                    }));
+                    test.assertEqual(0, checkCount.get());
+                    test.assertFalse(benchmarkCase.isAvailable());
+                    test.assertEqual(1, checkCount.get());
+                });
+            });
+        });
+    }
+}
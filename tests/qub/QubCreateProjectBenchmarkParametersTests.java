@@ -0,0 +1,106 @@
+package qub;
+
+public interface QubCreateProjectBenchmarkParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectBenchmarkParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,Clock,Folder)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+
+                    test.assertThrows(() -> QubCreateProjectBenchmarkParameters.create(null, test.getClock(), fileSystem.getFolder("/scratch/").await()),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null clock", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+
+                    test.assertThrows(() -> QubCreateProjectBenchmarkParameters.create(InMemoryCharacterToByteStream.create(), null, fileSystem.getFolder("/scratch/").await()),
+                        new PreConditionFailure("clock cannot be null."));
+                });
+
+                runner.test("with null scratchFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmarkParameters.create(InMemoryCharacterToByteStream.create(), test.getClock(), null),
+                        new PreConditionFailure("scratchFolder cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final Folder scratchFolder = fileSystem.getFolder("/scratch/").await();
+
+                    final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmarkParameters.create(output, test.getClock(), scratchFolder);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(test.getClock(), parameters.getClock());
+                    test.assertSame(scratchFolder, parameters.getScratchFolder());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertEqual(1000, parameters.getIterations());
+                    test.assertEqual(100, parameters.getWarmupIterations());
+                    test.assertNull(parameters.getFilter());
+                    test.assertNull(parameters.getResultsFile());
+                    test.assertNull(parameters.getCdsArchiveFile());
+                });
+            });
+
+            runner.testGroup("setIterations(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmarkParameters.create(InMemoryCharacterToByteStream.create(), test.getClock(), fileSystem.getFolder("/scratch/").await());
+
+                    test.assertThrows(() -> parameters.setIterations(0),
+                        new PreConditionFailure("iterations (0) must be greater than or equal to 1."));
+                });
+            });
+
+            runner.testGroup("setWarmupIterations(int)", () ->
+            {
+                runner.test("with -1", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmarkParameters.create(InMemoryCharacterToByteStream.create(), test.getClock(), fileSystem.getFolder("/scratch/").await());
+
+                    test.assertThrows(() -> parameters.setWarmupIterations(-1),
+                        new PreConditionFailure("warmupIterations (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmarkParameters.create(InMemoryCharacterToByteStream.create(), test.getClock(), fileSystem.getFolder("/scratch/").await());
+
+                    test.assertSame(parameters, parameters.setWarmupIterations(0));
+                    test.assertEqual(0, parameters.getWarmupIterations());
+                });
+            });
+
+            runner.testGroup("setCdsArchiveFile(File)", () ->
+            {
+                runner.test("with file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmarkParameters.create(InMemoryCharacterToByteStream.create(), test.getClock(), fileSystem.getFolder("/scratch/").await());
+                    final File archiveFile = fileSystem.getFile("/app.jsa").await();
+
+                    test.assertSame(parameters, parameters.setCdsArchiveFile(archiveFile));
+                    test.assertSame(archiveFile, parameters.getCdsArchiveFile());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,39 @@
+package qub;
+
+public interface QubCreateProjectBenchmarkResultTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectBenchmarkResult.class, () ->
+        {
+            runner.testGroup("create(String,int,long,long)", () ->
+            {
+                runner.test("with 0 operationCount", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmarkResult.create("abc", 0, 0, 0),
+                        new PreConditionFailure("operationCount (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with measured allocations", (Test test) ->
+                {
+                    final QubCreateProjectBenchmarkResult result = QubCreateProjectBenchmarkResult.create("abc", 4, 2_000_000_000L, 400);
+                    test.assertEqual("abc", result.getName());
+                    test.assertEqual(4, result.getOperationCount());
+                    test.assertEqual(2_000_000_000L, result.getTotalNanoseconds());
+                    test.assertEqual(2.0, result.getOperationsPerSecond());
+                    test.assertEqual(500_000.0, result.getAverageMicroseconds());
+                    test.assertEqual(100L, result.getAllocatedBytesPerOperation());
+                    test.assertEqual("abc: 2.0 ops/s, 500000.0 us/op, 100 B/op", result.toString());
+                    test.assertEqual("abc", result.toJson().getString("name").await());
+                });
+
+                runner.test("with unmeasured allocations", (Test test) ->
+                {
+                    final QubCreateProjectBenchmarkResult result = QubCreateProjectBenchmarkResult.create("abc", 1, 1_000, -1);
+                    test.assertEqual(-1L, result.getAllocatedBytesPerOperation());
+                    test.assertEqual("abc: 1000000.0 ops/s, 1.0 us/op, unknown B/op", result.toString());
+                });
+            });
+        });
+    }
+}
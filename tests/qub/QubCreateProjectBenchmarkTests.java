@@ -0,0 +1,300 @@
+package qub;
+
+public interface QubCreateProjectBenchmarkTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectBenchmark.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--iterations=5"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--iterations=5"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmark.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(5, parameters.getIterations());
+                        test.assertEqual(100, parameters.getWarmupIterations());
+                        test.assertNull(parameters.getFilter());
+                        test.assertNull(parameters.getResultsFile());
+                        test.assertEqual(
+                            process.getFileSystem().getFolder("C:/qub/qub/test-java/data/benchmark/").await(),
+                            parameters.getScratchFolder());
+                        test.assertEqual("", output.getText().await());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--iterations=0"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--iterations=0"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmark.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--iterations must be greater than or equal to 1, but was 0."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--warmup=-1"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--warmup=-1"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmark.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--warmup must be greater than or equal to 0, but was -1."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+            });
+
+            runner.testGroup("runCase(QubCreateProjectBenchmarkCase,int,int)", () ->
+            {
+                runner.test("with null benchmarkCase", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.runCase(null, 0, 1),
+                        new PreConditionFailure("benchmarkCase cannot be null."));
+                });
+
+                runner.test("with counting case", (Test test) ->
+                {
+                    final IntegerValue prepareCount = IntegerValue.create(0);
+                    final IntegerValue runCount = IntegerValue.create(0);
+                    final IntegerValue cleanUpCount = IntegerValue.create(0);
+                    final QubCreateProjectBenchmarkCase benchmarkCase = QubCreateProjectBenchmarkCase.create("count", () ->
+                        {
+                            prepareCount.increment();
+                            return runCount::increment;
+                        })
+                        .setCleanUp(cleanUpCount::increment);
+
+                    final QubCreateProjectBenchmarkResult result = QubCreateProjectBenchmark.runCase(benchmarkCase, 2, 3);
+                    test.assertEqual("count", result.getName());
+                    test.assertEqual(3, result.getOperationCount());
+                    test.assertEqual(5, prepareCount.get());
+                    test.assertEqual(5, runCount.get());
+                    test.assertEqual(1, cleanUpCount.get());
+                });
+            });
+
+            runner.testGroup("createScanWorkspace(Folder,int)", () ->
+            {
+                runner.test("with null workspaceFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.createScanWorkspace(null, 1),
+                        new PreConditionFailure("workspaceFolder cannot be null."));
+                });
+
+                runner.test("with 3 project folders", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+
+                    QubCreateProjectBenchmark.createScanWorkspace(workspaceFolder, 3);
+
+                    final Folder groupFolder = workspaceFolder.getFolder("group0/group0").await();
+                    test.assertTrue(groupFolder.getFile("project0/project.json").await().exists().await());
+                    test.assertTrue(groupFolder.getFolder("project1").await().exists().await());
+                    test.assertFalse(groupFolder.getFile("project1/project.json").await().exists().await());
+                    test.assertTrue(groupFolder.getFile("project2/project.json").await().exists().await());
+                    test.assertFalse(groupFolder.getFolder("project3").await().exists().await());
+                });
+            });
+
+            runner.testGroup("createDependencyQubFolder(Folder,int,int)", () ->
+            {
+                runner.test("with null qubFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.createDependencyQubFolder(null, 1, 1),
+                        new PreConditionFailure("qubFolder cannot be null."));
+                });
+
+                runner.test("with 12 projects and 2 versions", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubFolder = fileSystem.getFolder("/qub/").await();
+
+                    QubCreateProjectBenchmark.createDependencyQubFolder(qubFolder, 12, 2);
+
+                    test.assertEqual(10, qubFolder.getFolders().await().getCount());
+                    test.assertTrue(qubFolder.getFolder("publisher1/project11/versions/2").await().exists().await());
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(qubFolder.getFile("index.tsv").await()).await();
+                    index.update(qubFolder).await();
+                    test.assertEqual(12, index.getProjectCount());
+                });
+            });
+
+            runner.testGroup("createTemplate(Folder,long,int)", () ->
+            {
+                runner.test("with null templateFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.createTemplate(null, 1, 1),
+                        new PreConditionFailure("templateFolder cannot be null."));
+                });
+
+                runner.test("with 10 bytes in files of 4 bytes", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder templateFolder = fileSystem.getFolder("/template/").await();
+
+                    QubCreateProjectBenchmark.createTemplate(templateFolder, 10, 4);
+
+                    test.assertEqual(4, templateFolder.getFile("assets/group0/asset0.bin").await().getContents().await().length);
+                    test.assertEqual(4, templateFolder.getFile("assets/group1/asset1.bin").await().getContents().await().length);
+                    test.assertEqual(2, templateFolder.getFile("assets/group2/asset2.bin").await().getContents().await().length);
+                    test.assertFalse(templateFolder.getFile("assets/group3/asset3.bin").await().exists().await());
+                });
+
+                runner.test("with existing templateFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder templateFolder = fileSystem.createFolder("/template/").await();
+
+                    QubCreateProjectBenchmark.createTemplate(templateFolder, 10, 4);
+
+                    test.assertFalse(templateFolder.getFolder("assets").await().exists().await());
+                });
+            });
+
+            runner.testGroup("copyFolderNaively(Folder,Folder)", () ->
+            {
+                runner.test("with null sourceFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder targetFolder = fileSystem.getFolder("/target/").await();
+                    test.assertThrows(() -> QubCreateProjectBenchmark.copyFolderNaively(null, targetFolder),
+                        new PreConditionFailure("sourceFolder cannot be null."));
+                });
+
+                runner.test("with nested files", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder sourceFolder = fileSystem.getFolder("/source/").await();
+                    QubCreateProjectBenchmark.createTemplate(sourceFolder, 10, 4);
+                    final Folder targetFolder = fileSystem.createFolder("/target/").await();
+
+                    QubCreateProjectBenchmark.copyFolderNaively(sourceFolder, targetFolder);
+
+                    test.assertEqual(
+                        sourceFolder.getFile("assets/group1/asset1.bin").await().getContents().await(),
+                        targetFolder.getFile("assets/group1/asset1.bin").await().getContents().await());
+                    test.assertEqual(2, targetFolder.getFile("assets/group2/asset2.bin").await().getContents().await().length);
+                });
+            });
+
+            runner.testGroup("runGit(Folder,String...)", () ->
+            {
+                runner.test("with null workingFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.runGit(null, "--version"),
+                        new PreConditionFailure("workingFolder cannot be null."));
+                });
+
+                runner.test("with folder that doesn't exist", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final Folder workingFolder = process.getCurrentFolder().getFolder("qub-createproject-does-not-exist").await();
+                        test.assertEqual(-1, QubCreateProjectBenchmark.runGit(workingFolder, "--version"));
+                    }
+                });
+            });
+
+            runner.testGroup("loadGenerators(Iterable<String>)", () ->
+            {
+                runner.test("with null types", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.loadGenerators(null),
+                        new PreConditionFailure("types cannot be null."));
+                });
+
+                runner.test("with no types", (Test test) ->
+                {
+                    test.assertEqual(Iterable.create(), QubCreateProjectBenchmark.loadGenerators(Iterable.create()));
+                });
+
+                runner.test("with one type", (Test test) ->
+                {
+                    test.assertEqual(
+                        Iterable.create(
+                            "qub.QubCreateProjectGenerator",
+                            "qub.QubCreateProjectPlainGenerator"),
+                        QubCreateProjectBenchmark.loadGenerators(Iterable.create("plain")));
+                });
+
+                runner.test("with every type", (Test test) ->
+                {
+                    test.assertEqual(
+                        Iterable.create(
+                            "qub.QubCreateProjectAppGenerator",
+                            "qub.QubCreateProjectGenerator",
+                            "qub.QubCreateProjectJavaGenerator",
+                            "qub.QubCreateProjectLibraryGenerator",
+                            "qub.QubCreateProjectPlainGenerator"),
+                        QubCreateProjectBenchmark.loadGenerators(QubCreateProjectGenerators.types));
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectBenchmarkParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectBenchmark.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with filter and results file", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File resultsFile = fileSystem.getFile("/results.json").await();
+                    final QubCreateProjectBenchmarkParameters parameters = QubCreateProjectBenchmarkParameters.create(output, test.getClock(), fileSystem.getFolder("/scratch/").await())
+                        .setIterations(2)
+                        .setWarmupIterations(1)
+                        .setFilter("scaffold")
+                        .setResultsFile(resultsFile);
+
+                    final int exitCode = QubCreateProjectBenchmark.run(parameters);
+                    test.assertEqual(0, exitCode);
+
+                    final List<String> outputLines = Strings.getLines(output.getText().await()).toList();
+                    test.assertEqual(2, outputLines.getCount());
+                    test.assertStartsWith(outputLines.get(0), "scaffold-in-memory: ");
+                    test.assertStartsWith(outputLines.get(1), "scaffold-file-system: ");
+
+                    final JSONObject resultsJson = JSON.parseObject(resultsFile.getContentsAsString().await()).await();
+                    test.assertEqual(2, resultsJson.getArray("results").await().getCount());
+                    test.assertFalse(fileSystem.getFolder("/scratch/").await().exists().await());
+                });
+            });
+        });
+    }
+}
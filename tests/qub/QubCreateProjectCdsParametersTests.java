@@ -0,0 +1,41 @@
+package qub;
+
+public interface QubCreateProjectCdsParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectCdsParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,File)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File archiveFile = fileSystem.getFile("/app.jsa").await();
+                    test.assertThrows(() -> QubCreateProjectCdsParameters.create(null, archiveFile),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null archiveFile", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectCdsParameters.create(InMemoryCharacterToByteStream.create(), null),
+                        new PreConditionFailure("archiveFile cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File archiveFile = fileSystem.getFile("/app.jsa").await();
+                    final QubCreateProjectCdsParameters parameters = QubCreateProjectCdsParameters.create(output, archiveFile);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(archiveFile, parameters.getArchiveFile());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                });
+            });
+
+        });
+    }
+}
@@ -0,0 +1,156 @@
+package qub;
+
+public interface QubCreateProjectCdsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectCds.class, () ->
+        {
+            runner.testGroup("getDefaultArchiveFile(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectCds.getDefaultArchiveFile(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with valid process", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        test.assertEqual(
+                            process.getFileSystem().getFile("C:/qub/qub/test-java/data/qub-createproject.jsa").await(),
+                            QubCreateProjectCds.getDefaultArchiveFile(process).await());
+                    }
+                });
+            });
+
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectCds.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with no arguments", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectCdsParameters parameters = QubCreateProjectCds.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(
+                            process.getFileSystem().getFile("C:/qub/qub/test-java/data/qub-createproject.jsa").await(),
+                            parameters.getArchiveFile());
+                        test.assertEqual("", output.getText().await());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--archive=/app.jsa"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--archive=/app.jsa"))
+                    {
+                        final QubCreateProjectCdsParameters parameters = QubCreateProjectCds.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(
+                            process.getFileSystem().getFile("/app.jsa").await(),
+                            parameters.getArchiveFile());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--help"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--help"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        test.assertNull(QubCreateProjectCds.getParameters(process));
+                        test.assertFalse(output.getText().await().contains("trainingRun"));
+                    }
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectCdsParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectCds.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+            });
+
+            runner.testGroup("getLauncherFile(File,boolean)", () ->
+            {
+                runner.test("with null archiveFile", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectCds.getLauncherFile(null, false),
+                        new PreConditionFailure("archiveFile cannot be null."));
+                });
+
+                final Action2<Boolean,String> getLauncherFileTest = (Boolean windows, String expected) ->
+                {
+                    runner.test("with " + windows, (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final File archiveFile = fileSystem.getFile("/data/qub-createproject.jsa").await();
+                        test.assertEqual(fileSystem.getFile(expected).await(), QubCreateProjectCds.getLauncherFile(archiveFile, windows));
+                    });
+                };
+
+                getLauncherFileTest.run(false, "/data/qub-createproject-cds");
+                getLauncherFileTest.run(true, "/data/qub-createproject-cds.cmd");
+            });
+
+            runner.testGroup("getLauncherText(String,String,File,boolean)", () ->
+            {
+                runner.test("with null javaPath", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File archiveFile = fileSystem.getFile("/data/qub-createproject.jsa").await();
+                    test.assertThrows(() -> QubCreateProjectCds.getLauncherText(null, "/app.jar", archiveFile, false),
+                        new PreConditionFailure("javaPath cannot be null."));
+                });
+
+                runner.test("with not windows", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File archiveFile = fileSystem.getFile("/data/qub-createproject.jsa").await();
+                    test.assertEqual(
+                        "#!/bin/sh\nexec \"/jdk/bin/java\" -XX:SharedArchiveFile=\"/data/qub-createproject.jsa\" -cp \"/app.jar\" qub.QubCreateProject \"$@\"\n",
+                        QubCreateProjectCds.getLauncherText("/jdk/bin/java", "/app.jar", archiveFile, false));
+                });
+
+                runner.test("with windows", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File archiveFile = fileSystem.getFile("/data/qub-createproject.jsa").await();
+                    test.assertEqual(
+                        "@echo OFF\r\n\"/jdk/bin/java\" -XX:SharedArchiveFile=\"/data/qub-createproject.jsa\" -cp \"/app.jar\" qub.QubCreateProject %*\r\n",
+                        QubCreateProjectCds.getLauncherText("/jdk/bin/java", "/app.jar", archiveFile, true));
+                });
+            });
+
+            runner.testGroup("runTraining(Clock)", () ->
+            {
+                runner.test("with null clock", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectCds.runTraining(null),
+                        new PreConditionFailure("clock cannot be null."));
+                });
+
+                runner.test("with valid clock", (Test test) ->
+                {
+                    test.assertEqual(0, QubCreateProjectCds.runTraining(test.getClock()));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package qub;
+
+public interface QubCreateProjectDaemonClientTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectDaemonClient.class, () ->
+        {
+            runner.testGroup("tryRun(String[])", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertNull(QubCreateProjectDaemonClient.tryRun(null));
+                });
+
+                runner.test("with daemon action", (Test test) ->
+                {
+                    test.assertNull(QubCreateProjectDaemonClient.tryRun(new String[] { "daemon" }));
+                });
+            });
+
+            runner.testGroup("canForward(String[])", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDaemonClient.canForward(null),
+                        new IllegalArgumentException("args cannot be null."));
+                });
+
+                final Action2<String[],Boolean> canForwardTest = (String[] args, Boolean expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(String.join(" ", args)), (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectDaemonClient.canForward(args));
+                    });
+                };
+
+                canForwardTest.run(new String[0], true);
+                canForwardTest.run(new String[] { "run", "--type=java" }, true);
+                canForwardTest.run(new String[] { "--verbose", "run" }, true);
+                canForwardTest.run(new String[] { "daemon" }, false);
+                canForwardTest.run(new String[] { "--action=daemon" }, false);
+                canForwardTest.run(new String[] { "watch", "--manifest=projects.txt" }, false);
+                canForwardTest.run(new String[] { "-a=watch" }, false);
+                canForwardTest.run(new String[] { "batch" }, false);
+                canForwardTest.run(new String[] { "batch", "--manifest=projects.txt" }, true);
+                canForwardTest.run(new String[] { "-action=batch", "-manifest", "projects.txt" }, true);
+            });
+
+            runner.testGroup("send(int,String,String,String[],OutputStream,OutputStream)", () ->
+            {
+                runner.test("with null token", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDaemonClient.send(1, null, "/", new String[0], java.io.OutputStream.nullOutputStream(), java.io.OutputStream.nullOutputStream()),
+                        new IllegalArgumentException("token cannot be null."));
+                });
+
+                runner.test("with null currentFolderPath", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDaemonClient.send(1, "token", null, new String[0], java.io.OutputStream.nullOutputStream(), java.io.OutputStream.nullOutputStream()),
+                        new IllegalArgumentException("currentFolderPath cannot be null."));
+                });
+
+                runner.test("with null args", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDaemonClient.send(1, "token", "/", null, java.io.OutputStream.nullOutputStream(), java.io.OutputStream.nullOutputStream()),
+                        new IllegalArgumentException("args cannot be null."));
+                });
+
+                runner.test("with connection that closes before the response", (Test test) ->
+                {
+                    try (final java.net.ServerSocket serverSocket = new java.net.ServerSocket(0, 1, java.net.InetAddress.getLoopbackAddress()))
+                    {
+                        final Thread serverThread = new Thread(() ->
+                        {
+                            try (final java.net.Socket socket = serverSocket.accept())
+                            {
+                                new java.io.DataInputStream(socket.getInputStream()).readInt();
+                            }
+                            catch (java.io.IOException ignored)
+                            {
+                            }
+                        });
+                        serverThread.start();
+
+                        final java.io.ByteArrayOutputStream output = new java.io.ByteArrayOutputStream();
+                        final java.io.ByteArrayOutputStream error = new java.io.ByteArrayOutputStream();
+                        test.assertEqual(-1, QubCreateProjectDaemonClient.send(serverSocket.getLocalPort(), "token", "/", new String[] { "run" }, output, error));
+                        test.assertEqual("", output.toString());
+                        test.assertStartsWith(error.toString(), "The connection to the daemon on port " + serverSocket.getLocalPort() + " failed: ");
+
+                        serverThread.join();
+                    }
+                    catch (java.io.IOException | InterruptedException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                });
+            });
+        });
+    }
+}
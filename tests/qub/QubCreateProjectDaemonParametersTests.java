@@ -0,0 +1,67 @@
+package qub;
+
+public interface QubCreateProjectDaemonParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectDaemonParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDaemonParameters.create(null),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectDaemonParameters parameters = QubCreateProjectDaemonParameters.create(output);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertEqual(QubCreateProjectDaemon.defaultPort, parameters.getPort());
+                    test.assertEqual(QubCreateProjectDaemon.defaultIdleTimeoutSeconds, parameters.getIdleTimeoutSeconds());
+                    test.assertNotNull(parameters.getOnListening());
+                });
+            });
+
+            runner.testGroup("setPort(int)", () ->
+            {
+                runner.test("with -1", (Test test) ->
+                {
+                    final QubCreateProjectDaemonParameters parameters = QubCreateProjectDaemonParameters.create(InMemoryCharacterToByteStream.create());
+                    test.assertThrows(() -> parameters.setPort(-1),
+                        new PreConditionFailure("port (-1) must be between 0 and 65535."));
+                });
+
+                runner.test("with 0", (Test test) ->
+                {
+                    final QubCreateProjectDaemonParameters parameters = QubCreateProjectDaemonParameters.create(InMemoryCharacterToByteStream.create());
+                    test.assertSame(parameters, parameters.setPort(0));
+                    test.assertEqual(0, parameters.getPort());
+                });
+            });
+
+            runner.testGroup("setIdleTimeoutSeconds(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final QubCreateProjectDaemonParameters parameters = QubCreateProjectDaemonParameters.create(InMemoryCharacterToByteStream.create());
+                    test.assertThrows(() -> parameters.setIdleTimeoutSeconds(0),
+                        new PreConditionFailure("idleTimeoutSeconds (0) must be greater than or equal to 1."));
+                });
+            });
+
+            runner.testGroup("setOnListening(Action1<Integer>)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectDaemonParameters parameters = QubCreateProjectDaemonParameters.create(InMemoryCharacterToByteStream.create());
+                    test.assertThrows(() -> parameters.setOnListening(null),
+                        new PreConditionFailure("onListening cannot be null."));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package qub;
+
+public interface QubCreateProjectDaemonTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectDaemon.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDaemon.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--port=1234") + " and " + Strings.escapeAndQuote("--idleTimeout=5"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--port=1234", "--idleTimeout=5"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectDaemonParameters parameters = QubCreateProjectDaemon.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(1234, parameters.getPort());
+                        test.assertEqual(5, parameters.getIdleTimeoutSeconds());
+                        test.assertEqual("", output.getText().await());
+                    }
+                });
+
+                final Action2<String[],String> getParametersErrorTest = (String[] arguments, String expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(String.join(" ", arguments)), (Test test) ->
+                    {
+                        try (final QubProcess process = QubProcess.create(arguments))
+                        {
+                            final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                            process.setOutputWriteStream(output);
+
+                            test.assertNull(QubCreateProjectDaemon.getParameters(process));
+                            test.assertEqual(Iterable.create(expected), Strings.getLines(output.getText().await()));
+                            test.assertEqual(-1, process.getExitCode());
+                        }
+                    });
+                };
+
+                getParametersErrorTest.run(new String[] { "--port=-1" }, "--port must be between 0 and 65535, but was -1.");
+                getParametersErrorTest.run(new String[] { "--port=65536" }, "--port must be between 0 and 65535, but was 65536.");
+                getParametersErrorTest.run(new String[] { "--idleTimeout=0" }, "--idleTimeout must be greater than or equal to 1, but was 0.");
+            });
+
+            runner.testGroup("run(QubCreateProjectDaemonParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDaemon.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with forwarded help request and shutdown", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final java.util.concurrent.CountDownLatch listening = new java.util.concurrent.CountDownLatch(1);
+                    final IntegerValue port = IntegerValue.create(0);
+                    final QubCreateProjectDaemonParameters parameters = QubCreateProjectDaemonParameters.create(output)
+                        .setPort(0)
+                        .setIdleTimeoutSeconds(30)
+                        .setOnListening((Integer listeningPort) ->
+                        {
+                            port.set(listeningPort);
+                            listening.countDown();
+                        });
+                    final IntegerValue daemonExitCode = IntegerValue.create(-100);
+                    final Thread daemonThread = new Thread(() -> daemonExitCode.set(QubCreateProjectDaemon.run(parameters)));
+                    daemonThread.start();
+
+                    try
+                    {
+                        listening.await();
+
+                        final java.nio.file.Path tokenFile = QubCreateProjectDaemonClient.getTokenFile(port.get());
+                        test.assertTrue(java.nio.file.Files.exists(tokenFile));
+                        if (java.nio.file.FileSystems.getDefault().supportedFileAttributeViews().contains("posix"))
+                        {
+                            test.assertEqual("rw-------", java.nio.file.attribute.PosixFilePermissions.toString(java.nio.file.Files.getPosixFilePermissions(tokenFile)));
+                        }
+                        final String token = QubCreateProjectDaemonClient.readToken(port.get());
+                        test.assertEqual(64, token.length());
+
+                        final java.io.ByteArrayOutputStream commandOutput = new java.io.ByteArrayOutputStream();
+                        final java.io.ByteArrayOutputStream commandError = new java.io.ByteArrayOutputStream();
+                        final int exitCode = QubCreateProjectDaemonClient.send(port.get(), token, "/", new String[] { "-?" }, commandOutput, commandError);
+                        test.assertEqual(-1, exitCode);
+                        test.assertStartsWith(commandOutput.toString(), "Usage: qub-createproject [--action=]<action-name> [--help]");
+                        test.assertEqual("", commandError.toString());
+
+                        final java.io.ByteArrayOutputStream wrongTokenOutput = new java.io.ByteArrayOutputStream();
+                        final java.io.ByteArrayOutputStream wrongTokenError = new java.io.ByteArrayOutputStream();
+                        test.assertEqual(-1, QubCreateProjectDaemonClient.send(port.get(), "not-the-token", "/", new String[] { "-?" }, wrongTokenOutput, wrongTokenError));
+                        test.assertEqual("", wrongTokenOutput.toString());
+                        test.assertEqual("Invalid daemon token.", wrongTokenError.toString());
+
+                        final java.io.ByteArrayOutputStream watchOutput = new java.io.ByteArrayOutputStream();
+                        final java.io.ByteArrayOutputStream watchError = new java.io.ByteArrayOutputStream();
+                        test.assertEqual(-1, QubCreateProjectDaemonClient.send(port.get(), token, "/", new String[] { "watch" }, watchOutput, watchError));
+                        test.assertEqual("", watchOutput.toString());
+                        test.assertEqual("The watch action can't be run by a daemon.", watchError.toString());
+
+                        try (final java.net.Socket socket = new java.net.Socket(java.net.InetAddress.getLoopbackAddress(), port.get()))
+                        {
+                            final java.io.DataOutputStream request = new java.io.DataOutputStream(socket.getOutputStream());
+                            request.writeInt(QubCreateProjectDaemonClient.protocolVersion);
+                            request.writeUTF(token);
+                            request.writeUTF("/");
+                            request.writeInt(Integer.MAX_VALUE);
+                            request.flush();
+
+                            final java.io.DataInputStream response = new java.io.DataInputStream(socket.getInputStream());
+                            test.assertEqual(-1, response.readInt());
+                            test.assertEqual(0, response.readInt());
+                            final byte[] errorBytes = new byte[response.readInt()];
+                            response.readFully(errorBytes);
+                            test.assertEqual("Invalid daemon argument count: " + Integer.MAX_VALUE, CharacterEncoding.UTF_8.decodeAsString(errorBytes).await());
+                        }
+
+                        QubCreateProjectDaemonClient.sendShutdown(port.get(), token);
+                        daemonThread.join();
+                        test.assertFalse(java.nio.file.Files.exists(tokenFile));
+                    }
+                    catch (java.io.IOException | InterruptedException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+
+                    test.assertEqual(0, daemonExitCode.get());
+                    test.assertEqual(
+                        Iterable.create(
+                            "Listening on port " + port.get() + ". Set QUB_CREATEPROJECT_DAEMON_PORT=" + port.get() + " to forward commands to this daemon.",
+                            "Stopped after 5 requests."),
+                        Strings.getLines(output.getText().await()));
+                });
+            });
+        });
+    }
+}
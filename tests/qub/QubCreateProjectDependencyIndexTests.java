@@ -0,0 +1,235 @@
+package qub;
+
+public interface QubCreateProjectDependencyIndexTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectDependencyIndex.class, () ->
+        {
+            final Function1<Test,Folder> createQubFolder = (Test test) ->
+            {
+                final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                fileSystem.createRoot("/").await();
+                final Folder qubFolder = fileSystem.createFolder("/qub/").await();
+                qubFolder.createFolder("qub/projectjson-java/versions/9").await();
+                qubFolder.createFolder("qub/projectjson-java/versions/10").await();
+                qubFolder.createFolder("qub/http-java/versions/1").await();
+                qubFolder.createFolder("qub/createproject-java/data").await();
+                qubFolder.createFolder("me/tool/versions/1.10").await();
+                qubFolder.createFolder("me/tool/versions/1.9").await();
+                return qubFolder;
+            };
+
+            runner.testGroup("getIndexFile(Folder)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDependencyIndex.getIndexFile(null),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with data folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    test.assertEqual(
+                        fileSystem.getFile("/qub/qub/createproject-java/data/dependencies/index.tsv").await(),
+                        QubCreateProjectDependencyIndex.getIndexFile(fileSystem.getFolder("/qub/qub/createproject-java/data/").await()));
+                });
+            });
+
+            runner.testGroup("getQubFolder(Folder)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDependencyIndex.getQubFolder(null),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with data folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    test.assertEqual(
+                        fileSystem.getFolder("/qub/").await(),
+                        QubCreateProjectDependencyIndex.getQubFolder(fileSystem.getFolder("/qub/qub/createproject-java/data/").await()));
+                });
+            });
+
+            runner.testGroup("open(File)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectDependencyIndex.open(null),
+                        new PreConditionFailure("indexFile cannot be null."));
+                });
+
+                runner.test("with non-existing file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(fileSystem.getFile("/data/dependencies/index.tsv").await()).await();
+                    test.assertEqual(0, index.getProjectCount());
+                    test.assertNull(index.getNewestVersion("qub", "projectjson-java"));
+                });
+
+                runner.test("with partially written file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File indexFile = fileSystem.getFile("/data/dependencies/index.tsv").await();
+                    indexFile.setContentsAsString("publisher\tqub\t5\nproject\tqub\tprojectjson-java\t7\t74\n").await();
+
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(indexFile).await();
+                    test.assertEqual(0, index.getProjectCount());
+                });
+
+                runner.test("with complete file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File indexFile = fileSystem.getFile("/data/dependencies/index.tsv").await();
+                    indexFile.setContentsAsString("publisher\tqub\t5\nproject\tqub\tprojectjson-java\t7\t73\t74\n# entries: 2\n").await();
+
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(indexFile).await();
+                    test.assertEqual(1, index.getProjectCount());
+                    test.assertEqual(Iterable.create("73", "74"), index.getVersions("qub", "projectjson-java"));
+                    test.assertEqual("74", index.getNewestVersion("qub", "projectjson-java"));
+                });
+            });
+
+            runner.testGroup("update(Folder)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(fileSystem.getFile("/data/index.tsv").await()).await();
+                    test.assertThrows(() -> index.update(null),
+                        new PreConditionFailure("qubFolder cannot be null."));
+                });
+
+                runner.test("with non-existing qub folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(fileSystem.getFile("/data/index.tsv").await()).await();
+
+                    test.assertEqual(1, index.update(fileSystem.getFolder("/qub/").await()).await());
+                    test.assertEqual(0, index.getProjectCount());
+                });
+
+                runner.test("with installed projects", (Test test) ->
+                {
+                    final Folder qubFolder = createQubFolder.run(test);
+                    final File indexFile = qubFolder.getFile("qub/createproject-java/data/dependencies/index.tsv").await();
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(indexFile).await();
+
+                    // The root, both publisher folders, and all four versions folders are listed.
+                    test.assertEqual(7, index.update(qubFolder).await());
+
+                    test.assertEqual(3, index.getProjectCount());
+                    test.assertEqual(Iterable.create("9", "10"), index.getVersions("qub", "projectjson-java"));
+                    test.assertEqual("10", index.getNewestVersion("qub", "projectjson-java"));
+                    test.assertEqual("1", index.getNewestVersion("qub", "http-java"));
+                    test.assertEqual("1.10", index.getNewestVersion("me", "tool"));
+                    test.assertNull(index.getNewestVersion("qub", "createproject-java"));
+                    test.assertNull(index.getNewestVersion("qub", "not-installed"));
+
+                    final QubCreateProjectDependencyIndex reopenedIndex = QubCreateProjectDependencyIndex.open(indexFile).await();
+                    test.assertEqual(3, reopenedIndex.getProjectCount());
+                    test.assertEqual("10", reopenedIndex.getNewestVersion("qub", "projectjson-java"));
+                });
+
+                runner.test("with unchanged last modified times", (Test test) ->
+                {
+                    final Folder qubFolder = createQubFolder.run(test);
+                    final File indexFile = qubFolder.getFile("qub/createproject-java/data/dependencies/index.tsv").await();
+                    final java.util.HashMap<String,Long> lastModified = new java.util.HashMap<>();
+                    final Function1<Folder,Long> getLastModified = (Folder folder) -> lastModified.getOrDefault(folder.toString(), 1L);
+                    test.assertEqual(7, QubCreateProjectDependencyIndex.open(indexFile).await()
+                        .setGetLastModified(getLastModified)
+                        .update(qubFolder).await());
+
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(indexFile).await()
+                        .setGetLastModified(getLastModified);
+                    test.assertEqual(1, index.update(qubFolder).await());
+                    test.assertEqual("10", index.getNewestVersion("qub", "projectjson-java"));
+
+                    qubFolder.createFolder("qub/projectjson-java/versions/11").await();
+                    lastModified.put(qubFolder.getFolder("qub/projectjson-java/versions/").await().toString(), 2L);
+                    test.assertEqual(2, index.update(qubFolder).await());
+                    test.assertEqual("11", index.getNewestVersion("qub", "projectjson-java"));
+                    test.assertEqual("1.10", index.getNewestVersion("me", "tool"));
+                });
+
+                runner.test("with folders modified just before they were listed", (Test test) ->
+                {
+                    final Folder qubFolder = createQubFolder.run(test);
+                    final File indexFile = qubFolder.getFile("qub/createproject-java/data/dependencies/index.tsv").await();
+                    final long[] currentTime = new long[] { 2000 };
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(indexFile).await()
+                        .setGetLastModified((Folder folder) -> 1000L)
+                        .setGetCurrentTime(() -> currentTime[0]);
+                    test.assertEqual(7, index.update(qubFolder).await());
+
+                    // The folders could have been modified again within the same last modified time,
+                    // so they are all listed again.
+                    currentTime[0] = 10000;
+                    test.assertEqual(7, index.update(qubFolder).await());
+                    test.assertEqual(1, index.update(qubFolder).await());
+                });
+
+                runner.test("with removed publisher", (Test test) ->
+                {
+                    final Folder qubFolder = createQubFolder.run(test);
+                    final QubCreateProjectDependencyIndex index = QubCreateProjectDependencyIndex.open(qubFolder.getFile("index.tsv").await()).await();
+                    index.update(qubFolder).await();
+
+                    qubFolder.getFolder("me").await().delete().await();
+                    index.update(qubFolder).await();
+
+                    test.assertEqual(2, index.getProjectCount());
+                    test.assertNull(index.getNewestVersion("me", "tool"));
+                });
+            });
+
+            runner.testGroup("getReliableLastModified(long,long)", () ->
+            {
+                final Action3<Long,Long,Long> getReliableLastModifiedTest = (Long lastModified, Long listedTime, Long expected) ->
+                {
+                    runner.test("with " + lastModified + " and " + listedTime, (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectDependencyIndex.getReliableLastModified(lastModified, listedTime));
+                    });
+                };
+
+                getReliableLastModifiedTest.run(-1L, 10000L, -1L);
+                getReliableLastModifiedTest.run(1000L, 10000L, 1000L);
+                getReliableLastModifiedTest.run(7000L, 10000L, 7000L);
+                getReliableLastModifiedTest.run(7001L, 10000L, -1L);
+                getReliableLastModifiedTest.run(10000L, 10000L, -1L);
+                getReliableLastModifiedTest.run(11000L, 10000L, -1L);
+            });
+
+            runner.testGroup("compareVersions(String,String)", () ->
+            {
+                final Action3<String,String,Integer> compareVersionsTest = (String lhs, String rhs, Integer expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(lhs) + " and " + Strings.escapeAndQuote(rhs), (Test test) ->
+                    {
+                        test.assertEqual(expected.intValue(), Integer.signum(QubCreateProjectDependencyIndex.compareVersions(lhs, rhs)));
+                    });
+                };
+
+                compareVersionsTest.run("1", "1", 0);
+                compareVersionsTest.run("9", "10", -1);
+                compareVersionsTest.run("10", "9", 1);
+                compareVersionsTest.run("1.9", "1.10", -1);
+                compareVersionsTest.run("1.2", "1.2.1", -1);
+                compareVersionsTest.run("1.0-beta", "1.0-alpha", 1);
+                compareVersionsTest.run("99999999999999999999", "100000000000000000000", -1);
+            });
+        });
+    }
+}
@@ -0,0 +1,61 @@
+package qub;
+
+public interface QubCreateProjectGeneratorsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectGenerators.class, () ->
+        {
+            runner.test("defaultType", (Test test) ->
+            {
+                test.assertTrue(QubCreateProjectGenerators.types.contains(QubCreateProjectGenerators.defaultType));
+            });
+
+            runner.testGroup("getClassName(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectGenerators.getClassName(null),
+                        new PreConditionFailure("type cannot be null."));
+                });
+
+                final Action2<String,Class<?>> getClassNameTest = (String type, Class<?> expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(type), (Test test) ->
+                    {
+                        test.assertEqual(expected.getName(), QubCreateProjectGenerators.getClassName(type));
+                    });
+                };
+
+                getClassNameTest.run("java", QubCreateProjectJavaGenerator.class);
+                getClassNameTest.run("plain", QubCreateProjectPlainGenerator.class);
+                getClassNameTest.run("library", QubCreateProjectLibraryGenerator.class);
+                getClassNameTest.run("app", QubCreateProjectAppGenerator.class);
+            });
+
+            runner.testGroup("getGenerator(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectGenerators.getGenerator(null),
+                        new PreConditionFailure("type cannot be null."));
+                });
+
+                final Action2<String,Class<?>> getGeneratorTest = (String type, Class<?> expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(type), (Test test) ->
+                    {
+                        final QubCreateProjectGenerator generator = QubCreateProjectGenerators.getGenerator(type);
+                        test.assertNotNull(generator);
+                        test.assertEqual(expected, generator.getClass());
+                    });
+                };
+
+                getGeneratorTest.run("java", QubCreateProjectJavaGenerator.class);
+                getGeneratorTest.run("plain", QubCreateProjectPlainGenerator.class);
+                getGeneratorTest.run("library", QubCreateProjectLibraryGenerator.class);
+                getGeneratorTest.run("app", QubCreateProjectAppGenerator.class);
+            });
+        });
+    }
+}
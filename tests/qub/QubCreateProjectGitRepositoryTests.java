@@ -0,0 +1,162 @@
+package qub;
+
+public interface QubCreateProjectGitRepositoryTests
+{
+    static QubCreateProjectGitRepository createRepository()
+    {
+        final QubCreateProjectGitRepository result = QubCreateProjectGitRepository.create();
+        for (final String fileName : Iterable.create("project.json", "README.md", "LICENSE", ".gitignore", QubCreateProjectManifest.fileName))
+        {
+            result.addFile(fileName, CharacterEncoding.UTF_8.encodeCharacters("contents of " + fileName + "\n").await());
+        }
+        return result;
+    }
+
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectGitRepository.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final QubCreateProjectGitRepository repository = QubCreateProjectGitRepository.create();
+                test.assertEqual(Iterable.create(), repository.getFileNames());
+            });
+
+            runner.testGroup("addFile(String,byte[])", () ->
+            {
+                runner.test("with null fileName", (Test test) ->
+                {
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepository.create();
+                    test.assertThrows(() -> repository.addFile(null, new byte[0]),
+                        new PreConditionFailure("fileName cannot be null."));
+                });
+
+                runner.test("with empty fileName", (Test test) ->
+                {
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepository.create();
+                    test.assertThrows(() -> repository.addFile("", new byte[0]),
+                        new PreConditionFailure("fileName cannot be empty."));
+                });
+
+                runner.test("with null contents", (Test test) ->
+                {
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepository.create();
+                    test.assertThrows(() -> repository.addFile("README.md", null),
+                        new PreConditionFailure("contents cannot be null."));
+                });
+
+                runner.test("with files out of order", (Test test) ->
+                {
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepositoryTests.createRepository();
+                    test.assertEqual(
+                        Iterable.create(".gitignore", QubCreateProjectManifest.fileName, "LICENSE", "README.md", "project.json"),
+                        repository.getFileNames());
+                });
+            });
+
+            runner.testGroup("getObjectId(String,byte[])", () ->
+            {
+                final Action3<String,String,String> getObjectIdTest = (String type, String contents, String expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(type) + " and " + Strings.escapeAndQuote(contents), (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectGitRepository.getObjectId(type, CharacterEncoding.UTF_8.encodeCharacters(contents).await()));
+                    });
+                };
+
+                getObjectIdTest.run("blob", "", "e69de29bb2d1d6434b8b29ae775ad8c2e48c5391");
+                getObjectIdTest.run("blob", "hello\n", "ce013625030ba8dba906f756967f9e9ca394464a");
+                getObjectIdTest.run("tree", "", "4b825dc642cb6eb9a060e54bf8d69288fbee4904");
+            });
+
+            runner.testGroup("writeTo(Folder,String,String,long,String)", () ->
+            {
+                runner.test("with null projectFolder", (Test test) ->
+                {
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepository.create();
+                    test.assertThrows(() -> repository.writeTo(null, "author", "", 0, "Initial commit"),
+                        new PreConditionFailure("projectFolder cannot be null."));
+                });
+
+                runner.test("with empty message", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepository.create();
+                    test.assertThrows(() -> repository.writeTo(projectFolder, "author", "", 0, ""),
+                        new PreConditionFailure("message cannot be empty."));
+                });
+
+                runner.test("with new project folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepositoryTests.createRepository();
+
+                    final String commitId = repository.writeTo(projectFolder, "danschultequb", "", 1700000000, "Initial commit");
+
+                    // This is the id that git itself gives the same commit.
+                    test.assertEqual("a135c2e6b08640a9515ca7b2ac85fe557e752d46", commitId);
+                    final Folder gitFolder = projectFolder.getFolder(".git").await();
+                    test.assertEqual("ref: refs/heads/main\n", gitFolder.getFile("HEAD").await().getContentsAsString().await());
+                    test.assertEqual(commitId + "\n", gitFolder.getFile("refs/heads/main").await().getContentsAsString().await());
+                    test.assertTrue(gitFolder.getFolder("refs/tags").await().exists().await());
+                    test.assertTrue(gitFolder.getFile("objects/a1/35c2e6b08640a9515ca7b2ac85fe557e752d46").await().exists().await());
+                    test.assertTrue(gitFolder.getFile("objects/38/3f372e5f985914bd147c4960994ee52530a2b8").await().exists().await());
+
+                    final byte[] index = gitFolder.getFile("index").await().getContents().await();
+                    test.assertEqual("DIRC", new String(index, 0, 4, java.nio.charset.StandardCharsets.US_ASCII));
+                    test.assertEqual(0, (index.length - 12 - 20) % 8);
+                });
+
+                runner.test("with existing .git folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    projectFolder.createFolder(".git").await();
+                    final QubCreateProjectGitRepository repository = QubCreateProjectGitRepositoryTests.createRepository();
+
+                    test.assertNull(repository.writeTo(projectFolder, "danschultequb", "", 1700000000, "Initial commit"));
+                    test.assertFalse(projectFolder.getFile(".git/HEAD").await().exists().await());
+                });
+
+                runner.test("with local git", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final java.nio.file.Path temporaryPath = java.nio.file.Files.createTempDirectory("qub-createproject-git");
+                        final Folder projectFolder = process.getFileSystem().getFolder(temporaryPath.toString()).await();
+                        try
+                        {
+                            // This test can only check the repository if git is installed.
+                            if (QubCreateProjectBenchmark.runGit(projectFolder, "--version") == 0)
+                            {
+                                final QubCreateProjectGitRepository repository = QubCreateProjectGitRepositoryTests.createRepository();
+                                for (final String fileName : repository.getFileNames())
+                                {
+                                    projectFolder.getFile(fileName).await().setContentsAsString("contents of " + fileName + "\n").await();
+                                }
+
+                                test.assertNotNull(repository.writeTo(projectFolder, "danschultequb", "", 1700000000, "Initial commit"));
+                                test.assertEqual(0, QubCreateProjectBenchmark.runGit(projectFolder, "fsck", "--strict"));
+                                test.assertEqual(0, QubCreateProjectBenchmark.runGit(projectFolder, "diff", "--quiet", "HEAD"));
+                                test.assertEqual(0, QubCreateProjectBenchmark.runGit(projectFolder, "diff", "--cached", "--quiet"));
+                            }
+                        }
+                        finally
+                        {
+                            projectFolder.delete().await();
+                        }
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,262 @@
+package qub;
+
+public interface QubCreateProjectHistogramFileTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectHistogramFile.class, () ->
+        {
+            runner.testGroup("getHistogramFile(Folder)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogramFile.getHistogramFile(null),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with data folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    test.assertEqual(
+                        fileSystem.getFile("/qub/qub/createproject-java/data/stats.histograms").await(),
+                        QubCreateProjectHistogramFile.getHistogramFile(fileSystem.getFolder("/qub/qub/createproject-java/data/").await()));
+                });
+            });
+
+            runner.testGroup("record(File,QubCreateProjectMetrics)", () ->
+            {
+                runner.test("with null histogramFile", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogramFile.record(null, QubCreateProjectMetrics.create()),
+                        new PreConditionFailure("histogramFile cannot be null."));
+                });
+
+                runner.test("with null metrics", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    test.assertThrows(() -> QubCreateProjectHistogramFile.record(histogramFile, null),
+                        new PreConditionFailure("metrics cannot be null."));
+                });
+
+                runner.test("with no phases", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+
+                    test.assertEqual(0, QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectMetrics.create()).await());
+                    test.assertEqual(QubCreateProjectHistogramFile.fileByteCount, histogramFile.getContents().await().length);
+                    test.assertEqual(Iterable.create(), QubCreateProjectHistogramFile.read(histogramFile).await());
+                });
+
+                runner.test("with phases", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+
+                    test.assertEqual(2, QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("plan", "total")).await());
+                    test.assertEqual(2, QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("plan", "artifacts", "total")).await());
+
+                    final Iterable<QubCreateProjectHistogram> histograms = QubCreateProjectHistogramFile.read(histogramFile).await();
+                    test.assertEqual(Iterable.create("total", "plan", "artifacts"), histograms.map(QubCreateProjectHistogram::getName));
+                    test.assertEqual(Iterable.create(2L, 2L, 1L), histograms.map(QubCreateProjectHistogram::getCount));
+                    for (final QubCreateProjectHistogram histogram : histograms)
+                    {
+                        test.assertGreaterThanOrEqualTo(histogram.getMaximumNanoseconds(), 1000000L);
+                        test.assertGreaterThanOrEqualTo(histogram.getTotalNanoseconds(), histogram.getCount() * 1000000L);
+                    }
+                });
+
+                runner.test("with more phases than slots", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    final List<String> phaseNames = List.create();
+                    for (int i = 0; i < QubCreateProjectHistogramFile.slotCount; ++i)
+                    {
+                        phaseNames.add("phase" + i);
+                    }
+                    phaseNames.add("total");
+
+                    test.assertEqual(QubCreateProjectHistogramFile.slotCount, QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics(phaseNames)).await());
+
+                    final Iterable<QubCreateProjectHistogram> histograms = QubCreateProjectHistogramFile.read(histogramFile).await();
+                    test.assertEqual(QubCreateProjectHistogramFile.slotCount, histograms.getCount());
+                    test.assertEqual("total", histograms.first().getName());
+                    test.assertEqual("phase30", histograms.last().getName());
+                });
+
+                runner.test("with long phase name", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    final String phaseName = "a".repeat(QubCreateProjectHistogramFile.nameByteCount + 10);
+
+                    test.assertEqual(1, QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics(phaseName)).await());
+                    test.assertEqual(1, QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics(phaseName)).await());
+
+                    final Iterable<QubCreateProjectHistogram> histograms = QubCreateProjectHistogramFile.read(histogramFile).await();
+                    test.assertEqual(Iterable.create("a".repeat(QubCreateProjectHistogramFile.nameByteCount)), histograms.map(QubCreateProjectHistogram::getName));
+                    test.assertEqual(2L, histograms.first().getCount());
+                });
+
+                runner.test("with file that isn't a histogram file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    final byte[] contents = new byte[QubCreateProjectHistogramFile.fileByteCount];
+                    contents[0] = 1;
+                    histogramFile.setContents(contents).await();
+
+                    test.assertEqual(0, QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("total")).await());
+                    test.assertEqual(Iterable.create(), QubCreateProjectHistogramFile.read(histogramFile).await());
+                });
+
+                runner.test("with local file from many threads", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final java.nio.file.Path temporaryPath = java.nio.file.Files.createTempDirectory("qub-createproject-stats");
+                        final Folder temporaryFolder = process.getFileSystem().getFolder(temporaryPath.toString()).await();
+                        try
+                        {
+                            final File histogramFile = QubCreateProjectHistogramFile.getHistogramFile(temporaryFolder.getFolder("data").await());
+                            final int threadCount = 4;
+                            final int recordCount = 25;
+
+                            // Each thread maps the file separately, like separate processes would.
+                            final List<Thread> threads = List.create();
+                            for (int i = 0; i < threadCount; ++i)
+                            {
+                                final Thread thread = new Thread(() ->
+                                {
+                                    for (int j = 0; j < recordCount; ++j)
+                                    {
+                                        QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("total", "plan")).await();
+                                    }
+                                });
+                                threads.add(thread);
+                                thread.start();
+                            }
+                            for (final Thread thread : threads)
+                            {
+                                thread.join();
+                            }
+
+                            test.assertEqual((long)QubCreateProjectHistogramFile.fileByteCount, java.nio.file.Files.size(java.nio.file.Paths.get(histogramFile.toString())));
+
+                            final Iterable<QubCreateProjectHistogram> histograms = QubCreateProjectHistogramFile.read(histogramFile).await();
+                            test.assertEqual(Iterable.create("total", "plan"), histograms.map(QubCreateProjectHistogram::getName));
+                            for (final QubCreateProjectHistogram histogram : histograms)
+                            {
+                                test.assertEqual((long)(threadCount * recordCount), histogram.getCount());
+
+                                long bucketTotal = 0;
+                                for (int bucketIndex = 0; bucketIndex < QubCreateProjectHistogram.bucketCount; ++bucketIndex)
+                                {
+                                    bucketTotal += histogram.getBucketCount(bucketIndex);
+                                }
+                                test.assertEqual(histogram.getCount(), bucketTotal);
+                            }
+                        }
+                        finally
+                        {
+                            temporaryFolder.delete().await();
+                        }
+                    }
+                    catch (java.io.IOException | InterruptedException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                });
+            });
+
+            runner.testGroup("read(File)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogramFile.read(null),
+                        new PreConditionFailure("histogramFile cannot be null."));
+                });
+
+                runner.test("with non-existing file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+
+                    test.assertEqual(Iterable.create(), QubCreateProjectHistogramFile.read(histogramFile).await());
+                    test.assertFalse(histogramFile.exists().await());
+                });
+
+                runner.test("with file that is too short", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    histogramFile.setContents(new byte[] { 1, 2, 3 }).await();
+
+                    test.assertEqual(Iterable.create(), QubCreateProjectHistogramFile.read(histogramFile).await());
+                });
+            });
+
+            runner.testGroup("reset(File)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogramFile.reset(null),
+                        new PreConditionFailure("histogramFile cannot be null."));
+                });
+
+                runner.test("with non-existing file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+
+                    test.assertFalse(QubCreateProjectHistogramFile.reset(histogramFile).await());
+                });
+
+                runner.test("with existing file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("total")).await();
+
+                    test.assertTrue(QubCreateProjectHistogramFile.reset(histogramFile).await());
+                    test.assertFalse(histogramFile.exists().await());
+                    test.assertEqual(Iterable.create(), QubCreateProjectHistogramFile.read(histogramFile).await());
+                });
+            });
+        });
+    }
+
+    /**
+     * Create metrics that have a phase of at least one millisecond for each of the provided phase
+     * names.
+     * @param phaseNames The names of the phases.
+     * @return The metrics.
+     */
+    static QubCreateProjectMetrics createMetrics(String... phaseNames)
+    {
+        return QubCreateProjectHistogramFileTests.createMetrics(Iterable.create(phaseNames));
+    }
+
+    static QubCreateProjectMetrics createMetrics(Iterable<String> phaseNames)
+    {
+        final QubCreateProjectMetrics result = QubCreateProjectMetrics.create();
+        for (final String phaseName : phaseNames)
+        {
+            result.endPhase(phaseName, result.startPhase() - 1000000);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,188 @@
+package qub;
+
+public interface QubCreateProjectHistogramTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectHistogram.class, () ->
+        {
+            runner.testGroup("create(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogram.create(null),
+                        new PreConditionFailure("name cannot be null."));
+                });
+
+                runner.test("with empty", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogram.create(""),
+                        new PreConditionFailure("name cannot be empty."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("total"), (Test test) ->
+                {
+                    final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create("total");
+                    test.assertEqual("total", histogram.getName());
+                    test.assertEqual(0L, histogram.getCount());
+                    test.assertEqual(0L, histogram.getTotalNanoseconds());
+                    test.assertEqual(0L, histogram.getMaximumNanoseconds());
+                    test.assertEqual(0L, histogram.getPercentileNanoseconds(50));
+                    test.assertEqual("total: 0 runs, p50 0.0 us, p90 0.0 us, p99 0.0 us, max 0.0 us", histogram.toString());
+                });
+            });
+
+            runner.testGroup("getBucketIndex(long)", () ->
+            {
+                final Action2<Long,Integer> getBucketIndexTest = (Long nanoseconds, Integer expected) ->
+                {
+                    runner.test("with " + nanoseconds, (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectHistogram.getBucketIndex(nanoseconds));
+                    });
+                };
+
+                getBucketIndexTest.run(-1L, 0);
+                getBucketIndexTest.run(0L, 0);
+                getBucketIndexTest.run(7L, 7);
+                getBucketIndexTest.run(8L, 8);
+                getBucketIndexTest.run(15L, 15);
+                getBucketIndexTest.run(16L, 16);
+                getBucketIndexTest.run(17L, 16);
+                getBucketIndexTest.run(18L, 17);
+                getBucketIndexTest.run(1000L, 63);
+                getBucketIndexTest.run(100000L, 116);
+                getBucketIndexTest.run((1L << 42) - 1, 319);
+                getBucketIndexTest.run(Long.MAX_VALUE, 319);
+            });
+
+            runner.testGroup("getBucketUpperBound(int)", () ->
+            {
+                final Action2<Integer,Long> getBucketUpperBoundTest = (Integer bucketIndex, Long expected) ->
+                {
+                    runner.test("with " + bucketIndex, (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectHistogram.getBucketUpperBound(bucketIndex));
+                    });
+                };
+
+                getBucketUpperBoundTest.run(0, 0L);
+                getBucketUpperBoundTest.run(7, 7L);
+                getBucketUpperBoundTest.run(8, 8L);
+                getBucketUpperBoundTest.run(15, 15L);
+                getBucketUpperBoundTest.run(16, 17L);
+                getBucketUpperBoundTest.run(63, 1023L);
+                getBucketUpperBoundTest.run(116, 106495L);
+                getBucketUpperBoundTest.run(319, (1L << 42) - 1);
+
+                runner.test("with -1", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogram.getBucketUpperBound(-1),
+                        new PreConditionFailure("bucketIndex (-1) must be between 0 and 319."));
+                });
+
+                runner.test("with 320", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectHistogram.getBucketUpperBound(320),
+                        new PreConditionFailure("bucketIndex (320) must be between 0 and 319."));
+                });
+
+                runner.test("with every bucket", (Test test) ->
+                {
+                    for (int bucketIndex = 1; bucketIndex < QubCreateProjectHistogram.bucketCount; ++bucketIndex)
+                    {
+                        final long upperBound = QubCreateProjectHistogram.getBucketUpperBound(bucketIndex);
+                        final long lowerBound = QubCreateProjectHistogram.getBucketUpperBound(bucketIndex - 1) + 1;
+                        test.assertEqual(bucketIndex, QubCreateProjectHistogram.getBucketIndex(lowerBound));
+                        test.assertEqual(bucketIndex, QubCreateProjectHistogram.getBucketIndex(upperBound));
+                        test.assertLessThanOrEqualTo(upperBound - lowerBound, lowerBound / 8);
+                    }
+                });
+            });
+
+            runner.testGroup("add(long)", () ->
+            {
+                runner.test("with -1", (Test test) ->
+                {
+                    final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create("total");
+                    test.assertThrows(() -> histogram.add(-1),
+                        new PreConditionFailure("nanoseconds (-1) must be greater than or equal to 0."));
+                    test.assertEqual(0L, histogram.getCount());
+                });
+
+                runner.test("with latencies", (Test test) ->
+                {
+                    final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create("total");
+                    for (int i = 0; i < 9; ++i)
+                    {
+                        test.assertSame(histogram, histogram.add(1000));
+                    }
+                    histogram.add(100000);
+
+                    test.assertEqual(10L, histogram.getCount());
+                    test.assertEqual(109000L, histogram.getTotalNanoseconds());
+                    test.assertEqual(100000L, histogram.getMaximumNanoseconds());
+                    test.assertEqual(9L, histogram.getBucketCount(63));
+                    test.assertEqual(1L, histogram.getBucketCount(116));
+                    test.assertEqual(1023L, histogram.getPercentileNanoseconds(0));
+                    test.assertEqual(1023L, histogram.getPercentileNanoseconds(50));
+                    test.assertEqual(1023L, histogram.getPercentileNanoseconds(90));
+                    test.assertEqual(100000L, histogram.getPercentileNanoseconds(99));
+                    test.assertEqual(100000L, histogram.getPercentileNanoseconds(100));
+                    test.assertEqual("total: 10 runs, p50 1.0 us, p90 1.0 us, p99 100.0 us, max 100.0 us", histogram.toString());
+                });
+            });
+
+            runner.testGroup("getPercentileNanoseconds(double)", () ->
+            {
+                runner.test("with -1", (Test test) ->
+                {
+                    final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create("total");
+                    test.assertThrows(() -> histogram.getPercentileNanoseconds(-1),
+                        new PreConditionFailure("percentile (-1.0) must be between 0.0 and 100.0."));
+                });
+
+                runner.test("with 101", (Test test) ->
+                {
+                    final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create("total");
+                    test.assertThrows(() -> histogram.getPercentileNanoseconds(101),
+                        new PreConditionFailure("percentile (101.0) must be between 0.0 and 100.0."));
+                });
+
+                runner.test("with evenly spread latencies", (Test test) ->
+                {
+                    final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create("plan");
+                    for (long nanoseconds = 1; nanoseconds <= 100; ++nanoseconds)
+                    {
+                        histogram.add(nanoseconds * 1000);
+                    }
+
+                    // Each reported latency is within an eighth of the exact percentile.
+                    test.assertBetween(50000L, histogram.getPercentileNanoseconds(50), 56250L);
+                    test.assertBetween(90000L, histogram.getPercentileNanoseconds(90), 101250L);
+                    test.assertBetween(99000L, histogram.getPercentileNanoseconds(99), 100000L);
+                    test.assertEqual(100000L, histogram.getPercentileNanoseconds(100));
+                });
+            });
+
+            runner.test("toJson()", (Test test) ->
+            {
+                final QubCreateProjectHistogram histogram = QubCreateProjectHistogram.create("total")
+                    .add(1000)
+                    .add(1000)
+                    .add(100000);
+
+                final JSONObject json = histogram.toJson();
+                test.assertEqual(3, json.getNumber("count").await().intValue());
+                test.assertEqual(102000, json.getNumber("totalNanoseconds").await().intValue());
+                test.assertEqual(1023, json.getNumber("p50Nanoseconds").await().intValue());
+                test.assertEqual(100000, json.getNumber("p99Nanoseconds").await().intValue());
+                test.assertEqual(100000, json.getNumber("maximumNanoseconds").await().intValue());
+
+                final JSONObject bucketsJson = json.getObject("bucketUpperBoundNanoseconds").await();
+                test.assertEqual(2, bucketsJson.getNumber("1023").await().intValue());
+                test.assertEqual(1, bucketsJson.getNumber("106495").await().intValue());
+            });
+        });
+    }
+}
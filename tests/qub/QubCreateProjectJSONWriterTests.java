@@ -0,0 +1,73 @@
+package qub;
+
+public interface QubCreateProjectJSONWriterTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectJSONWriter.class, () ->
+        {
+            runner.testGroup("create(ByteWriteStream)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectJSONWriter.create(null),
+                        new PreConditionFailure("stream cannot be null."));
+                });
+
+                runner.test("with non-null", (Test test) ->
+                {
+                    final QubCreateProjectJSONWriter writer = QubCreateProjectJSONWriter.create(InMemoryByteStream.create());
+                    test.assertEqual(0, writer.getBytesWritten());
+                });
+            });
+
+            runner.testGroup("write(JSONSegment)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectJSONWriter writer = QubCreateProjectJSONWriter.create(InMemoryByteStream.create());
+                    test.assertThrows(() -> writer.write(null),
+                        new PreConditionFailure("segment cannot be null."));
+                });
+
+                final Action1<JSONSegment> writeTest = (JSONSegment segment) ->
+                {
+                    runner.test("with " + segment.toString(), (Test test) ->
+                    {
+                        final InMemoryByteStream stream = InMemoryByteStream.create();
+                        final QubCreateProjectJSONWriter writer = QubCreateProjectJSONWriter.create(stream);
+
+                        test.assertSame(writer, writer.write(segment));
+                        test.assertSame(writer, writer.flush());
+
+                        final String expected = segment.toString(JSONFormat.pretty);
+                        test.assertEqual(expected, CharacterEncoding.UTF_8.decodeAsString(stream.getBytes()).await());
+                        test.assertEqual(stream.getBytes().length, (int)writer.getBytesWritten());
+                    });
+                };
+
+                writeTest.run(JSONObject.create());
+                writeTest.run(JSONArray.create());
+                writeTest.run(JSONObject.create()
+                    .setString("a", "b")
+                    .setNumber("c", 5)
+                    .setBoolean("d", true)
+                    .setArray("e", JSONArray.create())
+                    .setObject("f", JSONObject.create()));
+                writeTest.run(JSONObject.create()
+                    .setString("escaped", "\"quoted\" \\ \n \t \u0001")
+                    .setString("unicode", "caf\u00e9 \u20ac \ud83d\ude00"));
+                writeTest.run(ProjectJSON.create()
+                    .setPublisher("qub")
+                    .setProject("my-project")
+                    .setVersion("1")
+                    .setJava(ProjectJSONJava.create()
+                        .setMainClass("qub.MyProject")
+                        .setDependencies(Iterable.create(
+                            ProjectSignature.create("qub", "lib-java", "100"),
+                            ProjectSignature.create("qub", "projectjson-java", "74"))))
+                    .toJson());
+            });
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package qub;
+
+public interface QubCreateProjectJavaGeneratorTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectJavaGenerator.class, () ->
+        {
+            runner.testGroup("configureProjectJson(ProjectJSON)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectJavaGenerator generator = new QubCreateProjectJavaGenerator();
+                    test.assertThrows(() -> generator.configureProjectJson(null),
+                        new PreConditionFailure("projectJson cannot be null."));
+                });
+
+                runner.test("with project", (Test test) ->
+                {
+                    final QubCreateProjectJavaGenerator generator = new QubCreateProjectJavaGenerator();
+                    final ProjectJSON projectJson = ProjectJSON.create()
+                        .setPublisher("qub")
+                        .setProject("my-project")
+                        .setVersion("1");
+
+                    generator.configureProjectJson(projectJson);
+
+                    test.assertEqual("my-project", projectJson.getProject());
+                    test.assertNotNull(projectJson.getJava());
+                });
+            });
+
+            runner.test("getFolderNames()", (Test test) ->
+            {
+                final QubCreateProjectJavaGenerator generator = new QubCreateProjectJavaGenerator();
+                test.assertEqual(Iterable.create("sources", "tests"), generator.getFolderNames());
+            });
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package qub;
+
+public interface QubCreateProjectLibraryGeneratorTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLibraryGenerator.class, () ->
+        {
+            runner.testGroup("configureProjectJson(ProjectJSON)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectLibraryGenerator generator = new QubCreateProjectLibraryGenerator();
+                    test.assertThrows(() -> generator.configureProjectJson(null),
+                        new PreConditionFailure("projectJson cannot be null."));
+                });
+
+                runner.test("with project", (Test test) ->
+                {
+                    final QubCreateProjectLibraryGenerator generator = new QubCreateProjectLibraryGenerator();
+                    final ProjectJSON projectJson = ProjectJSON.create()
+                        .setPublisher("qub")
+                        .setProject("my-project")
+                        .setVersion("1");
+
+                    generator.configureProjectJson(projectJson);
+
+                    test.assertEqual("my-project", projectJson.getProject());
+                    test.assertNotNull(projectJson.getJava());
+                });
+            });
+
+            runner.test("getFolderNames()", (Test test) ->
+            {
+                final QubCreateProjectLibraryGenerator generator = new QubCreateProjectLibraryGenerator();
+                test.assertEqual(Iterable.create("sources", "tests"), generator.getFolderNames());
+            });
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package qub;
+
+public interface QubCreateProjectLockFileTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLockFile.class, () ->
+        {
+            runner.testGroup("tryLock(File,Clock,Duration)", () ->
+            {
+                runner.test("with null lockFile", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLockFile.tryLock(null, test.getClock(), Duration.minutes(10)),
+                        new PreConditionFailure("lockFile cannot be null."));
+                });
+
+                runner.test("with null timeout", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File lockFile = fileSystem.getFile("/data/compact.lock").await();
+                    test.assertThrows(() -> QubCreateProjectLockFile.tryLock(lockFile, test.getClock(), null),
+                        new PreConditionFailure("timeout cannot be null."));
+                });
+
+                runner.test("with no existing lock", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File lockFile = fileSystem.getFile("/data/compact.lock").await();
+
+                    test.assertTrue(QubCreateProjectLockFile.tryLock(lockFile, test.getClock(), Duration.minutes(10)));
+                    test.assertTrue(lockFile.exists().await());
+                });
+
+                runner.test("with held lock", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final File lockFile = fileSystem.getFile("/data/compact.lock").await();
+                    lockFile.create().await();
+                    clock.advance(Duration.minutes(9));
+
+                    test.assertFalse(QubCreateProjectLockFile.tryLock(lockFile, clock, Duration.minutes(10)));
+                    test.assertTrue(lockFile.exists().await());
+                });
+
+                runner.test("with stale lock and no clock", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final File lockFile = fileSystem.getFile("/data/compact.lock").await();
+                    lockFile.create().await();
+                    clock.advance(Duration.minutes(11));
+
+                    test.assertFalse(QubCreateProjectLockFile.tryLock(lockFile, null, Duration.minutes(10)));
+                });
+
+                runner.test("with stale lock", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final File lockFile = fileSystem.getFile("/data/compact.lock").await();
+                    lockFile.create().await();
+                    final DateTime staleLastModified = lockFile.getLastModified().await();
+                    clock.advance(Duration.minutes(11));
+
+                    test.assertTrue(QubCreateProjectLockFile.tryLock(lockFile, clock, Duration.minutes(10)));
+                    test.assertTrue(lockFile.exists().await());
+                    test.assertTrue(fileSystem.getFile("/data/" + QubCreateProjectLockFile.getStaleFileName(lockFile, staleLastModified)).await().exists().await());
+
+                    // A second process that found the same stale lock can't take over the new lock.
+                    test.assertFalse(QubCreateProjectLockFile.tryLock(lockFile, clock, Duration.minutes(10)));
+                    test.assertTrue(lockFile.exists().await());
+                });
+            });
+
+            runner.testGroup("unlock(File)", () ->
+            {
+                runner.test("with null lockFile", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLockFile.unlock(null),
+                        new PreConditionFailure("lockFile cannot be null."));
+                });
+
+                runner.test("with non-existing lock", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File lockFile = fileSystem.getFile("/data/compact.lock").await();
+
+                    QubCreateProjectLockFile.unlock(lockFile);
+                    test.assertFalse(lockFile.exists().await());
+                });
+
+                runner.test("with taken over lock", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final Folder dataFolder = fileSystem.getFolder("/data/").await();
+                    final File lockFile = dataFolder.getFile("compact.lock").await();
+                    final File otherFile = dataFolder.getFile("index.tsv").await();
+                    otherFile.create().await();
+                    lockFile.create().await();
+                    clock.advance(Duration.minutes(11));
+                    QubCreateProjectLockFile.tryLock(lockFile, clock, Duration.minutes(10));
+
+                    QubCreateProjectLockFile.unlock(lockFile);
+                    test.assertEqual(Iterable.create(otherFile), dataFolder.getFiles().await());
+                });
+            });
+
+            runner.test("getStaleFileName(File,DateTime)", (Test test) ->
+            {
+                final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                fileSystem.createRoot("/").await();
+                final File lockFile = fileSystem.getFile("/data/compact.lock").await();
+                final String staleFileName = QubCreateProjectLockFile.getStaleFileName(lockFile, DateTime.create(2020, 1, 1));
+                test.assertStartsWith(staleFileName, "compact.lock.2020");
+                test.assertTrue(staleFileName.endsWith(".stale"));
+                test.assertFalse(staleFileName.contains(":"));
+            });
+        });
+    }
+}
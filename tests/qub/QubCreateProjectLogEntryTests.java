@@ -0,0 +1,96 @@
+package qub;
+
+public interface QubCreateProjectLogEntryTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLogEntry.class, () ->
+        {
+            runner.testGroup("create(long)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogEntry.create(0),
+                        new PreConditionFailure("sequence (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 1", (Test test) ->
+                {
+                    final QubCreateProjectLogEntry entry = QubCreateProjectLogEntry.create(1);
+                    test.assertEqual(1L, entry.getSequence());
+                    test.assertNull(entry.getTimestamp());
+                    test.assertNull(entry.getActionName());
+                    test.assertNull(entry.getProjectFolder());
+                    test.assertNull(entry.getExitCode());
+                    test.assertNull(entry.getLogPath());
+                    test.assertEqual(0L, entry.getOffset());
+                    test.assertEqual(0L, entry.getLength());
+                });
+            });
+
+            runner.testGroup("toIndexLine()", () ->
+            {
+                runner.test("with no values", (Test test) ->
+                {
+                    test.assertEqual("5\t-\t-\t-\t0\t0\t-\t-", QubCreateProjectLogEntry.create(5).toIndexLine());
+                });
+
+                runner.test("with values", (Test test) ->
+                {
+                    final QubCreateProjectLogEntry entry = QubCreateProjectLogEntry.create(7)
+                        .setTimestamp("2020-01-01T00:00Z")
+                        .setActionName("run")
+                        .setProjectFolder("/my\tproject\\")
+                        .setExitCode(1)
+                        .setLogPath("segments/1-7.log")
+                        .setOffset(20)
+                        .setLength(30);
+                    test.assertEqual("7\t2020-01-01T00:00Z\t1\tsegments/1-7.log\t20\t30\trun\t/my\\tproject\\\\", entry.toIndexLine());
+                });
+            });
+
+            runner.testGroup("parse(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogEntry.parse(null),
+                        new PreConditionFailure("indexLine cannot be null."));
+                });
+
+                runner.test("with too few fields", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogEntry.parse("1\t-\t0").await(),
+                        new ParseException("Expected 8 fields in log index line, but found 3: \"1\\t-\\t0\""));
+                });
+
+                runner.test("with invalid sequence", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogEntry.parse("a\t-\t-\t-\t0\t0\t-\t-").await(),
+                        new ParseException("Invalid number in log index line: \"a\\t-\\t-\\t-\\t0\\t0\\t-\\t-\""));
+                });
+
+                runner.test("with index line", (Test test) ->
+                {
+                    final QubCreateProjectLogEntry entry = QubCreateProjectLogEntry.create(7)
+                        .setTimestamp("2020-01-01T00:00Z")
+                        .setActionName("run")
+                        .setProjectFolder("/my\tproject\n\\")
+                        .setExitCode(-1)
+                        .setLogPath("pending/7.log")
+                        .setOffset(0)
+                        .setLength(30);
+
+                    final QubCreateProjectLogEntry parsedEntry = QubCreateProjectLogEntry.parse(entry.toIndexLine()).await();
+                    test.assertEqual(7L, parsedEntry.getSequence());
+                    test.assertEqual("2020-01-01T00:00Z", parsedEntry.getTimestamp());
+                    test.assertEqual("run", parsedEntry.getActionName());
+                    test.assertEqual("/my\tproject\n\\", parsedEntry.getProjectFolder());
+                    test.assertEqual(-1, parsedEntry.getExitCode());
+                    test.assertEqual("pending/7.log", parsedEntry.getLogPath());
+                    test.assertEqual(0L, parsedEntry.getOffset());
+                    test.assertEqual(30L, parsedEntry.getLength());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package qub;
+
+public interface QubCreateProjectLogRotationTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLogRotation.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final QubCreateProjectLogRotation rotation = QubCreateProjectLogRotation.create();
+                test.assertEqual(QubCreateProjectLogRotation.defaultMaximumFileBytes, rotation.getMaximumFileBytes());
+                test.assertEqual(QubCreateProjectLogRotation.defaultMaximumTotalBytes, rotation.getMaximumTotalBytes());
+                test.assertEqual(QubCreateProjectLogRotation.defaultMaximumAge, rotation.getMaximumAge());
+                test.assertNull(rotation.getClock());
+            });
+
+            runner.testGroup("setMaximumFileBytes(long)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final QubCreateProjectLogRotation rotation = QubCreateProjectLogRotation.create();
+                    test.assertThrows(() -> rotation.setMaximumFileBytes(0),
+                        new PreConditionFailure("maximumFileBytes (0) must be greater than or equal to 1."));
+                });
+            });
+
+            runner.testGroup("setMaximumTotalBytes(long)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final QubCreateProjectLogRotation rotation = QubCreateProjectLogRotation.create();
+                    test.assertThrows(() -> rotation.setMaximumTotalBytes(0),
+                        new PreConditionFailure("maximumTotalBytes (0) must be greater than or equal to 1."));
+                });
+            });
+
+            runner.testGroup("setMaximumAge(Duration)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectLogRotation rotation = QubCreateProjectLogRotation.create();
+                    test.assertThrows(() -> rotation.setMaximumAge(null),
+                        new PreConditionFailure("maximumAge cannot be null."));
+                });
+            });
+
+            runner.testGroup("getLogNumber(File)", () ->
+            {
+                final Action2<String,Integer> getLogNumberTest = (String fileName, Integer expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(fileName), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        test.assertEqual(expected, QubCreateProjectLogRotation.getLogNumber(fileSystem.getFile("/logs/" + fileName).await()));
+                    });
+                };
+
+                getLogNumberTest.run("1.log", 1);
+                getLogNumberTest.run("42.log", 42);
+                getLogNumberTest.run(".log", -1);
+                getLogNumberTest.run("a.log", -1);
+                getLogNumberTest.run("1.txt", -1);
+                getLogNumberTest.run("1234567890.log", -1);
+            });
+        });
+    }
+}
@@ -0,0 +1,146 @@
+package qub;
+
+public interface QubCreateProjectLogSinkTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLogSink.class, () ->
+        {
+            runner.testGroup("create(File)", () ->
+            {
+                runner.test("with null logFile", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogSink.create(null),
+                        new PreConditionFailure("logFile cannot be null."));
+                });
+
+                runner.test("with nothing written", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+
+                    final QubCreateProjectLogSink logSink = QubCreateProjectLogSink.create(logFile);
+                    test.assertEqual(logFile, logSink.getLogFile());
+                    test.assertFalse(logSink.isDisposed());
+                    test.assertTrue(logSink.dispose().await());
+                    test.assertTrue(logSink.isDisposed());
+                    test.assertFalse(logSink.dispose().await());
+                    test.assertEqual(0L, logSink.getBytesWritten());
+                    test.assertFalse(logFile.exists().await());
+                });
+            });
+
+            runner.testGroup("create(File,Action0)", () ->
+            {
+                runner.test("with null backgroundAction", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+                    test.assertThrows(() -> QubCreateProjectLogSink.create(logFile, null),
+                        new PreConditionFailure("backgroundAction cannot be null."));
+                });
+
+                runner.test("with backgroundAction", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+                    final IntegerValue backgroundActionRuns = IntegerValue.create(0);
+
+                    final QubCreateProjectLogSink logSink = QubCreateProjectLogSink.create(logFile, backgroundActionRuns::increment);
+                    logSink.dispose().await();
+
+                    test.assertEqual(1, backgroundActionRuns.get());
+                });
+
+                runner.test("with backgroundAction that throws", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+
+                    final QubCreateProjectLogSink logSink = QubCreateProjectLogSink.create(logFile, () -> { throw new RuntimeException("Compaction failed."); }, 4, 1);
+                    final byte[] bytes = new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10 };
+                    test.assertEqual(10, logSink.write(bytes, 0, bytes.length).await());
+                    test.assertTrue(logSink.dispose().await());
+
+                    test.assertInstanceOf(logSink.getWriterError(), RuntimeException.class);
+                    test.assertEqual("Compaction failed.", logSink.getWriterError().getMessage());
+                    test.assertFalse(logFile.exists().await());
+                });
+            });
+
+            runner.testGroup("create(File,Action0,int,long)", () ->
+            {
+                runner.test("with 0 bufferSize", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+                    test.assertThrows(() -> QubCreateProjectLogSink.create(logFile, () -> {}, 0, 1),
+                        new PreConditionFailure("bufferSize (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 0 flushIntervalMilliseconds", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+                    test.assertThrows(() -> QubCreateProjectLogSink.create(logFile, () -> {}, 4, 0),
+                        new PreConditionFailure("flushIntervalMilliseconds (0) must be greater than or equal to 1."));
+                });
+            });
+
+            runner.testGroup("write(byte[],int,int)", () ->
+            {
+                runner.test("with bytes larger than the buffer", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+                    final QubCreateProjectLogSink logSink = QubCreateProjectLogSink.create(logFile, () -> {}, 4, 1);
+
+                    final byte[] bytes = CharacterEncoding.UTF_8.encodeCharacters("hello there, world").await();
+                    test.assertEqual(10, logSink.write(bytes, 2, 10).await());
+                    test.assertTrue(logSink.dispose().await());
+
+                    test.assertEqual("llo there,", logFile.getContentsAsString().await());
+                    test.assertEqual(10L, logSink.getBytesWritten());
+                    test.assertGreaterThanOrEqualTo(logSink.getBatchCount(), 3L);
+                });
+
+                runner.test("after dispose", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogSink logSink = QubCreateProjectLogSink.create(fileSystem.getFile("/logs/1.log").await());
+                    logSink.dispose().await();
+
+                    test.assertThrows(() -> logSink.write(new byte[] { 1 }, 0, 1),
+                        new PreConditionFailure("this.isDisposed() cannot be true."));
+                });
+
+                runner.test("with many small writes", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File logFile = fileSystem.getFile("/logs/1.log").await();
+                    final QubCreateProjectLogSink logSink = QubCreateProjectLogSink.create(logFile);
+
+                    final byte[] line = CharacterEncoding.UTF_8.encodeCharacters("line\n").await();
+                    for (int i = 0; i < 100; ++i)
+                    {
+                        logSink.write(line, 0, line.length).await();
+                    }
+                    logSink.dispose().await();
+
+                    test.assertEqual(100, Strings.getLines(logFile.getContentsAsString().await()).getCount());
+                    test.assertEqual(500L, logSink.getBytesWritten());
+                    test.assertLessThan(logSink.getBatchCount(), 100L);
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,489 @@
+package qub;
+
+public interface QubCreateProjectLogStoreTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLogStore.class, () ->
+        {
+            runner.testGroup("create(Folder,QubCreateProjectLogRotation)", () ->
+            {
+                runner.test("with null logsFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogStore.create(null, QubCreateProjectLogRotation.create()),
+                        new PreConditionFailure("logsFolder cannot be null."));
+                });
+
+                runner.test("with null rotation", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    test.assertThrows(() -> QubCreateProjectLogStore.create(logsFolder, null),
+                        new PreConditionFailure("rotation cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogRotation rotation = QubCreateProjectLogRotation.create();
+
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, rotation);
+                    test.assertSame(logsFolder, logStore.getLogsFolder());
+                    test.assertSame(rotation, logStore.getRotation());
+                    test.assertEqual(QubCreateProjectLogStore.defaultCompactionThreshold, logStore.getCompactionThreshold());
+                    test.assertEqual(Iterable.create(), logStore.getEntries().await());
+                });
+            });
+
+            runner.testGroup("setCompactionThreshold(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+                    test.assertThrows(() -> logStore.setCompactionThreshold(0),
+                        new PreConditionFailure("compactionThreshold (0) must be greater than or equal to 1."));
+                });
+            });
+
+            runner.testGroup("startRun(String)", () ->
+            {
+                runner.test("with null actionName", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+                    test.assertThrows(() -> logStore.startRun(null),
+                        new PreConditionFailure("actionName cannot be null."));
+                });
+
+                runner.test("with empty logs folder", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create().setClock(clock));
+
+                    final QubCreateProjectLogEntry entry = logStore.startRun("run").await();
+                    test.assertEqual(1L, entry.getSequence());
+                    test.assertEqual("run", entry.getActionName());
+                    test.assertEqual(clock.getCurrentDateTime().toString(), entry.getTimestamp());
+                    test.assertEqual("pending/1.log", entry.getLogPath());
+                    test.assertTrue(logsFolder.getFile("pending/1.log").await().exists().await());
+
+                    test.assertEqual(2L, logStore.startRun("run").await().getSequence());
+                });
+
+                runner.test("with legacy, pending, and segment logs", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.createFolder("/logs/").await();
+                    logsFolder.setFileContentsAsString("3.log", "a").await();
+                    logsFolder.setFileContentsAsString("pending/5.log", "b").await();
+                    logsFolder.setFileContentsAsString("segments/6-9.log", "c").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+
+                    test.assertEqual(10L, logStore.startRun("batch").await().getSequence());
+                    test.assertEqual("10", logsFolder.getFile(QubCreateProjectLogStore.sequenceFileName).await().getContentsAsString().await());
+                });
+
+                runner.test("with sequence file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.createFolder("/logs/").await();
+                    logsFolder.setFileContentsAsString(QubCreateProjectLogStore.sequenceFileName, "7").await();
+                    logsFolder.setFileContentsAsString("pending/8.log", "a").await();
+                    logsFolder.setFileContentsAsString("segments/20-30.log", "b").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+
+                    // The segments folder isn't listed, but the pending log that already exists is
+                    // skipped.
+                    test.assertEqual(9L, logStore.startRun("run").await().getSequence());
+                    test.assertEqual("9", logsFolder.getFile(QubCreateProjectLogStore.sequenceFileName).await().getContentsAsString().await());
+                });
+
+                runner.test("with sequence file that can't be parsed", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.createFolder("/logs/").await();
+                    logsFolder.setFileContentsAsString(QubCreateProjectLogStore.sequenceFileName, "").await();
+                    logsFolder.setFileContentsAsString("segments/6-9.log", "c").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+
+                    test.assertEqual(10L, logStore.startRun("run").await().getSequence());
+                });
+            });
+
+            runner.testGroup("finishRun(QubCreateProjectLogEntry)", () ->
+            {
+                runner.test("with null entry", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+                    test.assertThrows(() -> logStore.finishRun(null),
+                        new PreConditionFailure("entry cannot be null."));
+                });
+
+                runner.test("with started run", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+
+                    final QubCreateProjectLogEntry entry = logStore.startRun("run").await();
+                    logsFolder.setFileContentsAsString(entry.getLogPath(), "hello").await();
+                    entry.setExitCode(0).setLength(5);
+                    test.assertEqual(Iterable.create(), logStore.getEntries().await());
+
+                    logStore.finishRun(entry).await();
+                    test.assertEqual(Iterable.create(entry.toIndexLine()), logStore.getEntries().await().map(QubCreateProjectLogEntry::toIndexLine));
+                    test.assertEqual("hello", logStore.getLogText(logStore.getEntries().await().first()).await());
+                });
+            });
+
+            runner.testGroup("compactIfNeeded()", () ->
+            {
+                runner.test("with fewer finished runs than the threshold", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create())
+                        .setCompactionThreshold(2);
+                    QubCreateProjectLogStoreTests.addRun(logStore, "a");
+
+                    test.assertEqual(0, logStore.compactIfNeeded().await());
+                    test.assertFalse(logsFolder.getFolder(QubCreateProjectLogStore.segmentsFolderName).await().exists().await());
+                });
+
+                runner.test("with as many finished runs as the threshold", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create())
+                        .setCompactionThreshold(2);
+                    QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    QubCreateProjectLogStoreTests.addRun(logStore, "bb");
+
+                    test.assertEqual(2, logStore.compactIfNeeded().await());
+                    test.assertEqual(Iterable.create(), logsFolder.getFolder("pending").await().getFiles().await());
+                    test.assertEqual("abb", logsFolder.getFile("segments/1-2.log").await().getContentsAsString().await());
+                });
+
+                runner.test("with legacy logs", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.createFolder("/logs/").await();
+                    logsFolder.setFileContentsAsString("1.log", "first").await();
+                    logsFolder.setFileContentsAsString("2.log", "second").await();
+                    logsFolder.setFileContentsAsString("notes.txt", "notes").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+
+                    test.assertEqual(2, logStore.compactIfNeeded().await());
+                    test.assertEqual(
+                        Iterable.create(logsFolder.getFile("notes.txt").await()),
+                        logsFolder.getFiles().await());
+                    test.assertEqual(
+                        Iterable.create(
+                            logsFolder.getFile("segments/1-2.log").await(),
+                            logsFolder.getFile("segments/1-2.tsv").await()),
+                        logsFolder.getFolder("segments").await().getFiles().await());
+
+                    final Iterable<QubCreateProjectLogEntry> entries = logStore.getEntries().await();
+                    test.assertEqual(Iterable.create(1L, 2L), entries.map(QubCreateProjectLogEntry::getSequence));
+                    test.assertEqual(Iterable.create("first", "second"), entries.map((QubCreateProjectLogEntry entry) -> logStore.getLogText(entry).await()));
+                });
+            });
+
+            runner.testGroup("compact()", () ->
+            {
+                runner.test("with non-existing logs folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+
+                    test.assertEqual(0, logStore.compact().await());
+                });
+
+                runner.test("with unfinished run", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+                    QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    logStore.startRun("run").await();
+
+                    test.assertEqual(1, logStore.compact().await());
+                    test.assertEqual(
+                        Iterable.create(logsFolder.getFile("pending/2.log").await()),
+                        logsFolder.getFolder("pending").await().getFiles().await());
+                    test.assertEqual(3L, logStore.startRun("run").await().getSequence());
+                });
+
+                runner.test("with held lock", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+                    QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    logsFolder.createFile(QubCreateProjectLogStore.lockFileName).await();
+
+                    test.assertEqual(0, logStore.compact().await());
+                    test.assertEqual(1, logStore.getEntries().await().getCount());
+                });
+
+                runner.test("with stale lock", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create().setClock(clock));
+                    logsFolder.createFile(QubCreateProjectLogStore.lockFileName).await();
+                    QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    clock.advance(Duration.minutes(11));
+
+                    test.assertEqual(1, logStore.compact().await());
+                    test.assertEqual(
+                        Iterable.create(logsFolder.getFile(QubCreateProjectLogStore.sequenceFileName).await()),
+                        logsFolder.getFiles().await());
+                });
+
+                runner.test("with runs that are already in the index", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+                    final QubCreateProjectLogEntry entry = QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    test.assertEqual(1, logStore.compact().await());
+
+                    // Put back the pending files of the compacted run, like a compaction that
+                    // stopped before it deleted them would leave them.
+                    logsFolder.setFileContentsAsString(entry.getLogPath(), "a").await();
+                    logStore.finishRun(entry).await();
+                    QubCreateProjectLogStoreTests.addRun(logStore, "b");
+
+                    test.assertEqual(1, logStore.compact().await());
+                    test.assertFalse(logsFolder.getFolder("pending").await().getFiles().await().any());
+                    final Iterable<QubCreateProjectLogEntry> entries = logStore.getEntries().await();
+                    test.assertEqual(Iterable.create(1L, 2L), entries.map(QubCreateProjectLogEntry::getSequence));
+                    test.assertEqual(Iterable.create("a", "b"), entries.map((QubCreateProjectLogEntry compactedEntry) -> logStore.getLogText(compactedEntry).await()));
+                });
+
+                runner.test("with run that reuses the sequence of a compacted run", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+                    QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    test.assertEqual(1, logStore.compact().await());
+
+                    // A run that started from an out of date sequence file gets the same sequence.
+                    logsFolder.setFileContentsAsString(QubCreateProjectLogStore.sequenceFileName, "0").await();
+                    final QubCreateProjectLogEntry entry = QubCreateProjectLogStoreTests.addRun(logStore, "zz");
+                    test.assertEqual(1L, entry.getSequence());
+
+                    test.assertEqual(1, logStore.compact().await());
+                    test.assertFalse(logsFolder.getFolder("pending").await().getFiles().await().any());
+                    final Iterable<QubCreateProjectLogEntry> entries = logStore.getEntries().await();
+                    test.assertEqual(Iterable.create(1L, 2L), entries.map(QubCreateProjectLogEntry::getSequence));
+                    test.assertEqual(Iterable.create("a", "zz"), entries.map((QubCreateProjectLogEntry compactedEntry) -> logStore.getLogText(compactedEntry).await()));
+                    test.assertEqual(3L, logStore.startRun("run").await().getSequence());
+                });
+
+                runner.test("with partially written segment index", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+                    final QubCreateProjectLogEntry entry = QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    QubCreateProjectLogStoreTests.addRun(logStore, "b");
+                    test.assertEqual(2, logStore.compact().await());
+
+                    // Leave the files behind like a compaction that stopped while it was writing
+                    // the segment's index would.
+                    final File segmentIndexFile = logsFolder.getFile("segments/1-2.tsv").await();
+                    final String segmentIndexText = segmentIndexFile.getContentsAsString().await();
+                    segmentIndexFile.setContentsAsString(segmentIndexText.substring(0, segmentIndexText.indexOf('\n') + 1)).await();
+                    logsFolder.setFileContentsAsString(entry.getLogPath(), "a").await();
+                    logStore.finishRun(entry).await();
+                    test.assertEqual(Iterable.create(1L), logStore.getEntries().await().map(QubCreateProjectLogEntry::getSequence));
+
+                    test.assertEqual(1, logStore.compact().await());
+                    test.assertEqual(
+                        Iterable.create(
+                            logsFolder.getFile("segments/1-1.log").await(),
+                            logsFolder.getFile("segments/1-1.tsv").await()),
+                        logsFolder.getFolder("segments").await().getFiles().await());
+                    test.assertEqual(Iterable.create("a"), logStore.getEntries().await().map((QubCreateProjectLogEntry compactedEntry) -> logStore.getLogText(compactedEntry).await()));
+                });
+
+                runner.test("with maximum file bytes", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create().setMaximumFileBytes(4));
+                    QubCreateProjectLogStoreTests.addRun(logStore, "ab");
+                    QubCreateProjectLogStoreTests.addRun(logStore, "cd");
+                    QubCreateProjectLogStoreTests.addRun(logStore, "ef");
+
+                    test.assertEqual(3, logStore.compact().await());
+                    test.assertEqual("abcd", logsFolder.getFile("segments/1-2.log").await().getContentsAsString().await());
+                    test.assertEqual("ef", logsFolder.getFile("segments/3-3.log").await().getContentsAsString().await());
+
+                    final Iterable<QubCreateProjectLogEntry> entries = logStore.getEntries().await();
+                    test.assertEqual(Iterable.create("segments/1-2.log", "segments/1-2.log", "segments/3-3.log"), entries.map(QubCreateProjectLogEntry::getLogPath));
+                    test.assertEqual(Iterable.create("ab", "cd", "ef"), entries.map((QubCreateProjectLogEntry entry) -> logStore.getLogText(entry).await()));
+                });
+
+                runner.test("with maximum total bytes", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create()
+                        .setMaximumFileBytes(4)
+                        .setMaximumTotalBytes(4));
+                    QubCreateProjectLogStoreTests.addRun(logStore, "abcd");
+                    QubCreateProjectLogStoreTests.addRun(logStore, "efgh");
+
+                    test.assertEqual(2, logStore.compact().await());
+                    test.assertEqual(
+                        Iterable.create(
+                            logsFolder.getFile("segments/2-2.log").await(),
+                            logsFolder.getFile("segments/2-2.tsv").await()),
+                        logsFolder.getFolder("segments").await().getFiles().await());
+                    test.assertEqual(Iterable.create(2L), logStore.getEntries().await().map(QubCreateProjectLogEntry::getSequence));
+                });
+
+                runner.test("with old runs", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.getFolder("/logs/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create()
+                        .setMaximumAge(Duration.days(15))
+                        .setClock(clock));
+                    QubCreateProjectLogStoreTests.addRun(logStore, "a");
+                    logStore.compact().await();
+                    clock.advance(Duration.days(10));
+                    QubCreateProjectLogStoreTests.addRun(logStore, "b");
+                    logStore.startRun("run").await();
+                    clock.advance(Duration.days(10));
+
+                    test.assertEqual(1, logStore.compact().await());
+                    test.assertEqual(Iterable.create(2L), logStore.getEntries().await().map(QubCreateProjectLogEntry::getSequence));
+                    test.assertFalse(logsFolder.getFile("segments/1-1.log").await().exists().await());
+                    test.assertFalse(logsFolder.getFile("segments/1-1.tsv").await().exists().await());
+                    test.assertFalse(logsFolder.getFile("pending/3.log").await().exists().await());
+                });
+            });
+
+            runner.testGroup("getPendingSequence(File)", () ->
+            {
+                final Action2<String,Long> getPendingSequenceTest = (String fileName, Long expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(fileName), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        test.assertEqual(expected, QubCreateProjectLogStore.getPendingSequence(fileSystem.getFile("/logs/pending/" + fileName).await()));
+                    });
+                };
+
+                getPendingSequenceTest.run("1.log", 1L);
+                getPendingSequenceTest.run("12.entry", 12L);
+                getPendingSequenceTest.run(".log", -1L);
+                getPendingSequenceTest.run("a.log", -1L);
+            });
+
+            runner.testGroup("getSegmentFirstSequence(File)", () ->
+            {
+                final Action2<String,Long> getSegmentFirstSequenceTest = (String fileName, Long expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(fileName), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        test.assertEqual(expected, QubCreateProjectLogStore.getSegmentFirstSequence(fileSystem.getFile("/logs/segments/" + fileName).await()));
+                    });
+                };
+
+                getSegmentFirstSequenceTest.run("1-5.log", 1L);
+                getSegmentFirstSequenceTest.run("3-3.tsv", 3L);
+                getSegmentFirstSequenceTest.run("5.log", -1L);
+                getSegmentFirstSequenceTest.run("a-5.log", -1L);
+            });
+
+            runner.testGroup("parseSegmentIndex(String)", () ->
+            {
+                final Action2<String,Iterable<Long>> parseSegmentIndexTest = (String indexText, Iterable<Long> expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(indexText), (Test test) ->
+                    {
+                        final Iterable<QubCreateProjectLogEntry> entries = QubCreateProjectLogStore.parseSegmentIndex(indexText);
+                        test.assertEqual(expected, entries == null ? null : entries.map(QubCreateProjectLogEntry::getSequence));
+                    });
+                };
+
+                final String line1 = QubCreateProjectLogEntry.create(1).setLogPath("segments/1-2.log").toIndexLine();
+                final String line2 = QubCreateProjectLogEntry.create(2).setLogPath("segments/1-2.log").toIndexLine();
+                parseSegmentIndexTest.run("", null);
+                parseSegmentIndexTest.run("# entries: 0\n", Iterable.create());
+                parseSegmentIndexTest.run(line1 + "\n" + line2 + "\n# entries: 2\n", Iterable.create(1L, 2L));
+                parseSegmentIndexTest.run(line1 + "\n" + line2 + "\n# entries: 2", null);
+                parseSegmentIndexTest.run(line1 + "\n" + line2 + "\n", null);
+                parseSegmentIndexTest.run(line1 + "\n# entries: 2\n", null);
+            });
+
+            runner.testGroup("getSegmentLastSequence(File)", () ->
+            {
+                final Action2<String,Long> getSegmentLastSequenceTest = (String fileName, Long expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(fileName), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        test.assertEqual(expected, QubCreateProjectLogStore.getSegmentLastSequence(fileSystem.getFile("/logs/segments/" + fileName).await()));
+                    });
+                };
+
+                getSegmentLastSequenceTest.run("1-5.log", 5L);
+                getSegmentLastSequenceTest.run("3-3.log", 3L);
+                getSegmentLastSequenceTest.run("5.log", -1L);
+                getSegmentLastSequenceTest.run("1-5.tsv", 5L);
+                getSegmentLastSequenceTest.run("1-5.txt", -1L);
+                getSegmentLastSequenceTest.run("1-a.log", -1L);
+            });
+        });
+    }
+
+    static QubCreateProjectLogEntry addRun(QubCreateProjectLogStore logStore, String logText)
+    {
+        final QubCreateProjectLogEntry entry = logStore.startRun("run").await();
+        logStore.getLogsFolder().setFileContentsAsString(entry.getLogPath(), logText).await();
+        entry.setExitCode(0).setLength(logText.length());
+        logStore.finishRun(entry).await();
+        return entry;
+    }
+}
@@ -0,0 +1,107 @@
+package qub;
+
+public interface QubCreateProjectLogStreamsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLogStreams.class, () ->
+        {
+            runner.testGroup("create(Folder,String,CharacterToByteWriteStream,VerboseCharacterToByteWriteStream,QubCreateProjectLogRotation)", () ->
+            {
+                runner.test("with null qubProjectDataFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogStreams.create(null, "run", InMemoryCharacterToByteStream.create(), VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()), QubCreateProjectLogRotation.create()),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with empty actionName", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/data/").await();
+                    test.assertThrows(() -> QubCreateProjectLogStreams.create(qubProjectDataFolder, "", InMemoryCharacterToByteStream.create(), VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()), QubCreateProjectLogRotation.create()),
+                        new PreConditionFailure("actionName cannot be empty."));
+                });
+
+                runner.test("with verbose stream", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/data/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryCharacterToByteStream verboseOutput = InMemoryCharacterToByteStream.create();
+
+                    final QubCreateProjectLogStreams logStreams = QubCreateProjectLogStreams.create(qubProjectDataFolder, "run", output, VerboseCharacterToByteWriteStream.create(verboseOutput), QubCreateProjectLogRotation.create()).await();
+                    try (final Disposable logStream = logStreams.getLogStream())
+                    {
+                        test.assertEqual(qubProjectDataFolder.getFile("logs/pending/1.log").await(), logStreams.getLogFile());
+                        test.assertTrue(logStreams.getVerbose().isEnabled());
+
+                        logStreams.getOutput().write("Working...").await();
+                        logStreams.getVerbose().writeLine();
+                        logStreams.getVerbose().writeLine("step");
+                        logStreams.getOutput().writeLine(" Done.").await();
+                    }
+
+                    test.assertEqual(Iterable.create("Working... Done."), Strings.getLines(output.getText().await()));
+                    test.assertEqual(Iterable.create("", "VERBOSE: step"), Strings.getLines(verboseOutput.getText().await()));
+                    test.assertEqual(
+                        Iterable.create(
+                            "Working...",
+                            "VERBOSE: step",
+                            " Done."),
+                        Strings.getLines(qubProjectDataFolder.getFile("logs/pending/1.log").await().getContentsAsString().await()));
+                });
+
+                runner.test("with non-verbose stream", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/data/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryCharacterToByteStream verboseOutput = InMemoryCharacterToByteStream.create();
+
+                    final QubCreateProjectLogStreams logStreams = QubCreateProjectLogStreams.create(qubProjectDataFolder, "run", output, VerboseCharacterToByteWriteStream.create(verboseOutput).setIsVerbose(false), QubCreateProjectLogRotation.create()).await();
+                    try (final Disposable logStream = logStreams.getLogStream())
+                    {
+                        test.assertFalse(logStreams.getVerbose().isEnabled());
+
+                        logStreams.getVerbose().writeLine("step");
+                        logStreams.getOutput().writeLine("Done.").await();
+                    }
+
+                    test.assertEqual(Iterable.create("Done."), Strings.getLines(output.getText().await()));
+                    test.assertEqual("", verboseOutput.getText().await());
+                    test.assertEqual(
+                        Iterable.create("Done."),
+                        Strings.getLines(qubProjectDataFolder.getFile("logs/pending/1.log").await().getContentsAsString().await()));
+                });
+
+                runner.test("with project folder and exit code", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/data/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/").await();
+
+                    final QubCreateProjectLogStreams logStreams = QubCreateProjectLogStreams.create(qubProjectDataFolder, "run", InMemoryCharacterToByteStream.create(), VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()), QubCreateProjectLogRotation.create()).await();
+                    try (final Disposable logStream = logStreams.getLogStream())
+                    {
+                        logStreams.setProjectFolder(projectFolder);
+                        logStreams.getOutput().write("Done.").await();
+                        logStreams.setExitCode(2);
+                    }
+
+                    final QubCreateProjectLogStore logStore = logStreams.getLogStore();
+                    final QubCreateProjectLogEntry entry = logStore.getEntries().await().first();
+                    test.assertEqual(1L, entry.getSequence());
+                    test.assertEqual("run", entry.getActionName());
+                    test.assertEqual(projectFolder.toString(), entry.getProjectFolder());
+                    test.assertEqual(2, entry.getExitCode());
+                    test.assertEqual(5L, entry.getLength());
+                    test.assertEqual("Done.", logStore.getLogText(entry).await());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package qub;
+
+public interface QubCreateProjectLogsParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLogsParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,QubCreateProjectLogStore)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+                    test.assertThrows(() -> QubCreateProjectLogsParameters.create(null, logStore),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null logStore", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogsParameters.create(InMemoryCharacterToByteStream.create(), null),
+                        new PreConditionFailure("logStore cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+
+                    final QubCreateProjectLogsParameters parameters = QubCreateProjectLogsParameters.create(output, logStore);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(logStore, parameters.getLogStore());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertEqual(QubCreateProjectLogs.defaultLast, parameters.getLast());
+                    test.assertNull(parameters.getProjectFolder());
+                    test.assertNull(parameters.getActionName());
+                    test.assertFalse(parameters.getFailedOnly());
+                    test.assertFalse(parameters.getShowLogText());
+                });
+            });
+
+            runner.testGroup("setLast(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogsParameters parameters = QubCreateProjectLogsParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create()));
+                    test.assertThrows(() -> parameters.setLast(0),
+                        new PreConditionFailure("last (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 1", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectLogsParameters parameters = QubCreateProjectLogsParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create()));
+                    test.assertSame(parameters, parameters.setLast(1));
+                    test.assertEqual(1, parameters.getLast());
+                });
+            });
+        });
+    }
+}
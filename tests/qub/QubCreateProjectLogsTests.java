@@ -0,0 +1,157 @@
+package qub;
+
+public interface QubCreateProjectLogsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectLogs.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogs.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with no arguments", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final QubCreateProjectLogsParameters parameters = QubCreateProjectLogs.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(
+                            process.getFileSystem().getFolder("C:/qub/qub/test-java/data/logs/").await(),
+                            parameters.getLogStore().getLogsFolder());
+                        test.assertSame(process.getClock(), parameters.getLogStore().getRotation().getClock());
+                        test.assertEqual(QubCreateProjectLogs.defaultLast, parameters.getLast());
+                        test.assertNull(parameters.getProjectFolder());
+                        test.assertNull(parameters.getActionName());
+                        test.assertFalse(parameters.getFailedOnly());
+                        test.assertFalse(parameters.getShowLogText());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--last=3 --projectFolder=/project/ --actionName=batch --failed --show"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--last=3", "--projectFolder=/project/", "--actionName=batch", "--failed", "--show"))
+                    {
+                        final QubCreateProjectLogsParameters parameters = QubCreateProjectLogs.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(3, parameters.getLast());
+                        test.assertEqual(process.getFileSystem().getFolder("/project/").await(), parameters.getProjectFolder());
+                        test.assertEqual("batch", parameters.getActionName());
+                        test.assertTrue(parameters.getFailedOnly());
+                        test.assertTrue(parameters.getShowLogText());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--last=0"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--last=0"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectLogsParameters parameters = QubCreateProjectLogs.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--last must be greater than or equal to 1, but was 0."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectLogsParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectLogs.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with no runs", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+
+                    test.assertEqual(0, QubCreateProjectLogs.run(QubCreateProjectLogsParameters.create(output, logStore)));
+                    test.assertEqual(Iterable.create("No runs found."), Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with last", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+                    QubCreateProjectLogsTests.addRun(logStore, "run", "/a/", 0, "a\n");
+                    QubCreateProjectLogsTests.addRun(logStore, "run", "/b/", 0, "b\n");
+                    QubCreateProjectLogsTests.addRun(logStore, "batch", null, 1, "c\n");
+
+                    test.assertEqual(0, QubCreateProjectLogs.run(QubCreateProjectLogsParameters.create(output, logStore).setLast(2)));
+                    test.assertEqual(
+                        Iterable.create(
+                            "#2 run (exit code 0) /b/",
+                            "#3 batch (exit code 1)"),
+                        Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with filters and log text", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(fileSystem.getFolder("/logs/").await(), QubCreateProjectLogRotation.create());
+                    QubCreateProjectLogsTests.addRun(logStore, "run", "/a/", 1, "first failure\n");
+                    QubCreateProjectLogsTests.addRun(logStore, "run", "/a/", 0, "success\n");
+                    QubCreateProjectLogsTests.addRun(logStore, "run", "/b/", 1, "other failure\n");
+
+                    final QubCreateProjectLogsParameters parameters = QubCreateProjectLogsParameters.create(output, logStore)
+                        .setProjectFolder(fileSystem.getFolder("/a/").await())
+                        .setActionName("run")
+                        .setFailedOnly(true)
+                        .setShowLogText(true);
+                    test.assertEqual(0, QubCreateProjectLogs.run(parameters));
+                    test.assertEqual(
+                        Iterable.create(
+                            "#1 run (exit code 1) /a/",
+                            "first failure"),
+                        Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with legacy logs", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder logsFolder = fileSystem.createFolder("/logs/").await();
+                    logsFolder.setFileContentsAsString("1.log", "legacy\n").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectLogStore logStore = QubCreateProjectLogStore.create(logsFolder, QubCreateProjectLogRotation.create());
+
+                    test.assertEqual(0, QubCreateProjectLogs.run(QubCreateProjectLogsParameters.create(output, logStore).setShowLogText(true)));
+                    test.assertFalse(logsFolder.getFile("1.log").await().exists().await());
+                    test.assertEqual(
+                        Iterable.create(
+                            "#1 unknown action (exit code unknown) at " + logStore.getEntries().await().first().getTimestamp(),
+                            "legacy"),
+                        Strings.getLines(output.getText().await()));
+                });
+            });
+        });
+    }
+
+    static void addRun(QubCreateProjectLogStore logStore, String actionName, String projectFolder, int exitCode, String logText)
+    {
+        final QubCreateProjectLogEntry entry = logStore.startRun(actionName).await();
+        logStore.getLogsFolder().setFileContentsAsString(entry.getLogPath(), logText).await();
+        logStore.finishRun(entry
+            .setProjectFolder(projectFolder)
+            .setExitCode(exitCode)
+            .setLength(logText.length())).await();
+    }
+}
@@ -0,0 +1,150 @@
+package qub;
+
+public interface QubCreateProjectManifestEntryTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectManifestEntry.class, () ->
+        {
+            runner.testGroup("create(String)", () ->
+            {
+                runner.test("with null fileName", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectManifestEntry.create(null),
+                        new PreConditionFailure("fileName cannot be null."));
+                });
+
+                runner.test("with empty fileName", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectManifestEntry.create(""),
+                        new PreConditionFailure("fileName cannot be empty."));
+                });
+
+                runner.test("with valid fileName", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("README.md");
+                    test.assertEqual("README.md", entry.getFileName());
+                    test.assertEqual(0, entry.getSize());
+                    test.assertNull(entry.getLastModified());
+                    test.assertNull(entry.getHash());
+                });
+            });
+
+            runner.testGroup("setSize(long)", () ->
+            {
+                runner.test("with -1", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("README.md");
+                    test.assertThrows(() -> entry.setSize(-1),
+                        new PreConditionFailure("size (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with 5", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("README.md");
+                    test.assertSame(entry, entry.setSize(5));
+                    test.assertEqual(5, entry.getSize());
+                });
+            });
+
+            runner.testGroup("setHash(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("README.md");
+                    test.assertThrows(() -> entry.setHash(null),
+                        new PreConditionFailure("hash cannot be null."));
+                });
+
+                runner.test("with empty", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("README.md");
+                    test.assertThrows(() -> entry.setHash(""),
+                        new PreConditionFailure("hash cannot be empty."));
+                });
+            });
+
+            runner.testGroup("matches(long,String)", () ->
+            {
+                final Action4<Long,String,Long,String> matchesTest = (Long entrySize, String entryLastModified, Long size, String lastModified) ->
+                {
+                    runner.test("with " + entrySize + " and " + Strings.escapeAndQuote(entryLastModified) + " compared to " + size + " and " + Strings.escapeAndQuote(lastModified), (Test test) ->
+                    {
+                        final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("README.md")
+                            .setSize(entrySize)
+                            .setLastModified(entryLastModified)
+                            .setHash("abc");
+                        test.assertEqual(
+                            entrySize.longValue() == size.longValue() && entryLastModified != null && entryLastModified.equals(lastModified),
+                            entry.matches(size, lastModified));
+                    });
+                };
+
+                matchesTest.run(5L, null, 5L, null);
+                matchesTest.run(5L, null, 5L, "2020-01-01T00:00Z");
+                matchesTest.run(5L, "2020-01-01T00:00Z", 5L, "2020-01-01T00:00Z");
+                matchesTest.run(5L, "2020-01-01T00:00Z", 6L, "2020-01-01T00:00Z");
+                matchesTest.run(5L, "2020-01-01T00:00Z", 5L, "2020-01-02T00:00Z");
+            });
+
+            runner.testGroup("toManifestLine()", () ->
+            {
+                runner.test("with no lastModified", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("LICENSE")
+                        .setSize(10)
+                        .setHash("abc");
+                    test.assertEqual("LICENSE\t10\t-\tabc", entry.toManifestLine());
+                    test.assertEqual("LICENSE\t10\t-\tabc", entry.toString());
+                });
+
+                runner.test("with lastModified", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("LICENSE")
+                        .setSize(10)
+                        .setLastModified("2020-01-01T00:00Z")
+                        .setHash("abc");
+                    test.assertEqual("LICENSE\t10\t2020-01-01T00:00Z\tabc", entry.toManifestLine());
+                });
+            });
+
+            runner.testGroup("parse(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectManifestEntry.parse(null),
+                        new PreConditionFailure("manifestLine cannot be null."));
+                });
+
+                final Action2<String,Throwable> parseErrorTest = (String manifestLine, Throwable expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(manifestLine), (Test test) ->
+                    {
+                        test.assertThrows(() -> QubCreateProjectManifestEntry.parse(manifestLine).await(),
+                            expected);
+                    });
+                };
+
+                parseErrorTest.run("", new ParseException("Expected 4 fields in manifest line: \"\""));
+                parseErrorTest.run("LICENSE\t10\t-", new ParseException("Expected 4 fields in manifest line: \"LICENSE\\t10\\t-\""));
+                parseErrorTest.run("LICENSE\t10\t-\t", new ParseException("Expected 4 fields in manifest line: \"LICENSE\\t10\\t-\\t\""));
+                parseErrorTest.run("LICENSE\tten\t-\tabc", new ParseException("Invalid size in manifest line: \"LICENSE\\tten\\t-\\tabc\""));
+
+                runner.test("with no lastModified", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.parse("LICENSE\t10\t-\tabc").await();
+                    test.assertEqual("LICENSE", entry.getFileName());
+                    test.assertEqual(10, entry.getSize());
+                    test.assertNull(entry.getLastModified());
+                    test.assertEqual("abc", entry.getHash());
+                });
+
+                runner.test("with lastModified", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.parse("LICENSE\t10\t2020-01-01T00:00Z\tabc").await();
+                    test.assertEqual("2020-01-01T00:00Z", entry.getLastModified());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,252 @@
+package qub;
+
+public interface QubCreateProjectManifestTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectManifest.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                test.assertFalse(manifest.any());
+                test.assertEqual(Iterable.create(), manifest.getEntries());
+                test.assertEqual(0, manifest.getYear());
+                test.assertNull(manifest.getAuthor());
+                test.assertEqual("", manifest.toManifestText());
+            });
+
+            runner.testGroup("parse(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectManifest.parse(null),
+                        new PreConditionFailure("manifestText cannot be null."));
+                });
+
+                runner.test("with empty", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.parse("");
+                    test.assertFalse(manifest.any());
+                });
+
+                runner.test("with valid and invalid lines", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.parse(
+                        "README.md\t5\t-\tabc\n" +
+                        "oops\n" +
+                        "LICENSE\t10\t2020-01-01T00:00Z\tdef\n");
+                    test.assertEqual(
+                        Iterable.create(
+                            "README.md\t5\t-\tabc",
+                            "LICENSE\t10\t2020-01-01T00:00Z\tdef"),
+                        manifest.getEntries().map(QubCreateProjectManifestEntry::toManifestLine));
+                });
+
+                runner.test("with year and author lines", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.parse(
+                        "#year\t2031\n" +
+                        "#author\tMe Myself\n" +
+                        "LICENSE\t10\t-\tdef\n");
+                    test.assertEqual(2031, manifest.getYear());
+                    test.assertEqual("Me Myself", manifest.getAuthor());
+                    test.assertEqual(
+                        Iterable.create(
+                            "LICENSE\t10\t-\tdef"),
+                        manifest.getEntries().map(QubCreateProjectManifestEntry::toManifestLine));
+                });
+
+                runner.test("with invalid year and author lines", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.parse(
+                        "#year\tlast year\n" +
+                        "#author\t\n");
+                    test.assertEqual(0, manifest.getYear());
+                    test.assertNull(manifest.getAuthor());
+                    test.assertFalse(manifest.any());
+                });
+
+                runner.test("with duplicate lines", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.parse(
+                        "README.md\t5\t-\tabc\n" +
+                        "README.md\t6\t-\tdef\n");
+                    test.assertEqual("README.md\t6\t-\tdef\n", manifest.toManifestText());
+                });
+            });
+
+            runner.testGroup("read(Folder)", () ->
+            {
+                runner.test("with null projectFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectManifest.read(null),
+                        new PreConditionFailure("projectFolder cannot be null."));
+                });
+
+                runner.test("with no manifest file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await();
+                    test.assertFalse(manifest.any());
+                });
+
+                runner.test("with manifest file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    projectFolder.setFileContentsAsString(QubCreateProjectManifest.fileName, "LICENSE\t10\t-\tabc\n").await();
+
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await();
+                    test.assertEqual("LICENSE\t10\t-\tabc\n", manifest.toManifestText());
+                });
+            });
+
+            runner.testGroup("get(String)", () ->
+            {
+                runner.test("with null fileName", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertThrows(() -> manifest.get(null),
+                        new PreConditionFailure("fileName cannot be null."));
+                });
+
+                runner.test("with missing fileName", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertNull(manifest.get("LICENSE"));
+                });
+
+                runner.test("with existing fileName", (Test test) ->
+                {
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("LICENSE").setHash("abc");
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create().set(entry);
+                    test.assertSame(entry, manifest.get("LICENSE"));
+                });
+            });
+
+            runner.testGroup("set(QubCreateProjectManifestEntry)", () ->
+            {
+                runner.test("with null entry", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertThrows(() -> manifest.set(null),
+                        new PreConditionFailure("entry cannot be null."));
+                });
+
+                runner.test("with replaced entry", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create()
+                        .set(QubCreateProjectManifestEntry.create("README.md").setHash("abc"))
+                        .set(QubCreateProjectManifestEntry.create("LICENSE").setHash("def"));
+                    final QubCreateProjectManifestEntry entry = QubCreateProjectManifestEntry.create("README.md").setHash("ghi");
+                    test.assertSame(manifest, manifest.set(entry));
+                    test.assertEqual(
+                        "LICENSE\t0\t-\tdef\n" +
+                        "README.md\t0\t-\tghi\n",
+                        manifest.toManifestText());
+                });
+            });
+
+            runner.testGroup("setYear(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertThrows(() -> manifest.setYear(0),
+                        new PreConditionFailure("year (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 2031", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertSame(manifest, manifest.setYear(2031));
+                    test.assertEqual(2031, manifest.getYear());
+                });
+            });
+
+            runner.testGroup("setAuthor(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertThrows(() -> manifest.setAuthor(null),
+                        new PreConditionFailure("author cannot be null."));
+                });
+
+                runner.test("with empty", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertThrows(() -> manifest.setAuthor(""),
+                        new PreConditionFailure("author cannot be empty."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("Me"), (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create();
+                    test.assertSame(manifest, manifest.setAuthor("Me"));
+                    test.assertEqual("Me", manifest.getAuthor());
+                });
+            });
+
+            runner.testGroup("toManifestText()", () ->
+            {
+                runner.test("with year and author", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create()
+                        .set(QubCreateProjectManifestEntry.create("LICENSE").setHash("d"))
+                        .setAuthor("Me")
+                        .setYear(2031);
+                    test.assertEqual(
+                        "#year\t2031\n" +
+                        "#author\tMe\n" +
+                        "LICENSE\t0\t-\td\n",
+                        manifest.toManifestText());
+                    test.assertEqual(manifest.toManifestText(), QubCreateProjectManifest.parse(manifest.toManifestText()).toManifestText());
+                });
+
+                runner.test("with entries added out of order", (Test test) ->
+                {
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.create()
+                        .set(QubCreateProjectManifestEntry.create("sources").setHash("a"))
+                        .set(QubCreateProjectManifestEntry.create("README.md").setHash("b"))
+                        .set(QubCreateProjectManifestEntry.create(".gitignore").setHash("c"))
+                        .set(QubCreateProjectManifestEntry.create("LICENSE").setHash("d"));
+                    test.assertEqual(
+                        ".gitignore\t0\t-\tc\n" +
+                        "LICENSE\t0\t-\td\n" +
+                        "README.md\t0\t-\tb\n" +
+                        "sources\t0\t-\ta\n",
+                        manifest.toManifestText());
+                });
+            });
+
+            runner.testGroup("hash(byte[])", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectManifest.hash(null),
+                        new PreConditionFailure("contents cannot be null."));
+                });
+
+                runner.test("with empty", (Test test) ->
+                {
+                    test.assertEqual(
+                        "e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855",
+                        QubCreateProjectManifest.hash(new byte[0]));
+                });
+
+                runner.test("with \"abc\"", (Test test) ->
+                {
+                    test.assertEqual(
+                        "ba7816bf8f01cfea414140de5dae2223b00361a396177a9cb410ff61f20015ad",
+                        QubCreateProjectManifest.hash(new byte[] { 97, 98, 99 }));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package qub;
+
+public interface QubCreateProjectMetricsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectMetrics.class, () ->
+        {
+            runner.test("disabled", (Test test) ->
+            {
+                final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.disabled;
+                test.assertFalse(metrics.isEnabled());
+                test.assertEqual(0L, metrics.startPhase());
+
+                metrics.endPhase("a", metrics.startPhase());
+                metrics.addStatCalls(5);
+                metrics.addBytesWritten(10);
+                metrics.addFileCreated();
+                metrics.addFolderCreated();
+
+                test.assertEqual(Iterable.create(), metrics.getPhaseNames());
+                test.assertEqual(0L, metrics.getStatCalls());
+                test.assertEqual(0L, metrics.getBytesWritten());
+                test.assertEqual(0L, metrics.getFilesCreated());
+                test.assertEqual(0L, metrics.getFoldersCreated());
+            });
+
+            runner.testGroup("create()", () ->
+            {
+                runner.test("with no recorded values", (Test test) ->
+                {
+                    final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+                    test.assertTrue(metrics.isEnabled());
+                    test.assertEqual(Iterable.create(), metrics.getPhaseNames());
+                    test.assertEqual(0L, metrics.getStatCalls());
+                    test.assertEqual(0, metrics.toJson().getObject("phaseNanoseconds").await().getProperties().getCount());
+                });
+
+                runner.test("with recorded values", (Test test) ->
+                {
+                    final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+                    metrics.endPhase("a", metrics.startPhase());
+                    metrics.endPhase("b", metrics.startPhase());
+                    metrics.endPhase("a", metrics.startPhase());
+                    metrics.addStatCalls(2);
+                    metrics.addBytesWritten(10);
+                    metrics.addBytesWritten(5);
+                    metrics.addFileCreated();
+                    metrics.addFolderCreated();
+                    metrics.addFolderCreated();
+
+                    test.assertEqual(Iterable.create("a", "b"), metrics.getPhaseNames());
+                    test.assertGreaterThanOrEqualTo(metrics.getPhaseNanoseconds("a").await(), 0L);
+                    test.assertEqual(2L, metrics.getStatCalls());
+                    test.assertEqual(15L, metrics.getBytesWritten());
+                    test.assertEqual(1L, metrics.getFilesCreated());
+                    test.assertEqual(2L, metrics.getFoldersCreated());
+
+                    final JSONObject json = metrics.toJson();
+                    test.assertEqual(15, json.getNumber("bytesWritten").await().intValue());
+                    test.assertEqual(2, json.getObject("phaseNanoseconds").await().getProperties().getCount());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,40 @@
+package qub;
+
+public interface QubCreateProjectPlainGeneratorTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectPlainGenerator.class, () ->
+        {
+            runner.testGroup("configureProjectJson(ProjectJSON)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectPlainGenerator generator = new QubCreateProjectPlainGenerator();
+                    test.assertThrows(() -> generator.configureProjectJson(null),
+                        new PreConditionFailure("projectJson cannot be null."));
+                });
+
+                runner.test("with project", (Test test) ->
+                {
+                    final QubCreateProjectPlainGenerator generator = new QubCreateProjectPlainGenerator();
+                    final ProjectJSON projectJson = ProjectJSON.create()
+                        .setPublisher("qub")
+                        .setProject("my-project")
+                        .setVersion("1");
+
+                    generator.configureProjectJson(projectJson);
+
+                    test.assertEqual("my-project", projectJson.getProject());
+                    test.assertNull(projectJson.getJava());
+                });
+            });
+
+            runner.test("getFolderNames()", (Test test) ->
+            {
+                final QubCreateProjectPlainGenerator generator = new QubCreateProjectPlainGenerator();
+                test.assertEqual(Iterable.create(), generator.getFolderNames());
+            });
+        });
+    }
+}
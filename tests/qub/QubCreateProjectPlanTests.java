@@ -0,0 +1,61 @@
+package qub;
+
+public interface QubCreateProjectPlanTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectPlan.class, () ->
+        {
+            runner.testGroup("create(Folder)", () ->
+            {
+                runner.test("with null projectFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectPlan.create(null),
+                        new PreConditionFailure("projectFolder cannot be null."));
+                });
+
+                runner.test("with non-existing projectFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/").await();
+
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                    test.assertFalse(plan.projectFolderExists());
+                    test.assertFalse(plan.isExclusive());
+                    test.assertFalse(plan.fileExists("project.json"));
+                    test.assertFalse(plan.folderExists("sources"));
+                });
+
+                runner.test("with existing files and folders", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    projectFolder.createFile("README.md").await();
+                    projectFolder.createFolder("sources").await();
+
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                    test.assertTrue(plan.projectFolderExists());
+                    test.assertTrue(plan.fileExists("README.md"));
+                    test.assertFalse(plan.fileExists("sources"));
+                    test.assertTrue(plan.folderExists("sources"));
+                    test.assertFalse(plan.folderExists("README.md"));
+                    test.assertFalse(plan.fileExists("project.json"));
+                });
+            });
+
+            runner.testGroup("createEmpty()", () ->
+            {
+                runner.test("with no arguments", (Test test) ->
+                {
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.createEmpty();
+                    test.assertTrue(plan.projectFolderExists());
+                    test.assertTrue(plan.isExclusive());
+                    test.assertFalse(plan.fileExists("project.json"));
+                    test.assertFalse(plan.folderExists("sources"));
+                });
+            });
+        });
+    }
+}
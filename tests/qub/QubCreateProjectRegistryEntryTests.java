@@ -0,0 +1,79 @@
+package qub;
+
+public interface QubCreateProjectRegistryEntryTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectRegistryEntry.class, () ->
+        {
+            runner.testGroup("create(String,String,String,String)", () ->
+            {
+                runner.test("with null publisher", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRegistryEntry.create(null, "project", "1", "/project/"),
+                        new PreConditionFailure("publisher cannot be null."));
+                });
+
+                runner.test("with empty project", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRegistryEntry.create("qub", "", "1", "/project/"),
+                        new PreConditionFailure("project cannot be empty."));
+                });
+
+                runner.test("with null version", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRegistryEntry.create("qub", "project", null, "/project/"),
+                        new PreConditionFailure("version cannot be null."));
+                });
+
+                runner.test("with empty projectFolderPath", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRegistryEntry.create("qub", "project", "1", ""),
+                        new PreConditionFailure("projectFolderPath cannot be empty."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final QubCreateProjectRegistryEntry entry = QubCreateProjectRegistryEntry.create("qub", "project", "1", "/project/");
+                    test.assertEqual("qub", entry.getPublisher());
+                    test.assertEqual("project", entry.getProject());
+                    test.assertEqual("1", entry.getVersion());
+                    test.assertEqual("/project/", entry.getProjectFolderPath());
+                    test.assertEqual("qub/project", entry.getKey());
+                    test.assertEqual("qub\tproject\t1\t/project/", entry.toIndexLine());
+                    test.assertEqual("qub\tproject\t1\t/project/", entry.toString());
+                });
+            });
+
+            runner.testGroup("parse(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRegistryEntry.parse(null),
+                        new PreConditionFailure("indexLine cannot be null."));
+                });
+
+                final Action2<String,Throwable> parseErrorTest = (String indexLine, Throwable expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(indexLine), (Test test) ->
+                    {
+                        test.assertThrows(() -> QubCreateProjectRegistryEntry.parse(indexLine).await(),
+                            expected);
+                    });
+                };
+
+                parseErrorTest.run("", new ParseException("Expected 4 fields in registry line: \"\""));
+                parseErrorTest.run("qub\tproject\t1", new ParseException("Expected 4 fields in registry line: \"qub\\tproject\\t1\""));
+                parseErrorTest.run("qub\t\t1\t/project/", new ParseException("Empty field in registry line: \"qub\\t\\t1\\t/project/\""));
+
+                runner.test("with valid line", (Test test) ->
+                {
+                    final QubCreateProjectRegistryEntry entry = QubCreateProjectRegistryEntry.parse("qub\tproject\t1\t/project/").await();
+                    test.assertEqual("qub/project", entry.getKey());
+                    test.assertEqual("1", entry.getVersion());
+                    test.assertEqual("/project/", entry.getProjectFolderPath());
+                });
+            });
+        });
+    }
+}
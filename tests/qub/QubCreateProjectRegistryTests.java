@@ -0,0 +1,223 @@
+package qub;
+
+public interface QubCreateProjectRegistryTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectRegistry.class, () ->
+        {
+            runner.testGroup("open(Folder)", () ->
+            {
+                runner.test("with null registryFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRegistry.open(null),
+                        new PreConditionFailure("registryFolder cannot be null."));
+                });
+
+                runner.test("with non-existing registryFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.getFolder("/registry/").await();
+
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await();
+                    test.assertSame(registryFolder, registry.getRegistryFolder());
+                    test.assertNull(registry.getClock());
+                    test.assertEqual(QubCreateProjectRegistry.defaultCompactionThreshold, registry.getCompactionThreshold());
+                    test.assertEqual(Iterable.create(), registry.getEntries());
+                    test.assertEqual(Iterable.create(), registry.getEntries("qub", "project"));
+                });
+
+                runner.test("with incomplete newest index", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.createFolder("/registry/").await();
+                    registryFolder.setFileContentsAsString("index.1.tsv", "qub\ta\t1\t/a/\n# entries: 1\n").await();
+                    registryFolder.setFileContentsAsString("index.2.tsv", "qub\ta\t1\t/a/\nqub\tb\t1\t/").await();
+
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await();
+                    test.assertEqual(
+                        Iterable.create("qub\ta\t1\t/a/"),
+                        registry.getEntries().map(QubCreateProjectRegistryEntry::toIndexLine));
+                });
+
+                runner.test("with partially written pending file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.createFolder("/registry/").await();
+                    registryFolder.setFileContentsAsString("pending/a.entry", "qub\ta\t1\t/a/\n").await();
+                    registryFolder.setFileContentsAsString("pending/b.entry", "qub\tb\t1\t/b").await();
+
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await();
+                    test.assertEqual(
+                        Iterable.create("qub\ta\t1\t/a/"),
+                        registry.getEntries().map(QubCreateProjectRegistryEntry::toIndexLine));
+                });
+            });
+
+            runner.testGroup("add(QubCreateProjectRegistryEntry)", () ->
+            {
+                runner.test("with null entry", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(fileSystem.getFolder("/registry/").await()).await();
+                    test.assertThrows(() -> registry.add(null),
+                        new PreConditionFailure("entry cannot be null."));
+                });
+
+                runner.test("with new entries", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.getFolder("/registry/").await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await();
+
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "a", "1", "/one/a/")).await();
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "a", "1", "/two/a/")).await();
+                    registry.add(QubCreateProjectRegistryEntry.create("me", "a", "1", "/three/a/")).await();
+
+                    test.assertEqual(
+                        Iterable.create("/one/a/", "/two/a/"),
+                        registry.getEntries("qub", "a").map(QubCreateProjectRegistryEntry::getProjectFolderPath));
+                    test.assertEqual(3, registryFolder.getFolder("pending").await().getFiles().await().getCount());
+
+                    final QubCreateProjectRegistry reopenedRegistry = QubCreateProjectRegistry.open(registryFolder).await();
+                    test.assertEqual(2, reopenedRegistry.getEntries("qub", "a").getCount());
+                    test.assertEqual(1, reopenedRegistry.getEntries("me", "a").getCount());
+                });
+
+                runner.test("with entry for the same project folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(fileSystem.getFolder("/registry/").await()).await();
+
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "a", "1", "/a/")).await();
+                    registry.add(QubCreateProjectRegistryEntry.create("me", "a", "2", "/a/")).await();
+
+                    test.assertEqual(Iterable.create(), registry.getEntries("qub", "a"));
+                    test.assertEqual(
+                        Iterable.create("me\ta\t2\t/a/"),
+                        registry.getEntries().map(QubCreateProjectRegistryEntry::toIndexLine));
+                });
+            });
+
+            runner.testGroup("compactIfNeeded()", () ->
+            {
+                runner.test("with fewer pending entries than the threshold", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.getFolder("/registry/").await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await()
+                        .setCompactionThreshold(2);
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "a", "1", "/a/")).await();
+
+                    test.assertFalse(registry.compactIfNeeded().await());
+                    test.assertFalse(registryFolder.fileExists(QubCreateProjectRegistry.getIndexFileName(1)).await());
+                });
+
+                runner.test("with pending entries at the threshold", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.getFolder("/registry/").await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await()
+                        .setCompactionThreshold(2);
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "a", "1", "/a/")).await();
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "b", "1", "/b/")).await();
+
+                    test.assertTrue(registry.compactIfNeeded().await());
+                    test.assertEqual(Iterable.create(), registryFolder.getFolder("pending").await().getFiles().await());
+                    test.assertFalse(registryFolder.fileExists(QubCreateProjectRegistry.lockFileName).await());
+
+                    final QubCreateProjectRegistry reopenedRegistry = QubCreateProjectRegistry.open(registryFolder).await();
+                    test.assertEqual(1, reopenedRegistry.getEntries("qub", "a").getCount());
+                    test.assertEqual(1, reopenedRegistry.getEntries("qub", "b").getCount());
+                });
+            });
+
+            runner.testGroup("compact()", () ->
+            {
+                runner.test("with existing index", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.createFolder("/registry/").await();
+                    registryFolder.setFileContentsAsString("index.3.tsv", "qub\ta\t1\t/a/\n# entries: 1\n").await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await();
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "b", "1", "/b/")).await();
+
+                    test.assertTrue(registry.compact().await());
+
+                    test.assertFalse(registryFolder.fileExists("index.3.tsv").await());
+                    final Iterable<QubCreateProjectRegistryEntry> indexEntries = QubCreateProjectRegistry.parseIndex(registryFolder.getFileContentsAsString("index.4.tsv").await());
+                    test.assertNotNull(indexEntries);
+                    test.assertEqual(2, indexEntries.getCount());
+                    test.assertEqual(2, registry.getEntries().getCount());
+                });
+
+                runner.test("with lock held by another process", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.createFolder("/registry/").await();
+                    registryFolder.createFile(QubCreateProjectRegistry.lockFileName).await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await();
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "a", "1", "/a/")).await();
+
+                    test.assertFalse(registry.compact().await());
+                    test.assertEqual(1, registryFolder.getFolder("pending").await().getFiles().await().getCount());
+                });
+
+                runner.test("with stale lock", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final Folder registryFolder = fileSystem.createFolder("/registry/").await();
+                    registryFolder.createFile(QubCreateProjectRegistry.lockFileName).await();
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(registryFolder).await()
+                        .setClock(clock);
+                    registry.add(QubCreateProjectRegistryEntry.create("qub", "a", "1", "/a/")).await();
+                    clock.advance(Duration.minutes(11));
+
+                    test.assertTrue(registry.compact().await());
+                    test.assertEqual(
+                        Iterable.create(registryFolder.getFile("index.1.tsv").await()),
+                        registryFolder.getFiles().await());
+                });
+            });
+
+            runner.testGroup("parseIndex(String)", () ->
+            {
+                final Action2<String,Integer> parseIndexTest = (String indexText, Integer expectedCount) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(indexText), (Test test) ->
+                    {
+                        final Iterable<QubCreateProjectRegistryEntry> entries = QubCreateProjectRegistry.parseIndex(indexText);
+                        if (expectedCount == null)
+                        {
+                            test.assertNull(entries);
+                        }
+                        else
+                        {
+                            test.assertEqual(expectedCount.intValue(), entries.getCount());
+                        }
+                    });
+                };
+
+                parseIndexTest.run("", null);
+                parseIndexTest.run("# entries: 0\n", 0);
+                parseIndexTest.run("# entries: 0", null);
+                parseIndexTest.run("qub\ta\t1\t/a/\n", null);
+                parseIndexTest.run("qub\ta\t1\t/a/\n# entries: 2\n", null);
+                parseIndexTest.run("qub\ta\t1\t/a/\n# entries: 1\n", 1);
+                parseIndexTest.run("qub\ta\t1\n# entries: 0\n", null);
+            });
+        });
+    }
+}
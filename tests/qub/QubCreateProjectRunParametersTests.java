@@ -66,7 +66,413 @@ public interface QubCreateProjectRunParametersTests
                     final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
                     test.assertNotNull(verbose);
                     test.assertFalse(verbose.isVerbose());
+
+                    test.assertEqual("qub", parameters.getPublisher());
+                    test.assertEqual("1", parameters.getVersion());
+                    test.assertNull(parameters.getAsyncRunner());
+                    test.assertEqual("danschultequb", parameters.getAuthor());
+                    test.assertEqual("danschultequb@users.noreply.github.com", parameters.getEmail());
+                    test.assertGreaterThanOrEqualTo(parameters.getYear(), 2020);
+                    test.assertSame(QubCreateProjectMetrics.disabled, parameters.getMetrics());
+                    test.assertNotNull(parameters.getLogRotation());
+                    test.assertNull(parameters.getLogRotation().getClock());
+                    test.assertNull(parameters.getClock());
+                    test.assertFalse(parameters.isStaged());
+                    test.assertNull(parameters.getHistogramFile());
+                });
+            });
+
+            runner.test("setClock(Clock)", (Test test) ->
+            {
+                final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                fileSystem.createRoot("/").await();
+                final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                    InMemoryCharacterToByteStream.create(),
+                    fileSystem.getFolder("/project/").await(),
+                    fileSystem.getFolder("/qub/project/data/").await());
+                test.assertSame(parameters, parameters.setClock(test.getClock()));
+                test.assertSame(test.getClock(), parameters.getClock());
+                test.assertNull(parameters.getLogRotation().getClock());
+            });
+
+            runner.testGroup("setEmail(String)", () ->
+            {
+                final Action2<String,Throwable> setEmailErrorTest = (String email, Throwable expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(email), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+
+                        test.assertThrows(() -> parameters.setEmail(email), expected);
+                        test.assertEqual("danschultequb@users.noreply.github.com", parameters.getEmail());
+                    });
+                };
+
+                setEmailErrorTest.run(null, new PreConditionFailure("email cannot be null."));
+                setEmailErrorTest.run("", new PreConditionFailure("email cannot be empty."));
+
+                runner.test("with " + Strings.escapeAndQuote("me@example.com"), (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+
+                    test.assertSame(parameters, parameters.setEmail("me@example.com"));
+                    test.assertEqual("me@example.com", parameters.getEmail());
+                });
+            });
+
+            runner.testGroup("setPublisher(String)", () ->
+            {
+                final Action2<String,Throwable> setPublisherErrorTest = (String publisher, Throwable expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(publisher), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+
+                        test.assertThrows(() -> parameters.setPublisher(publisher), expected);
+                        test.assertEqual("qub", parameters.getPublisher());
+                    });
+                };
+
+                setPublisherErrorTest.run(null, new PreConditionFailure("publisher cannot be null."));
+                setPublisherErrorTest.run("", new PreConditionFailure("publisher cannot be empty."));
+
+                runner.test("with " + Strings.escapeAndQuote("me"), (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+
+                    final QubCreateProjectRunParameters setPublisherResult = parameters.setPublisher("me");
+                    test.assertSame(parameters, setPublisherResult);
+                    test.assertEqual("me", parameters.getPublisher());
+                });
+            });
+
+            runner.testGroup("setVersion(String)", () ->
+            {
+                final Action2<String,Throwable> setVersionErrorTest = (String version, Throwable expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(version), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+
+                        test.assertThrows(() -> parameters.setVersion(version), expected);
+                        test.assertEqual("1", parameters.getVersion());
+                    });
+                };
+
+                setVersionErrorTest.run(null, new PreConditionFailure("version cannot be null."));
+                setVersionErrorTest.run("", new PreConditionFailure("version cannot be empty."));
+
+                runner.test("with " + Strings.escapeAndQuote("5"), (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+
+                    final QubCreateProjectRunParameters setVersionResult = parameters.setVersion("5");
+                    test.assertSame(parameters, setVersionResult);
+                    test.assertEqual("5", parameters.getVersion());
+                });
+            });
+
+            runner.testGroup("setArchiveFormat(String)", () ->
+            {
+                final Action1<String> setArchiveFormatTest = (String archiveFormat) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(archiveFormat), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+                        test.assertNull(parameters.getArchiveFormat());
+
+                        final QubCreateProjectRunParameters setArchiveFormatResult = parameters.setArchiveFormat(archiveFormat);
+                        test.assertSame(parameters, setArchiveFormatResult);
+                        test.assertEqual(archiveFormat, parameters.getArchiveFormat());
+                    });
+                };
+
+                setArchiveFormatTest.run(null);
+                setArchiveFormatTest.run("zip");
+                setArchiveFormatTest.run("tar");
+            });
+
+            runner.testGroup("setTemplate(String)", () ->
+            {
+                runner.test("with empty", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+                    test.assertThrows(() -> parameters.setTemplate(""),
+                        new PreConditionFailure("template cannot be empty."));
+                    test.assertNull(parameters.getTemplate());
+                });
+
+                final Action1<String> setTemplateTest = (String template) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(template), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+                        test.assertNull(parameters.getTemplate());
+
+                        final QubCreateProjectRunParameters setTemplateResult = parameters.setTemplate(template);
+                        test.assertSame(parameters, setTemplateResult);
+                        test.assertEqual(template, parameters.getTemplate());
+                    });
+                };
+
+                setTemplateTest.run(null);
+                setTemplateTest.run("java-gradle");
+            });
+
+            runner.testGroup("setLinkTemplate(boolean)", () ->
+            {
+                final Action1<Boolean> setLinkTemplateTest = (Boolean linkTemplate) ->
+                {
+                    runner.test("with " + linkTemplate, (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+                        test.assertFalse(parameters.isLinkTemplate());
+
+                        final QubCreateProjectRunParameters setLinkTemplateResult = parameters.setLinkTemplate(linkTemplate);
+                        test.assertSame(parameters, setLinkTemplateResult);
+                        test.assertEqual(linkTemplate, parameters.isLinkTemplate());
+                    });
+                };
+
+                setLinkTemplateTest.run(false);
+                setLinkTemplateTest.run(true);
+            });
+
+            runner.testGroup("setGit(boolean)", () ->
+            {
+                final Action1<Boolean> setGitTest = (Boolean git) ->
+                {
+                    runner.test("with " + git, (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+                        test.assertFalse(parameters.isGit());
+
+                        final QubCreateProjectRunParameters setGitResult = parameters.setGit(git);
+                        test.assertSame(parameters, setGitResult);
+                        test.assertEqual(git, parameters.isGit());
+                    });
+                };
+
+                setGitTest.run(false);
+                setGitTest.run(true);
+            });
+
+            runner.testGroup("setDurability(String)", () ->
+            {
+                final Action1<String> setDurabilityTest = (String durability) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(durability), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+                        test.assertEqual(QubCreateProjectDurability.none, parameters.getDurability());
+
+                        final QubCreateProjectRunParameters setDurabilityResult = parameters.setDurability(durability);
+                        test.assertSame(parameters, setDurabilityResult);
+                        test.assertEqual(durability, parameters.getDurability());
+                    });
+                };
+
+                setDurabilityTest.run("none");
+                setDurabilityTest.run("project");
+            });
+
+            runner.testGroup("setType(String)", () ->
+            {
+                final Action1<String> setTypeTest = (String type) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(type), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+                        test.assertEqual(QubCreateProjectGenerators.defaultType, parameters.getType());
+
+                        final QubCreateProjectRunParameters setTypeResult = parameters.setType(type);
+                        test.assertSame(parameters, setTypeResult);
+                        test.assertEqual(type, parameters.getType());
+                    });
+                };
+
+                setTypeTest.run("java");
+                setTypeTest.run("plain");
+                setTypeTest.run("library");
+                setTypeTest.run("app");
+            });
+
+            runner.testGroup("setDependencies(Iterable<String>)", () ->
+            {
+                final Function1<Test,QubCreateProjectRunParameters> createParameters = (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    return QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+                };
+
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectRunParameters parameters = createParameters.run(test);
+                    test.assertThrows(() -> parameters.setDependencies(null),
+                        new PreConditionFailure("dependencies cannot be null."));
                 });
+
+                runner.test("with dependency without a publisher", (Test test) ->
+                {
+                    final QubCreateProjectRunParameters parameters = createParameters.run(test);
+                    test.assertThrows(() -> parameters.setDependencies(Iterable.create("projectjson-java")),
+                        new PreConditionFailure("QubCreateProjectRunParameters.isDependency(dependency) cannot be false."));
+                    test.assertEqual(Iterable.create(), parameters.getDependencies());
+                });
+
+                runner.test("with dependencies", (Test test) ->
+                {
+                    final QubCreateProjectRunParameters parameters = createParameters.run(test);
+                    test.assertEqual(Iterable.create(), parameters.getDependencies());
+
+                    final QubCreateProjectRunParameters setDependenciesResult = parameters.setDependencies(Iterable.create("qub/projectjson-java", "qub/http-java"));
+                    test.assertSame(parameters, setDependenciesResult);
+                    test.assertEqual(Iterable.create("qub/projectjson-java", "qub/http-java"), parameters.getDependencies());
+                });
+            });
+
+            runner.testGroup("setHistogramFile(File)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+
+                    final QubCreateProjectRunParameters setHistogramFileResult = parameters.setHistogramFile(null);
+                    test.assertSame(parameters, setHistogramFileResult);
+                    test.assertNull(parameters.getHistogramFile());
+                });
+
+                runner.test("with file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+                    final File histogramFile = fileSystem.getFile("/qub/project/data/stats.histograms").await();
+
+                    final QubCreateProjectRunParameters setHistogramFileResult = parameters.setHistogramFile(histogramFile);
+                    test.assertSame(parameters, setHistogramFileResult);
+                    test.assertSame(histogramFile, parameters.getHistogramFile());
+                });
+            });
+
+            runner.testGroup("isDependency(String)", () ->
+            {
+                final Action2<String,Boolean> isDependencyTest = (String text, Boolean expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(text), (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectRunParameters.isDependency(text));
+                    });
+                };
+
+                isDependencyTest.run(null, false);
+                isDependencyTest.run("", false);
+                isDependencyTest.run("qub", false);
+                isDependencyTest.run("/projectjson-java", false);
+                isDependencyTest.run("qub/", false);
+                isDependencyTest.run("qub/projectjson-java/74", false);
+                isDependencyTest.run("qub/projectjson-java", true);
+            });
+
+            runner.testGroup("setSyncGroup(QubCreateProjectSyncGroup)", () ->
+            {
+                final Action1<QubCreateProjectSyncGroup> setSyncGroupTest = (QubCreateProjectSyncGroup syncGroup) ->
+                {
+                    runner.test("with " + (syncGroup == null ? "null" : "sync group"), (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await());
+                        test.assertNull(parameters.getSyncGroup());
+
+                        final QubCreateProjectRunParameters setSyncGroupResult = parameters.setSyncGroup(syncGroup);
+                        test.assertSame(parameters, setSyncGroupResult);
+                        test.assertSame(syncGroup, parameters.getSyncGroup());
+                    });
+                };
+
+                setSyncGroupTest.run(null);
+                setSyncGroupTest.run(QubCreateProjectSyncGroup.create());
             });
         });
     }
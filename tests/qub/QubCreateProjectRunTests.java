@@ -29,9 +29,19 @@ public interface QubCreateProjectRunTests
                         test.assertNull(parameters);
                         test.assertEqual(
                             Iterable.create(
-                                "Usage: qub-createproject run [[--projectFolder=]<project-folder-path>] [--help] [--verbose]",
+                                "Usage: qub-createproject run [[--projectFolder=]<project-folder-path>] [--metrics] [--noStats] [--staged] [--archive=<zip|tar>] [--template=<template-name>] [--linkTemplate] [--git] [--durability=<none|project>] [--type=<java|plain|library|app>] [--dependency=<publisher/project>[,...]] [--help] [--verbose]",
                                 "  Create a new Qub project.",
                                 "  --projectFolder: The path to the project folder. The current folder will be used if this isn't defined.",
+                                "  --metrics:       Write the timings and operation counts of creating the project as JSON.",
+                                "  --noStats:       Don't record the latency of each phase of this run in the application's stats file.",
+                                "  --staged:        Build a new project folder in a sibling staging folder and then move it into place.",
+                                "  --archive:       Write the new project to the output stream as a zip or tar archive instead of creating it in the project folder.",
+                                "  --template:      The name of a folder in the application's templates folder whose files will be copied into the new project.",
+                                "  --linkTemplate:  Hard link the template's files into the new project instead of copying them.",
+                                "  --git:           Create a git repository in the new project with an initial commit of the generated files.",
+                                "  --durability:    When the files and folders of new projects are synced to disk. Defaults to none.",
+                                "  --type:          The type of project to create. Defaults to java.",
+                                "  --dependency:    The installed projects that the new project depends on. The newest installed version of each project will be used.",
                                 "  --help(?):       Show the help message for this application.",
                                 "  --verbose(v):    Whether or not to show verbose logs."),
                             Strings.getLines(output.getText().await()));
@@ -59,6 +69,14 @@ public interface QubCreateProjectRunTests
                         final Folder qubProjectDataFolder = currentFolder.getFileSystem().getFolder("C:/qub/qub/test-java/data/").await();
                         test.assertEqual(qubProjectDataFolder, parameters.getQubProjectDataFolder());
 
+                        test.assertNotNull(parameters.getAsyncRunner());
+                        test.assertFalse(parameters.getMetrics().isEnabled());
+                        test.assertSame(process.getClock(), parameters.getLogRotation().getClock());
+                        test.assertSame(process.getClock(), parameters.getClock());
+                        test.assertEqual(process.getClock().getCurrentDateTime().getYear(), parameters.getYear());
+                        test.assertFalse(parameters.isStaged());
+                        test.assertEqual(qubProjectDataFolder.getFile(QubCreateProjectHistogramFile.fileName).await(), parameters.getHistogramFile());
+
                         final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
                         test.assertNotNull(verbose);
                         test.assertFalse(verbose.isVerbose());
@@ -88,6 +106,9 @@ public interface QubCreateProjectRunTests
                         final Folder qubProjectDataFolder = currentFolder.getFileSystem().getFolder("C:/qub/qub/test-java/data/").await();
                         test.assertEqual(qubProjectDataFolder, parameters.getQubProjectDataFolder());
 
+                        test.assertNotNull(parameters.getAsyncRunner());
+                        test.assertFalse(parameters.getMetrics().isEnabled());
+
                         final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
                         test.assertNotNull(verbose);
                         test.assertTrue(verbose.isVerbose());
@@ -98,6 +119,193 @@ public interface QubCreateProjectRunTests
                     }
                 });
 
+                runner.test("with " + Strings.escapeAndQuote("--metrics"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--metrics"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertTrue(parameters.getMetrics().isEnabled());
+                        test.assertEqual("", output.getText().await());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--noStats"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--noStats"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertFalse(parameters.getMetrics().isEnabled());
+                        test.assertNull(parameters.getHistogramFile());
+                        test.assertEqual("", output.getText().await());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--staged"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--staged"))
+                    {
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertTrue(parameters.isStaged());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--archive=tar"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--archive=tar"))
+                    {
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual("tar", parameters.getArchiveFormat());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--archive=rar"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--archive=rar"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--archive must be one of zip, tar, but was \"rar\"."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--durability=batch"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--durability=batch"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--durability must be one of none, project, but was \"batch\"."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
+                final Action1<String[]> archiveWithFolderOptionTest = (String[] arguments) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(Strings.join(' ', Iterable.create(arguments))), (Test test) ->
+                    {
+                        try (final QubProcess process = QubProcess.create(arguments))
+                        {
+                            final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                            process.setOutputWriteStream(output);
+
+                            final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                            test.assertNull(parameters);
+                            test.assertEqual(
+                                Iterable.create(
+                                    "--archive can't be used with --staged, --template, --git, or --durability."),
+                                Strings.getLines(output.getText().await()));
+                            test.assertEqual(-1, process.getExitCode());
+                        }
+                    });
+                };
+
+                archiveWithFolderOptionTest.run(new String[] { "--archive=zip", "--staged" });
+                archiveWithFolderOptionTest.run(new String[] { "--archive=zip", "--template=java-gradle" });
+                archiveWithFolderOptionTest.run(new String[] { "--archive=tar", "--git" });
+                archiveWithFolderOptionTest.run(new String[] { "--archive=tar", "--durability=project" });
+
+                runner.test("with " + Strings.escapeAndQuote("--template=java-gradle --linkTemplate"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--template=java-gradle", "--linkTemplate"))
+                    {
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual("java-gradle", parameters.getTemplate());
+                        test.assertTrue(parameters.isLinkTemplate());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--git"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--git"))
+                    {
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertTrue(parameters.isGit());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--dependency=qub/projectjson-java, qub/http-java"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--dependency=qub/projectjson-java, qub/http-java"))
+                    {
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(Iterable.create("qub/projectjson-java", "qub/http-java"), parameters.getDependencies());
+                    }
+                });
+
+                final Action2<String,String> dependencyErrorTest = (String argument, String expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(argument), (Test test) ->
+                    {
+                        try (final QubProcess process = QubProcess.create(argument))
+                        {
+                            final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                            process.setOutputWriteStream(output);
+
+                            final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                            test.assertNull(parameters);
+                            test.assertEqual(Iterable.create(expected), Strings.getLines(output.getText().await()));
+                            test.assertEqual(-1, process.getExitCode());
+                        }
+                    });
+                };
+
+                dependencyErrorTest.run("--dependency=qub", "--dependency must be a comma-separated list of <publisher>/<project>, but \"qub\" isn't.");
+                dependencyErrorTest.run("--dependency=qub/http-java,", "--dependency must be a comma-separated list of <publisher>/<project>, but \"\" isn't.");
+                dependencyErrorTest.run("--dependency=qub/http-java/1", "--dependency must be a comma-separated list of <publisher>/<project>, but \"qub/http-java/1\" isn't.");
+
+                runner.test("with " + Strings.escapeAndQuote("--type=app"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--type=app"))
+                    {
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual("app", parameters.getType());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--type=service"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--type=service"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRun.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--type must be one of java, plain, library, app, but was \"service\"."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+
                 runner.test("with " + Strings.escapeAndQuote("C:/project/folder/"), (Test test) ->
                 {
                     try (final QubProcess process = QubProcess.create("C:/project/folder/"))
@@ -117,6 +325,9 @@ public interface QubCreateProjectRunTests
                         final Folder qubProjectDataFolder = fileSystem.getFolder("C:/qub/qub/test-java/data/").await();
                         test.assertEqual(qubProjectDataFolder, parameters.getQubProjectDataFolder());
 
+                        test.assertNotNull(parameters.getAsyncRunner());
+                        test.assertFalse(parameters.getMetrics().isEnabled());
+
                         final VerboseCharacterToByteWriteStream verbose = parameters.getVerbose();
                         test.assertNotNull(verbose);
                         test.assertFalse(verbose.isVerbose());
@@ -163,7 +374,8 @@ public interface QubCreateProjectRunTests
                             "VERBOSE: Creating LICENSE file (/project/folder/LICENSE)... Done.",
                             "VERBOSE: Creating .gitignore file (/project/folder/.gitignore)... Done.",
                             "VERBOSE: Creating sources folder (/project/folder/sources/)... Done.",
-                            "VERBOSE: Creating tests folder (/project/folder/tests/)... Done."),
+                            "VERBOSE: Creating tests folder (/project/folder/tests/)... Done.",
+                            "VERBOSE: Creating .qub-createproject.manifest file (/project/folder/.qub-createproject.manifest)... Done."),
                         Strings.getLines(verbose.getText().await()));
                     test.assertEqual(
                         Iterable.create(
@@ -176,14 +388,16 @@ public interface QubCreateProjectRunTests
                             "VERBOSE: Creating .gitignore file (/project/folder/.gitignore)... Done.",
                             "VERBOSE: Creating sources folder (/project/folder/sources/)... Done.",
                             "VERBOSE: Creating tests folder (/project/folder/tests/)... Done.",
+                            "VERBOSE: Creating .qub-createproject.manifest file (/project/folder/.qub-createproject.manifest)... Done.",
                             " Done."),
-                        Strings.getLines(qubProjectDataFolder.getFile("logs/1.log").await().getContentsAsString().await()));
+                        Strings.getLines(qubProjectDataFolder.getFile("logs/pending/1.log").await().getContentsAsString().await()));
                     test.assertEqual(0, exitCode);
                     test.assertEqual(
                         Iterable.create(
                             projectFolder.getFolder("sources").await(),
                             projectFolder.getFolder("tests").await(),
                             projectFolder.getFile(".gitignore").await(),
+                            projectFolder.getFile(QubCreateProjectManifest.fileName).await(),
                             projectFolder.getFile("LICENSE").await(),
                             projectFolder.getFile("README.md").await(),
                             projectFolder.getFile("project.json").await()),
@@ -217,7 +431,8 @@ public interface QubCreateProjectRunTests
                             "VERBOSE: Creating LICENSE file (/project/folder/LICENSE)... Done.",
                             "VERBOSE: Creating .gitignore file (/project/folder/.gitignore)... Done.",
                             "VERBOSE: Creating sources folder (/project/folder/sources/)... Done.",
-                            "VERBOSE: Creating tests folder (/project/folder/tests/)... Done."),
+                            "VERBOSE: Creating tests folder (/project/folder/tests/)... Done.",
+                            "VERBOSE: Creating .qub-createproject.manifest file (/project/folder/.qub-createproject.manifest)... Done."),
                         Strings.getLines(verbose.getText().await()));
                     test.assertEqual(
                         Iterable.create(
@@ -230,56 +445,831 @@ public interface QubCreateProjectRunTests
                             "VERBOSE: Creating .gitignore file (/project/folder/.gitignore)... Done.",
                             "VERBOSE: Creating sources folder (/project/folder/sources/)... Done.",
                             "VERBOSE: Creating tests folder (/project/folder/tests/)... Done.",
+                            "VERBOSE: Creating .qub-createproject.manifest file (/project/folder/.qub-createproject.manifest)... Done.",
                             " Done."),
-                        Strings.getLines(qubProjectDataFolder.getFile("logs/1.log").await().getContentsAsString().await()));
+                        Strings.getLines(qubProjectDataFolder.getFile("logs/pending/1.log").await().getContentsAsString().await()));
                     test.assertEqual(0, exitCode);
                     test.assertEqual(
                         Iterable.create(
                             projectFolder.getFolder("sources").await(),
                             projectFolder.getFolder("tests").await(),
                             projectFolder.getFile(".gitignore").await(),
+                            projectFolder.getFile(QubCreateProjectManifest.fileName).await(),
                             projectFolder.getFile("LICENSE").await(),
                             projectFolder.getFile("README.md").await(),
                             projectFolder.getFile("project.json").await()),
                         projectFolder.getFilesAndFoldersRecursively().await());
                 });
 
-                runner.test("with existing project.json file", (Test test) ->
+                runner.test("with non-existing template", (Test test) ->
                 {
                     final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
                     final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
                     fileSystem.createRoot("/").await();
-                    final Folder projectFolder = fileSystem.createFolder("/project/folder/").await();
-                    final File projectJsonFile = projectFolder.createFile("project.json").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
                     final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
-                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
                     final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
-                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose));
+                        .setTemplate("java-gradle");
 
                     final int exitCode = QubCreateProjectRun.run(parameters);
 
                     test.assertEqual(
                         Iterable.create(
-                            "A Qub project already exists in folder /project/folder/."),
+                            "The template java-gradle doesn't exist in folder /qub/project/data/templates/."),
                         Strings.getLines(output.getText().await()));
+                    test.assertEqual(-1, exitCode);
+                    test.assertFalse(projectFolder.exists().await());
+                });
+
+                runner.test("with template", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final Folder templateFolder = QubCreateProjectTemplateAssets.getTemplateFolder(qubProjectDataFolder, "java-gradle");
+                    templateFolder.setFileContentsAsString("gradlew", "#!/bin/sh").await();
+                    templateFolder.setFileContentsAsString("gradle/wrapper/gradle-wrapper.properties", "distributionUrl=gradle.zip").await();
+                    templateFolder.setFileContentsAsString("README.md", "template readme").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setTemplate("java-gradle");
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
                     test.assertEqual(
                         Iterable.create(
-                            "VERBOSE: Checking if project folder (/project/folder/) already exists... Done.",
-                            "VERBOSE: Project folder (/project/folder/) already exists.",
-                            "VERBOSE: project.json file (/project/folder/project.json) already exists."),
-                        Strings.getLines(verbose.getText().await()));
+                            "Creating Qub project in folder /project/folder/... Done."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual("#!/bin/sh", projectFolder.getFile("gradlew").await().getContentsAsString().await());
+                    test.assertEqual("distributionUrl=gradle.zip", projectFolder.getFile("gradle/wrapper/gradle-wrapper.properties").await().getContentsAsString().await());
+                    test.assertNotEqual("template readme", projectFolder.getFile("README.md").await().getContentsAsString().await());
+                    test.assertTrue(projectFolder.getFile("project.json").await().exists().await());
+                });
+
+                runner.test("with git", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose))
+                        .setClock(test.getClock())
+                        .setGit(true);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    final Folder gitFolder = projectFolder.getFolder(".git").await();
+                    test.assertEqual("ref: refs/heads/main\n", gitFolder.getFile("HEAD").await().getContentsAsString().await());
+                    final String commitId = gitFolder.getFile("refs/heads/main").await().getContentsAsString().await().trim();
+                    test.assertEqual(40, commitId.length());
+                    test.assertTrue(verbose.getText().await().contains(") with commit " + commitId + "... Done."));
+                    for (final String fileName : Iterable.create("project.json", "README.md", "LICENSE", ".gitignore", QubCreateProjectManifest.fileName))
+                    {
+                        final String blobId = QubCreateProjectGitRepository.getObjectId("blob", projectFolder.getFile(fileName).await().getContents().await());
+                        test.assertTrue(gitFolder.getFile("objects/" + blobId.substring(0, 2) + "/" + blobId.substring(2)).await().exists().await());
+                    }
+                });
+
+                runner.test("with git and clock", (Test test) ->
+                {
+                    // The commit's time and author come from the parameters, so creating the same
+                    // project at the same time always creates the same commit.
+                    final List<String> commitIds = List.create();
+                    for (int i = 0; i < 2; ++i)
+                    {
+                        final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                        fileSystem.createRoot("/").await();
+                        final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                        final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                        final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(InMemoryCharacterToByteStream.create(), projectFolder, qubProjectDataFolder)
+                            .setClock(clock)
+                            .setYear(2020)
+                            .setEmail("me@example.com")
+                            .setGit(true);
+
+                        test.assertEqual(0, QubCreateProjectRun.run(parameters));
+                        commitIds.add(projectFolder.getFile(".git/refs/heads/main").await().getContentsAsString().await().trim());
+                    }
+                    test.assertEqual(commitIds.first(), commitIds.last());
+                });
+
+                runner.test("with plain type", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setType("plain");
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
                     test.assertEqual(
                         Iterable.create(
-                            "VERBOSE: Checking if project folder (/project/folder/) already exists... Done.",
-                            "VERBOSE: Project folder (/project/folder/) already exists.",
-                            "VERBOSE: project.json file (/project/folder/project.json) already exists.",
-                            "A Qub project already exists in folder /project/folder/."),
-                        Strings.getLines(qubProjectDataFolder.getFile("logs/1.log").await().getContentsAsString().await()));
+                            projectFolder.getFile(".gitignore").await(),
+                            projectFolder.getFile(QubCreateProjectManifest.fileName).await(),
+                            projectFolder.getFile("LICENSE").await(),
+                            projectFolder.getFile("README.md").await(),
+                            projectFolder.getFile("project.json").await()),
+                        projectFolder.getFilesAndFoldersRecursively().await());
+                    final ProjectJSON projectJson = ProjectJSON.parse(projectFolder.getFile("project.json").await()).await();
+                    test.assertEqual("folder", projectJson.getProject());
+                    test.assertNull(projectJson.getJava());
+                });
+
+                runner.test("with app type", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/my-app/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setType("app");
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertTrue(projectFolder.getFolder("sources").await().exists().await());
+                    test.assertTrue(projectFolder.getFolder("tests").await().exists().await());
+                    final ProjectJSONJava projectJsonJava = ProjectJSON.parse(projectFolder.getFile("project.json").await()).await().getJava();
+                    test.assertEqual("qub.MyApp", projectJsonJava.getMainClass());
+                    test.assertEqual("my-app", projectJsonJava.getShortcutName());
+                });
+
+                runner.test("with installed dependency", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    fileSystem.createFolder("/qub/qub/projectjson-java/versions/73/").await();
+                    fileSystem.createFolder("/qub/qub/projectjson-java/versions/74/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/qub/createproject-java/data/").await();
+                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose))
+                        .setDependencies(Iterable.create("qub/projectjson-java"));
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertTrue(verbose.getText().await().contains("Using version 74 of dependency qub/projectjson-java."));
+                    final ProjectSignature dependency = ProjectJSON.parse(projectFolder.getFile("project.json").await()).await()
+                        .getJava()
+                        .getDependencies()
+                        .first();
+                    test.assertEqual("qub", dependency.getPublisher());
+                    test.assertEqual("projectjson-java", dependency.getProject());
+                    test.assertEqual("74", dependency.getVersion());
+                    test.assertTrue(QubCreateProjectDependencyIndex.getIndexFile(qubProjectDataFolder).exists().await());
+                });
+
+                runner.test("with dependency that isn't installed", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/qub/createproject-java/data/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setDependencies(Iterable.create("qub/projectjson-java"));
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
                     test.assertEqual(-1, exitCode);
                     test.assertEqual(
                         Iterable.create(
-                            projectJsonFile),
-                        projectFolder.getFilesAndFoldersRecursively().await());
+                            "The dependency qub/projectjson-java isn't installed in folder /qub/."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertFalse(projectFolder.exists().await());
+                });
+
+                runner.test("with project durability", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose))
+                        .setDurability(QubCreateProjectDurability.project);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertTrue(verbose.getText().await().contains("Syncing project folder (/project/folder/)... Done."));
+                });
+
+                runner.test("with sync group", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setDurability(QubCreateProjectDurability.project)
+                        .setSyncGroup(syncGroup);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(1, syncGroup.getFolderCount());
+
+                    // The project isn't added to the registry until its group has been synced.
+                    final Folder registryFolder = QubCreateProjectRegistry.getRegistryFolder(qubProjectDataFolder);
+                    test.assertEqual(Iterable.create(), QubCreateProjectRegistry.open(registryFolder).await().getEntries("qub", "folder"));
+
+                    syncGroup.sync();
+                    test.assertEqual(
+                        Iterable.create("/project/folder/"),
+                        QubCreateProjectRegistry.open(registryFolder).await().getEntries("qub", "folder").map(QubCreateProjectRegistryEntry::getProjectFolderPath));
+                });
+
+                runner.test("with staged and non-existing projectFolder", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setStaged(true);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(
+                        Iterable.create(
+                            "Creating Qub project in folder /project/folder/... Done."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(projectFolder),
+                        fileSystem.getFolder("/project/").await().getFilesAndFolders().await());
+                    test.assertEqual(
+                        Iterable.create(
+                            projectFolder.getFolder("sources").await(),
+                            projectFolder.getFolder("tests").await(),
+                            projectFolder.getFile(".gitignore").await(),
+                            projectFolder.getFile(QubCreateProjectManifest.fileName).await(),
+                            projectFolder.getFile("LICENSE").await(),
+                            projectFolder.getFile("README.md").await(),
+                            projectFolder.getFile("project.json").await()),
+                        projectFolder.getFilesAndFoldersRecursively().await());
+                    test.assertTrue(projectFolder.getFile("README.md").await().getContentsAsString().await().contains("folder"));
+                });
+
+                runner.test("with staged and existing projectFolder", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose))
+                        .setStaged(true);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(
+                        Iterable.create(
+                            "Creating Qub project in folder /project/folder/... Done."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual(
+                        Iterable.create(
+                            "VERBOSE: Checking if project folder (/project/folder/) already exists... Done.",
+                            "VERBOSE: Project folder (/project/folder/) already exists.",
+                            "",
+                            "VERBOSE: Creating project.json file (/project/folder/project.json)... Done.",
+                            "VERBOSE: Creating README.md file (/project/folder/README.md)... Done.",
+                            "VERBOSE: Creating LICENSE file (/project/folder/LICENSE)... Done.",
+                            "VERBOSE: Creating .gitignore file (/project/folder/.gitignore)... Done.",
+                            "VERBOSE: Creating sources folder (/project/folder/sources/)... Done.",
+                            "VERBOSE: Creating tests folder (/project/folder/tests/)... Done.",
+                            "VERBOSE: Creating .qub-createproject.manifest file (/project/folder/.qub-createproject.manifest)... Done."),
+                        Strings.getLines(verbose.getText().await()));
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(projectFolder),
+                        fileSystem.getFolder("/project/").await().getFilesAndFolders().await());
+                });
+
+                runner.test("with existing README.md file", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/folder/").await();
+                    final File readmeMdFile = projectFolder.getFile("README.md").await();
+                    readmeMdFile.setContentsAsString("hello").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose));
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(
+                        Iterable.create(
+                            "Creating Qub project in folder /project/folder/... Done."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual(
+                        Iterable.create(
+                            "VERBOSE: Checking if project folder (/project/folder/) already exists... Done.",
+                            "VERBOSE: Project folder (/project/folder/) already exists.",
+                            "",
+                            "VERBOSE: Creating project.json file (/project/folder/project.json)... Done.",
+                            "VERBOSE: README.md file (/project/folder/README.md) already exists.",
+                            "VERBOSE: Creating LICENSE file (/project/folder/LICENSE)... Done.",
+                            "VERBOSE: Creating .gitignore file (/project/folder/.gitignore)... Done.",
+                            "VERBOSE: Creating sources folder (/project/folder/sources/)... Done.",
+                            "VERBOSE: Creating tests folder (/project/folder/tests/)... Done.",
+                            "VERBOSE: Creating .qub-createproject.manifest file (/project/folder/.qub-createproject.manifest)... Done."),
+                        Strings.getLines(verbose.getText().await()));
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual("hello", readmeMdFile.getContentsAsString().await());
+                    test.assertEqual(
+                        Iterable.create("LICENSE", ".gitignore"),
+                        QubCreateProjectManifest.read(projectFolder).await().getEntries().map(QubCreateProjectManifestEntry::getFileName));
+                });
+
+                runner.test("with project name that was already created in another folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    QubCreateProjectRun.run(QubCreateProjectRunParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/first/folder/").await(), qubProjectDataFolder));
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final Folder projectFolder = fileSystem.getFolder("/second/folder/").await();
+
+                    final int exitCode = QubCreateProjectRun.run(QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "Warning: A project named qub/folder was already created in folder /first/folder/.",
+                            "Creating Qub project in folder /second/folder/... Done."),
+                        Strings.getLines(output.getText().await()));
+
+                    final QubCreateProjectRegistry registry = QubCreateProjectRegistry.open(QubCreateProjectRegistry.getRegistryFolder(qubProjectDataFolder)).await();
+                    test.assertEqual(
+                        Iterable.create("/first/folder/", "/second/folder/"),
+                        registry.getEntries("qub", "folder").map(QubCreateProjectRegistryEntry::getProjectFolderPath));
+                });
+
+                runner.test("with publisher, version, author, and year", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setPublisher("me")
+                        .setVersion("3")
+                        .setAuthor("Me Myself")
+                        .setYear(2031);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        "# me/folder\n",
+                        projectFolder.getFile("README.md").await().getContentsAsString().await());
+                    test.assertEqual(
+                        Iterable.create(
+                            "MIT License",
+                            "",
+                            "Copyright (c) 2031 Me Myself"),
+                        Strings.getLines(projectFolder.getFile("LICENSE").await().getContentsAsString().await()).take(3));
+                    test.assertEqual(
+                        Iterable.create(
+                            ".idea",
+                            "out",
+                            "outputs",
+                            "target"),
+                        Strings.getLines(projectFolder.getFile(".gitignore").await().getContentsAsString().await()));
+
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await();
+                    test.assertEqual(2031, manifest.getYear());
+                    test.assertEqual("Me Myself", manifest.getAuthor());
+                });
+
+                runner.test("with metrics", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setMetrics(metrics);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(1, metrics.getStatCalls());
+                    test.assertEqual(5, metrics.getFilesCreated());
+                    test.assertEqual(3, metrics.getFoldersCreated());
+                    test.assertGreaterThan(metrics.getBytesWritten(), 0L);
+                    test.assertEqual(
+                        Iterable.create("logSetup", "plan", "projectFolder", "registry", "generator", "artifacts", "total"),
+                        metrics.getPhaseNames().where((String phaseName) -> !phaseName.equals("project.json") && !phaseName.equals("README.md") && !phaseName.equals("LICENSE") && !phaseName.equals(".gitignore") && !phaseName.equals(QubCreateProjectManifest.fileName) && !phaseName.equals("sources") && !phaseName.equals("tests")));
+
+                    final String outputText = output.getText().await();
+                    test.assertStartsWith(outputText, "Creating Qub project in folder /project/folder/... Done.\n{");
+                    final JSONObject metricsJson = JSON.parseObject(outputText.substring(outputText.indexOf('{'))).await();
+                    test.assertEqual(5, metricsJson.getNumber("filesCreated").await().intValue());
+                });
+
+                runner.test("with histogram file", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final File histogramFile = QubCreateProjectHistogramFile.getHistogramFile(qubProjectDataFolder);
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setHistogramFile(histogramFile);
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create("Creating Qub project in folder /project/folder/... Done."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertSame(QubCreateProjectMetrics.disabled, parameters.getMetrics());
+
+                    final Iterable<QubCreateProjectHistogram> histograms = QubCreateProjectHistogramFile.read(histogramFile).await();
+                    test.assertEqual(
+                        Iterable.create("total", "logSetup", "plan", "projectFolder", "registry", "generator", "artifacts"),
+                        histograms.map(QubCreateProjectHistogram::getName).where((String phaseName) -> !phaseName.equals("project.json") && !phaseName.equals("README.md") && !phaseName.equals("LICENSE") && !phaseName.equals(".gitignore") && !phaseName.equals(QubCreateProjectManifest.fileName) && !phaseName.equals("sources") && !phaseName.equals("tests")));
+                    for (final QubCreateProjectHistogram histogram : histograms)
+                    {
+                        test.assertEqual(1L, histogram.getCount());
+                    }
+                });
+
+                runner.test("with histogram file and non-existing template", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final File histogramFile = QubCreateProjectHistogramFile.getHistogramFile(qubProjectDataFolder);
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setTemplate("does-not-exist")
+                        .setHistogramFile(histogramFile);
+
+                    test.assertEqual(-1, QubCreateProjectRun.run(parameters));
+                    test.assertFalse(histogramFile.exists().await());
+                });
+
+                runner.test("with existing project.json file", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/folder/").await();
+                    final File projectJsonFile = projectFolder.createFile("project.json").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final InMemoryCharacterToByteStream verbose = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(output, projectFolder, qubProjectDataFolder)
+                        .setVerbose(VerboseCharacterToByteWriteStream.create(verbose));
+
+                    final int exitCode = QubCreateProjectRun.run(parameters);
+
+                    test.assertEqual(
+                        Iterable.create(
+                            "A Qub project already exists in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual(
+                        Iterable.create(
+                            "VERBOSE: Checking if project folder (/project/folder/) already exists... Done.",
+                            "VERBOSE: Project folder (/project/folder/) already exists.",
+                            "VERBOSE: project.json file (/project/folder/project.json) already exists."),
+                        Strings.getLines(verbose.getText().await()));
+                    test.assertEqual(
+                        Iterable.create(
+                            "VERBOSE: Checking if project folder (/project/folder/) already exists... Done.",
+                            "VERBOSE: Project folder (/project/folder/) already exists.",
+                            "VERBOSE: project.json file (/project/folder/project.json) already exists.",
+                            "A Qub project already exists in folder /project/folder/."),
+                        Strings.getLines(qubProjectDataFolder.getFile("logs/pending/1.log").await().getContentsAsString().await()));
+                    test.assertEqual(-1, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            projectJsonFile),
+                        projectFolder.getFilesAndFoldersRecursively().await());
+                });
+            });
+
+            runner.testGroup("writeArchive(QubCreateProjectRunParameters,ByteWriteStream)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRun.writeArchive(null, InMemoryByteStream.create()),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with no archive format", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        fileSystem.getFolder("/project/folder/").await(),
+                        fileSystem.getFolder("/qub/project/data/").await());
+                    test.assertThrows(() -> QubCreateProjectRun.writeArchive(parameters, InMemoryByteStream.create()),
+                        new PreConditionFailure("parameters.getArchiveFormat() cannot be null."));
+                });
+
+                runner.test("with zip", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/folder/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await())
+                        .setArchiveFormat("zip")
+                        .setAuthor("Me")
+                        .setYear(2031);
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+
+                    final long bytesWritten = QubCreateProjectRun.writeArchive(parameters, stream);
+
+                    final byte[] archiveBytes = stream.getBytes();
+                    test.assertEqual(archiveBytes.length, bytesWritten);
+
+                    final List<String> entryNames = List.create();
+                    String readmeMd = null;
+                    try (final java.util.zip.ZipInputStream zipStream = new java.util.zip.ZipInputStream(new java.io.ByteArrayInputStream(archiveBytes)))
+                    {
+                        java.util.zip.ZipEntry entry;
+                        while ((entry = zipStream.getNextEntry()) != null)
+                        {
+                            entryNames.add(entry.getName());
+                            if (entry.getName().equals("README.md"))
+                            {
+                                readmeMd = new String(zipStream.readAllBytes(), java.nio.charset.StandardCharsets.UTF_8);
+                            }
+                        }
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                    test.assertEqual(
+                        Iterable.create("project.json", "README.md", "LICENSE", ".gitignore", QubCreateProjectManifest.fileName, "sources/", "tests/"),
+                        entryNames);
+                    test.assertEqual("# qub/folder\n", readmeMd);
+                    test.assertFalse(fileSystem.getFolder("/project/folder/").await().exists().await());
+                    test.assertFalse(fileSystem.getFolder("/qub/project/data/").await().exists().await());
+                });
+
+                runner.test("with tar", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/folder/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await())
+                        .setArchiveFormat("tar");
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+
+                    final long bytesWritten = QubCreateProjectRun.writeArchive(parameters, stream);
+
+                    final byte[] archiveBytes = stream.getBytes();
+                    test.assertEqual(archiveBytes.length, bytesWritten);
+                    test.assertEqual(0, archiveBytes.length % 512);
+                    test.assertEqual("project.json", new String(archiveBytes, 0, "project.json".length(), java.nio.charset.StandardCharsets.US_ASCII));
+                    test.assertFalse(fileSystem.getFolder("/project/folder/").await().exists().await());
+                });
+
+                runner.test("with zip and plain type", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectRunParameters parameters = QubCreateProjectRunParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFolder("/project/folder/").await(),
+                            fileSystem.getFolder("/qub/project/data/").await())
+                        .setArchiveFormat("zip")
+                        .setType("plain");
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+
+                    QubCreateProjectRun.writeArchive(parameters, stream);
+
+                    final List<String> entryNames = List.create();
+                    try (final java.util.zip.ZipInputStream zipStream = new java.util.zip.ZipInputStream(new java.io.ByteArrayInputStream(stream.getBytes())))
+                    {
+                        java.util.zip.ZipEntry entry;
+                        while ((entry = zipStream.getNextEntry()) != null)
+                        {
+                            entryNames.add(entry.getName());
+                        }
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                    test.assertEqual(
+                        Iterable.create("project.json", "README.md", "LICENSE", ".gitignore", QubCreateProjectManifest.fileName),
+                        entryNames);
+                });
+            });
+
+            runner.testGroup("createStagingFolder(Folder)", () ->
+            {
+                runner.test("with null projectFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectRun.createStagingFolder(null),
+                        new PreConditionFailure("projectFolder cannot be null."));
+                });
+
+                runner.test("with non-existing projectFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+
+                    final Folder stagingFolder = QubCreateProjectRun.createStagingFolder(projectFolder);
+                    test.assertTrue(stagingFolder.exists().await());
+                    test.assertEqual(projectFolder.getParentFolder().await(), stagingFolder.getParentFolder().await());
+                    test.assertTrue(stagingFolder.getName().startsWith(".folder.staging-"));
+                    test.assertFalse(projectFolder.exists().await());
+
+                    test.assertNotEqual(stagingFolder, QubCreateProjectRun.createStagingFolder(projectFolder));
+                });
+            });
+
+            runner.testGroup("publishStagingFolder(Folder,Folder)", () ->
+            {
+                runner.test("with non-existing projectFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder stagingFolder = QubCreateProjectRun.createStagingFolder(projectFolder);
+                    stagingFolder.setFileContentsAsString("project.json", "{}").await();
+
+                    test.assertTrue(QubCreateProjectRun.publishStagingFolder(stagingFolder, projectFolder));
+                    test.assertFalse(stagingFolder.exists().await());
+                    test.assertEqual("{}", projectFolder.getFile("project.json").await().getContentsAsString().await());
+                });
+
+                runner.test("with existing projectFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+                    final Folder stagingFolder = QubCreateProjectRun.createStagingFolder(projectFolder);
+                    projectFolder.setFileContentsAsString("project.json", "other").await();
+
+                    test.assertFalse(QubCreateProjectRun.publishStagingFolder(stagingFolder, projectFolder));
+                    test.assertTrue(stagingFolder.exists().await());
+                    test.assertEqual("other", projectFolder.getFile("project.json").await().getContentsAsString().await());
+                });
+            });
+
+            runner.testGroup("tryCreateFile(QubCreateProjectPlan,File,byte[])", () ->
+            {
+                runner.test("with null plan", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    test.assertThrows(() -> QubCreateProjectRun.tryCreateFile(null, fileSystem.getFile("/project/project.json").await(), new byte[] { 1, 2, 3 }),
+                        new PreConditionFailure("plan cannot be null."));
+                });
+
+                runner.test("with null contents", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                    test.assertThrows(() -> QubCreateProjectRun.tryCreateFile(plan, projectFolder.getFile("project.json").await(), null),
+                        new PreConditionFailure("contents cannot be null."));
+                });
+
+                runner.test("with non-existing file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                    final File projectJsonFile = projectFolder.getFile("project.json").await();
+
+                    test.assertTrue(QubCreateProjectRun.tryCreateFile(plan, projectJsonFile, new byte[] { 1, 2, 3 }));
+                    test.assertEqual(new byte[] { 1, 2, 3 }, projectJsonFile.getContents().await());
+                    test.assertFalse(QubCreateProjectRun.tryCreateFile(plan, projectJsonFile, new byte[] { 4, 5 }));
+                    test.assertEqual(new byte[] { 1, 2, 3 }, projectJsonFile.getContents().await());
+                });
+
+                runner.test("with file created after the plan", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                    final File projectJsonFile = projectFolder.getFile("project.json").await();
+                    projectJsonFile.setContentsAsString("other").await();
+
+                    test.assertFalse(QubCreateProjectRun.tryCreateFile(plan, projectJsonFile, new byte[] { 1, 2, 3 }));
+                    test.assertEqual("other", projectJsonFile.getContentsAsString().await());
+                });
+
+                runner.test("with exclusive plan", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder stagingFolder = fileSystem.createFolder("/.project.staging-1/").await();
+                    final File projectJsonFile = stagingFolder.getFile("project.json").await();
+
+                    test.assertTrue(QubCreateProjectRun.tryCreateFile(QubCreateProjectPlan.createEmpty(), projectJsonFile, new byte[] { 1, 2, 3 }));
+                    test.assertEqual(new byte[] { 1, 2, 3 }, projectJsonFile.getContents().await());
+                });
+
+                runner.test("with local file", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final java.nio.file.Path temporaryPath = java.nio.file.Files.createTempDirectory("qub-createproject-run");
+                        final Folder projectFolder = process.getFileSystem().getFolder(temporaryPath.toString()).await();
+                        try
+                        {
+                            final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                            final File projectJsonFile = projectFolder.getFile("project.json").await();
+
+                            test.assertTrue(QubCreateProjectRun.tryCreateFile(plan, projectJsonFile, new byte[] { 1, 2, 3 }));
+                            test.assertEqual(new byte[] { 1, 2, 3 }, projectJsonFile.getContents().await());
+                            test.assertFalse(QubCreateProjectRun.tryCreateFile(plan, projectJsonFile, new byte[] { 4, 5 }));
+                            test.assertEqual(new byte[] { 1, 2, 3 }, projectJsonFile.getContents().await());
+                        }
+                        finally
+                        {
+                            projectFolder.delete().await();
+                        }
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                });
+            });
+
+            runner.testGroup("createFile(QubCreateProjectPlan,File,byte[],QubCreateProjectManifest,QubCreateProjectGitRepository,QubCreateProjectMetrics,QubCreateProjectVerbose)", () ->
+            {
+                runner.test("with file created after the plan", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                    final File readmeMdFile = projectFolder.getFile("README.md").await();
+                    readmeMdFile.setContentsAsString("other").await();
+                    final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+
+                    test.assertEqual(
+                        "README.md file (/project/README.md) already exists.",
+                        QubCreateProjectRun.createFile(plan, readmeMdFile, new byte[] { 1, 2, 3 }, null, null, metrics, QubCreateProjectVerbose.create(InMemoryCharacterToByteStream.create(), true)));
+                    test.assertEqual("other", readmeMdFile.getContentsAsString().await());
+                    test.assertEqual(0L, metrics.getFilesCreated());
+                });
+
+                runner.test("with non-existing file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.createFolder("/project/").await();
+                    final QubCreateProjectPlan plan = QubCreateProjectPlan.create(projectFolder).await();
+                    final File readmeMdFile = projectFolder.getFile("README.md").await();
+                    final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+
+                    test.assertNull(QubCreateProjectRun.createFile(plan, readmeMdFile, new byte[] { 1, 2, 3 }, null, null, metrics, QubCreateProjectVerbose.create(InMemoryCharacterToByteStream.create(), false)));
+                    test.assertEqual(new byte[] { 1, 2, 3 }, readmeMdFile.getContents().await());
+                    test.assertEqual(1L, metrics.getFilesCreated());
+                    test.assertEqual(3L, metrics.getBytesWritten());
                 });
             });
         });
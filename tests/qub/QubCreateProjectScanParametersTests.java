@@ -0,0 +1,63 @@
+package qub;
+
+public interface QubCreateProjectScanParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectScanParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,Folder)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    test.assertThrows(() -> QubCreateProjectScanParameters.create(null, workspaceFolder),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null workspaceFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectScanParameters.create(InMemoryCharacterToByteStream.create(), null),
+                        new PreConditionFailure("workspaceFolder cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+
+                    final QubCreateProjectScanParameters parameters = QubCreateProjectScanParameters.create(output, workspaceFolder);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(workspaceFolder, parameters.getWorkspaceFolder());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertEqual(Runtime.getRuntime().availableProcessors(), parameters.getParallelism());
+                });
+            });
+
+            runner.testGroup("setParallelism(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectScanParameters parameters = QubCreateProjectScanParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/workspace/").await());
+                    test.assertThrows(() -> parameters.setParallelism(0),
+                        new PreConditionFailure("parallelism (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 3", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectScanParameters parameters = QubCreateProjectScanParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/workspace/").await());
+                    test.assertSame(parameters, parameters.setParallelism(3));
+                    test.assertEqual(3, parameters.getParallelism());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,158 @@
+package qub;
+
+public interface QubCreateProjectScanTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectScan.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectScan.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("C:/workspace/ --parallelism=2"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("C:/workspace/", "--parallelism=2"))
+                    {
+                        final QubCreateProjectScanParameters parameters = QubCreateProjectScan.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(process.getFileSystem().getFolder("C:/workspace/").await(), parameters.getWorkspaceFolder());
+                        test.assertEqual(2, parameters.getParallelism());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--parallelism=0"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--parallelism=0"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectScanParameters parameters = QubCreateProjectScan.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--parallelism must be greater than or equal to 1, but was 0."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+            });
+
+            runner.testGroup("isIgnoredFolderName(String)", () ->
+            {
+                final Action2<String,Boolean> isIgnoredFolderNameTest = (String folderName, Boolean expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(folderName), (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectScan.isIgnoredFolderName(folderName));
+                    });
+                };
+
+                isIgnoredFolderNameTest.run("sources", false);
+                isIgnoredFolderNameTest.run("project", false);
+                isIgnoredFolderNameTest.run("outputs", true);
+                isIgnoredFolderNameTest.run("out", true);
+                isIgnoredFolderNameTest.run("target", true);
+                isIgnoredFolderNameTest.run(".idea", true);
+                isIgnoredFolderNameTest.run(".git", true);
+                isIgnoredFolderNameTest.run(".project.staging-abc", true);
+            });
+
+            runner.testGroup("scan(Folder,int,Action2<Folder,Iterable<String>>)", () ->
+            {
+                runner.test("with null workspaceFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectScan.scan(null, 1, (Folder folder, Iterable<String> missingNames) -> {}),
+                        new PreConditionFailure("workspaceFolder cannot be null."));
+                });
+
+                runner.test("with 0 parallelism", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    test.assertThrows(() -> QubCreateProjectScan.scan(workspaceFolder, 0, (Folder folder, Iterable<String> missingNames) -> {}),
+                        new PreConditionFailure("parallelism (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with workspace", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    QubCreateProjectRun.run(QubCreateProjectRunParameters.create(
+                        InMemoryCharacterToByteStream.create(),
+                        workspaceFolder.getFolder("complete").await(),
+                        fileSystem.getFolder("/qub/project/data/").await()));
+                    workspaceFolder.createFile("partial/project.json").await();
+                    workspaceFolder.createFolder("partial/sources/nested").await();
+                    workspaceFolder.createFolder("group/empty").await();
+                    workspaceFolder.createFolder("group/target/ignored").await();
+                    workspaceFolder.createFolder("group/.git/hidden").await();
+
+                    final List<String> foundLines = List.create();
+                    final long scannedFolderCount = QubCreateProjectScan.scan(workspaceFolder, 2, (Folder folder, Iterable<String> missingNames) ->
+                    {
+                        synchronized (foundLines)
+                        {
+                            foundLines.add(folder + ": " + Strings.join(", ", missingNames));
+                        }
+                    });
+
+                    test.assertEqual(5, scannedFolderCount);
+                    test.assertEqual(2, foundLines.getCount());
+                    test.assertTrue(foundLines.contains("/workspace/group/empty/: project.json, README.md, LICENSE, .gitignore, sources, tests"));
+                    test.assertTrue(foundLines.contains("/workspace/partial/: README.md, LICENSE, .gitignore, tests"));
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectScanParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectScan.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with non-existing workspaceFolder", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+
+                    final int exitCode = QubCreateProjectScan.run(QubCreateProjectScanParameters.create(output, workspaceFolder));
+
+                    test.assertEqual(-1, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "The folder /workspace/ doesn't exist."),
+                        Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with empty workspaceFolder", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+
+                    final int exitCode = QubCreateProjectScan.run(QubCreateProjectScanParameters.create(output, workspaceFolder)
+                        .setParallelism(1));
+
+                    test.assertEqual(0, exitCode);
+                    final List<String> outputLines = Strings.getLines(output.getText().await()).toList();
+                    test.assertEqual(3, outputLines.getCount());
+                    test.assertEqual("/workspace/ is missing project.json, README.md, LICENSE, .gitignore, sources, tests.", outputLines.get(0));
+                    test.assertEqual("Found 1 folders that need to be scaffolded.", outputLines.get(1));
+                    test.assertStartsWith(outputLines.get(2), "Scanned 1 folders in ");
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package qub;
+
+public interface QubCreateProjectStatsParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectStatsParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,File)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    test.assertThrows(() -> QubCreateProjectStatsParameters.create(null, histogramFile),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null histogramFile", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectStatsParameters.create(InMemoryCharacterToByteStream.create(), null),
+                        new PreConditionFailure("histogramFile cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+
+                    final QubCreateProjectStatsParameters parameters = QubCreateProjectStatsParameters.create(output, histogramFile);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(histogramFile, parameters.getHistogramFile());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertFalse(parameters.getReset());
+                    test.assertFalse(parameters.getJson());
+                });
+            });
+
+            runner.testGroup("setReset(boolean)", () ->
+            {
+                final Action1<Boolean> setResetTest = (Boolean reset) ->
+                {
+                    runner.test("with " + reset, (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectStatsParameters parameters = QubCreateProjectStatsParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFile("/data/stats.histograms").await());
+
+                        final QubCreateProjectStatsParameters setResetResult = parameters.setReset(reset);
+                        test.assertSame(parameters, setResetResult);
+                        test.assertEqual(reset, parameters.getReset());
+                    });
+                };
+
+                setResetTest.run(false);
+                setResetTest.run(true);
+            });
+
+            runner.testGroup("setJson(boolean)", () ->
+            {
+                final Action1<Boolean> setJsonTest = (Boolean json) ->
+                {
+                    runner.test("with " + json, (Test test) ->
+                    {
+                        final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                        fileSystem.createRoot("/").await();
+                        final QubCreateProjectStatsParameters parameters = QubCreateProjectStatsParameters.create(
+                            InMemoryCharacterToByteStream.create(),
+                            fileSystem.getFile("/data/stats.histograms").await());
+
+                        final QubCreateProjectStatsParameters setJsonResult = parameters.setJson(json);
+                        test.assertSame(parameters, setJsonResult);
+                        test.assertEqual(json, parameters.getJson());
+                    });
+                };
+
+                setJsonTest.run(false);
+                setJsonTest.run(true);
+            });
+        });
+    }
+}
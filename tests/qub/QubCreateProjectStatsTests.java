@@ -0,0 +1,131 @@
+package qub;
+
+public interface QubCreateProjectStatsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectStats.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectStats.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with no arguments", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final QubCreateProjectStatsParameters parameters = QubCreateProjectStats.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(
+                            process.getFileSystem().getFile("C:/qub/qub/test-java/data/stats.histograms").await(),
+                            parameters.getHistogramFile());
+                        test.assertFalse(parameters.getJson());
+                        test.assertFalse(parameters.getReset());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--json --reset"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--json", "--reset"))
+                    {
+                        final QubCreateProjectStatsParameters parameters = QubCreateProjectStats.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertTrue(parameters.getJson());
+                        test.assertTrue(parameters.getReset());
+                    }
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectStatsParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectStats.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with no runs", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+
+                    test.assertEqual(0, QubCreateProjectStats.run(QubCreateProjectStatsParameters.create(output, histogramFile)));
+                    test.assertEqual(Iterable.create("No runs have been recorded."), Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with runs", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("plan", "total")).await();
+                    QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("plan", "total")).await();
+
+                    test.assertEqual(0, QubCreateProjectStats.run(QubCreateProjectStatsParameters.create(output, histogramFile)));
+
+                    final Iterable<String> outputLines = Strings.getLines(output.getText().await());
+                    test.assertEqual(2, outputLines.getCount());
+                    test.assertStartsWith(outputLines.first(), "total: 2 runs, p50 ");
+                    test.assertStartsWith(outputLines.last(), "plan: 2 runs, p50 ");
+                    test.assertTrue(histogramFile.exists().await());
+                });
+
+                runner.test("with json", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("plan", "total")).await();
+
+                    test.assertEqual(0, QubCreateProjectStats.run(QubCreateProjectStatsParameters.create(output, histogramFile).setJson(true)));
+
+                    final JSONObject phasesJson = JSON.parseObject(output.getText().await()).await()
+                        .getObject("phases").await();
+                    test.assertEqual(1, phasesJson.getObject("total").await().getNumber("count").await().intValue());
+                    test.assertEqual(1, phasesJson.getObject("plan").await().getNumber("count").await().intValue());
+                });
+
+                runner.test("with reset", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("total")).await();
+
+                    test.assertEqual(0, QubCreateProjectStats.run(QubCreateProjectStatsParameters.create(output, histogramFile).setReset(true)));
+
+                    final Iterable<String> outputLines = Strings.getLines(output.getText().await());
+                    test.assertEqual(2, outputLines.getCount());
+                    test.assertStartsWith(outputLines.first(), "total: 1 runs, p50 ");
+                    test.assertEqual("Reset the recorded latencies.", outputLines.last());
+                    test.assertFalse(histogramFile.exists().await());
+                });
+
+                runner.test("with json and reset", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final File histogramFile = fileSystem.getFile("/data/stats.histograms").await();
+                    QubCreateProjectHistogramFile.record(histogramFile, QubCreateProjectHistogramFileTests.createMetrics("total")).await();
+
+                    test.assertEqual(0, QubCreateProjectStats.run(QubCreateProjectStatsParameters.create(output, histogramFile).setJson(true).setReset(true)));
+
+                    final JSONObject phasesJson = JSON.parseObject(output.getText().await()).await()
+                        .getObject("phases").await();
+                    test.assertEqual(1, phasesJson.getObject("total").await().getNumber("count").await().intValue());
+                    test.assertFalse(histogramFile.exists().await());
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,144 @@
+package qub;
+
+public interface QubCreateProjectSyncGroupTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectSyncGroup.class, () ->
+        {
+            runner.test("create()", (Test test) ->
+            {
+                final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                test.assertEqual(0, syncGroup.getFolderCount());
+                test.assertEqual(0, syncGroup.sync());
+            });
+
+            runner.testGroup("addFolder(Folder)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                    test.assertThrows(() -> syncGroup.addFolder(null),
+                        new PreConditionFailure("folder cannot be null."));
+                });
+
+                runner.test("with folders", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                    test.assertSame(syncGroup, syncGroup.addFolder(fileSystem.getFolder("/a/").await()));
+                    test.assertSame(syncGroup, syncGroup.addFolder(fileSystem.getFolder("/b/").await()));
+                    test.assertEqual(2, syncGroup.getFolderCount());
+                });
+            });
+
+            runner.testGroup("addFolder(Folder,Action0)", () ->
+            {
+                runner.test("with null folder", (Test test) ->
+                {
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                    test.assertThrows(() -> syncGroup.addFolder(null, () -> {}),
+                        new PreConditionFailure("folder cannot be null."));
+                });
+
+                runner.test("with null syncedAction", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                    test.assertThrows(() -> syncGroup.addFolder(fileSystem.getFolder("/a/").await(), null),
+                        new PreConditionFailure("syncedAction cannot be null."));
+                    test.assertEqual(0, syncGroup.getFolderCount());
+                });
+
+                runner.test("with actions", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final List<String> actions = List.create();
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                    test.assertSame(syncGroup, syncGroup.addFolder(fileSystem.getFolder("/a/").await(), () -> actions.add("a")));
+                    test.assertSame(syncGroup, syncGroup.addFolder(fileSystem.getFolder("/b/").await(), () -> actions.add("b")));
+                    test.assertEqual(2, syncGroup.getFolderCount());
+                    test.assertEqual(Iterable.create(), actions);
+
+                    syncGroup.sync(1);
+                    test.assertEqual(Iterable.create("a", "b"), actions);
+
+                    syncGroup.sync(1);
+                    test.assertEqual(Iterable.create("a", "b"), actions);
+                });
+            });
+
+            runner.testGroup("sync(int)", () ->
+            {
+                runner.test("with 0 threadCount", (Test test) ->
+                {
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create();
+                    test.assertThrows(() -> syncGroup.sync(0),
+                        new PreConditionFailure("threadCount (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with in-memory folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder folder = fileSystem.createFolder("/project/").await();
+                    folder.createFile("project.json").await();
+                    final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create()
+                        .addFolder(folder);
+
+                    test.assertEqual(0, syncGroup.sync(1));
+                    test.assertEqual(0, syncGroup.getFolderCount());
+                });
+
+                runner.test("with local folder", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final java.nio.file.Path temporaryPath = java.nio.file.Files.createTempDirectory("qub-createproject-sync");
+                        final Folder temporaryFolder = process.getFileSystem().getFolder(temporaryPath.toString()).await();
+                        try
+                        {
+                            final Folder projectFolder = temporaryFolder.createFolder("project").await();
+                            projectFolder.getFile("project.json").await().setContentsAsString("{}").await();
+                            projectFolder.getFile("sources/Main.java").await().setContentsAsString("class Main {}").await();
+                            final QubCreateProjectSyncGroup syncGroup = QubCreateProjectSyncGroup.create()
+                                .addFolder(projectFolder);
+
+                            // The two files are always synced. The three folders are synced
+                            // unless the operating system doesn't allow folders to be opened.
+                            final long syncedCount = syncGroup.sync(4);
+                            test.assertTrue(syncedCount == 2 || syncedCount == 5);
+                            test.assertEqual(0, syncGroup.getFolderCount());
+                        }
+                        finally
+                        {
+                            temporaryFolder.delete().await();
+                        }
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                });
+            });
+
+            runner.testGroup("force(java.nio.file.Path,boolean)", () ->
+            {
+                runner.test("with null path", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectSyncGroup.force(null, true),
+                        new PreConditionFailure("path cannot be null."));
+                });
+
+                runner.test("with folder that doesn't exist", (Test test) ->
+                {
+                    final java.nio.file.Path path = java.nio.file.Paths.get(System.getProperty("java.io.tmpdir"), "qub-createproject-does-not-exist");
+                    test.assertFalse(QubCreateProjectSyncGroup.force(path, false));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package qub;
+
+public interface QubCreateProjectSyncParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectSyncParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,Folder)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/").await();
+                    test.assertThrows(() -> QubCreateProjectSyncParameters.create(null, projectFolder),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null projectFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectSyncParameters.create(InMemoryCharacterToByteStream.create(), null),
+                        new PreConditionFailure("projectFolder cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final Folder projectFolder = fileSystem.getFolder("/project/").await();
+
+                    final QubCreateProjectSyncParameters parameters = QubCreateProjectSyncParameters.create(output, projectFolder);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(projectFolder, parameters.getProjectFolder());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertEqual("danschultequb", parameters.getAuthor());
+                    test.assertEqual(java.time.Year.now().getValue(), parameters.getYear());
+                    test.assertFalse(parameters.getCheckOnly());
+                    test.assertFalse(parameters.getForce());
+                });
+            });
+
+            runner.testGroup("setAuthor(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectSyncParameters parameters = QubCreateProjectSyncParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/project/").await());
+                    test.assertThrows(() -> parameters.setAuthor(null),
+                        new PreConditionFailure("author cannot be null."));
+                });
+
+                runner.test("with empty", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectSyncParameters parameters = QubCreateProjectSyncParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/project/").await());
+                    test.assertThrows(() -> parameters.setAuthor(""),
+                        new PreConditionFailure("author cannot be empty."));
+                });
+            });
+
+            runner.testGroup("setYear(int)", () ->
+            {
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectSyncParameters parameters = QubCreateProjectSyncParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/project/").await());
+                    test.assertThrows(() -> parameters.setYear(0),
+                        new PreConditionFailure("year (0) must be greater than or equal to 1."));
+                });
+
+                runner.test("with 2031", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectSyncParameters parameters = QubCreateProjectSyncParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/project/").await());
+                    test.assertSame(parameters, parameters.setYear(2031));
+                    test.assertEqual(2031, parameters.getYear());
+                });
+            });
+        });
+    }
+}
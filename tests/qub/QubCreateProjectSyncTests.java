@@ -0,0 +1,326 @@
+package qub;
+
+public interface QubCreateProjectSyncTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectSync.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectSync.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("C:/project/folder/"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("C:/project/folder/"))
+                    {
+                        final QubCreateProjectSyncParameters parameters = QubCreateProjectSync.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(process.getFileSystem().getFolder("C:/project/folder/").await(), parameters.getProjectFolder());
+                        test.assertEqual(process.getClock().getCurrentDateTime().getYear(), parameters.getYear());
+                        test.assertFalse(parameters.getCheckOnly());
+                        test.assertFalse(parameters.getForce());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("C:/project/folder/ --check --force"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("C:/project/folder/", "--check", "--force"))
+                    {
+                        final QubCreateProjectSyncParameters parameters = QubCreateProjectSync.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertTrue(parameters.getCheckOnly());
+                        test.assertTrue(parameters.getForce());
+                    }
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectSyncParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectSync.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with non-existing projectFolder", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder));
+
+                    test.assertEqual(-1, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "No Qub project exists in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with up to date project", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(ManualClock.create(DateTime.create(2020, 1, 1)));
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setClock(ManualClock.create(DateTime.create(2020, 1, 2)))
+                        .setAuthor("Me")
+                        .setYear(2031));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "Updated 0 generated files in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await();
+                    for (final QubCreateProjectManifestEntry entry : manifest.getEntries())
+                    {
+                        test.assertNotNull(entry.getLastModified());
+                    }
+                });
+
+                runner.test("with project that was just created", (Test test) ->
+                {
+                    final ManualClock clock = ManualClock.create(DateTime.create(2020, 1, 1));
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(clock);
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setClock(clock)
+                        .setAuthor("Me")
+                        .setYear(2031));
+
+                    test.assertEqual(0, exitCode);
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await();
+                    for (final QubCreateProjectManifestEntry entry : manifest.getEntries())
+                    {
+                        test.assertNull(entry.getLastModified());
+                    }
+                });
+
+                runner.test("with out of date generated file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    QubCreateProjectSyncTests.setGeneratedContents(projectFolder, "LICENSE", "An older license template");
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setAuthor("You")
+                        .setYear(2032));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "Updated LICENSE.",
+                            "Updated 1 generated files in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual(
+                        "Copyright (c) 2031 Me",
+                        Strings.getLines(projectFolder.getFile("LICENSE").await().getContentsAsString().await()).skip(2).first());
+                });
+
+                runner.test("with project created in an earlier year by another author", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setAuthor("You")
+                        .setYear(2032)
+                        .setCheckOnly(true));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "The generated files in folder /project/folder/ are up to date."),
+                        Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with manifest that doesn't record the year and author", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    final QubCreateProjectManifest oldManifest = QubCreateProjectManifest.create();
+                    for (final QubCreateProjectManifestEntry entry : QubCreateProjectManifest.read(projectFolder).await().getEntries())
+                    {
+                        oldManifest.set(entry);
+                    }
+                    projectFolder.setFileContentsAsString(QubCreateProjectManifest.fileName, oldManifest.toManifestText()).await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setAuthor("You")
+                        .setYear(2032));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "Updated LICENSE.",
+                            "Updated 1 generated files in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual(
+                        "Copyright (c) 2032 You",
+                        Strings.getLines(projectFolder.getFile("LICENSE").await().getContentsAsString().await()).skip(2).first());
+
+                    final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await();
+                    test.assertEqual(2032, manifest.getYear());
+                    test.assertEqual("You", manifest.getAuthor());
+                });
+
+                runner.test("with generated file changed by hand", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    projectFolder.setFileContentsAsString("LICENSE", "My own license").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setAuthor("You")
+                        .setYear(2031));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "Skipped LICENSE because it has been changed by hand.",
+                            "Updated 0 generated files in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual("My own license", projectFolder.getFile("LICENSE").await().getContentsAsString().await());
+                });
+
+                runner.test("with generated file changed by hand and force", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    projectFolder.setFileContentsAsString("LICENSE", "My own license").await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setAuthor("Me")
+                        .setYear(2031)
+                        .setForce(true));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "Updated LICENSE.",
+                            "Updated 1 generated files in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+                });
+
+                runner.test("with deleted generated file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    projectFolder.getFile(".gitignore").await().delete().await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setAuthor("Me")
+                        .setYear(2031));
+
+                    test.assertEqual(0, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "Updated .gitignore.",
+                            "Updated 1 generated files in folder /project/folder/."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertTrue(projectFolder.fileExists(".gitignore").await());
+                });
+
+                runner.test("with check and out of date generated file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder projectFolder = QubCreateProjectSyncTests.createProject(fileSystem, "Me");
+                    QubCreateProjectSyncTests.setGeneratedContents(projectFolder, "LICENSE", "An older license template");
+                    final String manifestText = projectFolder.getFileContentsAsString(QubCreateProjectManifest.fileName).await();
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+
+                    final int exitCode = QubCreateProjectSync.run(QubCreateProjectSyncParameters.create(output, projectFolder)
+                        .setCheckOnly(true));
+
+                    test.assertEqual(-1, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "LICENSE is out of date.",
+                            "1 generated files in folder /project/folder/ are out of date."),
+                        Strings.getLines(output.getText().await()));
+                    test.assertEqual("An older license template", projectFolder.getFile("LICENSE").await().getContentsAsString().await());
+                    test.assertEqual(manifestText, projectFolder.getFileContentsAsString(QubCreateProjectManifest.fileName).await());
+                });
+            });
+
+            runner.testGroup("getReliableLastModified(DateTime,Clock)", () ->
+            {
+                final Action3<DateTime,Clock,String> getReliableLastModifiedTest = (DateTime lastModified, Clock clock, String expected) ->
+                {
+                    runner.test("with " + lastModified + " and " + (clock == null ? null : clock.getCurrentDateTime()), (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectSync.getReliableLastModified(lastModified, clock));
+                    });
+                };
+
+                final DateTime lastModified = DateTime.create(2020, 1, 1);
+                getReliableLastModifiedTest.run(lastModified, null, null);
+                getReliableLastModifiedTest.run(lastModified, ManualClock.create(lastModified), null);
+                getReliableLastModifiedTest.run(lastModified, ManualClock.create(lastModified.plus(Duration.milliseconds(QubCreateProjectDependencyIndex.reliableLastModifiedMilliseconds - 1))), null);
+                getReliableLastModifiedTest.run(lastModified, ManualClock.create(lastModified.plus(Duration.milliseconds(QubCreateProjectDependencyIndex.reliableLastModifiedMilliseconds))), lastModified.toString());
+                getReliableLastModifiedTest.run(lastModified, ManualClock.create(DateTime.create(2020, 1, 2)), lastModified.toString());
+            });
+        });
+    }
+
+    static Folder createProject(FileSystem fileSystem, String author)
+    {
+        PreCondition.assertNotNull(fileSystem, "fileSystem");
+        PreCondition.assertNotNullAndNotEmpty(author, "author");
+
+        final Folder projectFolder = fileSystem.getFolder("/project/folder/").await();
+        final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+        QubCreateProjectRun.run(QubCreateProjectRunParameters.create(InMemoryCharacterToByteStream.create(), projectFolder, qubProjectDataFolder)
+            .setAuthor(author)
+            .setYear(2031));
+        return projectFolder;
+    }
+
+    /**
+     * Replace the contents of the provided generated file and record them in the project's
+     * manifest, as if the file had been generated from an older template.
+     * @param projectFolder The project folder.
+     * @param fileName The name of the generated file.
+     * @param contents The contents that the older template generated.
+     */
+    static void setGeneratedContents(Folder projectFolder, String fileName, String contents)
+    {
+        PreCondition.assertNotNull(projectFolder, "projectFolder");
+        PreCondition.assertNotNullAndNotEmpty(fileName, "fileName");
+        PreCondition.assertNotNull(contents, "contents");
+
+        final byte[] contentBytes = CharacterEncoding.UTF_8.encodeCharacters(contents).await();
+        projectFolder.getFile(fileName).await().setContents(contentBytes).await();
+        final QubCreateProjectManifest manifest = QubCreateProjectManifest.read(projectFolder).await()
+            .set(QubCreateProjectManifestEntry.create(fileName)
+                .setSize(contentBytes.length)
+                .setHash(QubCreateProjectManifest.hash(contentBytes)));
+        projectFolder.setFileContentsAsString(QubCreateProjectManifest.fileName, manifest.toManifestText()).await();
+    }
+}
@@ -0,0 +1,100 @@
+package qub;
+
+public interface QubCreateProjectTarWriterTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectTarWriter.class, () ->
+        {
+            runner.test("create(ByteWriteStream)", (Test test) ->
+            {
+                test.assertThrows(() -> QubCreateProjectTarWriter.create(null),
+                    new PreConditionFailure("stream cannot be null."));
+            });
+
+            runner.testGroup("addFolder(String)", () ->
+            {
+                runner.test("with path that doesn't end with '/'", (Test test) ->
+                {
+                    final QubCreateProjectTarWriter writer = QubCreateProjectTarWriter.create(InMemoryByteStream.create());
+                    test.assertThrows(() -> writer.addFolder("sources"),
+                        new PreConditionFailure("folderPath.endsWith(\"/\") cannot be false."));
+                });
+
+                runner.test("with valid path", (Test test) ->
+                {
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+                    final QubCreateProjectTarWriter writer = QubCreateProjectTarWriter.create(stream);
+
+                    test.assertSame(writer, writer.addFolder("sources/"));
+
+                    final byte[] header = stream.getBytes();
+                    test.assertEqual(512, header.length);
+                    test.assertEqual("sources/", new String(header, 0, 8, java.nio.charset.StandardCharsets.US_ASCII));
+                    test.assertEqual((byte)'5', header[156]);
+                    test.assertEqual("ustar", new String(header, 257, 5, java.nio.charset.StandardCharsets.US_ASCII));
+                });
+            });
+
+            runner.testGroup("addFile(String,byte[])", () ->
+            {
+                runner.test("with null contents", (Test test) ->
+                {
+                    final QubCreateProjectTarWriter writer = QubCreateProjectTarWriter.create(InMemoryByteStream.create());
+                    test.assertThrows(() -> writer.addFile("README.md", null),
+                        new PreConditionFailure("contents cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+                    final QubCreateProjectTarWriter writer = QubCreateProjectTarWriter.create(stream);
+
+                    test.assertSame(writer, writer.addFile("README.md", new byte[] { 97, 98, 99 }));
+
+                    final byte[] bytes = stream.getBytes();
+                    test.assertEqual(1024, bytes.length);
+                    test.assertEqual((byte)'0', bytes[156]);
+                    test.assertEqual("00000000003", new String(bytes, 124, 11, java.nio.charset.StandardCharsets.US_ASCII));
+                    test.assertEqual("abc", new String(bytes, 512, 3, java.nio.charset.StandardCharsets.US_ASCII));
+                    test.assertEqual((byte)0, bytes[515]);
+                });
+            });
+
+            runner.testGroup("finish()", () ->
+            {
+                runner.test("with no entries", (Test test) ->
+                {
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+                    final QubCreateProjectTarWriter writer = QubCreateProjectTarWriter.create(stream);
+
+                    test.assertEqual(1024, writer.finish());
+                    test.assertEqual(1024, stream.getBytes().length);
+                });
+
+                runner.test("when already finished", (Test test) ->
+                {
+                    final QubCreateProjectTarWriter writer = QubCreateProjectTarWriter.create(InMemoryByteStream.create());
+                    writer.finish();
+                    test.assertThrows(() -> writer.finish(),
+                        new PreConditionFailure("this.finished cannot be true."));
+                });
+            });
+
+            runner.testGroup("toOctal(long,int)", () ->
+            {
+                final Action3<Long,Integer,String> toOctalTest = (Long value, Integer digitCount, String expected) ->
+                {
+                    runner.test("with " + value + " and " + digitCount, (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectTarWriter.toOctal(value, digitCount));
+                    });
+                };
+
+                toOctalTest.run(0L, 1, "0");
+                toOctalTest.run(8L, 6, "000010");
+                toOctalTest.run(511L, 11, "00000000777");
+            });
+        });
+    }
+}
@@ -0,0 +1,213 @@
+package qub;
+
+public interface QubCreateProjectTemplateAssetsTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectTemplateAssets.class, () ->
+        {
+            runner.testGroup("getTemplatesFolder(Folder)", () ->
+            {
+                runner.test("with null qubProjectDataFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.getTemplatesFolder(null),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with data folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    test.assertEqual(
+                        qubProjectDataFolder.getFolder("templates").await(),
+                        QubCreateProjectTemplateAssets.getTemplatesFolder(qubProjectDataFolder));
+                });
+            });
+
+            runner.testGroup("getTemplateFolder(Folder,String)", () ->
+            {
+                runner.test("with null qubProjectDataFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.getTemplateFolder(null, "java"),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with null templateName", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.getTemplateFolder(qubProjectDataFolder, null),
+                        new PreConditionFailure("templateName cannot be null."));
+                });
+
+                runner.test("with empty templateName", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.getTemplateFolder(qubProjectDataFolder, ""),
+                        new PreConditionFailure("templateName cannot be empty."));
+                });
+
+                runner.test("with templateName", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    test.assertEqual(
+                        qubProjectDataFolder.getFolder("templates/java").await(),
+                        QubCreateProjectTemplateAssets.getTemplateFolder(qubProjectDataFolder, "java"));
+                });
+            });
+
+            runner.testGroup("transferFile(File,File,boolean,QubCreateProjectMetrics)", () ->
+            {
+                runner.test("with null source", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File destination = fileSystem.getFile("/destination.bin").await();
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.transferFile(null, destination, false, QubCreateProjectMetrics.disabled),
+                        new PreConditionFailure("source cannot be null."));
+                });
+
+                runner.test("with null destination", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File source = fileSystem.getFile("/source.bin").await();
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.transferFile(source, null, false, QubCreateProjectMetrics.disabled),
+                        new PreConditionFailure("destination cannot be null."));
+                });
+
+                runner.test("with null metrics", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File source = fileSystem.getFile("/source.bin").await();
+                    final File destination = fileSystem.getFile("/destination.bin").await();
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.transferFile(source, destination, false, null),
+                        new PreConditionFailure("metrics cannot be null."));
+                });
+
+                runner.test("with in-memory files", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File source = fileSystem.getFile("/source.bin").await();
+                    source.setContents(new byte[] { 1, 2, 3 }).await();
+                    final File destination = fileSystem.getFile("/destination.bin").await();
+
+                    final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+
+                    test.assertEqual(QubCreateProjectTemplateAssets.streamTransfer, QubCreateProjectTemplateAssets.transferFile(source, destination, true, metrics));
+                    test.assertEqual(new byte[] { 1, 2, 3 }, destination.getContents().await());
+                    test.assertEqual(3L, metrics.getBytesWritten());
+                });
+
+                runner.test("with existing in-memory destination", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final File source = fileSystem.getFile("/source.bin").await();
+                    source.setContents(new byte[] { 1, 2, 3 }).await();
+                    final File destination = fileSystem.getFile("/destination.bin").await();
+                    destination.setContents(new byte[] { 4 }).await();
+
+                    test.assertNull(QubCreateProjectTemplateAssets.transferFile(source, destination, false, QubCreateProjectMetrics.disabled));
+                    test.assertEqual(new byte[] { 4 }, destination.getContents().await());
+                });
+
+                runner.test("with local files", (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create())
+                    {
+                        final java.nio.file.Path temporaryPath = java.nio.file.Files.createTempDirectory("qub-createproject-template");
+                        final Folder temporaryFolder = process.getFileSystem().getFolder(temporaryPath.toString()).await();
+                        try
+                        {
+                            final File source = temporaryFolder.getFile("source.bin").await();
+                            source.setContents(new byte[] { 1, 2, 3 }).await();
+                            test.assertTrue(QubCreateProjectTemplateAssets.isLocalFile(source));
+
+                            final File copiedFile = temporaryFolder.getFile("copied.bin").await();
+                            test.assertEqual(QubCreateProjectTemplateAssets.channelTransfer, QubCreateProjectTemplateAssets.transferFile(source, copiedFile, false, QubCreateProjectMetrics.disabled));
+                            test.assertEqual(new byte[] { 1, 2, 3 }, copiedFile.getContents().await());
+                            test.assertNull(QubCreateProjectTemplateAssets.transferFile(source, copiedFile, false, QubCreateProjectMetrics.disabled));
+
+                            final File linkedFile = temporaryFolder.getFile("linked.bin").await();
+                            final String linkTransfer = QubCreateProjectTemplateAssets.transferFile(source, linkedFile, true, QubCreateProjectMetrics.disabled);
+                            test.assertTrue(linkTransfer.equals(QubCreateProjectTemplateAssets.linkTransfer) || linkTransfer.equals(QubCreateProjectTemplateAssets.channelTransfer));
+                            test.assertEqual(new byte[] { 1, 2, 3 }, linkedFile.getContents().await());
+                            test.assertNull(QubCreateProjectTemplateAssets.transferFile(source, linkedFile, true, QubCreateProjectMetrics.disabled));
+                        }
+                        finally
+                        {
+                            temporaryFolder.delete().await();
+                        }
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                });
+            });
+
+            runner.testGroup("materialize(Folder,Folder,boolean,QubCreateProjectMetrics,QubCreateProjectVerbose)", () ->
+            {
+                runner.test("with null templateFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder targetFolder = fileSystem.getFolder("/project/").await();
+                    final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(InMemoryCharacterToByteStream.create(), false);
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.materialize(null, targetFolder, false, QubCreateProjectMetrics.disabled, verbose),
+                        new PreConditionFailure("templateFolder cannot be null."));
+                });
+
+                runner.test("with null targetFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder templateFolder = fileSystem.getFolder("/template/").await();
+                    final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(InMemoryCharacterToByteStream.create(), false);
+                    test.assertThrows(() -> QubCreateProjectTemplateAssets.materialize(templateFolder, null, false, QubCreateProjectMetrics.disabled, verbose),
+                        new PreConditionFailure("targetFolder cannot be null."));
+                });
+
+                runner.test("with nested template", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder templateFolder = fileSystem.createFolder("/template/").await();
+                    templateFolder.setFileContentsAsString("gradlew", "#!/bin/sh").await();
+                    templateFolder.setFileContentsAsString("gradle/wrapper/gradle-wrapper.properties", "distributionUrl=gradle.zip").await();
+                    templateFolder.createFolder("icons").await();
+                    templateFolder.setFileContentsAsString("README.md", "template readme").await();
+                    final Folder targetFolder = fileSystem.createFolder("/project/").await();
+                    targetFolder.setFileContentsAsString("README.md", "generated readme").await();
+                    final QubCreateProjectMetrics metrics = QubCreateProjectMetrics.create();
+                    final InMemoryCharacterToByteStream verboseStream = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(verboseStream, true);
+
+                    final long filesCreated = QubCreateProjectTemplateAssets.materialize(templateFolder, targetFolder, false, metrics, verbose);
+
+                    test.assertEqual(2, filesCreated);
+                    test.assertEqual("#!/bin/sh", targetFolder.getFile("gradlew").await().getContentsAsString().await());
+                    test.assertEqual("distributionUrl=gradle.zip", targetFolder.getFile("gradle/wrapper/gradle-wrapper.properties").await().getContentsAsString().await());
+                    test.assertTrue(targetFolder.getFolder("icons").await().exists().await());
+                    test.assertEqual("generated readme", targetFolder.getFile("README.md").await().getContentsAsString().await());
+                    test.assertEqual(2, metrics.getFilesCreated());
+                    test.assertEqual(3, metrics.getFoldersCreated());
+                    test.assertEqual("#!/bin/sh".length() + "distributionUrl=gradle.zip".length(), metrics.getBytesWritten());
+
+                    final String verboseText = verboseStream.getText().await();
+                    test.assertTrue(verboseText.contains("Creating gradlew file (/project/gradlew) with a stream transfer... Done."));
+                    test.assertTrue(verboseText.contains("README.md file (/project/README.md) already exists."));
+                });
+            });
+        });
+    }
+}
@@ -0,0 +1,76 @@
+package qub;
+
+public interface QubCreateProjectTemplateTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectTemplate.class, () ->
+        {
+            runner.testGroup("compile(String)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectTemplate.compile(null),
+                        new PreConditionFailure("text cannot be null."));
+                });
+
+                runner.test("with unterminated placeholder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectTemplate.compile("abc {{project"),
+                        new ParseException("Missing placeholder end (\"}}\") for placeholder that starts at index 4."));
+                });
+
+                runner.test("with unrecognized placeholder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectTemplate.compile("{{bananas}}"),
+                        new ParseException("Unrecognized placeholder name: \"bananas\""));
+                });
+
+                final Action2<String,Iterable<String>> compileTest = (String text, Iterable<String> expectedPlaceholderNames) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(text), (Test test) ->
+                    {
+                        final QubCreateProjectTemplate template = QubCreateProjectTemplate.compile(text);
+                        test.assertEqual(expectedPlaceholderNames, template.getPlaceholderNames());
+                    });
+                };
+
+                compileTest.run("", Iterable.create());
+                compileTest.run("hello", Iterable.create());
+                compileTest.run("{{project}}", Iterable.create("project"));
+                compileTest.run("# {{publisher}}/{{project}}\n", Iterable.create("publisher", "project"));
+            });
+
+            runner.testGroup("render(QubCreateProjectTemplateValues)", () ->
+            {
+                runner.test("with null values", (Test test) ->
+                {
+                    final QubCreateProjectTemplate template = QubCreateProjectTemplate.compile("hello");
+                    test.assertThrows(() -> template.render(null),
+                        new PreConditionFailure("values cannot be null."));
+                });
+
+                final Action2<String,String> renderTest = (String text, String expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(text), (Test test) ->
+                    {
+                        final QubCreateProjectTemplate template = QubCreateProjectTemplate.compile(text);
+                        final QubCreateProjectTemplateValues values = QubCreateProjectTemplateValues.create()
+                            .setPublisher("qub")
+                            .setProject("my-project")
+                            .setVersion("5")
+                            .setYear(2031)
+                            .setAuthor("me");
+                        test.assertEqual(expected, CharacterEncoding.UTF_8.decodeAsString(template.render(values)).await());
+                    });
+                };
+
+                renderTest.run("", "");
+                renderTest.run("hello", "hello");
+                renderTest.run("{{project}}", "my-project");
+                renderTest.run("# {{publisher}}/{{project}}\n", "# qub/my-project\n");
+                renderTest.run("Copyright (c) {{year}} {{author}} v{{version}}", "Copyright (c) 2031 me v5");
+            });
+        });
+    }
+}
@@ -0,0 +1,71 @@
+package qub;
+
+public interface QubCreateProjectTemplateValuesTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectTemplateValues.class, () ->
+        {
+            runner.testGroup("isPlaceholderName(String)", () ->
+            {
+                final Action2<String,Boolean> isPlaceholderNameTest = (String name, Boolean expected) ->
+                {
+                    runner.test("with " + Strings.escapeAndQuote(name), (Test test) ->
+                    {
+                        test.assertEqual(expected, QubCreateProjectTemplateValues.isPlaceholderName(name));
+                    });
+                };
+
+                isPlaceholderNameTest.run(null, false);
+                isPlaceholderNameTest.run("", false);
+                isPlaceholderNameTest.run("bananas", false);
+                isPlaceholderNameTest.run("publisher", true);
+                isPlaceholderNameTest.run("project", true);
+                isPlaceholderNameTest.run("version", true);
+                isPlaceholderNameTest.run("year", true);
+                isPlaceholderNameTest.run("author", true);
+            });
+
+            runner.testGroup("set(String,String)", () ->
+            {
+                runner.test("with unrecognized name", (Test test) ->
+                {
+                    final QubCreateProjectTemplateValues values = QubCreateProjectTemplateValues.create();
+                    test.assertThrows(() -> values.set("bananas", "yellow"),
+                        new PreConditionFailure("QubCreateProjectTemplateValues.isPlaceholderName(name) cannot be false."));
+                });
+
+                runner.test("with null value", (Test test) ->
+                {
+                    final QubCreateProjectTemplateValues values = QubCreateProjectTemplateValues.create();
+                    test.assertThrows(() -> values.set("project", null),
+                        new PreConditionFailure("value cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final QubCreateProjectTemplateValues values = QubCreateProjectTemplateValues.create();
+                    test.assertSame(values, values.set("project", "abc"));
+                    test.assertEqual(new byte[] { 97, 98, 99 }, values.getEncodedValue("project").await());
+                });
+            });
+
+            runner.testGroup("getEncodedValue(String)", () ->
+            {
+                runner.test("with value that hasn't been set", (Test test) ->
+                {
+                    final QubCreateProjectTemplateValues values = QubCreateProjectTemplateValues.create();
+                    test.assertThrows(() -> values.getEncodedValue("project").await(),
+                        new NotFoundException("The key \"project\" was not found in the map."));
+                });
+
+                runner.test("with year", (Test test) ->
+                {
+                    final QubCreateProjectTemplateValues values = QubCreateProjectTemplateValues.create()
+                        .setYear(2031);
+                    test.assertEqual("2031", CharacterEncoding.UTF_8.decodeAsString(values.getEncodedValue("year").await()).await());
+                });
+            });
+        });
+    }
+}
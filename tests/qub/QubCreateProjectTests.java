@@ -43,8 +43,16 @@ public interface QubCreateProjectTests
                                 "  --help(?):   Show the help message for this application.",
                                 "",
                                 "Actions:",
-                                "  logs:          Show the logs folder.",
-                                "  run (default): Create a new Qub project."),
+                                "  batch:         Create many new Qub projects from a manifest.",
+                                "  benchmark:     Measure the performance of creating new Qub projects.",
+                                "  cds:           Create a class data sharing archive that makes this application start faster.",
+                                "  daemon:        Run a background process that other invocations can forward their commands to.",
+                                "  logs:          Show the logs of previous runs.",
+                                "  run (default): Create a new Qub project.",
+                                "  scan:          Find the folders in a workspace that need to be scaffolded.",
+                                "  stats:         Show the latency percentiles of each phase of previous runs.",
+                                "  sync:          Update the generated files in an existing Qub project.",
+                                "  watch:         Scaffold the new folders that are created in a workspace."),
                             Strings.getLines(output.getText().await()));
                         test.assertEqual("", error.getText().await());
                         test.assertEqual(-1, process.getExitCode());
@@ -0,0 +1,141 @@
+package qub;
+
+public interface QubCreateProjectVerboseTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectVerbose.class, () ->
+        {
+            runner.testGroup("create(VerboseCharacterToByteWriteStream)", () ->
+            {
+                runner.test("with null stream", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectVerbose.create(null),
+                        new PreConditionFailure("stream cannot be null."));
+                });
+
+                runner.test("with verbose stream", (Test test) ->
+                {
+                    final VerboseCharacterToByteWriteStream stream = VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create());
+                    final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(stream);
+                    test.assertSame(stream, verbose.getStream());
+                    test.assertTrue(verbose.isEnabled());
+                });
+
+                runner.test("with non-verbose stream", (Test test) ->
+                {
+                    final VerboseCharacterToByteWriteStream stream = VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create())
+                        .setIsVerbose(false);
+                    final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(stream);
+                    test.assertSame(stream, verbose.getStream());
+                    test.assertFalse(verbose.isEnabled());
+                });
+            });
+
+            runner.testGroup("create(CharacterToByteWriteStream,boolean)", () ->
+            {
+                runner.test("with null stream", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectVerbose.create(null, true),
+                        new PreConditionFailure("stream cannot be null."));
+                });
+
+                runner.test("with false", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream stream = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(stream, false);
+                    test.assertSame(stream, verbose.getStream());
+                    test.assertFalse(verbose.isEnabled());
+
+                    verbose.writeLine("hello");
+                    test.assertEqual("", stream.getText().await());
+                });
+
+                runner.test("with true", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream stream = InMemoryCharacterToByteStream.create();
+                    final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(stream, true);
+                    test.assertSame(stream, verbose.getStream());
+                    test.assertTrue(verbose.isEnabled());
+
+                    verbose.writeLine("hello");
+                    test.assertEqual(Iterable.create("hello"), Strings.getLines(stream.getText().await()));
+                });
+            });
+
+            runner.test("with enabled stream", (Test test) ->
+            {
+                final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(VerboseCharacterToByteWriteStream.create(output));
+
+                test.assertSame(verbose, verbose.write("a"));
+                test.assertSame(verbose, verbose.write("b(", 1, ")"));
+                test.assertSame(verbose, verbose.write(() -> "c"));
+                test.assertSame(verbose, verbose.writeLine());
+                test.assertSame(verbose, verbose.writeLine("d"));
+                test.assertSame(verbose, verbose.writeLine("e(", 2, ")"));
+                test.assertSame(verbose, verbose.writeLine(() -> "f"));
+
+                test.assertEqual(
+                    Iterable.create(
+                        "VERBOSE: ab(1)c",
+                        "VERBOSE: d",
+                        "VERBOSE: e(2)",
+                        "VERBOSE: f"),
+                    Strings.getLines(output.getText().await()));
+            });
+
+            runner.test("with disabled stream", (Test test) ->
+            {
+                final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(VerboseCharacterToByteWriteStream.create(output).setIsVerbose(false));
+                final IntegerValue messageFunctionCalls = IntegerValue.create(0);
+
+                test.assertSame(verbose, verbose.write("a"));
+                test.assertSame(verbose, verbose.write("b(", 1, ")"));
+                test.assertSame(verbose, verbose.write(() ->
+                {
+                    messageFunctionCalls.increment();
+                    return "c";
+                }));
+                test.assertSame(verbose, verbose.writeLine());
+                test.assertSame(verbose, verbose.writeLine("d"));
+                test.assertSame(verbose, verbose.writeLine("e(", 2, ")"));
+                test.assertSame(verbose, verbose.writeLine(() ->
+                {
+                    messageFunctionCalls.increment();
+                    return "f";
+                }));
+
+                test.assertEqual(0, messageFunctionCalls.get());
+                test.assertEqual("", output.getText().await());
+            });
+
+            runner.test("with disabled stream allocations", (Test test) ->
+            {
+                final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                fileSystem.createRoot("/").await();
+                final Folder projectFolder = fileSystem.getFolder("/project/").await();
+                final File projectJsonFile = projectFolder.getFile("project.json").await();
+                final QubCreateProjectVerbose verbose = QubCreateProjectVerbose.create(
+                    VerboseCharacterToByteWriteStream.create(InMemoryCharacterToByteStream.create()).setIsVerbose(false));
+                final Action0 writeMessages = () ->
+                {
+                    for (int i = 0; i < 1000; ++i)
+                    {
+                        QubCreateProjectBenchmark.writeVerboseMessages(verbose, projectFolder, projectJsonFile);
+                    }
+                };
+
+                writeMessages.run();
+                final long allocatedBytes = QubCreateProjectAllocations.measure(writeMessages);
+                if (allocatedBytes != -1)
+                {
+                    // Measuring allocations can itself allocate a few bytes, but this is much
+                    // less than the 1000 iterations would allocate if any message were built.
+                    test.assertLessThan(allocatedBytes, 1000L);
+                }
+            });
+        });
+    }
+}
@@ -0,0 +1,102 @@
+package qub;
+
+public interface QubCreateProjectWatchParametersTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectWatchParameters.class, () ->
+        {
+            runner.testGroup("create(CharacterToByteWriteStream,Folder,Folder)", () ->
+            {
+                runner.test("with null output", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    test.assertThrows(() -> QubCreateProjectWatchParameters.create(null, workspaceFolder, qubProjectDataFolder),
+                        new PreConditionFailure("output cannot be null."));
+                });
+
+                runner.test("with null workspaceFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    test.assertThrows(() -> QubCreateProjectWatchParameters.create(InMemoryCharacterToByteStream.create(), null, qubProjectDataFolder),
+                        new PreConditionFailure("workspaceFolder cannot be null."));
+                });
+
+                runner.test("with null qubProjectDataFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    test.assertThrows(() -> QubCreateProjectWatchParameters.create(InMemoryCharacterToByteStream.create(), workspaceFolder, null),
+                        new PreConditionFailure("qubProjectDataFolder cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final CharacterToByteWriteStream output = InMemoryCharacterToByteStream.create();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+
+                    final QubCreateProjectWatchParameters parameters = QubCreateProjectWatchParameters.create(output, workspaceFolder, qubProjectDataFolder);
+                    test.assertSame(output, parameters.getOutput());
+                    test.assertSame(workspaceFolder, parameters.getWorkspaceFolder());
+                    test.assertSame(qubProjectDataFolder, parameters.getQubProjectDataFolder());
+                    test.assertFalse(parameters.getVerbose().isVerbose());
+                    test.assertEqual(QubCreateProjectWatch.defaultDebounceMilliseconds, parameters.getDebounceMilliseconds());
+                    test.assertNull(parameters.getCountersFile());
+                    test.assertNull(parameters.getClock());
+                });
+            });
+
+            runner.testGroup("setDebounceMilliseconds(int)", () ->
+            {
+                runner.test("with -1", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatchParameters parameters = QubCreateProjectWatchParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/workspace/").await(), fileSystem.getFolder("/qub/project/data/").await());
+                    test.assertThrows(() -> parameters.setDebounceMilliseconds(-1),
+                        new PreConditionFailure("debounceMilliseconds (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with 0", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatchParameters parameters = QubCreateProjectWatchParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/workspace/").await(), fileSystem.getFolder("/qub/project/data/").await());
+                    test.assertSame(parameters, parameters.setDebounceMilliseconds(0));
+                    test.assertEqual(0, parameters.getDebounceMilliseconds());
+                });
+            });
+
+            runner.testGroup("setCountersFile(File)", () ->
+            {
+                runner.test("with null", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatchParameters parameters = QubCreateProjectWatchParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/workspace/").await(), fileSystem.getFolder("/qub/project/data/").await());
+                    test.assertSame(parameters, parameters.setCountersFile(null));
+                    test.assertNull(parameters.getCountersFile());
+                });
+
+                runner.test("with file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatchParameters parameters = QubCreateProjectWatchParameters.create(InMemoryCharacterToByteStream.create(), fileSystem.getFolder("/workspace/").await(), fileSystem.getFolder("/qub/project/data/").await());
+                    final File countersFile = fileSystem.getFile("/counters.json").await();
+                    test.assertSame(parameters, parameters.setCountersFile(countersFile));
+                    test.assertSame(countersFile, parameters.getCountersFile());
+                });
+            });
+        });
+    }
+}
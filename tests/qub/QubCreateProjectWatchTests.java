@@ -0,0 +1,163 @@
+package qub;
+
+public interface QubCreateProjectWatchTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectWatch.class, () ->
+        {
+            runner.testGroup("getParameters(QubProcess)", () ->
+            {
+                runner.test("with null process", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectWatch.getParameters(null),
+                        new PreConditionFailure("process cannot be null."));
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("C:/workspace/ --debounce=50 --counters=C:/counters.json"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("C:/workspace/", "--debounce=50", "--counters=C:/counters.json"))
+                    {
+                        final QubCreateProjectWatchParameters parameters = QubCreateProjectWatch.getParameters(process);
+                        test.assertNotNull(parameters);
+                        test.assertEqual(process.getFileSystem().getFolder("C:/workspace/").await(), parameters.getWorkspaceFolder());
+                        test.assertEqual(50, parameters.getDebounceMilliseconds());
+                        test.assertEqual(process.getFileSystem().getFile("C:/counters.json").await(), parameters.getCountersFile());
+                        test.assertSame(process.getClock(), parameters.getClock());
+                    }
+                });
+
+                runner.test("with " + Strings.escapeAndQuote("--debounce=-1"), (Test test) ->
+                {
+                    try (final QubProcess process = QubProcess.create("--debounce=-1"))
+                    {
+                        final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                        process.setOutputWriteStream(output);
+
+                        final QubCreateProjectWatchParameters parameters = QubCreateProjectWatch.getParameters(process);
+                        test.assertNull(parameters);
+                        test.assertEqual(
+                            Iterable.create(
+                                "--debounce must be greater than or equal to 0, but was -1."),
+                            Strings.getLines(output.getText().await()));
+                        test.assertEqual(-1, process.getExitCode());
+                    }
+                });
+            });
+
+            runner.testGroup("run(QubCreateProjectWatchParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectWatch.run(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with non-existing workspaceFolder", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+
+                    final int exitCode = QubCreateProjectWatch.run(QubCreateProjectWatchParameters.create(output, workspaceFolder, qubProjectDataFolder));
+
+                    test.assertEqual(-1, exitCode);
+                    test.assertEqual(
+                        Iterable.create(
+                            "The folder /workspace/ doesn't exist."),
+                        Strings.getLines(output.getText().await()));
+                });
+            });
+
+            runner.testGroup("createWatcher(QubCreateProjectWatchParameters)", () ->
+            {
+                runner.test("with null parameters", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectWatch.createWatcher(null),
+                        new PreConditionFailure("parameters cannot be null."));
+                });
+
+                runner.test("with new empty folder", (Test test) ->
+                {
+                    final InMemoryCharacterToByteStream output = InMemoryCharacterToByteStream.create();
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    final Folder qubProjectDataFolder = fileSystem.getFolder("/qub/project/data/").await();
+                    final QubCreateProjectWatchParameters parameters = QubCreateProjectWatchParameters.create(output, workspaceFolder, qubProjectDataFolder)
+                        .setDebounceMilliseconds(0);
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatch.createWatcher(parameters);
+                    test.assertSame(workspaceFolder, watcher.getWorkspaceFolder());
+                    test.assertEqual(0, watcher.getDebounceNanoseconds());
+
+                    workspaceFolder.createFolder("project").await();
+                    watcher.addEvent("project", 1000);
+
+                    test.assertEqual(1, watcher.scaffoldReadyFolders(1000));
+                    test.assertTrue(workspaceFolder.getFile("project/project.json").await().exists().await());
+                    test.assertTrue(workspaceFolder.getFile("project/README.md").await().exists().await());
+                    test.assertTrue(workspaceFolder.getFolder("project/sources").await().exists().await());
+                    test.assertTrue(workspaceFolder.getFolder("project/tests").await().exists().await());
+                });
+            });
+
+            runner.testGroup("addAllFolders(QubCreateProjectWatcher,long)", () ->
+            {
+                runner.test("with null watcher", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectWatch.addAllFolders(null, 0),
+                        new PreConditionFailure("watcher cannot be null."));
+                });
+
+                runner.test("with non-existing workspaceFolder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcher.create(fileSystem.getFolder("/workspace/").await(), 0, (Folder folder) -> 0);
+
+                    QubCreateProjectWatch.addAllFolders(watcher, 1000);
+
+                    test.assertEqual(0, watcher.getEventCount());
+                    test.assertEqual(0, watcher.getPendingFolderCount());
+                });
+
+                runner.test("with folders and files", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    workspaceFolder.createFolder("a").await();
+                    workspaceFolder.createFolder("b").await();
+                    workspaceFolder.createFile("notes.txt").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcher.create(workspaceFolder, 0, (Folder folder) -> 0);
+
+                    QubCreateProjectWatch.addAllFolders(watcher, 1000);
+
+                    test.assertEqual(2, watcher.getEventCount());
+                    test.assertEqual(2, watcher.getPendingFolderCount());
+                });
+            });
+
+            runner.testGroup("writeCounters(QubCreateProjectWatcher,QubCreateProjectWatchParameters)", () ->
+            {
+                runner.test("with counters file", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    final File countersFile = fileSystem.getFile("/counters.json").await();
+                    final QubCreateProjectWatchParameters parameters = QubCreateProjectWatchParameters.create(InMemoryCharacterToByteStream.create(), workspaceFolder, fileSystem.getFolder("/qub/project/data/").await())
+                        .setCountersFile(countersFile);
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcher.create(workspaceFolder, 0, (Folder folder) -> 0);
+                    watcher.addEvent("project", 1000);
+
+                    QubCreateProjectWatch.writeCounters(watcher, parameters);
+
+                    test.assertEqual(watcher.toJson().toString(JSONFormat.pretty), countersFile.getContentsAsString().await());
+                });
+            });
+        });
+    }
+}
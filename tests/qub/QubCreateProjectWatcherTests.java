@@ -0,0 +1,214 @@
+package qub;
+
+public interface QubCreateProjectWatcherTests
+{
+    static QubCreateProjectWatcher createWatcher(Folder workspaceFolder, List<Folder> scaffoldedFolders)
+    {
+        return QubCreateProjectWatcher.create(workspaceFolder, 100, (Folder folder) ->
+        {
+            scaffoldedFolders.add(folder);
+            return 0;
+        });
+    }
+
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectWatcher.class, () ->
+        {
+            runner.testGroup("create(Folder,long,Function1<Folder,Integer>)", () ->
+            {
+                runner.test("with null workspaceFolder", (Test test) ->
+                {
+                    test.assertThrows(() -> QubCreateProjectWatcher.create(null, 0, (Folder folder) -> 0),
+                        new PreConditionFailure("workspaceFolder cannot be null."));
+                });
+
+                runner.test("with negative debounceNanoseconds", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    test.assertThrows(() -> QubCreateProjectWatcher.create(workspaceFolder, -1, (Folder folder) -> 0),
+                        new PreConditionFailure("debounceNanoseconds (-1) must be greater than or equal to 0."));
+                });
+
+                runner.test("with null scaffold", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    test.assertThrows(() -> QubCreateProjectWatcher.create(workspaceFolder, 0, null),
+                        new PreConditionFailure("scaffold cannot be null."));
+                });
+
+                runner.test("with valid arguments", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.getFolder("/workspace/").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcher.create(workspaceFolder, 5, (Folder folder) -> 0);
+                    test.assertSame(workspaceFolder, watcher.getWorkspaceFolder());
+                    test.assertEqual(5, watcher.getDebounceNanoseconds());
+                    test.assertEqual(0, watcher.getPendingFolderCount());
+                    test.assertEqual(-1, watcher.getNextDeadline());
+                    test.assertEqual(0, watcher.getEventCount());
+                    test.assertEqual(0, watcher.getScaffoldCount());
+                    test.assertEqual(0, watcher.getAverageLatencyNanoseconds());
+                });
+            });
+
+            runner.testGroup("addEvent(String,long)", () ->
+            {
+                runner.test("with null folderName", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(fileSystem.getFolder("/workspace/").await(), List.create());
+                    test.assertThrows(() -> watcher.addEvent(null, 0),
+                        new PreConditionFailure("folderName cannot be null."));
+                });
+
+                runner.test("with repeated events for the same folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(fileSystem.getFolder("/workspace/").await(), List.create());
+                    watcher.addEvent("project", 1000);
+                    watcher.addEvent("project", 1050);
+                    test.assertEqual(2, watcher.getEventCount());
+                    test.assertEqual(1, watcher.getPendingFolderCount());
+                    test.assertEqual(1150, watcher.getNextDeadline());
+                });
+
+                runner.test("with events for different folders", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(fileSystem.getFolder("/workspace/").await(), List.create());
+                    watcher.addEvent("b", 1050);
+                    watcher.addEvent("a", 1000);
+                    test.assertEqual(2, watcher.getPendingFolderCount());
+                    test.assertEqual(1100, watcher.getNextDeadline());
+                });
+
+                runner.test("with ignored folder", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(fileSystem.getFolder("/workspace/").await(), List.create());
+                    watcher.addEvent(".project.staging-abc", 1000);
+                    watcher.addEvent("target", 1000);
+                    test.assertEqual(2, watcher.getEventCount());
+                    test.assertEqual(0, watcher.getPendingFolderCount());
+                });
+            });
+
+            runner.testGroup("scaffoldReadyFolders(long)", () ->
+            {
+                runner.test("before the debounce time has passed", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    workspaceFolder.createFolder("project").await();
+                    final List<Folder> scaffoldedFolders = List.create();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(workspaceFolder, scaffoldedFolders);
+                    watcher.addEvent("project", 1000);
+
+                    test.assertEqual(0, watcher.scaffoldReadyFolders(1099));
+                    test.assertEqual(0, scaffoldedFolders.getCount());
+                    test.assertEqual(1, watcher.getPendingFolderCount());
+                });
+
+                runner.test("after the debounce time has passed", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    final Folder projectFolder = workspaceFolder.createFolder("project").await();
+                    final List<Folder> scaffoldedFolders = List.create();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(workspaceFolder, scaffoldedFolders);
+                    watcher.addEvent("project", 1000);
+                    watcher.addEvent("project", 1000);
+
+                    test.assertEqual(1, watcher.scaffoldReadyFolders(1100));
+                    test.assertEqual(Iterable.create(projectFolder), scaffoldedFolders);
+                    test.assertEqual(0, watcher.getPendingFolderCount());
+                    test.assertEqual(-1, watcher.getNextDeadline());
+                    test.assertEqual(2, watcher.getEventCount());
+                    test.assertEqual(1, watcher.getScaffoldCount());
+                    test.assertEqual(0, watcher.getSkippedFolderCount());
+                    test.assertTrue(watcher.getMaximumLatencyNanoseconds() > 0);
+                    test.assertEqual(watcher.getMaximumLatencyNanoseconds(), watcher.getAverageLatencyNanoseconds());
+
+                    test.assertEqual(0, watcher.scaffoldReadyFolders(2000));
+                    test.assertEqual(1, scaffoldedFolders.getCount());
+                });
+
+                runner.test("with folder that isn't empty", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    workspaceFolder.createFile("project/README.md").await();
+                    final List<Folder> scaffoldedFolders = List.create();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(workspaceFolder, scaffoldedFolders);
+                    watcher.addEvent("project", 1000);
+
+                    test.assertEqual(0, watcher.scaffoldReadyFolders(1100));
+                    test.assertEqual(0, scaffoldedFolders.getCount());
+                    test.assertEqual(0, watcher.getPendingFolderCount());
+                    test.assertEqual(1, watcher.getSkippedFolderCount());
+                });
+
+                runner.test("with folder that doesn't exist anymore", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    final List<Folder> scaffoldedFolders = List.create();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(workspaceFolder, scaffoldedFolders);
+                    watcher.addEvent("project", 1000);
+
+                    test.assertEqual(0, watcher.scaffoldReadyFolders(1100));
+                    test.assertEqual(0, scaffoldedFolders.getCount());
+                    test.assertEqual(1, watcher.getSkippedFolderCount());
+                });
+
+                runner.test("with failed scaffold", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final Folder workspaceFolder = fileSystem.createFolder("/workspace/").await();
+                    workspaceFolder.createFolder("project").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcher.create(workspaceFolder, 0, (Folder folder) -> -1);
+                    watcher.addEvent("project", 1000);
+
+                    test.assertEqual(0, watcher.scaffoldReadyFolders(1000));
+                    test.assertEqual(0, watcher.getScaffoldCount());
+                    test.assertEqual(1, watcher.getFailedScaffoldCount());
+                    test.assertEqual(0, watcher.getMaximumLatencyNanoseconds());
+                });
+            });
+
+            runner.testGroup("toJson()", () ->
+            {
+                runner.test("with no events", (Test test) ->
+                {
+                    final InMemoryFileSystem fileSystem = InMemoryFileSystem.create(test.getClock());
+                    fileSystem.createRoot("/").await();
+                    final QubCreateProjectWatcher watcher = QubCreateProjectWatcherTests.createWatcher(fileSystem.getFolder("/workspace/").await(), List.create());
+                    test.assertEqual(
+                        JSONObject.create()
+                            .setNumber("eventCount", 0)
+                            .setNumber("scaffoldCount", 0)
+                            .setNumber("failedScaffoldCount", 0)
+                            .setNumber("skippedFolderCount", 0)
+                            .setNumber("averageLatencyNanoseconds", 0)
+                            .setNumber("maximumLatencyNanoseconds", 0),
+                        watcher.toJson());
+                });
+            });
+        });
+    }
+}
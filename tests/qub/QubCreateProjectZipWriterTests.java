@@ -0,0 +1,76 @@
+package qub;
+
+public interface QubCreateProjectZipWriterTests
+{
+    static void test(TestRunner runner)
+    {
+        runner.testGroup(QubCreateProjectZipWriter.class, () ->
+        {
+            runner.test("create(ByteWriteStream)", (Test test) ->
+            {
+                test.assertThrows(() -> QubCreateProjectZipWriter.create(null),
+                    new PreConditionFailure("stream cannot be null."));
+            });
+
+            runner.testGroup("addFolder(String)", () ->
+            {
+                runner.test("with path that doesn't end with '/'", (Test test) ->
+                {
+                    final QubCreateProjectZipWriter writer = QubCreateProjectZipWriter.create(InMemoryByteStream.create());
+                    test.assertThrows(() -> writer.addFolder("sources"),
+                        new PreConditionFailure("folderPath.endsWith(\"/\") cannot be false."));
+                });
+            });
+
+            runner.testGroup("finish()", () ->
+            {
+                runner.test("with entries", (Test test) ->
+                {
+                    final InMemoryByteStream stream = InMemoryByteStream.create();
+                    final QubCreateProjectZipWriter writer = QubCreateProjectZipWriter.create(stream)
+                        .addFile("README.md", new byte[] { 97, 98, 99 })
+                        .addFolder("sources/");
+
+                    final long bytesWritten = writer.finish();
+
+                    final byte[] archiveBytes = stream.getBytes();
+                    test.assertEqual(archiveBytes.length, bytesWritten);
+                    try (final java.util.zip.ZipInputStream zipStream = new java.util.zip.ZipInputStream(new java.io.ByteArrayInputStream(archiveBytes)))
+                    {
+                        final java.util.zip.ZipEntry readmeEntry = zipStream.getNextEntry();
+                        test.assertEqual("README.md", readmeEntry.getName());
+                        test.assertEqual("abc", new String(zipStream.readAllBytes(), java.nio.charset.StandardCharsets.US_ASCII));
+
+                        final java.util.zip.ZipEntry sourcesEntry = zipStream.getNextEntry();
+                        test.assertEqual("sources/", sourcesEntry.getName());
+                        test.assertTrue(sourcesEntry.isDirectory());
+
+                        test.assertNull(zipStream.getNextEntry());
+                    }
+                    catch (java.io.IOException e)
+                    {
+                        throw Exceptions.asRuntime(e);
+                    }
+                });
+
+                runner.test("with the same entries twice", (Test test) ->
+                {
+                    final InMemoryByteStream first = InMemoryByteStream.create();
+                    QubCreateProjectZipWriter.create(first).addFile("README.md", new byte[] { 97 }).finish();
+                    final InMemoryByteStream second = InMemoryByteStream.create();
+                    QubCreateProjectZipWriter.create(second).addFile("README.md", new byte[] { 97 }).finish();
+
+                    test.assertEqual(first.getBytes(), second.getBytes());
+                });
+
+                runner.test("when already finished", (Test test) ->
+                {
+                    final QubCreateProjectZipWriter writer = QubCreateProjectZipWriter.create(InMemoryByteStream.create());
+                    writer.finish();
+                    test.assertThrows(() -> writer.finish(),
+                        new PreConditionFailure("this.finished cannot be true."));
+                });
+            });
+        });
+    }
+}